@@ -0,0 +1,69 @@
+package io.micronaut.build.internal.foundationdb;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes the version and the SHA-256 checksum of each bundled client library, read at runtime
+ * to reuse verified copies of the libraries instead of extracting them on every start.
+ */
+public abstract class GenerateClientMetadataTask extends DefaultTask {
+
+    @Input
+    public abstract Property<String> getVersion();
+
+    @InputDirectory
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract DirectoryProperty getClientDirectory();
+
+    @OutputFile
+    public abstract RegularFileProperty getOutputFile();
+
+    @TaskAction
+    public void generate() throws Exception {
+        Path clientPath = getClientDirectory().getAsFile().get().toPath();
+        StringBuilder metadata = new StringBuilder("version=").append(getVersion().get()).append('\n');
+        try (Stream<Path> files = Files.walk(clientPath)) {
+            List<Path> libraries = files.filter(Files::isRegularFile)
+                .filter(file -> !clientPath.relativize(file).toString().contains("download"))
+                .sorted()
+                .toList();
+            for (Path library : libraries) {
+                String resourceName = "lib/" + clientPath.relativize(library).toString().replace('\\', '/');
+                metadata.append(resourceName).append('=').append(sha256(library)).append('\n');
+            }
+        }
+        Path outputPath = getOutputFile().getAsFile().get().toPath();
+        Files.createDirectories(outputPath.getParent());
+        Files.writeString(outputPath, metadata, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String sha256(Path file) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
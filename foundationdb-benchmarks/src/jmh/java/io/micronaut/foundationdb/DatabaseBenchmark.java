@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.foundationdb.test.FoundationDbContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the end-to-end throughput of point reads, point writes and range reads through the
+ * {@link Database} bean, including the metrics of the client events.
+ *
+ * <p>The benchmark runs against the cluster of the {@code FDB_CLUSTER_FILE} environment variable,
+ * e.g. a local {@code fdbserver}, or else against a {@link FoundationDbContainer}.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class DatabaseBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int RANGE_SIZE = 100;
+    private static final byte[] VALUE = new byte[100];
+
+    private final Subspace subspace = new Subspace(Tuple.from("benchmark"));
+
+    private FoundationDbContainer container;
+
+    private ApplicationContext context;
+
+    private Database database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String clusterFilePath = System.getenv("FDB_CLUSTER_FILE");
+        if (clusterFilePath == null) {
+            container = new FoundationDbContainer();
+            container.startNewSingleMemory();
+            clusterFilePath = container.getClusterFilePath();
+        }
+        context = ApplicationContext.run(Map.of(FoundationDbClientConfig.PREFIX + ".cluster-file-path", clusterFilePath));
+        database = context.getBean(Database.class);
+        for (int batch = 0; batch < KEYS; batch += BATCH_SIZE) {
+            int first = batch;
+            database.run(tr -> {
+                for (int i = first; i < first + BATCH_SIZE; i++) {
+                    tr.set(key(i), VALUE);
+                }
+                return null;
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.run(tr -> {
+            tr.clear(subspace.range());
+            return null;
+        });
+        context.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public byte[] pointRead() {
+        byte[] key = key(ThreadLocalRandom.current().nextInt(KEYS));
+        return database.read(tr -> tr.get(key).join());
+    }
+
+    @Benchmark
+    public void pointWrite() {
+        byte[] key = key(ThreadLocalRandom.current().nextInt(KEYS));
+        database.run(tr -> {
+            tr.set(key, VALUE);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public List<KeyValue> rangeRead() {
+        int first = ThreadLocalRandom.current().nextInt(KEYS - RANGE_SIZE);
+        return database.read(tr -> tr.getRange(key(first), key(first + RANGE_SIZE)).asList().join());
+    }
+
+    private byte[] key(int index) {
+        return subspace.pack(Tuple.from(index));
+    }
+}
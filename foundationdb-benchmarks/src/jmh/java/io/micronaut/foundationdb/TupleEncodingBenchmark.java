@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the tuple and subspace encoding of keys, as done by the caches, the range streamer and
+ * the bulk loader.
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TupleEncodingBenchmark {
+
+    private final Subspace subspace = new Subspace(Tuple.from("benchmark", "users"));
+
+    private final UUID id = UUID.fromString("1b4e28ba-2fa1-11d2-883f-0016d3cca427");
+
+    private final Tuple tuple = Tuple.from(id, "orders", 42L);
+
+    private final byte[] packed = subspace.pack(tuple);
+
+    @Benchmark
+    public byte[] packTuple() {
+        return tuple.pack();
+    }
+
+    @Benchmark
+    public byte[] packNewTuple() {
+        return Tuple.from(id, "orders", 42L).pack();
+    }
+
+    @Benchmark
+    public byte[] packInSubspace() {
+        return subspace.pack(tuple);
+    }
+
+    @Benchmark
+    public Tuple unpackFromSubspace() {
+        return subspace.unpack(packed);
+    }
+
+    @Benchmark
+    public Range subspaceRange() {
+        return subspace.range(Tuple.from(id));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization of the client status, done by the health indicator on every probe
+ * unless the status is polled, and of the cluster status read by the status poller.
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusDeserializationBenchmark {
+
+    /**
+     * The number of connections of the client status and of processes of the cluster status.
+     */
+    @Param({"3", "50"})
+    public int processes;
+
+    private JsonMapper jsonMapper;
+
+    private byte[] clientStatus;
+
+    private byte[] clusterStatus;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.createDefault();
+        clientStatus = clientStatus(processes);
+        clusterStatus = clusterStatus(processes);
+    }
+
+    @Benchmark
+    public FoundationDbClientStatus clientStatus() throws IOException {
+        return jsonMapper.readValue(clientStatus, FoundationDbClientStatus.class);
+    }
+
+    @Benchmark
+    public FoundationDbClusterStatus clusterStatus() throws IOException {
+        return jsonMapper.readValue(clusterStatus, FoundationDbClusterStatus.class);
+    }
+
+    private static byte[] clientStatus(int connections) {
+        StringBuilder json = new StringBuilder("""
+            {"ClusterID":"ede056c4517112ded5fbb30a190e01dd","Healthy":true,"NumConnectionsFailed":0,
+            "CommitProxies":["10.0.0.1:4500"],"GrvProxies":["10.0.0.1:4500"],"Coordinators":["10.0.0.1:4500"],
+            "CurrentCoordinator":"10.0.0.1:4500","StorageServers":[],"Connections":[""");
+        for (int i = 0; i < connections; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("""
+                {"Address":"10.0.0.%d:4500","BytesReceived":716,"BytesSampleTime":0.0197,"BytesSent":888,
+                "Compatible":true,"ConnectFailedCount":0,"LastConnectTime":0.0197,"PingCount":0,
+                "PingTimeoutCount":0,"ProtocolVersion":"fdb00b074000000","Status":"connected"}""".formatted(i));
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] clusterStatus(int processes) {
+        StringBuilder json = new StringBuilder("""
+            {"client":{"database_status":{"available":true,"healthy":true}},
+            "cluster":{"database_available":true,"degraded_processes":0,
+            "latency_probe":{"commit_seconds":0.003,"read_seconds":0.0002,"transaction_start_seconds":0.0005},
+            "qos":{"batch_transactions_per_second_limit":1250000.0,"transactions_per_second_limit":2500000.0,
+            "performance_limited_by":{"description":"The database is not being saturated by the workload.","name":"workload","reason_id":2},
+            "worst_data_lag_storage_server":{"seconds":0.1,"versions":100000},
+            "worst_durability_lag_storage_server":{"seconds":5.1,"versions":5100000},
+            "worst_queue_bytes_log_server":2097152,"worst_queue_bytes_storage_server":1048576},
+            "processes":{""");
+        for (int i = 0; i < processes; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("""
+                "%032x":{"address":"10.0.0.%d:4500","class_type":"storage","degraded":false,"excluded":false,
+                "cpu":{"usage_cores":0.25},"disk":{"busy":0.1,"free_bytes":100000000000,"total_bytes":500000000000},
+                "memory":{"available_bytes":8000000000,"used_bytes":2000000000},
+                "roles":[{"id":"%016x","role":"storage","data_lag":{"seconds":0.1,"versions":100000},
+                "durability_lag":{"seconds":5.1,"versions":5100000},"input_bytes":{"counter":123456789,"hz":1000.0}}]}"""
+                .formatted(i, i, i));
+        }
+        return json.append("}}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import java.util.UUID;
+
+/**
+ * The key of {@link KeyCodecBenchmark}, shaped like the tuples of {@code TupleEncodingBenchmark}.
+ *
+ * @param id     The user id
+ * @param kind   The kind of record
+ * @param number The record number
+ * @author Nikolai Papakha
+ */
+@FdbKey
+public record BenchmarkKey(UUID id, String kind, long number) {
+}
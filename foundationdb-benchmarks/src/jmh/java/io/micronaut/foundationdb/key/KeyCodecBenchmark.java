@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated {@link FdbKeyCodec} of {@link BenchmarkKey} with {@link Tuple} packing
+ * of the same elements.
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyCodecBenchmark {
+
+    private final Subspace subspace = new Subspace(Tuple.from("benchmark", "users"));
+
+    private final byte[] prefix = subspace.getKey();
+
+    private final UUID id = UUID.fromString("1b4e28ba-2fa1-11d2-883f-0016d3cca427");
+
+    private final BenchmarkKey key = new BenchmarkKey(id, "orders", 42L);
+
+    private final BenchmarkKeyCodec codec = BenchmarkKeyCodec.INSTANCE;
+
+    private final byte[] packed = codec.pack(prefix, key);
+
+    @Benchmark
+    public byte[] tuplePack() {
+        return subspace.pack(Tuple.from(key.id(), key.kind(), key.number()));
+    }
+
+    @Benchmark
+    public byte[] codecPack() {
+        return codec.pack(prefix, key);
+    }
+
+    @Benchmark
+    public BenchmarkKey tupleUnpack() {
+        Tuple tuple = subspace.unpack(packed);
+        return new BenchmarkKey(tuple.getUUID(0), tuple.getString(1), tuple.getLong(2));
+    }
+
+    @Benchmark
+    public BenchmarkKey codecUnpack() {
+        return codec.unpack(prefix, packed);
+    }
+
+    @Benchmark
+    public Range tupleRange() {
+        return subspace.range(Tuple.from(id));
+    }
+
+    @Benchmark
+    public Range codecRange() {
+        return codec.range(prefix, id);
+    }
+}
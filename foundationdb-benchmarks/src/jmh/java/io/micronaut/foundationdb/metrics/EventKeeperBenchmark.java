@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import com.apple.foundationdb.EventKeeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.foundationdb.range.RangeStreamEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the events reported by the FoundationDB client, comparing the
+ * {@link MicrometerEventKeeper} to the previous, map-based implementation. Run with the {@code gc}
+ * profiler to get the allocation rate in bytes per operation.
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class EventKeeperBenchmark {
+
+    @Param({"baseline", "indexed"})
+    public String implementation;
+
+    private EventKeeper eventKeeper;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        EventMetadataProvider metadataProvider = new EventMetadataProvider();
+        eventKeeper = "baseline".equals(implementation)
+            ? new BaselineEventKeeper(metadataProvider, registry, "default")
+            : new MicrometerEventKeeper(metadataProvider, registry, "default");
+    }
+
+    @Benchmark
+    public void countKnownEvent() {
+        eventKeeper.count(EventKeeper.Events.JNI_CALL, 1);
+    }
+
+    @Benchmark
+    public void timeKnownEvent() {
+        eventKeeper.timeNanos(EventKeeper.Events.RANGE_QUERY_FETCH_TIME_NANOS, 1000);
+    }
+
+    @Benchmark
+    public void countCustomEvent() {
+        eventKeeper.count(RangeStreamEvents.RANGE_STREAM_RECORDS, 1);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import com.apple.foundationdb.EventKeeper;
+import io.micronaut.foundationdb.range.RangeStreamEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the derivation of meter names from event names, done for each event not registered
+ * up front by the {@link MicrometerEventKeeper}.
+ *
+ * @author Nikolai Papakha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMetadataProviderBenchmark {
+
+    private final EventMetadataProvider metadataProvider = new EventMetadataProvider();
+
+    @Benchmark
+    public String knownEventName() {
+        return metadataProvider.getMeterName(EventKeeper.Events.RANGE_QUERY_FETCH_TIME_NANOS);
+    }
+
+    @Benchmark
+    public String customEventName() {
+        return metadataProvider.getMeterName(RangeStreamEvents.RANGE_STREAM_RECORDS);
+    }
+}
@@ -18,14 +18,21 @@ package io.micronaut.foundationdb.client;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.condition.OperatingSystem;
 import io.micronaut.context.env.CachedEnvironment;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Properties;
 
 
 /**
- * Installer for FoundationDB native client library.
+ * Installer for FoundationDB native client library. The library is installed in the persistent
+ * {@link NativeLibraryCache}, keyed by the version and the checksum embedded at build time, and
+ * falls back to a new temporary directory if the cache cannot be used.
  *
  * @author Nikolai Papakha
  */
@@ -34,18 +41,66 @@ class FoundationDbClientInstaller {
 
     static final String CLIENT_PROPERTY_NAME = "FDB_LIBRARY_PATH_FDB_C";
     static final String CLIENT_LIBRARY_NAME = "fdb_c";
+    static final String METADATA_RESOURCE_NAME = "lib/fdb-client.properties";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbClientInstaller.class);
+
+    private final FoundationDbNativeLibraryCacheConfig cacheConfig;
+
+    FoundationDbClientInstaller(FoundationDbNativeLibraryCacheConfig cacheConfig) {
+        this.cacheConfig = cacheConfig;
+    }
 
     @PostConstruct
     void install() throws IOException {
-        NativeLibraryInstaller installer = new NativeLibraryInstaller("foundationdb-client");
         String resourceName = getResourceName(CLIENT_LIBRARY_NAME);
-        Path installed = installer.install(resourceName);
+        Path installed = installCached(resourceName);
+        if (installed == null) {
+            NativeLibraryInstaller installer = new NativeLibraryInstaller("foundationdb-client");
+            installed = installer.install(resourceName);
+        }
         System.setProperty(CLIENT_PROPERTY_NAME, installed.toString());
     }
 
+    @Nullable
+    private Path installCached(String resourceName) {
+        if (!cacheConfig.isEnabled()) {
+            return null;
+        }
+        try {
+            Properties metadata = loadMetadata();
+            String version = metadata.getProperty("version");
+            String checksum = metadata.getProperty(resourceName);
+            if (version == null || checksum == null) {
+                LOG.debug("No checksum of {} found, skipping the native library cache", resourceName);
+                return null;
+            }
+            return new NativeLibraryCache(getCacheDirectory()).install(resourceName, version, checksum);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to install {} in the native library cache, using a temporary directory", resourceName, e);
+            return null;
+        }
+    }
+
+    private Properties loadMetadata() throws IOException {
+        Properties metadata = new Properties();
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(METADATA_RESOURCE_NAME)) {
+            if (inputStream != null) {
+                metadata.load(inputStream);
+            }
+        }
+        return metadata;
+    }
+
+    private Path getCacheDirectory() {
+        if (cacheConfig.getDirectory() != null) {
+            return Path.of(cacheConfig.getDirectory());
+        }
+        return Path.of(CachedEnvironment.getProperty("user.home"), ".cache", "micronaut-foundationdb");
+    }
+
     private String getResourceName(String libName) {
-        Path path = Path.of("lib", getOs(), getArch(), System.mapLibraryName(libName));
-        return path.toString();
+        return String.join("/", "lib", getOs(), getArch(), System.mapLibraryName(libName));
     }
 
     private String getOs() {
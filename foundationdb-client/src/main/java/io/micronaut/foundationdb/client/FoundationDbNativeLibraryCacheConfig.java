@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.client;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Configuration of the persistent cache of the bundled FoundationDB native client library.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbNativeLibraryCacheConfig.PREFIX)
+public final class FoundationDbNativeLibraryCacheConfig {
+
+    /**
+     * The prefix to use for native library cache configuration.
+     */
+    public static final String PREFIX = "foundationdb.native-library-cache";
+
+    /**
+     * The default value of whether the cache is enabled.
+     */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @Nullable
+    private String directory;
+
+    /**
+     * Whether the native library is installed in the persistent cache.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the native library is installed in the persistent cache. When disabled, it is
+     * copied to a new temporary directory on every start. Default value: {@value #DEFAULT_ENABLED}.
+     *
+     * @param enabled {@code true} to enable the cache
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the cache directory.
+     *
+     * @return The cache directory
+     */
+    @Nullable
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the cache directory, e.g. a read-only image layer prepared at build time. Defaults to
+     * {@code ~/.cache/micronaut-foundationdb}.
+     *
+     * @param directory The cache directory
+     */
+    public void setDirectory(@Nullable String directory) {
+        this.directory = directory;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.client;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Copies native libraries from the classpath to a persistent, content-addressed directory, so that
+ * a verified copy is reused across restarts instead of being extracted again.
+ *
+ * <p>Each library is stored under {@code <directory>/<version>/<checksum>/}. A copy is first
+ * written to a temporary file in the same directory, verified and then atomically renamed, so that
+ * concurrent installs never observe a partially written library.</p>
+ *
+ * @author Nikolai Papakha
+ */
+public final class NativeLibraryCache {
+
+    private final Path directory;
+
+    /**
+     * Creates an instance of {@code NativeLibraryCache} storing libraries in the given directory.
+     *
+     * @param directory the cache directory, which may be read-only if it already contains the libraries
+     */
+    public NativeLibraryCache(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cached copy of a resource from the classpath, copying it first if there is no
+     * copy matching the checksum.
+     *
+     * @param resourceName the name of the resource to copy
+     * @param version      the version of the library
+     * @param checksum     the expected SHA-256 checksum of the library, as lower case hex
+     * @return the {@link Path} to the verified copy
+     * @throws IOException if an I/O error occurs or the resource does not match the checksum
+     */
+    public Path install(@NonNull String resourceName, @NonNull String version, @NonNull String checksum) throws IOException {
+        Path libraryDir = directory.resolve(version).resolve(checksum);
+        Path fileName = Path.of(resourceName).getFileName();
+        Path outputPath = libraryDir.resolve(fileName);
+        if (Files.isRegularFile(outputPath) && checksum.equals(sha256(Files.newInputStream(outputPath)))) {
+            return outputPath;
+        }
+        Files.createDirectories(libraryDir);
+        Path tempPath = Files.createTempFile(libraryDir, fileName.toString(), ".tmp");
+        try {
+            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourceName);
+            Objects.requireNonNull(inputStream, "Cannot find resource");
+            String actual = sha256(inputStream, tempPath);
+            if (!checksum.equals(actual)) {
+                throw new IOException("Checksum mismatch of " + resourceName + ": expected " + checksum + " but was " + actual);
+            }
+            Files.move(tempPath, outputPath, ATOMIC_MOVE);
+            return outputPath;
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private static String sha256(InputStream inputStream) throws IOException {
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, newDigest())) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        }
+    }
+
+    private static String sha256(InputStream inputStream, Path outputPath) throws IOException {
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, newDigest())) {
+            Files.copy(digestStream, outputPath, REPLACE_EXISTING);
+            return HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates a {@code FdbKeyCodec} for each record annotated with {@code @FdbKey}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public final class FdbKeyVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String FDB_KEY = "io.micronaut.foundationdb.key.FdbKey";
+
+    @Override
+    @NonNull
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(FDB_KEY);
+    }
+
+    @Override
+    @NonNull
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        if (!element.hasDeclaredAnnotation(FDB_KEY)) {
+            return;
+        }
+        if (!element.isRecord()) {
+            context.fail("@FdbKey can only be declared on records", element);
+            return;
+        }
+        if (!element.getDeclaredGenericPlaceholders().isEmpty()) {
+            context.fail("@FdbKey records cannot be generic", element);
+            return;
+        }
+        MethodElement constructor = element.getPrimaryConstructor().orElse(null);
+        if (constructor == null || constructor.getParameters().length == 0) {
+            context.fail("@FdbKey records need at least one component", element);
+            return;
+        }
+        List<KeyComponent> components = new ArrayList<>();
+        for (ParameterElement parameter : constructor.getParameters()) {
+            KeyComponent component = KeyComponent.of(parameter.getName(), parameter.getType());
+            if (component == null) {
+                context.fail("Unsupported @FdbKey component type " + parameter.getType().getName()
+                    + ", expected String, byte[], long, int, short, boolean, double, float, UUID or an enum", parameter);
+                return;
+            }
+            components.add(component);
+        }
+        String className = element.getSimpleName().replace('$', '_') + "KeyCodec";
+        String source = new KeyCodecWriter(
+            element.getPackageName(), className, element.getCanonicalName(), element.isPublic(), components
+        ).write();
+        Optional<GeneratedFile> file = context.visitGeneratedSourceFile(element.getPackageName(), className, element);
+        if (file.isEmpty()) {
+            context.fail("@FdbKey codecs can only be generated for Java sources", element);
+            return;
+        }
+        try (Writer writer = file.get().openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            context.fail("Cannot write " + className + ": " + e.getMessage(), element);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the interfaces annotated with {@code @FdbRepository} at compile time, so that
+ * unsupported methods and finders not matching the key fail the build instead of the first call.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public final class FdbRepositoryVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String FDB_REPOSITORY = "io.micronaut.foundationdb.repository.FdbRepository";
+
+    private static final String FDB_GENERIC_REPOSITORY = "io.micronaut.foundationdb.repository.FdbGenericRepository";
+
+    private static final String FDB_ID = "io.micronaut.foundationdb.repository.FdbId";
+
+    private static final String FINDER_PREFIX = "findBy";
+
+    private static final Map<String, Integer> OPERATIONS = Map.of(
+        "findById", 1, "existsById", 1, "findAllById", 1, "findAll", 0, "save", 1,
+        "saveAll", 1, "deleteById", 1, "delete", 1, "deleteAllById", 1, "deleteAll", 0
+    );
+
+    @Override
+    @NonNull
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(FDB_REPOSITORY);
+    }
+
+    @Override
+    @NonNull
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        if (!element.hasDeclaredAnnotation(FDB_REPOSITORY)) {
+            return;
+        }
+        if (!element.isInterface() || !element.isAssignable(FDB_GENERIC_REPOSITORY)) {
+            context.fail("@FdbRepository must be declared on an interface extending FdbCrudRepository or FdbAsyncCrudRepository", element);
+            return;
+        }
+        Map<String, ClassElement> typeArguments = element.getTypeArguments(FDB_GENERIC_REPOSITORY);
+        ClassElement entity = typeArguments.get("E");
+        ClassElement id = typeArguments.get("ID");
+        if (entity == null || id == null) {
+            context.fail("@FdbRepository interfaces must declare the entity and key types", element);
+            return;
+        }
+        if (entity.getBeanProperties().stream().noneMatch(property -> property.hasAnnotation(FDB_ID))) {
+            context.fail("Entity " + entity.getName() + " has no @FdbId property", element);
+            return;
+        }
+        List<String> keyComponents = id.isRecord()
+            ? id.getPrimaryConstructor().map(constructor -> Arrays.stream(constructor.getParameters()).map(ParameterElement::getName).toList()).orElse(List.of())
+            : List.of();
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS.onlyAbstract())) {
+            validate(method, keyComponents, context);
+        }
+    }
+
+    private void validate(MethodElement method, List<String> keyComponents, VisitorContext context) {
+        String name = method.getName();
+        int arguments = method.getParameters().length;
+        Integer expected = OPERATIONS.get(name);
+        if (expected != null) {
+            if (arguments != expected) {
+                context.fail("Repository method " + name + " must have " + expected + " parameter(s)", method);
+            }
+            return;
+        }
+        if (!name.startsWith(FINDER_PREFIX) || name.length() == FINDER_PREFIX.length()) {
+            context.fail("Unsupported repository method " + name + ", expected a CRUD method or a findBy<Component>[And<Component>...] finder", method);
+            return;
+        }
+        List<String> components = Arrays.stream(name.substring(FINDER_PREFIX.length()).split("And(?=[A-Z])"))
+            .map(NameUtils::decapitalize)
+            .toList();
+        if (components.size() != arguments) {
+            context.fail("Finder " + name + " must have one parameter per component " + components, method);
+            return;
+        }
+        if (!keyComponents.isEmpty()) {
+            if (components.size() >= keyComponents.size() || !keyComponents.subList(0, components.size()).equals(components)) {
+                context.fail("Finder " + name + " must name leading components of the key " + keyComponents + ", excluding the last", method);
+            }
+        }
+    }
+}
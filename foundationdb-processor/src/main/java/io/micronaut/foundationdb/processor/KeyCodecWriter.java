@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.processor;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.List;
+
+/**
+ * Writes the source of the {@code FdbKeyCodec} of an {@code @FdbKey} record.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+final class KeyCodecWriter {
+
+    private static final String RANGE = "com.apple.foundationdb.Range";
+
+    private static final String SUBSPACE = "com.apple.foundationdb.subspace.Subspace";
+
+    private final String packageName;
+
+    private final String className;
+
+    private final String keyType;
+
+    private final boolean publicType;
+
+    private final List<KeyComponent> components;
+
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * Constructs a new writer.
+     *
+     * @param packageName The package of the record
+     * @param className   The simple name of the generated codec
+     * @param keyType     The canonical name of the record
+     * @param publicType  Whether the record is public
+     * @param components  The components of the record
+     */
+    KeyCodecWriter(String packageName, String className, String keyType, boolean publicType, List<KeyComponent> components) {
+        this.packageName = packageName;
+        this.className = className;
+        this.keyType = keyType;
+        this.publicType = publicType;
+        this.components = components;
+    }
+
+    /**
+     * Generates the source of the codec.
+     *
+     * @return The source
+     */
+    String write() {
+        String visibility = publicType ? "public " : "";
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Tuple codec of {@link " + keyType + "}, generated from its {@code @FdbKey} annotation.");
+        line(0, " */");
+        line(0, "@io.micronaut.core.annotation.Generated");
+        line(0, "@jakarta.inject.Singleton");
+        line(0, visibility + "final class " + className + " extends io.micronaut.foundationdb.key.AbstractFdbKeyCodec<" + keyType + "> {");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * The shared instance, for use without dependency injection.");
+        line(1, " */");
+        line(1, visibility + "static final " + className + " INSTANCE = new " + className + "();");
+        line(0, "");
+        line(1, visibility + className + "() {");
+        line(2, "super(" + keyType + ".class);");
+        line(1, "}");
+        writePackedSize();
+        writeWrite();
+        writeRead();
+        for (int length = 1; length < components.size(); length++) {
+            writeRange(components.subList(0, length), visibility);
+        }
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void writePackedSize() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "protected int packedSize(" + keyType + " $key) {");
+        line(2, "int $size = 0;");
+        for (int i = 0; i < components.size(); i++) {
+            KeyComponent component = components.get(i);
+            line(2, component.typeName() + " $c" + i + " = $key." + component.name() + "();");
+            line(2, "$size += " + component.sizeOf("$c" + i) + ";");
+        }
+        line(2, "return $size;");
+        line(1, "}");
+    }
+
+    private void writeWrite() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "protected int write(" + keyType + " $key, byte[] $target, int $offset) {");
+        for (int i = 0; i < components.size(); i++) {
+            KeyComponent component = components.get(i);
+            line(2, component.typeName() + " $c" + i + " = $key." + component.name() + "();");
+            line(2, "$offset = " + component.write("$c" + i, "$target", "$offset") + ";");
+        }
+        line(2, "return $offset;");
+        line(1, "}");
+    }
+
+    private void writeRead() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "protected " + keyType + " read(io.micronaut.foundationdb.key.TupleDecoder $decoder) {");
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < components.size(); i++) {
+            KeyComponent component = components.get(i);
+            line(2, component.typeName() + " $c" + i + " = " + component.read("$decoder") + ";");
+            arguments.append(i == 0 ? "" : ", ").append("$c").append(i);
+        }
+        line(2, "return new " + keyType + "(" + arguments + ");");
+        line(1, "}");
+    }
+
+    private void writeRange(List<KeyComponent> prefix, String visibility) {
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder arguments = new StringBuilder();
+        for (KeyComponent component : prefix) {
+            parameters.append(", ").append(component.typeName()).append(' ').append(component.name());
+            arguments.append(", ").append(component.name());
+        }
+        String names = prefix.stream().map(KeyComponent::name).reduce((a, b) -> a + "}, {@code " + b).orElseThrow();
+
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Gets the range of all keys behind a raw prefix starting with the given {@code " + names + "}.");
+        line(1, " *");
+        line(1, " * @param $prefix The raw prefix");
+        for (KeyComponent component : prefix) {
+            line(1, " * @param " + component.name() + " The " + component.name() + " component");
+        }
+        line(1, " * @return The range");
+        line(1, " */");
+        line(1, visibility + RANGE + " range(byte[] $prefix" + parameters + ") {");
+        line(2, "int $size = 0;");
+        for (KeyComponent component : prefix) {
+            line(2, "$size += " + component.sizeOf(component.name()) + ";");
+        }
+        line(2, "byte[] $key = allocateRange($prefix, $size);");
+        line(2, "int $offset = $prefix.length;");
+        for (KeyComponent component : prefix) {
+            line(2, "$offset = " + component.write(component.name(), "$key", "$offset") + ";");
+        }
+        line(2, "return prefixRange($key);");
+        line(1, "}");
+
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Gets the range of all keys of a subspace starting with the given {@code " + names + "}.");
+        line(1, " *");
+        line(1, " * @param $subspace The subspace");
+        for (KeyComponent component : prefix) {
+            line(1, " * @param " + component.name() + " The " + component.name() + " component");
+        }
+        line(1, " * @return The range");
+        line(1, " */");
+        line(1, visibility + RANGE + " range(" + SUBSPACE + " $subspace" + parameters + ") {");
+        line(2, "return range($subspace.getKey()" + arguments + ");");
+        line(1, "}");
+    }
+
+    private void line(int indent, String text) {
+        out.append("    ".repeat(indent)).append(text).append('\n');
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.ClassElement;
+
+/**
+ * A component of an {@code @FdbKey} record and how it is encoded.
+ *
+ * @param name      The name of the component
+ * @param typeName  The Java type of the component
+ * @param kind      The encoding of the component
+ * @param reference Whether the component may be {@code null}
+ * @author Nikolai Papakha
+ */
+@Internal
+record KeyComponent(String name, String typeName, Kind kind, boolean reference) {
+
+    /**
+     * Resolves the encoding of a component type.
+     *
+     * @param name The name of the component
+     * @param type The type of the component
+     * @return The component, or {@code null} if the type is not supported
+     */
+    @Nullable
+    static KeyComponent of(String name, ClassElement type) {
+        if (type.isArray()) {
+            if (type.getArrayDimensions() == 1 && type.fromArray().getName().equals("byte")) {
+                return new KeyComponent(name, "byte[]", Kind.BYTES, true);
+            }
+            return null;
+        }
+        if (type.isEnum()) {
+            return new KeyComponent(name, type.getCanonicalName(), Kind.ENUM, true);
+        }
+        Kind kind = switch (type.getName()) {
+            case "java.lang.String" -> Kind.STRING;
+            case "long", "java.lang.Long" -> Kind.LONG;
+            case "int", "java.lang.Integer" -> Kind.INT;
+            case "short", "java.lang.Short" -> Kind.SHORT;
+            case "boolean", "java.lang.Boolean" -> Kind.BOOLEAN;
+            case "double", "java.lang.Double" -> Kind.DOUBLE;
+            case "float", "java.lang.Float" -> Kind.FLOAT;
+            case "java.util.UUID" -> Kind.UUID;
+            default -> null;
+        };
+        return kind == null ? null : new KeyComponent(name, type.getName(), kind, !type.isPrimitive());
+    }
+
+    /**
+     * Gets the expression computing the packed size of the component.
+     *
+     * @param variable The variable holding the component
+     * @return The expression
+     */
+    String sizeOf(String variable) {
+        String size = "io.micronaut.foundationdb.key.TupleEncoder.sizeOf" + kind.encoding + "(" + kind.encoded(variable) + ")";
+        return reference ? variable + " == null ? io.micronaut.foundationdb.key.TupleEncoder.NULL_SIZE : " + size : size;
+    }
+
+    /**
+     * Gets the expression writing the component.
+     *
+     * @param variable The variable holding the component
+     * @param target   The variable holding the array to write to
+     * @param offset   The variable holding the position to write at
+     * @return The expression, evaluating to the position after the component
+     */
+    String write(String variable, String target, String offset) {
+        String write = "io.micronaut.foundationdb.key.TupleEncoder.write" + kind.encoding + "(" + target + ", " + offset + ", " + kind.encoded(variable) + ")";
+        return reference
+            ? variable + " == null ? io.micronaut.foundationdb.key.TupleEncoder.writeNull(" + target + ", " + offset + ") : " + write
+            : write;
+    }
+
+    /**
+     * Gets the expression reading the component.
+     *
+     * @param decoder The variable holding the decoder
+     * @return The expression
+     */
+    String read(String decoder) {
+        String read = kind == Kind.ENUM
+            ? typeName + ".valueOf(" + decoder + ".readString())"
+            : decoder + "." + kind.reader + "()";
+        return reference ? decoder + ".readNull() ? null : " + read : read;
+    }
+
+    /**
+     * The tuple encoding of a component.
+     */
+    enum Kind {
+        STRING("String", "readString"),
+        BYTES("Bytes", "readBytes"),
+        LONG("Long", "readLong"),
+        INT("Long", "readInt"),
+        SHORT("Long", "readShort"),
+        BOOLEAN("Boolean", "readBoolean"),
+        DOUBLE("Double", "readDouble"),
+        FLOAT("Float", "readFloat"),
+        UUID("Uuid", "readUuid"),
+        ENUM("String", "readString");
+
+        private final String encoding;
+
+        private final String reader;
+
+        Kind(String encoding, String reader) {
+            this.encoding = encoding;
+            this.reader = reader;
+        }
+
+        String encoded(String variable) {
+            return this == ENUM ? variable + ".name()" : variable;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.micronaut.foundationdb.processor
+
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.foundationdb.key.FdbKeyCodec
+
+class FdbKeyVisitorSpec extends AbstractTypeElementSpec {
+
+    private static final String ORDER_KEY = '''
+package test;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.key.FdbKey;
+
+import java.util.UUID;
+
+@FdbKey
+public record OrderKey(String tenant, long orderId, @Nullable Integer quantity, boolean express, double weight, UUID item, Status status) {
+
+    public enum Status { NEW, SHIPPED }
+}
+'''
+
+    def 'generated codec packs like Tuple'() {
+        given:
+        def classLoader = buildClassLoader('test.OrderKey', ORDER_KEY)
+        def codec = codec(classLoader, 'test.OrderKeyCodec')
+        def item = UUID.randomUUID()
+        def status = classLoader.loadClass('test.OrderKey$Status').enumConstants[1]
+        def key = classLoader.loadClass('test.OrderKey').declaredConstructors[0]
+                .newInstance(tenant, orderId, null, true, -1.5d, item, status)
+
+        when:
+        byte[] packed = codec.pack(key)
+
+        then:
+        packed == Tuple.from(tenant, orderId, null, true, -1.5d, item, 'SHIPPED').pack()
+        codec.unpack(packed) == key
+
+        where:
+        tenant                 | orderId
+        'acme'                 | 0L
+        'a\u0000b'             | 1L
+        'caf\u00e9'            | -1L
+        '\u4e2d\u6587'         | 256L
+        '\ud83d\ude00'         | -256L
+        ''                     | Long.MAX_VALUE
+        'acme'                 | Long.MIN_VALUE
+    }
+
+    def 'byte strings, floats and shorts are packed like Tuple'() {
+        given:
+        def classLoader = buildClassLoader('test.BlobKey', '''
+package test;
+
+import io.micronaut.foundationdb.key.FdbKey;
+
+@FdbKey
+public record BlobKey(byte[] id, float score, short shard) {
+}
+''')
+        def codec = codec(classLoader, 'test.BlobKeyCodec')
+        def key = classLoader.loadClass('test.BlobKey').declaredConstructors[0]
+                .newInstance([0, 1, 0, -1] as byte[], 0.25f, (short) -7)
+
+        when:
+        byte[] packed = codec.pack(key)
+        def unpacked = codec.unpack(packed)
+
+        then:
+        packed == Tuple.from([0, 1, 0, -1] as byte[], 0.25f, -7L).pack()
+        unpacked.id() == [0, 1, 0, -1] as byte[]
+        unpacked.score() == 0.25f
+        unpacked.shard() == (short) -7
+    }
+
+    def 'keys are packed in subspaces and prefix ranges'() {
+        given:
+        def classLoader = buildClassLoader('test.OrderKey', ORDER_KEY)
+        def codec = codec(classLoader, 'test.OrderKeyCodec')
+        def subspace = new Subspace(Tuple.from('orders'))
+        def item = UUID.randomUUID()
+        def status = classLoader.loadClass('test.OrderKey$Status').enumConstants[0]
+        def key = classLoader.loadClass('test.OrderKey').declaredConstructors[0]
+                .newInstance('acme', 7L, 3, false, 2.0d, item, status)
+
+        expect:
+        codec.pack(subspace, key) == subspace.pack(Tuple.from('acme', 7L, 3L, false, 2.0d, item, 'NEW'))
+        codec.unpack(subspace, codec.pack(subspace, key)) == key
+        codec.range(subspace, 'acme') == subspace.range(Tuple.from('acme'))
+        codec.range(subspace, 'acme', 7L) == subspace.range(Tuple.from('acme', 7L))
+    }
+
+    def 'unpacking a foreign key fails'() {
+        given:
+        def codec = codec(buildClassLoader('test.OrderKey', ORDER_KEY), 'test.OrderKeyCodec')
+
+        when:
+        codec.unpack(Tuple.from('acme', 'not a number').pack())
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.contains('Expected integer')
+
+        when:
+        codec.unpack(new Subspace(Tuple.from('orders')), Tuple.from('users', 'acme').pack())
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'only records are supported'() {
+        when:
+        buildClassLoader('test.PlainKey', '''
+package test;
+
+import io.micronaut.foundationdb.key.FdbKey;
+
+@FdbKey
+class PlainKey {
+}
+''')
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains('@FdbKey can only be declared on records')
+    }
+
+    def 'unsupported component types are rejected'() {
+        when:
+        buildClassLoader('test.DateKey', '''
+package test;
+
+import io.micronaut.foundationdb.key.FdbKey;
+
+import java.time.Instant;
+
+@FdbKey
+record DateKey(Instant at) {
+}
+''')
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains('Unsupported @FdbKey component type java.time.Instant')
+    }
+
+    private static FdbKeyCodec codec(ClassLoader classLoader, String name) {
+        return classLoader.loadClass(name).getField('INSTANCE').get(null) as FdbKeyCodec
+    }
+}
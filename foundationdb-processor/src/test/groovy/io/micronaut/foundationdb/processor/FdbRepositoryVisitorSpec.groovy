@@ -0,0 +1,87 @@
+package io.micronaut.foundationdb.processor
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+
+class FdbRepositoryVisitorSpec extends AbstractTypeElementSpec {
+
+    private static final String ENTITY = '''
+package test;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.foundationdb.key.FdbKey;
+import io.micronaut.foundationdb.repository.FdbId;
+
+@FdbKey
+record OrderKey(String tenant, String customer, long orderId) {
+}
+
+@Introspected
+record Order(@FdbId OrderKey key, String description) {
+}
+'''
+
+    def 'finders naming leading key components are accepted'() {
+        when:
+        buildClassLoader('test.OrderRepository', ENTITY + '''
+@io.micronaut.foundationdb.repository.FdbRepository
+interface OrderRepository extends io.micronaut.foundationdb.repository.FdbCrudRepository<Order, OrderKey> {
+
+    java.util.List<Order> findByTenant(String tenant);
+
+    java.util.concurrent.CompletableFuture<java.util.List<Order>> findByTenantAndCustomer(String tenant, String customer);
+}
+''')
+
+        then:
+        noExceptionThrown()
+    }
+
+    def 'finders not matching the key are rejected'() {
+        when:
+        buildClassLoader('test.OrderRepository', ENTITY + '''
+@io.micronaut.foundationdb.repository.FdbRepository
+interface OrderRepository extends io.micronaut.foundationdb.repository.FdbCrudRepository<Order, OrderKey> {
+
+    java.util.List<Order> findByCustomer(String customer);
+}
+''')
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains('Finder findByCustomer must name leading components of the key [tenant, customer, orderId]')
+    }
+
+    def 'unsupported methods are rejected'() {
+        when:
+        buildClassLoader('test.OrderRepository', ENTITY + '''
+@io.micronaut.foundationdb.repository.FdbRepository
+interface OrderRepository extends io.micronaut.foundationdb.repository.FdbCrudRepository<Order, OrderKey> {
+
+    long countByTenant(String tenant);
+}
+''')
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains('Unsupported repository method countByTenant')
+    }
+
+    def 'entities need an @FdbId property'() {
+        when:
+        buildClassLoader('test.NoteRepository', '''
+package test;
+
+@io.micronaut.core.annotation.Introspected
+record Note(String id, String text) {
+}
+
+@io.micronaut.foundationdb.repository.FdbRepository
+interface NoteRepository extends io.micronaut.foundationdb.repository.FdbCrudRepository<Note, String> {
+}
+''')
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains('Entity test.Note has no @FdbId property')
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Records metrics of the callback executors created from {@link FoundationDbExecutorOptions}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface ExecutorMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    ExecutorMetrics NOOP = new ExecutorMetrics() {
+    };
+
+    /**
+     * Monitors the pool and the queue of a bounded executor.
+     *
+     * @param database The name of the database
+     * @param executor The executor
+     */
+    default void monitor(String database, ThreadPoolExecutor executor) {
+    }
+
+    /**
+     * Records a callback which ran on an overflow virtual thread because the queue was full.
+     *
+     * @param database The name of the database
+     */
+    default void overflow(String database) {
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the {@link com.apple.foundationdb.directory.DirectorySubspace} of a directory, resolved
+ * through the {@link FoundationDbDirectoryRegistry}.
+ *
+ * <pre>{@code
+ * @Singleton
+ * class UserStore {
+ *     UserStore(@FdbDirectory({"app", "users"}) DirectorySubspace users) { ... }
+ * }
+ * }</pre>
+ *
+ * @author Nikolai Papakha
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface FdbDirectory {
+
+    /**
+     * @return The path of the directory
+     */
+    String[] value();
+
+    /**
+     * @return The name of the database, the primary database by default
+     */
+    String database() default "";
+}
@@ -18,11 +18,13 @@ package io.micronaut.foundationdb;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 
 
 /**
- * FoundationDB client configuration.
+ * FoundationDB client configuration, which also configures the primary database.
+ * Additional databases are configured by {@link FoundationDbDatabaseConfig}.
  *
  * @author Nikolai Papakha
  */
@@ -36,6 +38,11 @@ public final class FoundationDbClientConfig {
      */
     public static final String PREFIX = "foundationdb";
 
+    /**
+     * The name of the primary database.
+     */
+    public static final String DEFAULT_NAME = "default";
+
     @Nullable
     private String clusterFilePath;
 
@@ -45,6 +52,14 @@ public final class FoundationDbClientConfig {
     @Nullable
     private String executor;
 
+    private ExecutorOptionsConfig executorOptions = new ExecutorOptionsConfig();
+
+    private NetworkOptionsConfig networkOptions = new NetworkOptionsConfig();
+
+    private DatabaseOptionsConfig databaseOptions = new DatabaseOptionsConfig();
+
+    private TransactionOptionsConfig transactionOptions = new TransactionOptionsConfig();
+
     /**
      * Default constructor.
      */
@@ -107,4 +122,108 @@ public final class FoundationDbClientConfig {
     public void setExecutor(@Nullable String executor) {
         this.executor = executor;
     }
+
+    /**
+     * Gets the options of the callback executor of the primary database.
+     *
+     * @return The executor options
+     */
+    @NonNull
+    public ExecutorOptionsConfig getExecutorOptions() {
+        return executorOptions;
+    }
+
+    /**
+     * Sets the options of the callback executor of the primary database, used unless an executor bean is configured.
+     *
+     * @param executorOptions The executor options
+     */
+    public void setExecutorOptions(@NonNull ExecutorOptionsConfig executorOptions) {
+        this.executorOptions = executorOptions;
+    }
+
+    /**
+     * Gets the process-wide network options.
+     *
+     * @return The network options
+     */
+    @NonNull
+    public NetworkOptionsConfig getNetworkOptions() {
+        return networkOptions;
+    }
+
+    /**
+     * Sets the process-wide network options.
+     *
+     * @param networkOptions The network options
+     */
+    public void setNetworkOptions(@NonNull NetworkOptionsConfig networkOptions) {
+        this.networkOptions = networkOptions;
+    }
+
+    /**
+     * Gets the options of the primary database.
+     *
+     * @return The database options
+     */
+    @NonNull
+    public DatabaseOptionsConfig getDatabaseOptions() {
+        return databaseOptions;
+    }
+
+    /**
+     * Sets the options of the primary database.
+     *
+     * @param databaseOptions The database options
+     */
+    public void setDatabaseOptions(@NonNull DatabaseOptionsConfig databaseOptions) {
+        this.databaseOptions = databaseOptions;
+    }
+
+    /**
+     * Gets the default transaction options of the primary database.
+     *
+     * @return The transaction options
+     */
+    @NonNull
+    public TransactionOptionsConfig getTransactionOptions() {
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the default transaction options of the primary database.
+     *
+     * @param transactionOptions The transaction options
+     */
+    public void setTransactionOptions(@NonNull TransactionOptionsConfig transactionOptions) {
+        this.transactionOptions = transactionOptions;
+    }
+
+    /**
+     * Network options configured under {@code foundationdb.network-options}.
+     */
+    @ConfigurationProperties("network-options")
+    public static class NetworkOptionsConfig extends FoundationDbNetworkOptions {
+    }
+
+    /**
+     * Executor options configured under {@code foundationdb.executor-options}.
+     */
+    @ConfigurationProperties("executor-options")
+    public static class ExecutorOptionsConfig extends FoundationDbExecutorOptions {
+    }
+
+    /**
+     * Database options configured under {@code foundationdb.database-options}.
+     */
+    @ConfigurationProperties("database-options")
+    public static class DatabaseOptionsConfig extends FoundationDbDatabaseOptions {
+    }
+
+    /**
+     * Transaction options configured under {@code foundationdb.transaction-options}.
+     */
+    @ConfigurationProperties("transaction-options")
+    public static class TransactionOptionsConfig extends FoundationDbTransactionOptions {
+    }
 }
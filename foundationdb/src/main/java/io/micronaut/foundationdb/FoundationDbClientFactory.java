@@ -21,12 +21,20 @@ import com.apple.foundationdb.EventKeeper;
 import com.apple.foundationdb.FDB;
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Factory for creating FoundationDB {@link Database} instances.
@@ -36,8 +44,12 @@ import java.util.concurrent.ExecutorService;
 @Factory
 class FoundationDbClientFactory {
 
+    private static final AtomicBoolean NETWORK_SET_UP = new AtomicBoolean();
+
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
     /**
-     * Creates a FoundationDB {@link Database} instance based on the provided configuration.
+     * Creates the primary FoundationDB {@link Database} instance based on the provided configuration.
      *
      * @param config      The {@link FoundationDbClientConfig} containing settings for the database
      * @param beanLocator The {@link BeanLocator}
@@ -45,13 +57,102 @@ class FoundationDbClientFactory {
      */
     @Bean(preDestroy = "close")
     @Singleton
+    @Primary
+    @Named(FoundationDbClientConfig.DEFAULT_NAME)
     Database createDatabase(FoundationDbClientConfig config, BeanLocator beanLocator) {
-        if (config.getNativeLibraryPath() != null) {
-            System.setProperty("FDB_LIBRARY_PATH_FDB_C", config.getNativeLibraryPath());
+        EventKeeper eventKeeper = beanLocator.findBean(EventKeeper.class, Qualifiers.byName(FoundationDbClientConfig.DEFAULT_NAME)).orElse(null);
+        Database database = open(config, FoundationDbClientConfig.DEFAULT_NAME, config.getClusterFilePath(),
+            config.getExecutor(), config.getExecutorOptions(), eventKeeper, beanLocator);
+        return configure(database, config.getDatabaseOptions(), config.getTransactionOptions());
+    }
+
+    /**
+     * Creates a named FoundationDB {@link Database} instance for each {@link FoundationDbDatabaseConfig}.
+     *
+     * @param config       The {@link FoundationDbDatabaseConfig} containing settings for the database
+     * @param clientConfig The {@link FoundationDbClientConfig} containing the network settings
+     * @param beanLocator  The {@link BeanLocator}
+     * @return The {@link Database}
+     */
+    @Bean(preDestroy = "close")
+    @EachBean(FoundationDbDatabaseConfig.class)
+    Database createNamedDatabase(FoundationDbDatabaseConfig config, FoundationDbClientConfig clientConfig, BeanLocator beanLocator) {
+        EventKeeper eventKeeper = beanLocator.findBean(EventKeeper.class, Qualifiers.byName(config.getName()))
+            .or(() -> beanLocator.findBean(NamedEventKeepers.class).map(keepers -> keepers.create(config.getName())))
+            .orElse(null);
+        Database database = open(clientConfig, config.getName(), config.getClusterFilePath(),
+            config.getExecutor(), config.getExecutorOptions(), eventKeeper, beanLocator);
+        return configure(database, config.getDatabaseOptions(), config.getTransactionOptions());
+    }
+
+    /**
+     * Shuts down the callback executors created for the databases, after the databases have been closed.
+     */
+    @PreDestroy
+    void close() {
+        executors.forEach(ExecutorService::shutdown);
+        executors.clear();
+    }
+
+    private Database open(FoundationDbClientConfig clientConfig,
+                          String name,
+                          @Nullable String clusterFilePath,
+                          @Nullable String executorName,
+                          FoundationDbExecutorOptions executorOptions,
+                          @Nullable EventKeeper eventKeeper,
+                          BeanLocator beanLocator) {
+        ExecutorService executor = Optional.ofNullable(executorName)
+            .flatMap(beanName -> beanLocator.findBean(ExecutorService.class, Qualifiers.byName(beanName)))
+            .orElseGet(() -> createExecutor(name, executorOptions, beanLocator));
+        if (clientConfig.getNativeLibraryPath() != null) {
+            System.setProperty("FDB_LIBRARY_PATH_FDB_C", clientConfig.getNativeLibraryPath());
+        }
+        FDB fdb = FDB.selectAPIVersion(ApiVersion.LATEST);
+        setUpNetwork(fdb, clientConfig);
+        try {
+            return fdb.open(clusterFilePath, executor, eventKeeper);
+        } catch (RuntimeException e) {
+            if (executors.remove(executor)) {
+                executor.shutdown();
+            }
+            throw e;
+        }
+    }
+
+    private ExecutorService createExecutor(String name, FoundationDbExecutorOptions options, BeanLocator beanLocator) {
+        ExecutorMetrics metrics = beanLocator.findBean(ExecutorMetrics.class).orElse(ExecutorMetrics.NOOP);
+        ExecutorService executor = options.create(name, metrics);
+        if (executor == null) {
+            return FDB.DEFAULT_EXECUTOR;
+        }
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Applies the network options. The client network is process wide, so they are applied once,
+     * before the first database is opened. The native library path is set before, since the library
+     * is loaded when the API version is first selected.
+     */
+    private static void setUpNetwork(FDB fdb, FoundationDbClientConfig config) {
+        synchronized (NETWORK_SET_UP) {
+            if (NETWORK_SET_UP.getAndSet(true)) {
+                return;
+            }
+            config.getNetworkOptions().applyTo(fdb.options());
+        }
+    }
+
+    private static Database configure(Database database,
+                                      FoundationDbDatabaseOptions databaseOptions,
+                                      FoundationDbTransactionOptions transactionOptions) {
+        try {
+            databaseOptions.applyTo(database.options());
+            transactionOptions.applyTo(database.options());
+        } catch (RuntimeException e) {
+            database.close();
+            throw e;
         }
-        ExecutorService executor = Optional.ofNullable(config.getExecutor())
-            .flatMap(name -> beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name))).orElse(FDB.DEFAULT_EXECUTOR);
-        EventKeeper eventKeeper = beanLocator.findBean(EventKeeper.class).orElse(null);
-        return FDB.selectAPIVersion(ApiVersion.LATEST).open(config.getClusterFilePath(), executor, eventKeeper);
+        return database;
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Configuration of an additional, named FoundationDB database. The primary database is
+ * configured by {@link FoundationDbClientConfig}.
+ *
+ * @author Nikolai Papakha
+ */
+@EachProperty(FoundationDbDatabaseConfig.PREFIX)
+@Internal
+public final class FoundationDbDatabaseConfig {
+
+    /**
+     * The prefix to use for named databases.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".databases";
+
+    private final String name;
+
+    @Nullable
+    private String clusterFilePath;
+
+    @Nullable
+    private String executor;
+
+    private ExecutorOptionsConfig executorOptions = new ExecutorOptionsConfig();
+
+    private DatabaseOptionsConfig databaseOptions = new DatabaseOptionsConfig();
+
+    private TransactionOptionsConfig transactionOptions = new TransactionOptionsConfig();
+
+    /**
+     * Constructs a new {@code FoundationDbDatabaseConfig} instance.
+     *
+     * @param name The name of the database
+     * @throws ConfigurationException if the name is the one of the primary database
+     */
+    public FoundationDbDatabaseConfig(@Parameter String name) {
+        if (FoundationDbClientConfig.DEFAULT_NAME.equals(name)) {
+            throw new ConfigurationException("The database name '" + name + "' is reserved for the primary database");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the database, used as the bean qualifier.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the path to the FoundationDB cluster file.
+     *
+     * @return The path to the cluster file
+     */
+    @Nullable
+    public String getClusterFilePath() {
+        return clusterFilePath;
+    }
+
+    /**
+     * Sets the path to the FoundationDB cluster file.
+     *
+     * @param clusterFilePath The path to the cluster file
+     */
+    public void setClusterFilePath(@Nullable String clusterFilePath) {
+        this.clusterFilePath = clusterFilePath;
+    }
+
+    /**
+     * Gets the name of the executor service bean.
+     *
+     * @return The name of the executor bean
+     */
+    @Nullable
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the name of the executor service bean to use.
+     *
+     * @param executor The name of the executor bean
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the options of the callback executor of the database.
+     *
+     * @return The executor options
+     */
+    @NonNull
+    public ExecutorOptionsConfig getExecutorOptions() {
+        return executorOptions;
+    }
+
+    /**
+     * Sets the options of the callback executor of the database, used unless an executor bean is configured.
+     *
+     * @param executorOptions The executor options
+     */
+    public void setExecutorOptions(@NonNull ExecutorOptionsConfig executorOptions) {
+        this.executorOptions = executorOptions;
+    }
+
+    /**
+     * Gets the options of the database.
+     *
+     * @return The database options
+     */
+    @NonNull
+    public DatabaseOptionsConfig getDatabaseOptions() {
+        return databaseOptions;
+    }
+
+    /**
+     * Sets the options of the database.
+     *
+     * @param databaseOptions The database options
+     */
+    public void setDatabaseOptions(@NonNull DatabaseOptionsConfig databaseOptions) {
+        this.databaseOptions = databaseOptions;
+    }
+
+    /**
+     * Gets the default transaction options of the database.
+     *
+     * @return The transaction options
+     */
+    @NonNull
+    public TransactionOptionsConfig getTransactionOptions() {
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the default transaction options of the database.
+     *
+     * @param transactionOptions The transaction options
+     */
+    public void setTransactionOptions(@NonNull TransactionOptionsConfig transactionOptions) {
+        this.transactionOptions = transactionOptions;
+    }
+
+    /**
+     * Executor options configured under {@code foundationdb.databases.<name>.executor-options}.
+     */
+    @ConfigurationProperties("executor-options")
+    public static class ExecutorOptionsConfig extends FoundationDbExecutorOptions {
+    }
+
+    /**
+     * Database options configured under {@code foundationdb.databases.<name>.database-options}.
+     */
+    @ConfigurationProperties("database-options")
+    public static class DatabaseOptionsConfig extends FoundationDbDatabaseOptions {
+    }
+
+    /**
+     * Transaction options configured under {@code foundationdb.databases.<name>.transaction-options}.
+     */
+    @ConfigurationProperties("transaction-options")
+    public static class TransactionOptionsConfig extends FoundationDbTransactionOptions {
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.DatabaseOptions;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Options applied to a FoundationDB database right after it has been opened.
+ * Options which are not set keep the client defaults.
+ *
+ * @author Nikolai Papakha
+ */
+public class FoundationDbDatabaseOptions {
+
+    @Nullable
+    private Long locationCacheSize;
+
+    @Nullable
+    private Long maxWatches;
+
+    @Nullable
+    private String machineId;
+
+    @Nullable
+    private String datacenterId;
+
+    private boolean snapshotRywDisable;
+
+    /**
+     * Gets the number of shard locations cached by the client.
+     *
+     * @return The location cache size
+     */
+    @Nullable
+    public Long getLocationCacheSize() {
+        return locationCacheSize;
+    }
+
+    /**
+     * Sets the number of shard locations cached by the client. Larger caches avoid location
+     * lookups for workloads touching many shards. Client default: 100000.
+     *
+     * @param locationCacheSize The location cache size
+     */
+    public void setLocationCacheSize(@Nullable Long locationCacheSize) {
+        this.locationCacheSize = locationCacheSize;
+    }
+
+    /**
+     * Gets the maximum number of outstanding watches.
+     *
+     * @return The max number of watches
+     */
+    @Nullable
+    public Long getMaxWatches() {
+        return maxWatches;
+    }
+
+    /**
+     * Sets the maximum number of outstanding watches. Client default: 10000.
+     *
+     * @param maxWatches The max number of watches
+     */
+    public void setMaxWatches(@Nullable Long maxWatches) {
+        this.maxWatches = maxWatches;
+    }
+
+    /**
+     * Gets the machine identifier used for locality-aware load balancing.
+     *
+     * @return The machine id
+     */
+    @Nullable
+    public String getMachineId() {
+        return machineId;
+    }
+
+    /**
+     * Sets the machine identifier used for locality-aware load balancing.
+     *
+     * @param machineId The machine id
+     */
+    public void setMachineId(@Nullable String machineId) {
+        this.machineId = machineId;
+    }
+
+    /**
+     * Gets the datacenter identifier used for locality-aware load balancing.
+     *
+     * @return The datacenter id
+     */
+    @Nullable
+    public String getDatacenterId() {
+        return datacenterId;
+    }
+
+    /**
+     * Sets the datacenter identifier used for locality-aware load balancing.
+     *
+     * @param datacenterId The datacenter id
+     */
+    public void setDatacenterId(@Nullable String datacenterId) {
+        this.datacenterId = datacenterId;
+    }
+
+    /**
+     * Whether snapshot reads do not see the writes of their own transaction.
+     *
+     * @return {@code true} if disabled
+     */
+    public boolean isSnapshotRywDisable() {
+        return snapshotRywDisable;
+    }
+
+    /**
+     * Sets whether snapshot reads do not see the writes of their own transaction. Default value: {@code false}.
+     *
+     * @param snapshotRywDisable {@code true} to disable
+     */
+    public void setSnapshotRywDisable(boolean snapshotRywDisable) {
+        this.snapshotRywDisable = snapshotRywDisable;
+    }
+
+    /**
+     * Applies the options which are set.
+     *
+     * @param options The database options
+     */
+    public void applyTo(@NonNull DatabaseOptions options) {
+        if (locationCacheSize != null) {
+            options.setLocationCacheSize(locationCacheSize);
+        }
+        if (maxWatches != null) {
+            options.setMaxWatches(maxWatches);
+        }
+        if (machineId != null) {
+            options.setMachineId(machineId);
+        }
+        if (datacenterId != null) {
+            options.setDatacenterId(datacenterId);
+        }
+        if (snapshotRywDisable) {
+            options.setSnapshotRywDisable();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the {@link FoundationDbDirectoryRegistry}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbDirectoryConfig.PREFIX)
+public final class FoundationDbDirectoryConfig {
+
+    /**
+     * The prefix to use for directory configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".directories";
+
+    /**
+     * The default key of the metadata version, encoded as UTF-8.
+     */
+    public static final String DEFAULT_METADATA_KEY = "micronaut-foundationdb/directory-version";
+
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1);
+
+    @NonNull
+    private List<String> paths = new ArrayList<>();
+
+    private boolean create = true;
+
+    private boolean watch = true;
+
+    @NonNull
+    private String metadataKey = DEFAULT_METADATA_KEY;
+
+    @NonNull
+    private Duration retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Gets the paths of the directories resolved at startup.
+     *
+     * @return The directory paths
+     */
+    @NonNull
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Sets the paths, with {@code /} separated names such as {@code app/users}, of the directories
+     * of the primary database which are resolved in parallel at startup.
+     *
+     * @param paths The directory paths
+     */
+    public void setPaths(@NonNull List<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Whether missing directories are created.
+     *
+     * @return {@code true} if created
+     */
+    public boolean isCreate() {
+        return create;
+    }
+
+    /**
+     * Sets whether missing directories are created, instead of failing the lookup. Default value: {@code true}.
+     *
+     * @param create {@code true} to create missing directories
+     */
+    public void setCreate(boolean create) {
+        this.create = create;
+    }
+
+    /**
+     * Whether the metadata version key is watched.
+     *
+     * @return {@code true} if watched
+     */
+    public boolean isWatch() {
+        return watch;
+    }
+
+    /**
+     * Sets whether the metadata version key is watched, so that resolved directories are
+     * invalidated when another process moves or removes a directory. Default value: {@code true}.
+     *
+     * @param watch {@code true} to watch the metadata version
+     */
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+
+    /**
+     * Gets the key of the metadata version.
+     *
+     * @return The metadata key
+     */
+    @NonNull
+    public String getMetadataKey() {
+        return metadataKey;
+    }
+
+    /**
+     * Sets the key, encoded as UTF-8, of the metadata version which is incremented whenever a
+     * directory is moved or removed. Default value: {@value #DEFAULT_METADATA_KEY}.
+     *
+     * @param metadataKey The metadata key
+     */
+    public void setMetadataKey(@NonNull String metadataKey) {
+        this.metadataKey = metadataKey;
+    }
+
+    /**
+     * Gets the delay before a failed watch is armed again.
+     *
+     * @return The retry delay
+     */
+    @NonNull
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the delay before a failed watch is armed again. Default value: 1 second.
+     *
+     * @param retryDelay The retry delay
+     */
+    public void setRetryDelay(@NonNull Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.directory.DirectorySubspace;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Prototype;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.InjectionPoint;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Factory for the {@link DirectorySubspace} of {@link FdbDirectory} injection points.
+ *
+ * @author Nikolai Papakha
+ */
+@Factory
+class FoundationDbDirectoryFactory {
+
+    /**
+     * Resolves the directory of an injection point through the registry of its database.
+     *
+     * @param injectionPoint The injection point
+     * @param beanLocator    The {@link BeanLocator}
+     * @return The {@link DirectorySubspace}
+     */
+    @Prototype
+    @Bean
+    DirectorySubspace directory(@Nullable InjectionPoint<?> injectionPoint, BeanLocator beanLocator) {
+        AnnotationValue<FdbDirectory> annotation = injectionPoint == null ? null
+            : injectionPoint.getAnnotationMetadata().getAnnotation(FdbDirectory.class);
+        if (annotation == null) {
+            throw new IllegalStateException("A DirectorySubspace can only be injected into an injection point annotated with @FdbDirectory");
+        }
+        List<String> path = Arrays.asList(annotation.stringValues());
+        if (path.isEmpty()) {
+            throw new IllegalStateException("The path of @FdbDirectory must not be empty");
+        }
+        String database = annotation.stringValue("database").orElse("");
+        FoundationDbDirectoryRegistry registry = database.isEmpty()
+            ? beanLocator.getBean(FoundationDbDirectoryRegistry.class)
+            : beanLocator.getBean(FoundationDbDirectoryRegistry.class, Qualifiers.byName(database));
+        return registry.get(path);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves the directories configured by {@link FoundationDbDirectoryConfig} when the application
+ * context starts, without delaying the startup.
+ *
+ * @author Nikolai Papakha
+ */
+@Context
+@Requires(property = FoundationDbDirectoryConfig.PREFIX + ".paths")
+final class FoundationDbDirectoryPreloader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbDirectoryPreloader.class);
+
+    FoundationDbDirectoryPreloader(FoundationDbDirectoryRegistry registry, FoundationDbDirectoryConfig config) {
+        List<List<String>> paths = config.getPaths().stream().map(FoundationDbDirectoryPreloader::toPath).toList();
+        registry.preload(paths).whenComplete((v, throwable) -> {
+            if (throwable == null) {
+                LOG.debug("Resolved {} FoundationDB directories", paths.size());
+            } else {
+                LOG.warn("Resolving the FoundationDB directories failed, they are resolved on first lookup", throwable);
+            }
+        });
+    }
+
+    private static List<String> toPath(String path) {
+        return Arrays.stream(path.split("/")).filter(name -> !name.isEmpty()).toList();
+    }
+}
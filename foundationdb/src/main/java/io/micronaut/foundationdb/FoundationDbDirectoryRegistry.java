@@ -0,0 +1,300 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.directory.DirectoryLayer;
+import com.apple.foundationdb.directory.DirectorySubspace;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Caches the {@link DirectorySubspace} of the directories of a FoundationDB {@link Database}, so
+ * that looking up a directory costs no round trips once it has been resolved.
+ *
+ * <p>Directories are resolved through the {@link DirectoryLayer} on first lookup, or at startup
+ * for the paths configured by {@link FoundationDbDirectoryConfig}. The registry watches a metadata
+ * version key, which {@link #move(List, List)}, {@link #remove(List)} and
+ * {@link #bumpVersion(Transaction)} increment in the transaction changing the directories. When
+ * the version changes, every process forgets its cached directories, which are resolved again
+ * on their next lookup, so that removed or moved directories are not recreated.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@EachBean(Database.class)
+public class FoundationDbDirectoryRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbDirectoryRegistry.class);
+
+    private static final byte[] ONE = {1, 0, 0, 0, 0, 0, 0, 0};
+
+    private final Database database;
+
+    private final DirectoryLayer directoryLayer = DirectoryLayer.getDefault();
+
+    private final byte[] metadataKey;
+
+    private final boolean create;
+
+    private final Duration retryDelay;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Map<List<String>, CompletableFuture<DirectorySubspace>> directories = new ConcurrentHashMap<>();
+
+    private volatile byte[] version;
+
+    private volatile CompletableFuture<Void> watch;
+
+    private volatile ScheduledFuture<?> retry;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code FoundationDbDirectoryRegistry} instance, watching the metadata version.
+     *
+     * @param database      The FoundationDB database
+     * @param config        The directory configuration
+     * @param taskScheduler The scheduler of the watch retries
+     */
+    public FoundationDbDirectoryRegistry(Database database, FoundationDbDirectoryConfig config, TaskScheduler taskScheduler) {
+        this.database = database;
+        this.metadataKey = config.getMetadataKey().getBytes(StandardCharsets.UTF_8);
+        this.create = config.isCreate();
+        this.retryDelay = config.getRetryDelay();
+        this.taskScheduler = taskScheduler;
+        if (config.isWatch()) {
+            arm();
+        }
+    }
+
+    /**
+     * Resolves the given directories in parallel.
+     *
+     * @param paths The directory paths
+     * @return A future completing once every directory has been resolved
+     */
+    @NonNull
+    public CompletableFuture<Void> preload(@NonNull Collection<List<String>> paths) {
+        return CompletableFuture.allOf(paths.stream().map(this::resolve).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Gets a directory, resolving it on first lookup. A failed resolution is repeated by the next lookup.
+     *
+     * @param path The directory path
+     * @return A future of the directory
+     */
+    @NonNull
+    public CompletableFuture<DirectorySubspace> resolve(@NonNull List<String> path) {
+        CompletableFuture<DirectorySubspace> cached = directories.get(path);
+        if (cached != null && !cached.isCompletedExceptionally()) {
+            return cached;
+        }
+        return directories.compute(List.copyOf(path), (key, current) ->
+            current != null && !current.isCompletedExceptionally() ? current : open(key));
+    }
+
+    /**
+     * Gets a directory, blocking until it has been resolved on first lookup.
+     *
+     * @param path The directory path
+     * @return The directory
+     */
+    @NonNull
+    public DirectorySubspace get(@NonNull String... path) {
+        return get(Arrays.asList(path));
+    }
+
+    /**
+     * Gets a directory, blocking until it has been resolved on first lookup.
+     *
+     * @param path The directory path
+     * @return The directory
+     */
+    @NonNull
+    public DirectorySubspace get(@NonNull List<String> path) {
+        return join(resolve(path));
+    }
+
+    /**
+     * Gets a directory if it has been resolved, without any round trip.
+     *
+     * @param path The directory path
+     * @return The directory, empty if it has not been resolved
+     */
+    @NonNull
+    public Optional<DirectorySubspace> find(@NonNull List<String> path) {
+        CompletableFuture<DirectorySubspace> cached = directories.get(path);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.join());
+    }
+
+    /**
+     * Moves a directory and increments the metadata version in the same transaction.
+     *
+     * @param oldPath The current path of the directory
+     * @param newPath The new path of the directory
+     * @return A future of the moved directory
+     */
+    @NonNull
+    public CompletableFuture<DirectorySubspace> move(@NonNull List<String> oldPath, @NonNull List<String> newPath) {
+        return database.runAsync(tr -> directoryLayer.move(tr, oldPath, newPath).thenApply(moved -> {
+            bumpVersion(tr);
+            return moved;
+        })).thenApply(moved -> {
+            invalidate();
+            return moved;
+        });
+    }
+
+    /**
+     * Removes a directory and its contents if it exists, and increments the metadata version in the
+     * same transaction.
+     *
+     * @param path The directory path
+     * @return A future of whether the directory existed
+     */
+    @NonNull
+    public CompletableFuture<Boolean> remove(@NonNull List<String> path) {
+        return database.runAsync(tr -> directoryLayer.removeIfExists(tr, path).thenApply(removed -> {
+            if (removed) {
+                bumpVersion(tr);
+            }
+            return removed;
+        })).thenApply(removed -> {
+            if (removed) {
+                invalidate();
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Increments the metadata version, invalidating the directories cached by every registry once
+     * the transaction commits. Must be called by transactions which change directories through
+     * the {@link DirectoryLayer} directly.
+     *
+     * @param tr The transaction changing the directories
+     */
+    public void bumpVersion(@NonNull Transaction tr) {
+        tr.mutate(MutationType.ADD, metadataKey, ONE);
+    }
+
+    /**
+     * Forgets every cached directory. The next lookup of a directory resolves it again.
+     */
+    public void invalidate() {
+        LOG.debug("Invalidating {} FoundationDB directories", directories.size());
+        directories.clear();
+    }
+
+    /**
+     * Stops watching the metadata version.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        CompletableFuture<Void> watching = watch;
+        if (watching != null) {
+            watching.cancel(false);
+        }
+        ScheduledFuture<?> scheduled = retry;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    private CompletableFuture<DirectorySubspace> open(List<String> path) {
+        return create ? directoryLayer.createOrOpen(database, path) : directoryLayer.open(database, path);
+    }
+
+    /**
+     * Reads the metadata version and watches it in the same transaction, so that no change is
+     * missed between a fired watch and the next one.
+     */
+    private void arm() {
+        database.runAsync(tr -> tr.get(metadataKey).thenApply(value -> new Watch(value, tr.watch(metadataKey))))
+            .whenComplete((armed, throwable) -> {
+                if (throwable != null) {
+                    retryLater(throwable);
+                    return;
+                }
+                byte[] previous = version;
+                version = armed.value() == null ? new byte[0] : armed.value();
+                if (previous != null && !Arrays.equals(previous, version)) {
+                    invalidate();
+                }
+                watch = armed.future();
+                if (closed) {
+                    armed.future().cancel(false);
+                    return;
+                }
+                armed.future().whenComplete((v, error) -> {
+                    if (closed) {
+                        return;
+                    }
+                    if (error == null) {
+                        arm();
+                    } else {
+                        retryLater(error);
+                    }
+                });
+            });
+    }
+
+    private void retryLater(Throwable throwable) {
+        if (closed) {
+            return;
+        }
+        LOG.warn("Watching the FoundationDB directory version failed, retrying in {}", retryDelay, throwable);
+        retry = taskScheduler.schedule(retryDelay, this::arm);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Watch(byte[] value, CompletableFuture<Void> future) {
+    }
+}
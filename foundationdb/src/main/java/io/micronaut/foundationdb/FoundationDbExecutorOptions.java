@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options of the executor running the callbacks of a FoundationDB database, used unless an
+ * executor bean is configured by name.
+ *
+ * @author Nikolai Papakha
+ */
+public class FoundationDbExecutorOptions {
+
+    /**
+     * The default queue size of the bounded executor.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+    @NonNull
+    private Type type = Type.DEFAULT;
+
+    @Nullable
+    private Integer threads;
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+
+    /**
+     * Gets the type of the executor.
+     *
+     * @return The executor type
+     */
+    @NonNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the executor. Default value: {@code default}.
+     *
+     * @param type The executor type
+     */
+    public void setType(@NonNull Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the number of threads of the bounded executor.
+     *
+     * @return The number of threads
+     */
+    @Nullable
+    public Integer getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads of the bounded executor. Default: the number of available processors.
+     *
+     * @param threads The number of threads
+     */
+    public void setThreads(@Nullable Integer threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the maximum number of callbacks queued by the bounded executor.
+     *
+     * @return The queue size
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Sets the maximum number of callbacks queued by the bounded executor. Once the queue is full,
+     * further callbacks overflow to a new virtual thread each. Default value: {@value #DEFAULT_QUEUE_SIZE}.
+     *
+     * @param queueSize The queue size
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Creates the executor of the configured type.
+     *
+     * @param name    The name of the database
+     * @param metrics The executor metrics
+     * @return The executor, or {@code null} to use the client default
+     */
+    @Nullable
+    public ExecutorService create(@NonNull String name, @NonNull ExecutorMetrics metrics) {
+        return switch (type) {
+            case DEFAULT -> null;
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("fdb-" + name + "-callback-", 0).factory()
+            );
+            case BOUNDED -> {
+                int poolSize = threads == null ? Runtime.getRuntime().availableProcessors() : threads;
+                ThreadFactory threadFactory = Thread.ofPlatform().daemon().name("fdb-" + name + "-callback-", 0).factory();
+                ThreadFactory overflowFactory = Thread.ofVirtual().name("fdb-" + name + "-overflow-", 0).factory();
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory,
+                    (task, pool) -> {
+                        // the futures of the client only complete through their callbacks, so they
+                        // must not be dropped, even once the executor is shut down; nor may they run
+                        // on the submitting thread, the client network thread, where a blocking
+                        // callback would stall every database of the process
+                        metrics.overflow(name);
+                        overflowFactory.newThread(task).start();
+                    }
+                );
+                metrics.monitor(name, executor);
+                yield executor;
+            }
+        };
+    }
+
+    /**
+     * The type of the callback executor.
+     */
+    public enum Type {
+
+        /**
+         * The unbounded cached thread pool of the client.
+         */
+        DEFAULT,
+
+        /**
+         * A new virtual thread per callback.
+         */
+        VIRTUAL,
+
+        /**
+         * A fixed number of platform threads with a bounded queue, overflowing to virtual threads.
+         */
+        BOUNDED
+    }
+}
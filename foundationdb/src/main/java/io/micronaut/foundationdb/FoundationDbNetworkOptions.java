@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.NetworkOptions;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide options of the FoundationDB client network, applied once before the first
+ * database is opened. Options which are not set keep the client defaults.
+ *
+ * @author Nikolai Papakha
+ */
+public class FoundationDbNetworkOptions {
+
+    @Nullable
+    private Long clientThreadsPerVersion;
+
+    @Nullable
+    private String externalClientDirectory;
+
+    private boolean disableLocalClient;
+
+    @Nullable
+    private String traceDirectory;
+
+    @Nullable
+    private String traceFormat;
+
+    @Nullable
+    private String traceLogGroup;
+
+    @Nullable
+    private Long traceRollSize;
+
+    @Nullable
+    private Long traceMaxLogsSize;
+
+    @NonNull
+    private Map<String, String> knobs = new LinkedHashMap<>();
+
+    /**
+     * Gets the number of client threads spawned per client library version.
+     *
+     * @return The number of client threads
+     */
+    @Nullable
+    public Long getClientThreadsPerVersion() {
+        return clientThreadsPerVersion;
+    }
+
+    /**
+     * Sets the number of client threads spawned per client library version. Each thread runs its
+     * own network loop, spreading the client work over several cores. Requires the multi-version
+     * client, e.g. an {@link #setExternalClientDirectory(String) external client directory}.
+     *
+     * @param clientThreadsPerVersion The number of client threads
+     */
+    public void setClientThreadsPerVersion(@Nullable Long clientThreadsPerVersion) {
+        this.clientThreadsPerVersion = clientThreadsPerVersion;
+    }
+
+    /**
+     * Gets the directory external client libraries are loaded from.
+     *
+     * @return The external client directory
+     */
+    @Nullable
+    public String getExternalClientDirectory() {
+        return externalClientDirectory;
+    }
+
+    /**
+     * Sets the directory external client libraries are loaded from.
+     *
+     * @param externalClientDirectory The external client directory
+     */
+    public void setExternalClientDirectory(@Nullable String externalClientDirectory) {
+        this.externalClientDirectory = externalClientDirectory;
+    }
+
+    /**
+     * Whether the local client is disabled so that only external clients are used.
+     *
+     * @return {@code true} if disabled
+     */
+    public boolean isDisableLocalClient() {
+        return disableLocalClient;
+    }
+
+    /**
+     * Sets whether the local client is disabled so that only external clients are used. Default value: {@code false}.
+     *
+     * @param disableLocalClient {@code true} to disable the local client
+     */
+    public void setDisableLocalClient(boolean disableLocalClient) {
+        this.disableLocalClient = disableLocalClient;
+    }
+
+    /**
+     * Gets the directory client trace files are written to.
+     *
+     * @return The trace directory
+     */
+    @Nullable
+    public String getTraceDirectory() {
+        return traceDirectory;
+    }
+
+    /**
+     * Sets the directory client trace files are written to, enabling tracing.
+     *
+     * @param traceDirectory The trace directory
+     */
+    public void setTraceDirectory(@Nullable String traceDirectory) {
+        this.traceDirectory = traceDirectory;
+    }
+
+    /**
+     * Gets the format of the trace files.
+     *
+     * @return The trace format
+     */
+    @Nullable
+    public String getTraceFormat() {
+        return traceFormat;
+    }
+
+    /**
+     * Sets the format of the trace files, either {@code xml} or {@code json}.
+     *
+     * @param traceFormat The trace format
+     */
+    public void setTraceFormat(@Nullable String traceFormat) {
+        this.traceFormat = traceFormat;
+    }
+
+    /**
+     * Gets the log group of the trace events.
+     *
+     * @return The trace log group
+     */
+    @Nullable
+    public String getTraceLogGroup() {
+        return traceLogGroup;
+    }
+
+    /**
+     * Sets the log group of the trace events.
+     *
+     * @param traceLogGroup The trace log group
+     */
+    public void setTraceLogGroup(@Nullable String traceLogGroup) {
+        this.traceLogGroup = traceLogGroup;
+    }
+
+    /**
+     * Gets the size at which a trace file is rolled.
+     *
+     * @return The roll size in bytes
+     */
+    @Nullable
+    public Long getTraceRollSize() {
+        return traceRollSize;
+    }
+
+    /**
+     * Sets the size at which a trace file is rolled.
+     *
+     * @param traceRollSize The roll size in bytes
+     */
+    public void setTraceRollSize(@Nullable @ReadableBytes Long traceRollSize) {
+        this.traceRollSize = traceRollSize;
+    }
+
+    /**
+     * Gets the maximum total size of the trace files.
+     *
+     * @return The max size in bytes
+     */
+    @Nullable
+    public Long getTraceMaxLogsSize() {
+        return traceMaxLogsSize;
+    }
+
+    /**
+     * Sets the maximum total size of the trace files, older files are deleted.
+     *
+     * @param traceMaxLogsSize The max size in bytes
+     */
+    public void setTraceMaxLogsSize(@Nullable @ReadableBytes Long traceMaxLogsSize) {
+        this.traceMaxLogsSize = traceMaxLogsSize;
+    }
+
+    /**
+     * Gets the client knobs.
+     *
+     * @return The knobs
+     */
+    @NonNull
+    public Map<String, String> getKnobs() {
+        return knobs;
+    }
+
+    /**
+     * Sets client knobs, passed as {@code name=value} to the client.
+     *
+     * @param knobs The knobs
+     */
+    public void setKnobs(@NonNull Map<String, String> knobs) {
+        this.knobs = knobs;
+    }
+
+    /**
+     * Applies the options which are set.
+     *
+     * @param options The network options
+     */
+    public void applyTo(@NonNull NetworkOptions options) {
+        if (externalClientDirectory != null) {
+            options.setExternalClientDirectory(externalClientDirectory);
+        }
+        if (disableLocalClient) {
+            options.setDisableLocalClient();
+        }
+        if (clientThreadsPerVersion != null) {
+            options.setClientThreadsPerVersion(clientThreadsPerVersion);
+        }
+        if (traceDirectory != null) {
+            options.setTraceEnable(traceDirectory);
+        }
+        if (traceFormat != null) {
+            options.setTraceFormat(traceFormat);
+        }
+        if (traceLogGroup != null) {
+            options.setTraceLogGroup(traceLogGroup);
+        }
+        if (traceRollSize != null) {
+            options.setTraceRollSize(traceRollSize);
+        }
+        if (traceMaxLogsSize != null) {
+            options.setTraceMaxLogsSize(traceMaxLogsSize);
+        }
+        knobs.forEach((name, value) -> options.setKnob(name + '=' + value));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.DatabaseOptions;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+import java.time.Duration;
+
+/**
+ * Default options of every transaction created by a FoundationDB database, applied through the
+ * {@code transaction_*} database options. Options which are not set keep the client defaults.
+ *
+ * @author Nikolai Papakha
+ */
+public class FoundationDbTransactionOptions {
+
+    @Nullable
+    private Duration timeout;
+
+    @Nullable
+    private Long retryLimit;
+
+    @Nullable
+    private Duration maxRetryDelay;
+
+    @Nullable
+    private Long sizeLimit;
+
+    private boolean causalReadRisky;
+
+    private boolean reportConflictingKeys;
+
+    /**
+     * Gets the default timeout of a transaction.
+     *
+     * @return The timeout
+     */
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the default timeout of a transaction, including retries with {@code onError}.
+     *
+     * @param timeout The timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the default retry limit of a transaction.
+     *
+     * @return The retry limit
+     */
+    @Nullable
+    public Long getRetryLimit() {
+        return retryLimit;
+    }
+
+    /**
+     * Sets the default retry limit of a transaction.
+     *
+     * @param retryLimit The retry limit
+     */
+    public void setRetryLimit(@Nullable Long retryLimit) {
+        this.retryLimit = retryLimit;
+    }
+
+    /**
+     * Gets the maximum backoff delay of {@code onError}.
+     *
+     * @return The max retry delay
+     */
+    @Nullable
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    /**
+     * Sets the maximum backoff delay of {@code onError}. Client default: 1 second.
+     *
+     * @param maxRetryDelay The max retry delay
+     */
+    public void setMaxRetryDelay(@Nullable Duration maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    /**
+     * Gets the maximum size of a transaction.
+     *
+     * @return The size limit in bytes
+     */
+    @Nullable
+    public Long getSizeLimit() {
+        return sizeLimit;
+    }
+
+    /**
+     * Sets the maximum size of a transaction, between 32 bytes and 10MB. Client default: 10MB.
+     *
+     * @param sizeLimit The size limit in bytes
+     */
+    public void setSizeLimit(@Nullable @ReadableBytes Long sizeLimit) {
+        this.sizeLimit = sizeLimit;
+    }
+
+    /**
+     * Whether transactions may read stale data in exchange for a cheaper read version.
+     *
+     * @return {@code true} if causal reads are risky
+     */
+    public boolean isCausalReadRisky() {
+        return causalReadRisky;
+    }
+
+    /**
+     * Sets whether transactions may read stale data after a recovery, in exchange for skipping
+     * the confirmation round trip of the read version. Default value: {@code false}.
+     *
+     * @param causalReadRisky {@code true} to allow risky causal reads
+     */
+    public void setCausalReadRisky(boolean causalReadRisky) {
+        this.causalReadRisky = causalReadRisky;
+    }
+
+    /**
+     * Whether the conflicting keys of failed commits are reported.
+     *
+     * @return {@code true} if reported
+     */
+    public boolean isReportConflictingKeys() {
+        return reportConflictingKeys;
+    }
+
+    /**
+     * Sets whether the conflicting keys of failed commits are reported through the
+     * {@code \xff\xff/transaction/conflicting_keys/} special key range. Default value: {@code false}.
+     *
+     * @param reportConflictingKeys {@code true} to report conflicting keys
+     */
+    public void setReportConflictingKeys(boolean reportConflictingKeys) {
+        this.reportConflictingKeys = reportConflictingKeys;
+    }
+
+    /**
+     * Applies the options which are set as database-wide transaction defaults.
+     *
+     * @param options The database options
+     */
+    public void applyTo(@NonNull DatabaseOptions options) {
+        if (timeout != null) {
+            options.setTransactionTimeout(timeout.toMillis());
+        }
+        if (retryLimit != null) {
+            options.setTransactionRetryLimit(retryLimit);
+        }
+        if (maxRetryDelay != null) {
+            options.setTransactionMaxRetryDelay(maxRetryDelay.toMillis());
+        }
+        if (sizeLimit != null) {
+            options.setTransactionSizeLimit(sizeLimit);
+        }
+        if (causalReadRisky) {
+            options.setTransactionCausalReadRisky();
+        }
+        if (reportConflictingKeys) {
+            options.setTransactionReportConflictingKeys();
+        }
+    }
+}
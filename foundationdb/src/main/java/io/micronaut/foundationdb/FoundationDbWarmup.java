@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.LocalityUtil;
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.async.AsyncUtil;
+import com.apple.foundationdb.async.CloseableAsyncIterator;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens the primary FoundationDB {@link Database} at startup and warms it up, so that the first
+ * requests do not wait for the client to connect and locate shards.
+ *
+ * <p>The warm-up obtains a read version, which confirms that the cluster is reachable, and then
+ * fetches the shard locations of the configured hot key ranges into the location cache of the
+ * client. A failed attempt is retried until it succeeds.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Context
+@Requires(property = FoundationDbWarmupConfig.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class FoundationDbWarmup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbWarmup.class);
+
+    private final long startedAt;
+
+    private final Database database;
+
+    private final List<Range> ranges;
+
+    private final long timeoutMillis;
+
+    private final Duration retryDelay;
+
+    private final TaskScheduler taskScheduler;
+
+    private final WarmupMetrics metrics;
+
+    @Nullable
+    private volatile Duration duration;
+
+    private volatile int locations;
+
+    @Nullable
+    private volatile Throwable lastError;
+
+    @Nullable
+    private volatile ScheduledFuture<?> retry;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code FoundationDbWarmup} instance, opening the database.
+     *
+     * @param config        The warm-up configuration
+     * @param database      The provider of the FoundationDB database
+     * @param taskScheduler The scheduler of the retries
+     * @param metrics       The warm-up metrics, if any
+     */
+    public FoundationDbWarmup(FoundationDbWarmupConfig config,
+                              BeanProvider<Database> database,
+                              TaskScheduler taskScheduler,
+                              Optional<WarmupMetrics> metrics) {
+        this.startedAt = System.nanoTime();
+        this.database = database.get();
+        this.ranges = config.getKeyPrefixes().stream().map(FoundationDbWarmup::toRange).toList();
+        this.timeoutMillis = config.getTimeout().toMillis();
+        this.retryDelay = config.getRetryDelay();
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics.orElse(WarmupMetrics.NOOP);
+        attempt();
+    }
+
+    /**
+     * Whether the warm-up has completed.
+     *
+     * @return {@code true} if warm
+     */
+    public boolean isWarm() {
+        return duration != null;
+    }
+
+    /**
+     * Gets the time from opening the database to the end of the warm-up.
+     *
+     * @return The warm-up duration, {@code null} until warm
+     */
+    @Nullable
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the number of prefetched shard locations.
+     *
+     * @return The number of locations
+     */
+    public int getLocations() {
+        return locations;
+    }
+
+    /**
+     * Gets the failure of the last warm-up attempt.
+     *
+     * @return The error, {@code null} if the last attempt did not fail
+     */
+    @Nullable
+    public Throwable getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Stops retrying the warm-up.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> scheduled = retry;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    private void attempt() {
+        warmUp().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((prefetched, throwable) -> {
+            if (throwable == null) {
+                long nanos = System.nanoTime() - startedAt;
+                locations = prefetched;
+                lastError = null;
+                duration = Duration.ofNanos(nanos);
+                metrics.warmedUp(nanos, prefetched);
+                LOG.info("FoundationDB warmed up in {} ms with {} shard locations", TimeUnit.NANOSECONDS.toMillis(nanos), prefetched);
+                return;
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            lastError = cause;
+            metrics.failed();
+            LOG.warn("FoundationDB warm-up failed, retrying in {}", retryDelay, cause);
+            if (!closed) {
+                retry = taskScheduler.schedule(retryDelay, this::attempt);
+            }
+        });
+    }
+
+    private CompletableFuture<Integer> warmUp() {
+        return database.readAsync(ReadTransaction::getReadVersion).thenCompose(version -> {
+            List<CompletableFuture<List<byte[]>>> boundaries = ranges.stream().map(this::boundaries).toList();
+            return CompletableFuture.allOf(boundaries.toArray(CompletableFuture[]::new)).thenCompose(v -> {
+                List<byte[]> keys = new ArrayList<>();
+                boundaries.forEach(range -> keys.addAll(range.join()));
+                return prefetch(keys);
+            });
+        });
+    }
+
+    private CompletableFuture<List<byte[]>> boundaries(Range range) {
+        CloseableAsyncIterator<byte[]> iterator = LocalityUtil.getBoundaryKeys(database, range.begin, range.end);
+        return AsyncUtil.collectRemaining(iterator)
+            .whenComplete((keys, throwable) -> iterator.close())
+            .thenApply(keys -> {
+                List<byte[]> all = new ArrayList<>(keys.size() + 1);
+                all.add(range.begin);
+                all.addAll(keys);
+                return all;
+            });
+    }
+
+    /**
+     * Looks up the storage servers of each key, which fills the location cache of the client.
+     */
+    private CompletableFuture<Integer> prefetch(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return database.runAsync(tr -> {
+            CompletableFuture<?>[] addresses = keys.stream()
+                .map(key -> LocalityUtil.getAddressesForKey(tr, key))
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(addresses).thenApply(v -> keys.size());
+        });
+    }
+
+    private static Range toRange(String prefix) {
+        if (prefix.isEmpty()) {
+            return new Range(new byte[0], new byte[]{(byte) 0xff});
+        }
+        return Range.startsWith(prefix.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the {@link FoundationDbWarmup}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbWarmupConfig.PREFIX)
+public final class FoundationDbWarmupConfig {
+
+    /**
+     * The prefix to use for warm-up configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".warmup";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private boolean enabled;
+
+    @NonNull
+    private List<String> keyPrefixes = new ArrayList<>();
+
+    @NonNull
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    @NonNull
+    private Duration retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Whether the primary database is opened and warmed up at startup.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the primary database is opened and warmed up at startup, instead of on first
+     * use. Default value: {@code false}.
+     *
+     * @param enabled {@code true} to enable
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the prefixes of the hot key ranges.
+     *
+     * @return The key prefixes
+     */
+    @NonNull
+    public List<String> getKeyPrefixes() {
+        return keyPrefixes;
+    }
+
+    /**
+     * Sets the prefixes, encoded as UTF-8, of the hot key ranges whose shard locations are fetched
+     * during the warm-up.
+     *
+     * @param keyPrefixes The key prefixes
+     */
+    public void setKeyPrefixes(@NonNull List<String> keyPrefixes) {
+        this.keyPrefixes = keyPrefixes;
+    }
+
+    /**
+     * Gets the timeout of a warm-up attempt.
+     *
+     * @return The timeout
+     */
+    @NonNull
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout of a warm-up attempt. Default value: 30 seconds.
+     *
+     * @param timeout The timeout
+     */
+    public void setTimeout(@NonNull Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the delay before a failed warm-up is retried.
+     *
+     * @return The retry delay
+     */
+    @NonNull
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the delay before a failed warm-up is retried. Default value: 1 second.
+     *
+     * @param retryDelay The retry delay
+     */
+    public void setRetryDelay(@NonNull Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
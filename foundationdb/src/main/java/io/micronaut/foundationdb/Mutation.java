@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * A blind write buffered before it is applied to a transaction.
+ *
+ * @param type  The atomic operation, or {@code null} for a plain set or clear
+ * @param key   The key
+ * @param value The value or parameter, {@code null} for a clear
+ * @author Nikolai Papakha
+ */
+@Internal
+public record Mutation(@Nullable MutationType type, @NonNull byte[] key, @Nullable byte[] value) {
+
+    /**
+     * Approximate per-mutation overhead of a transaction, e.g. its write conflict range.
+     */
+    private static final int OVERHEAD_BYTES = 16;
+
+    /**
+     * Gets the approximate number of bytes the mutation adds to a transaction.
+     *
+     * @return The approximate size in bytes
+     */
+    public long approximateSize() {
+        return key.length + (value == null ? 0 : value.length) + OVERHEAD_BYTES;
+    }
+
+    /**
+     * Whether applying the mutation twice has the same effect as applying it once, which is the
+     * case of sets and clears but not of atomic operations.
+     *
+     * @return {@code true} if idempotent
+     */
+    public boolean isIdempotent() {
+        return type == null;
+    }
+
+    /**
+     * Applies the mutation to the given transaction.
+     *
+     * @param transaction The transaction
+     */
+    public void applyTo(@NonNull Transaction transaction) {
+        if (type != null) {
+            transaction.mutate(type, key, value);
+        } else if (value == null) {
+            transaction.clear(key);
+        } else {
+            transaction.set(key, value);
+        }
+    }
+}
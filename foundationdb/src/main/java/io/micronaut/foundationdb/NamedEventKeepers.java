@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.EventKeeper;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Creates the {@link EventKeeper} of a named database for which no {@code EventKeeper} bean of
+ * the same name is defined. Unlike such beans, the created event keepers are not candidates for
+ * unqualified {@code EventKeeper} injection points.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface NamedEventKeepers {
+
+    /**
+     * Creates the event keeper of a named database.
+     *
+     * @param database The name of the database
+     * @return The event keeper
+     */
+    @NonNull
+    EventKeeper create(@NonNull String database);
+}
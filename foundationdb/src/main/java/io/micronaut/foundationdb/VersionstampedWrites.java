@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb;
+
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Allocates the user versions of the versionstamped keys written by transactions, so that the
+ * keys written by one transaction get distinct versionstamps.
+ *
+ * <p>A versionstamp holds a 16-bit user version, so that a transaction can write at most
+ * {@value #MAX_PER_TRANSACTION} keys through one instance. Writing more is rejected rather than
+ * wrapping around, since keys with the same versionstamp overwrite each other.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public final class VersionstampedWrites {
+
+    /**
+     * The maximum number of versionstamped keys a transaction can write.
+     */
+    public static final int MAX_PER_TRANSACTION = 0x10000;
+
+    /**
+     * The placeholder of a versionstamp value, followed by its little-endian offset.
+     */
+    private static final byte[] VERSIONSTAMP_PLACEHOLDER = new byte[14];
+
+    private final Map<Transaction, AtomicInteger> userVersions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Reserves consecutive user versions in the given transaction.
+     *
+     * @param tr    The transaction
+     * @param count The number of user versions
+     * @return The first user version
+     * @throws IllegalStateException if the transaction has not as many user versions left
+     */
+    public int reserve(@NonNull Transaction tr, int count) {
+        AtomicInteger next = userVersions.computeIfAbsent(tr, t -> new AtomicInteger());
+        int first = next.getAndUpdate(current -> current + count <= MAX_PER_TRANSACTION ? current + count : current);
+        if (first + count > MAX_PER_TRANSACTION) {
+            throw new IllegalStateException("A transaction cannot write more than " + MAX_PER_TRANSACTION + " versionstamped keys");
+        }
+        return first;
+    }
+
+    /**
+     * Sets the value of a key to the versionstamp of the transaction once it commits.
+     *
+     * @param tr  The transaction
+     * @param key The key
+     */
+    public static void setVersionstamp(@NonNull Transaction tr, @NonNull byte[] key) {
+        tr.mutate(MutationType.SET_VERSIONSTAMPED_VALUE, key, VERSIONSTAMP_PLACEHOLDER);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.admission;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records metrics of the {@link FoundationDbAdmissionController}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface AdmissionMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    AdmissionMetrics NOOP = new AdmissionMetrics() {
+    };
+
+    /**
+     * Records an admitted transaction.
+     *
+     * @param priority  The priority of the transaction
+     * @param waitNanos The time spent waiting in the queue
+     */
+    default void admitted(@NonNull AdmissionPriority priority, long waitNanos) {
+    }
+
+    /**
+     * Records a rejected transaction.
+     *
+     * @param priority The priority of the transaction
+     */
+    default void rejected(@NonNull AdmissionPriority priority) {
+    }
+
+    /**
+     * Records a completed transaction, releasing its slot.
+     */
+    default void released() {
+    }
+
+    /**
+     * Records a change of the in-flight limit.
+     *
+     * @param limit The new limit
+     */
+    default void limitChanged(int limit) {
+    }
+}
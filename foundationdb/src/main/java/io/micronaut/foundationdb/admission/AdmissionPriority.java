@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.admission;
+
+/**
+ * The priority of a transaction admitted by the {@link FoundationDbAdmissionController}.
+ *
+ * @author Nikolai Papakha
+ */
+public enum AdmissionPriority {
+
+    /**
+     * Transactions started at default priority, admitted up to the full in-flight limit.
+     */
+    DEFAULT,
+
+    /**
+     * Transactions started at batch priority, admitted up to a share of the in-flight limit and
+     * shed first when the cluster is saturated.
+     */
+    BATCH
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.admission;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Thrown when a transaction is not admitted by the {@link FoundationDbAdmissionController}, because
+ * the in-flight limit is reached and the transaction could not be queued or waited too long.
+ *
+ * @author Nikolai Papakha
+ */
+public final class AdmissionRejectedException extends RuntimeException {
+
+    private final AdmissionPriority priority;
+
+    /**
+     * Constructs a new {@code AdmissionRejectedException} instance.
+     *
+     * @param message  The detail message
+     * @param priority The priority of the rejected transaction
+     */
+    public AdmissionRejectedException(@NonNull String message, @NonNull AdmissionPriority priority) {
+        super(message, null, false, false);
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the priority of the rejected transaction.
+     *
+     * @return The priority
+     */
+    @NonNull
+    public AdmissionPriority getPriority() {
+        return priority;
+    }
+}
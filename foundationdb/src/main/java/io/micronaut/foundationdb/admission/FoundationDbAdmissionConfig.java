@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.admission;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration of the {@link FoundationDbAdmissionController}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbAdmissionConfig.PREFIX)
+public final class FoundationDbAdmissionConfig {
+
+    /**
+     * The prefix to use for admission control configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".admission";
+
+    /**
+     * The default initial in-flight limit.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 100;
+
+    /**
+     * The default minimum in-flight limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * The default maximum in-flight limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 1000;
+
+    /**
+     * The default factor applied to the in-flight limit when the cluster is overloaded.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The default share of the in-flight limit usable by batch priority transactions.
+     */
+    public static final double DEFAULT_BATCH_SHARE = 0.5;
+
+    /**
+     * The default maximum number of queued transactions.
+     */
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+    private static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+
+    private int minLimit = DEFAULT_MIN_LIMIT;
+
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+
+    @NonNull
+    private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+    private double batchShare = DEFAULT_BATCH_SHARE;
+
+    @NonNull
+    private Duration maxQueueWait = DEFAULT_MAX_QUEUE_WAIT;
+
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    @NonNull
+    private Set<String> batchTags = new HashSet<>();
+
+    @NonNull
+    private Duration drainTimeout = DEFAULT_DRAIN_TIMEOUT;
+
+    /**
+     * Gets the initial in-flight limit.
+     *
+     * @return The initial limit
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the initial in-flight limit. Default value: {@value #DEFAULT_INITIAL_LIMIT}.
+     *
+     * @param initialLimit The initial limit
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * Gets the minimum in-flight limit.
+     *
+     * @return The min limit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the minimum in-flight limit. Default value: {@value #DEFAULT_MIN_LIMIT}.
+     *
+     * @param minLimit The min limit
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * Gets the maximum in-flight limit.
+     *
+     * @return The max limit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the maximum in-flight limit. Default value: {@value #DEFAULT_MAX_LIMIT}.
+     *
+     * @param maxLimit The max limit
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Gets the commit latency above which the in-flight limit is decreased.
+     *
+     * @return The latency threshold
+     */
+    @NonNull
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    /**
+     * Sets the commit latency above which the in-flight limit is decreased. Default value: 100 milliseconds.
+     *
+     * @param latencyThreshold The latency threshold
+     */
+    public void setLatencyThreshold(@NonNull Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    /**
+     * Gets the factor applied to the in-flight limit when the cluster is overloaded.
+     *
+     * @return The backoff ratio
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the factor applied to the in-flight limit on slow commits and throttling errors,
+     * between 0 and 1. Default value: {@value #DEFAULT_BACKOFF_RATIO}.
+     *
+     * @param backoffRatio The backoff ratio
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * Gets the share of the in-flight limit usable by batch priority transactions.
+     *
+     * @return The batch share
+     */
+    public double getBatchShare() {
+        return batchShare;
+    }
+
+    /**
+     * Sets the share of the in-flight limit usable by batch priority transactions, between 0 and 1.
+     * The rest is reserved to default priority transactions. Default value: {@value #DEFAULT_BATCH_SHARE}.
+     *
+     * @param batchShare The batch share
+     */
+    public void setBatchShare(double batchShare) {
+        this.batchShare = batchShare;
+    }
+
+    /**
+     * Gets the maximum time a transaction waits for admission.
+     *
+     * @return The max queue wait
+     */
+    @NonNull
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    /**
+     * Sets the maximum time a transaction waits for admission before being rejected. Zero rejects
+     * transactions as soon as the limit is reached. Default value: 1 second.
+     *
+     * @param maxQueueWait The max queue wait
+     */
+    public void setMaxQueueWait(@NonNull Duration maxQueueWait) {
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    /**
+     * Gets the maximum number of transactions waiting for admission.
+     *
+     * @return The max queue size
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of transactions waiting for admission. Default value: {@value #DEFAULT_MAX_QUEUE_SIZE}.
+     *
+     * @param maxQueueSize The max queue size
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Gets the transaction tags run at batch priority.
+     *
+     * @return The batch tags
+     */
+    @NonNull
+    public Set<String> getBatchTags() {
+        return batchTags;
+    }
+
+    /**
+     * Sets the transaction tags run at batch priority, e.g. reporting or backfill traffic.
+     *
+     * @param batchTags The batch tags
+     */
+    public void setBatchTags(@NonNull Set<String> batchTags) {
+        this.batchTags = batchTags;
+    }
+
+    /**
+     * Gets the maximum time to wait for in-flight transactions on shutdown.
+     *
+     * @return The drain timeout
+     */
+    @NonNull
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+
+    /**
+     * Sets the maximum time to wait for in-flight transactions on shutdown. Default value: 10 seconds.
+     *
+     * @param drainTimeout The drain timeout
+     */
+    public void setDrainTimeout(@NonNull Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.admission;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Limits the number of in-flight transactions of the FoundationDB {@link Database}, so that a
+ * saturated cluster sheds load at the client instead of accumulating latency until transactions
+ * time out.
+ *
+ * <p>The in-flight limit adapts with AIMD (additive increase, multiplicative decrease): it grows
+ * slowly while commits are fast, and shrinks when a commit is slower than the latency threshold or
+ * a transaction fails with a throttling error. Transactions over the limit wait in a queue until a
+ * slot frees up or their deadline expires, and are then rejected with an
+ * {@link AdmissionRejectedException}.</p>
+ *
+ * <p>Transactions may be tagged. Tags are passed to the ratekeeper as auto-throttle tags, and tags
+ * configured as batch tags run at batch priority: they only use a share of the limit, wait behind
+ * default priority transactions and are shed first when the queue is full.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbAdmissionController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbAdmissionController.class);
+
+    private static final int TIMED_OUT = 1031;
+    private static final int PROCESS_BEHIND = 1037;
+    private static final int PROXY_MEMORY_LIMIT_EXCEEDED = 1042;
+    private static final int BATCH_TRANSACTION_THROTTLED = 1051;
+    private static final int TAG_THROTTLED = 1213;
+
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private final Database database;
+
+    private final TaskScheduler taskScheduler;
+
+    private final AdmissionMetrics metrics;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final double batchShare;
+
+    private final Duration maxQueueWait;
+
+    private final int maxQueueSize;
+
+    private final Set<String> batchTags;
+
+    private final Duration drainTimeout;
+
+    private final Object lock = new Object();
+
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+
+    private final Deque<Waiter> batchWaiting = new ArrayDeque<>();
+
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+
+    private double limit;
+
+    private int inFlight;
+
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code FoundationDbAdmissionController} instance.
+     *
+     * @param database      The FoundationDB database
+     * @param config        The admission control configuration
+     * @param taskScheduler The scheduler of the queue deadlines
+     * @param metrics       The admission metrics, if any
+     */
+    public FoundationDbAdmissionController(Database database,
+                                           FoundationDbAdmissionConfig config,
+                                           TaskScheduler taskScheduler,
+                                           Optional<AdmissionMetrics> metrics) {
+        this.database = database;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics.orElse(AdmissionMetrics.NOOP);
+        this.minLimit = Math.max(1, config.getMinLimit());
+        this.maxLimit = Math.max(minLimit, config.getMaxLimit());
+        this.latencyThresholdNanos = config.getLatencyThreshold().toNanos();
+        this.backoffRatio = config.getBackoffRatio();
+        this.batchShare = config.getBatchShare();
+        this.maxQueueWait = config.getMaxQueueWait();
+        this.maxQueueSize = config.getMaxQueueSize();
+        this.batchTags = Set.copyOf(config.getBatchTags());
+        this.drainTimeout = config.getDrainTimeout();
+        this.limit = Math.min(maxLimit, Math.max(minLimit, config.getInitialLimit()));
+        this.metrics.limitChanged((int) limit);
+    }
+
+    /**
+     * Runs the given function in a transaction once admitted, retrying it on retryable errors.
+     *
+     * @param retryable The function reading from and writing to the database
+     * @param <T>       The type of the result
+     * @return The result of the function, failed with an {@link AdmissionRejectedException} if not admitted
+     */
+    @NonNull
+    public <T> CompletableFuture<T> runAsync(@NonNull Function<? super Transaction, ? extends CompletableFuture<T>> retryable) {
+        return runAsync(null, retryable);
+    }
+
+    /**
+     * Runs the given function in a tagged transaction once admitted, retrying it on retryable errors.
+     *
+     * @param tag       The transaction tag, if any
+     * @param retryable The function reading from and writing to the database
+     * @param <T>       The type of the result
+     * @return The result of the function, failed with an {@link AdmissionRejectedException} if not admitted
+     */
+    @NonNull
+    public <T> CompletableFuture<T> runAsync(@Nullable String tag,
+                                            @NonNull Function<? super Transaction, ? extends CompletableFuture<T>> retryable) {
+        return execute(tag, retryable, true);
+    }
+
+    /**
+     * Runs the given read-only function once admitted, retrying it on retryable errors.
+     *
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function, failed with an {@link AdmissionRejectedException} if not admitted
+     */
+    @NonNull
+    public <T> CompletableFuture<T> readAsync(@NonNull Function<? super ReadTransaction, ? extends CompletableFuture<T>> retryable) {
+        return readAsync(null, retryable);
+    }
+
+    /**
+     * Runs the given read-only function in a tagged transaction once admitted, retrying it on retryable errors.
+     *
+     * @param tag       The transaction tag, if any
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function, failed with an {@link AdmissionRejectedException} if not admitted
+     */
+    @NonNull
+    public <T> CompletableFuture<T> readAsync(@Nullable String tag,
+                                             @NonNull Function<? super ReadTransaction, ? extends CompletableFuture<T>> retryable) {
+        return execute(tag, retryable, false);
+    }
+
+    /**
+     * Runs the given function in a transaction once admitted, retrying it on retryable errors.
+     * The function is invoked on a thread of the database executor.
+     *
+     * @param retryable The function reading from and writing to the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     * @throws AdmissionRejectedException if the transaction is not admitted
+     */
+    public <T> T run(@NonNull Function<? super Transaction, T> retryable) {
+        return run(null, retryable);
+    }
+
+    /**
+     * Runs the given read-only function once admitted, retrying it on retryable errors.
+     * The function is invoked on a thread of the database executor.
+     *
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     * @throws AdmissionRejectedException if the transaction is not admitted
+     */
+    public <T> T read(@NonNull Function<? super ReadTransaction, T> retryable) {
+        return read(null, retryable);
+    }
+
+    /**
+     * Runs the given function in a transaction once admitted, retrying it on retryable errors.
+     * The function is invoked on a thread of the database executor.
+     *
+     * @param tag       The transaction tag, if any
+     * @param retryable The function reading from and writing to the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     * @throws AdmissionRejectedException if the transaction is not admitted
+     */
+    public <T> T run(@Nullable String tag, @NonNull Function<? super Transaction, T> retryable) {
+        return join(runAsync(tag, tr -> CompletableFuture.completedFuture(retryable.apply(tr))));
+    }
+
+    /**
+     * Runs the given read-only function once admitted, retrying it on retryable errors.
+     * The function is invoked on a thread of the database executor.
+     *
+     * @param tag       The transaction tag, if any
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     * @throws AdmissionRejectedException if the transaction is not admitted
+     */
+    public <T> T read(@Nullable String tag, @NonNull Function<? super ReadTransaction, T> retryable) {
+        return join(readAsync(tag, tr -> CompletableFuture.completedFuture(retryable.apply(tr))));
+    }
+
+    /**
+     * Gets the current in-flight limit.
+     *
+     * @return The limit
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * Gets the number of admitted transactions which have not completed yet.
+     *
+     * @return The number of in-flight transactions
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Rejects the queued and new transactions, and waits for the in-flight ones to complete.
+     */
+    @PreDestroy
+    public void close() {
+        List<Waiter> queued = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            queued.addAll(waiting);
+            queued.addAll(batchWaiting);
+            waiting.clear();
+            batchWaiting.clear();
+            if (inFlight == 0) {
+                drained.complete(null);
+            }
+        }
+        queued.forEach(waiter -> reject(waiter, "Admission controller is closed"));
+        try {
+            drained.get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("{} FoundationDB transactions still in flight after {}", getInFlight(), drainTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to drain in-flight FoundationDB transactions", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> execute(@Nullable String tag,
+                                             Function<? super Transaction, ? extends CompletableFuture<T>> retryable,
+                                             boolean commit) {
+        AdmissionPriority priority = tag != null && batchTags.contains(tag) ? AdmissionPriority.BATCH : AdmissionPriority.DEFAULT;
+        return acquire(priority).thenCompose(admitted -> {
+            AtomicReference<Transaction> transaction = new AtomicReference<>();
+            try {
+                transaction.set(database.createTransaction());
+                if (priority == AdmissionPriority.BATCH) {
+                    transaction.get().options().setPriorityBatch();
+                }
+                if (tag != null) {
+                    transaction.get().options().setAutoThrottleTag(tag);
+                }
+            } catch (RuntimeException e) {
+                if (transaction.get() != null) {
+                    transaction.get().close();
+                }
+                release();
+                return CompletableFuture.failedFuture(e);
+            }
+            return attempt(transaction, retryable, commit).whenComplete((result, throwable) -> {
+                transaction.get().close();
+                release();
+            });
+        });
+    }
+
+    private <T> CompletableFuture<T> attempt(AtomicReference<Transaction> transaction,
+                                             Function<? super Transaction, ? extends CompletableFuture<T>> retryable,
+                                             boolean commit) {
+        Transaction tr = transaction.get();
+        CompletableFuture<T> result = CompletableFuture.completedFuture(tr).thenCompose(t -> retryable.apply(t));
+        if (commit) {
+            result = result.thenCompose(value -> {
+                long start = System.nanoTime();
+                return tr.commit().thenApply(ignored -> {
+                    adjust(System.nanoTime() - start > latencyThresholdNanos);
+                    return value;
+                });
+            });
+        } else {
+            result = result.thenApply(value -> {
+                adjust(false);
+                return value;
+            });
+        }
+        return result.handle((value, throwable) -> {
+            if (throwable == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (!(cause instanceof FDBException e)) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            if (isOverloaded(e)) {
+                adjust(true);
+            }
+            return tr.onError(e).thenCompose(retry -> {
+                transaction.set(retry);
+                return attempt(transaction, retryable, commit);
+            });
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> acquire(AdmissionPriority priority) {
+        Waiter waiter = new Waiter(priority, System.nanoTime());
+        Waiter shed = null;
+        synchronized (lock) {
+            if (closed) {
+                return rejected(priority, "Admission controller is closed");
+            }
+            if (canAdmit(priority)) {
+                inFlight++;
+                metrics.admitted(priority, 0);
+                return ADMITTED;
+            }
+            if (maxQueueWait.isZero()) {
+                return rejected(priority, "Too many in-flight transactions");
+            }
+            if (waiting.size() + batchWaiting.size() >= maxQueueSize) {
+                if (priority == AdmissionPriority.BATCH || batchWaiting.isEmpty()) {
+                    return rejected(priority, "Admission queue is full");
+                }
+                shed = batchWaiting.pollLast();
+            }
+            (priority == AdmissionPriority.BATCH ? batchWaiting : waiting).addLast(waiter);
+        }
+        if (shed != null) {
+            reject(shed, "Shed in favour of a default priority transaction");
+        }
+        waiter.timeout = taskScheduler.schedule(maxQueueWait, () -> expire(waiter));
+        return waiter.future;
+    }
+
+    private CompletableFuture<Void> rejected(AdmissionPriority priority, String message) {
+        metrics.rejected(priority);
+        return CompletableFuture.failedFuture(new AdmissionRejectedException(message, priority));
+    }
+
+    private boolean canAdmit(AdmissionPriority priority) {
+        if (!waiting.isEmpty()) {
+            return false;
+        }
+        if (priority == AdmissionPriority.DEFAULT) {
+            return inFlight < (int) limit;
+        }
+        return batchWaiting.isEmpty() && inFlight < batchLimit();
+    }
+
+    private int batchLimit() {
+        return Math.max(1, (int) (limit * batchShare));
+    }
+
+    private void expire(Waiter waiter) {
+        boolean removed;
+        synchronized (lock) {
+            removed = waiting.remove(waiter) || batchWaiting.remove(waiter);
+        }
+        if (removed) {
+            reject(waiter, "Timed out waiting for admission after " + maxQueueWait);
+        }
+    }
+
+    private void reject(Waiter waiter, String message) {
+        ScheduledFuture<?> timeout = waiter.timeout;
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+        metrics.rejected(waiter.priority);
+        waiter.future.completeExceptionally(new AdmissionRejectedException(message, waiter.priority));
+    }
+
+    private void release() {
+        List<Waiter> admitted;
+        synchronized (lock) {
+            inFlight--;
+            metrics.released();
+            admitted = dispatch();
+            if (closed && inFlight == 0) {
+                drained.complete(null);
+            }
+        }
+        admit(admitted);
+    }
+
+    private void adjust(boolean overloaded) {
+        List<Waiter> admitted;
+        synchronized (lock) {
+            int previous = (int) limit;
+            if (overloaded) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            if ((int) limit != previous) {
+                metrics.limitChanged((int) limit);
+            }
+            admitted = dispatch();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * Takes the queued transactions which fit in the limit, default priority first.
+     */
+    private List<Waiter> dispatch() {
+        List<Waiter> admitted = List.of();
+        while (true) {
+            Waiter next;
+            if (!waiting.isEmpty() && inFlight < (int) limit) {
+                next = waiting.pollFirst();
+            } else if (waiting.isEmpty() && !batchWaiting.isEmpty() && inFlight < batchLimit()) {
+                next = batchWaiting.pollFirst();
+            } else {
+                return admitted;
+            }
+            if (admitted.isEmpty()) {
+                admitted = new ArrayList<>();
+            }
+            inFlight++;
+            metrics.admitted(next.priority, System.nanoTime() - next.enqueuedAt);
+            admitted.add(next);
+        }
+    }
+
+    private void admit(List<Waiter> admitted) {
+        for (Waiter waiter : admitted) {
+            ScheduledFuture<?> timeout = waiter.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            database.getExecutor().execute(() -> {
+                if (!waiter.future.complete(null)) {
+                    release();
+                }
+            });
+        }
+    }
+
+    private static boolean isOverloaded(FDBException e) {
+        return switch (e.getCode()) {
+            case TIMED_OUT, PROCESS_BEHIND, PROXY_MEMORY_LIMIT_EXCEEDED, BATCH_TRANSACTION_THROTTLED, TAG_THROTTLED -> true;
+            default -> false;
+        };
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final AdmissionPriority priority;
+
+        private final long enqueuedAt;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        @Nullable
+        private volatile ScheduledFuture<?> timeout;
+
+        private Waiter(AdmissionPriority priority, long enqueuedAt) {
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
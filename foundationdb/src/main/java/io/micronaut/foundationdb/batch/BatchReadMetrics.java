@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of the {@link FoundationDbBatchReader}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface BatchReadMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    BatchReadMetrics NOOP = new BatchReadMetrics() {
+    };
+
+    /**
+     * Records a completed batch.
+     *
+     * @param size  The number of keys read
+     * @param nanos The latency of the transaction
+     */
+    default void batch(int size, long nanos) {
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link FoundationDbBatchReader}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbBatchReadConfig.PREFIX)
+public final class FoundationDbBatchReadConfig {
+
+    /**
+     * The prefix to use for batch read configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".batch-read";
+
+    /**
+     * The default maximum number of keys read in a single transaction.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+
+    @NonNull
+    private Duration window = DEFAULT_WINDOW;
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Gets the time reads are collected for before they are executed.
+     *
+     * @return The window
+     */
+    @NonNull
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Sets the time reads are collected for before they are executed, starting with the first read
+     * of a batch. Default value: 1 millisecond.
+     *
+     * @param window The window
+     */
+    public void setWindow(@NonNull Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * Gets the maximum number of keys read in a single transaction.
+     *
+     * @return The max batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of keys read in a single transaction. A full batch is executed
+     * without waiting for the end of the window. Default value: {@value #DEFAULT_MAX_BATCH_SIZE}.
+     *
+     * @param maxBatchSize The max batch size
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
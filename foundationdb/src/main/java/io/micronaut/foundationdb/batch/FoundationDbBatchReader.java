@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import com.apple.foundationdb.Database;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Collects point reads issued concurrently by independent callers and executes them together in a
+ * single read-only transaction of the FoundationDB {@link Database}, with all reads pipelined.
+ * Batching saves a GRV (get read version) request and a transaction per read, at the cost of up to
+ * one window of additional latency.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbBatchReader {
+
+    private final Database database;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final BatchReadMetrics metrics;
+
+    private final Object lock = new Object();
+
+    private List<PendingRead> pending;
+
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * Constructs a new {@code FoundationDbBatchReader} instance.
+     *
+     * @param database      The FoundationDB database
+     * @param config        The batch read configuration
+     * @param taskScheduler The scheduler of the batch windows
+     * @param metrics       The batch read metrics, if any
+     */
+    public FoundationDbBatchReader(Database database,
+                                   FoundationDbBatchReadConfig config,
+                                   TaskScheduler taskScheduler,
+                                   Optional<BatchReadMetrics> metrics) {
+        this.database = database;
+        this.taskScheduler = taskScheduler;
+        this.window = config.getWindow();
+        this.maxBatchSize = Math.max(1, config.getMaxBatchSize());
+        this.metrics = metrics.orElse(BatchReadMetrics.NOOP);
+        this.pending = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Reads the value of the given key in the next batch.
+     *
+     * @param key The key
+     * @return The value, completed with {@code null} if the key does not exist
+     */
+    @NonNull
+    public CompletableFuture<byte[]> get(@NonNull byte[] key) {
+        PendingRead read = new PendingRead(key, new CompletableFuture<>());
+        List<PendingRead> full = null;
+        synchronized (lock) {
+            pending.add(read);
+            if (pending.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if (pending.size() == 1) {
+                scheduled = taskScheduler.schedule(window, this::flush);
+            }
+        }
+        if (full != null) {
+            execute(full);
+        }
+        return read.value();
+    }
+
+    /**
+     * Executes the pending reads without waiting for the end of the window.
+     */
+    @PreDestroy
+    public void flush() {
+        List<PendingRead> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takeBatch();
+        }
+        execute(batch);
+    }
+
+    private List<PendingRead> takeBatch() {
+        List<PendingRead> batch = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        return batch;
+    }
+
+    private void execute(List<PendingRead> batch) {
+        long start = System.nanoTime();
+        database.readAsync(tr -> {
+            List<CompletableFuture<byte[]>> values = new ArrayList<>(batch.size());
+            for (PendingRead read : batch) {
+                values.add(tr.get(read.key()));
+            }
+            return CompletableFuture.allOf(values.toArray(CompletableFuture[]::new)).thenApply(v -> values);
+        }).whenComplete((values, throwable) -> {
+            metrics.batch(batch.size(), System.nanoTime() - start);
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<byte[]> value = batch.get(i).value();
+                if (throwable != null) {
+                    value.completeExceptionally(throwable);
+                } else {
+                    value.complete(values.get(i).join());
+                }
+            }
+        });
+    }
+
+    private record PendingRead(byte[] key, CompletableFuture<byte[]> value) {
+    }
+}
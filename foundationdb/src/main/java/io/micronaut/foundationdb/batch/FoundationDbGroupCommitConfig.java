@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link FoundationDbGroupCommitWriter}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbGroupCommitConfig.PREFIX)
+public final class FoundationDbGroupCommitConfig {
+
+    /**
+     * The prefix to use for group commit configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".group-commit";
+
+    /**
+     * The default maximum approximate size of a group.
+     */
+    public static final long DEFAULT_MAX_GROUP_BYTES = 1024 * 1024;
+
+    /**
+     * The default maximum number of groups committed concurrently.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(2);
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    @NonNull
+    private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+    private long maxGroupBytes = DEFAULT_MAX_GROUP_BYTES;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    @NonNull
+    private Duration drainTimeout = DEFAULT_DRAIN_TIMEOUT;
+
+    /**
+     * Gets the maximum time a write waits for its group to fill.
+     *
+     * @return The max delay
+     */
+    @NonNull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximum time a write waits for its group to fill before the group is committed.
+     * Default value: 2 milliseconds.
+     *
+     * @param maxDelay The max delay
+     */
+    public void setMaxDelay(@NonNull Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Gets the maximum approximate size of a group.
+     *
+     * @return The max group size in bytes
+     */
+    public long getMaxGroupBytes() {
+        return maxGroupBytes;
+    }
+
+    /**
+     * Sets the maximum approximate size of a group, a full group is committed right away. It must
+     * stay below the 10MB transaction limit. Default value: 1MB.
+     *
+     * @param maxGroupBytes The max group size in bytes
+     */
+    public void setMaxGroupBytes(@ReadableBytes long maxGroupBytes) {
+        this.maxGroupBytes = maxGroupBytes;
+    }
+
+    /**
+     * Gets the maximum number of groups committed concurrently.
+     *
+     * @return The max number of commits in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of groups committed concurrently. While the limit is reached, writes
+     * keep accumulating into the next group. Default value: {@value #DEFAULT_MAX_IN_FLIGHT}.
+     *
+     * @param maxInFlight The max number of commits in flight
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gets the maximum time to wait for the pending groups to commit on shutdown.
+     *
+     * @return The drain timeout
+     */
+    @NonNull
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+
+    /**
+     * Sets the maximum time to wait for the pending groups to commit on shutdown. Default value: 10 seconds.
+     *
+     * @param drainTimeout The drain timeout
+     */
+    public void setDrainTimeout(@NonNull Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.Mutation;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges independent blind writes of concurrent callers into shared transactions of the
+ * FoundationDB {@link Database}, reducing the number of commits handled by the cluster.
+ *
+ * <p>A group is committed once it reaches the maximum size, or once its first write has waited for
+ * the maximum delay. While the maximum number of groups is being committed, writes keep
+ * accumulating into the next group. Each write completes with the outcome of the commit of its
+ * group.</p>
+ *
+ * <p>Groups failing with a retryable error are retried, except when the outcome of a commit
+ * containing atomic operations is unknown, which is reported to the callers. Groups failing with
+ * an error which guarantees that nothing was committed, e.g. {@code transaction_too_large}, are
+ * split in half, so that a single failing write does not fail the writes of other callers. Other
+ * errors only split groups of idempotent writes, since the failed commit may have been
+ * applied.</p>
+ *
+ * <p>On shutdown, the pending writes are committed and the writer waits for the groups in flight
+ * to complete, before the database is closed. Writes submitted afterwards are rejected.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbGroupCommitWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbGroupCommitWriter.class);
+
+    private static final int TRANSACTION_TOO_LARGE = 2101;
+    private static final int KEY_TOO_LARGE = 2102;
+    private static final int VALUE_TOO_LARGE = 2103;
+
+    private final Database database;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Duration maxDelay;
+
+    private final long maxGroupBytes;
+
+    private final int maxInFlight;
+
+    private final Duration drainTimeout;
+
+    private final GroupCommitMetrics metrics;
+
+    private final Object lock = new Object();
+
+    private final ArrayDeque<PendingWrite> pending = new ArrayDeque<>();
+
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+
+    private long pendingBytes;
+
+    private int inFlight;
+
+    private ScheduledFuture<?> scheduled;
+
+    private boolean delayElapsed;
+
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code FoundationDbGroupCommitWriter} instance.
+     *
+     * @param database      The FoundationDB database
+     * @param config        The group commit configuration
+     * @param taskScheduler The scheduler of the group delays
+     * @param metrics       The group commit metrics, if any
+     */
+    public FoundationDbGroupCommitWriter(Database database,
+                                         FoundationDbGroupCommitConfig config,
+                                         TaskScheduler taskScheduler,
+                                         Optional<GroupCommitMetrics> metrics) {
+        this.database = database;
+        this.taskScheduler = taskScheduler;
+        this.maxDelay = config.getMaxDelay();
+        this.maxGroupBytes = Math.max(1, config.getMaxGroupBytes());
+        this.maxInFlight = Math.max(1, config.getMaxInFlight());
+        this.drainTimeout = config.getDrainTimeout();
+        this.metrics = metrics.orElse(GroupCommitMetrics.NOOP);
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   The key
+     * @param value The value
+     * @return Completed once the group of the write is committed
+     */
+    @NonNull
+    public CompletableFuture<Void> set(@NonNull byte[] key, @NonNull byte[] value) {
+        return submit(new Mutation(null, key, value));
+    }
+
+    /**
+     * Clears the given key.
+     *
+     * @param key The key
+     * @return Completed once the group of the write is committed
+     */
+    @NonNull
+    public CompletableFuture<Void> clear(@NonNull byte[] key) {
+        return submit(new Mutation(null, key, null));
+    }
+
+    /**
+     * Applies an atomic operation to the given key.
+     *
+     * @param type  The atomic operation
+     * @param key   The key
+     * @param param The parameter of the operation
+     * @return Completed once the group of the write is committed
+     */
+    @NonNull
+    public CompletableFuture<Void> mutate(@NonNull MutationType type, @NonNull byte[] key, @NonNull byte[] param) {
+        return submit(new Mutation(type, key, param));
+    }
+
+    /**
+     * Commits the pending writes without waiting for the maximum delay, as long as the maximum
+     * number of groups in flight is not reached.
+     */
+    public void flush() {
+        List<PendingWrite> group;
+        synchronized (lock) {
+            delayElapsed = !pending.isEmpty();
+            group = nextGroup(false);
+        }
+        commit(group);
+    }
+
+    /**
+     * Commits all pending writes, regardless of the maximum number of groups in flight, and waits
+     * for the groups in flight to complete. Writes submitted afterwards are rejected.
+     */
+    @PreDestroy
+    public void close() {
+        List<List<PendingWrite>> groups = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            delayElapsed = true;
+            List<PendingWrite> group = nextGroup(true);
+            while (group != null) {
+                groups.add(group);
+                group = nextGroup(true);
+            }
+            if (inFlight == 0) {
+                drained.complete(null);
+            }
+        }
+        groups.forEach(this::commit);
+        try {
+            drained.get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("{} FoundationDB group commits still in flight after {}", getInFlight(), drainTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to drain in-flight FoundationDB group commits", e);
+        }
+    }
+
+    private int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    private CompletableFuture<Void> submit(Mutation mutation) {
+        PendingWrite write = new PendingWrite(mutation, new CompletableFuture<>());
+        List<PendingWrite> group;
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Group commit writer is closed"));
+            }
+            metrics.enqueued();
+            pending.add(write);
+            pendingBytes += mutation.approximateSize();
+            if (pending.size() == 1 && !delayElapsed) {
+                scheduled = taskScheduler.schedule(maxDelay, this::flush);
+            }
+            group = nextGroup(false);
+        }
+        commit(group);
+        return write.result();
+    }
+
+    /**
+     * Takes the next group if it is ready to be committed. Must be called while holding the lock.
+     */
+    private List<PendingWrite> nextGroup(boolean force) {
+        if (pending.isEmpty() || (!force && (inFlight >= maxInFlight || (!delayElapsed && pendingBytes < maxGroupBytes)))) {
+            return null;
+        }
+        List<PendingWrite> group = new ArrayList<>();
+        long bytes = 0;
+        while (!pending.isEmpty() && (group.isEmpty() || bytes + pending.peek().mutation().approximateSize() <= maxGroupBytes)) {
+            PendingWrite write = pending.poll();
+            bytes += write.mutation().approximateSize();
+            group.add(write);
+        }
+        pendingBytes -= bytes;
+        inFlight++;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        delayElapsed = false;
+        if (!pending.isEmpty()) {
+            scheduled = taskScheduler.schedule(maxDelay, this::flush);
+        }
+        metrics.groupStarted(group.size(), bytes);
+        return group;
+    }
+
+    private void commit(List<PendingWrite> group) {
+        if (group == null) {
+            return;
+        }
+        commit(group, database.createTransaction()).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                group.forEach(write -> write.result().completeExceptionally(cause));
+            }
+            List<PendingWrite> next;
+            synchronized (lock) {
+                inFlight--;
+                next = nextGroup(false);
+                if (closed && inFlight == 0) {
+                    drained.complete(null);
+                }
+            }
+            commit(next);
+        });
+    }
+
+    private CompletableFuture<Void> commit(List<PendingWrite> group, Transaction transaction) {
+        transaction.options().setReadYourWritesDisable();
+        return attempt(group, transaction);
+    }
+
+    private CompletableFuture<Void> attempt(List<PendingWrite> group, Transaction transaction) {
+        for (PendingWrite write : group) {
+            write.mutation().applyTo(transaction);
+        }
+        long start = System.nanoTime();
+        return transaction.commit().handle((ignored, throwable) -> {
+            if (throwable == null) {
+                transaction.close();
+                metrics.committed(System.nanoTime() - start);
+                group.forEach(write -> write.result().complete(null));
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof FDBException error && isRetryable(error, group)) {
+                return transaction.onError(error)
+                    .thenCompose(next -> attempt(group, next))
+                    .whenComplete((next, retryError) -> {
+                        if (retryError != null) {
+                            transaction.close();
+                        }
+                    });
+            }
+            transaction.close();
+            if (group.size() > 1 && isSplittable(cause, group)) {
+                metrics.split();
+                return split(group);
+            }
+            group.forEach(write -> write.result().completeExceptionally(cause));
+            return CompletableFuture.<Void>completedFuture(null);
+        }).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> split(List<PendingWrite> group) {
+        int middle = group.size() / 2;
+        List<PendingWrite> first = group.subList(0, middle);
+        List<PendingWrite> second = group.subList(middle, group.size());
+        return CompletableFuture.allOf(
+            commit(first, database.createTransaction()),
+            commit(second, database.createTransaction())
+        );
+    }
+
+    private static boolean isRetryable(FDBException error, List<PendingWrite> group) {
+        if (error.isRetryableNotCommitted()) {
+            return true;
+        }
+        return error.isRetryable() && group.stream().allMatch(write -> write.mutation().isIdempotent());
+    }
+
+    /**
+     * Whether a failed group can be split and committed again, which is not the case of a group
+     * with non-idempotent writes when the failed commit may have succeeded.
+     */
+    private static boolean isSplittable(Throwable cause, List<PendingWrite> group) {
+        if (cause instanceof FDBException error) {
+            int code = error.getCode();
+            if (code == TRANSACTION_TOO_LARGE || code == KEY_TOO_LARGE || code == VALUE_TOO_LARGE) {
+                return true;
+            }
+        }
+        return group.stream().allMatch(write -> write.mutation().isIdempotent());
+    }
+
+    private record PendingWrite(Mutation mutation, CompletableFuture<Void> result) {
+    }
+}
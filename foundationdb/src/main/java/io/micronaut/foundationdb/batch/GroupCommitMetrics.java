@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.batch;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of the {@link FoundationDbGroupCommitWriter}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface GroupCommitMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    GroupCommitMetrics NOOP = new GroupCommitMetrics() {
+    };
+
+    /**
+     * Records a write waiting for its group.
+     */
+    default void enqueued() {
+    }
+
+    /**
+     * Records the start of a group commit.
+     *
+     * @param mutations The number of mutations of the group
+     * @param bytes     The approximate size of the group
+     */
+    default void groupStarted(int mutations, long bytes) {
+    }
+
+    /**
+     * Records a successful commit.
+     *
+     * @param nanos The commit latency
+     */
+    default void committed(long nanos) {
+    }
+
+    /**
+     * Records a group split after a failed commit.
+     */
+    default void split() {
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.blocking;
+
+import com.apple.foundationdb.KeySelector;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.StreamingMode;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Blocking view of a FoundationDB {@link ReadTransaction}, waiting for each read to complete.
+ *
+ * @author Nikolai Papakha
+ */
+public class BlockingReadTransaction {
+
+    private final ReadTransaction transaction;
+
+    BlockingReadTransaction(ReadTransaction transaction) {
+        this.transaction = transaction;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key
+     * @return The value, or {@code null} if the key is not set
+     */
+    @Nullable
+    public byte[] get(@NonNull byte[] key) {
+        return await(transaction.get(key));
+    }
+
+    /**
+     * Gets all key-value pairs of a range.
+     *
+     * @param range The range
+     * @return The key-value pairs
+     */
+    @NonNull
+    public List<KeyValue> getRange(@NonNull Range range) {
+        return getRange(range.begin, range.end, ReadTransaction.ROW_LIMIT_UNLIMITED, false);
+    }
+
+    /**
+     * Gets the first key-value pairs of a range.
+     *
+     * @param range The range
+     * @param limit The maximum number of pairs
+     * @return The key-value pairs
+     */
+    @NonNull
+    public List<KeyValue> getRange(@NonNull Range range, int limit) {
+        return getRange(range.begin, range.end, limit, false);
+    }
+
+    /**
+     * Gets the key-value pairs between two keys.
+     *
+     * @param begin   The first key, inclusive
+     * @param end     The last key, exclusive
+     * @param limit   The maximum number of pairs
+     * @param reverse Whether the pairs are read in descending key order
+     * @return The key-value pairs
+     */
+    @NonNull
+    public List<KeyValue> getRange(@NonNull byte[] begin, @NonNull byte[] end, int limit, boolean reverse) {
+        StreamingMode mode = limit == ReadTransaction.ROW_LIMIT_UNLIMITED ? StreamingMode.WANT_ALL : StreamingMode.ITERATOR;
+        return await(transaction.getRange(
+            KeySelector.firstGreaterOrEqual(begin), KeySelector.firstGreaterOrEqual(end), limit, reverse, mode
+        ).asList());
+    }
+
+    /**
+     * Gets the read version of the transaction.
+     *
+     * @return The read version
+     */
+    public long getReadVersion() {
+        return await(transaction.getReadVersion());
+    }
+
+    /**
+     * Gets a view whose reads do not add read conflict ranges.
+     *
+     * @return The snapshot view
+     */
+    @NonNull
+    public BlockingReadTransaction snapshot() {
+        return new BlockingReadTransaction(transaction.snapshot());
+    }
+
+    /**
+     * Gets the underlying transaction, for operations which are not exposed by this view.
+     *
+     * @return The transaction
+     */
+    @NonNull
+    public ReadTransaction unwrap() {
+        return transaction;
+    }
+
+    /**
+     * Waits for a future of the client. On a virtual thread, waiting unmounts the thread instead of
+     * blocking its carrier, since {@link CompletableFuture#join()} parks without holding a monitor.
+     *
+     * @param future The future
+     * @param <T>    The type of the result
+     * @return The result of the future
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.blocking;
+
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Blocking view of a FoundationDB {@link Transaction}. Writes are buffered by the transaction
+ * and only take effect once it commits.
+ *
+ * @author Nikolai Papakha
+ */
+public final class BlockingTransaction extends BlockingReadTransaction {
+
+    private final Transaction transaction;
+
+    BlockingTransaction(Transaction transaction) {
+        super(transaction);
+        this.transaction = transaction;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void set(@NonNull byte[] key, @NonNull byte[] value) {
+        transaction.set(key, value);
+    }
+
+    /**
+     * Clears a key.
+     *
+     * @param key The key
+     */
+    public void clear(@NonNull byte[] key) {
+        transaction.clear(key);
+    }
+
+    /**
+     * Clears all keys of a range.
+     *
+     * @param range The range
+     */
+    public void clear(@NonNull Range range) {
+        transaction.clear(range);
+    }
+
+    /**
+     * Applies an atomic mutation to a key.
+     *
+     * @param type  The mutation type
+     * @param key   The key
+     * @param param The parameter of the mutation
+     */
+    public void mutate(@NonNull MutationType type, @NonNull byte[] key, @NonNull byte[] param) {
+        transaction.mutate(type, key, param);
+    }
+
+    /**
+     * Adds a key to the read conflict ranges, as if it had been read.
+     *
+     * @param key The key
+     */
+    public void addReadConflictKey(@NonNull byte[] key) {
+        transaction.addReadConflictKey(key);
+    }
+
+    @Override
+    @NonNull
+    public Transaction unwrap() {
+        return transaction;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.blocking;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.diagnostics.FoundationDbConflictDiagnostics;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Blocking, retrying transactions of the FoundationDB {@link Database}, meant to be called from
+ * virtual threads.
+ *
+ * <p>The function runs on the calling thread and each read waits for its result, so that code
+ * reads top to bottom. Waiting parks a virtual thread without pinning its carrier, which lets
+ * thousands of transactions wait concurrently on a few platform threads. Callers on platform
+ * threads may use {@link #runOnVirtualThread(Function)} instead.</p>
+ *
+ * <p>As with {@link Database#run(Function)}, the function is re-run with a reset transaction on
+ * retryable errors, so that it must not have side effects outside the transaction.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbBlockingDatabase {
+
+    private final Database database;
+
+    @Nullable
+    private final FoundationDbConflictDiagnostics diagnostics;
+
+    private final ExecutorService virtualThreads = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("fdb-blocking-", 0).factory()
+    );
+
+    /**
+     * Constructs a new {@code FoundationDbBlockingDatabase} instance.
+     *
+     * @param database    The FoundationDB database
+     * @param diagnostics The conflict diagnostics, if enabled
+     */
+    public FoundationDbBlockingDatabase(Database database, Optional<FoundationDbConflictDiagnostics> diagnostics) {
+        this.database = database;
+        this.diagnostics = diagnostics.orElse(null);
+    }
+
+    /**
+     * Runs the given function in a transaction and commits it, retrying on retryable errors.
+     *
+     * @param retryable The function reading and writing the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    public <T> T run(@NonNull Function<? super BlockingTransaction, T> retryable) {
+        return execute(retryable, true);
+    }
+
+    /**
+     * Runs the given read-only function in a transaction, retrying on retryable errors.
+     *
+     * @param retryable The function reading the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    public <T> T read(@NonNull Function<? super BlockingReadTransaction, T> retryable) {
+        return execute(retryable, false);
+    }
+
+    /**
+     * Runs the given function like {@link #run(Function)} on a new virtual thread.
+     *
+     * @param retryable The function reading and writing the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    @NonNull
+    public <T> CompletableFuture<T> runOnVirtualThread(@NonNull Function<? super BlockingTransaction, T> retryable) {
+        return CompletableFuture.supplyAsync(() -> run(retryable), virtualThreads);
+    }
+
+    /**
+     * Runs the given read-only function like {@link #read(Function)} on a new virtual thread.
+     *
+     * @param retryable The function reading the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    @NonNull
+    public <T> CompletableFuture<T> readOnVirtualThread(@NonNull Function<? super BlockingReadTransaction, T> retryable) {
+        return CompletableFuture.supplyAsync(() -> read(retryable), virtualThreads);
+    }
+
+    /**
+     * Stops accepting functions to run on virtual threads.
+     */
+    @PreDestroy
+    public void close() {
+        virtualThreads.shutdown();
+    }
+
+    private <T> T execute(Function<? super BlockingTransaction, T> retryable, boolean commit) {
+        Transaction tr = database.createTransaction();
+        try {
+            while (true) {
+                try {
+                    T result = retryable.apply(new BlockingTransaction(tr));
+                    if (commit) {
+                        BlockingReadTransaction.await(tr.commit());
+                    }
+                    return result;
+                } catch (RuntimeException e) {
+                    FDBException error = unwrap(e);
+                    if (error == null) {
+                        throw e;
+                    }
+                    if (diagnostics != null && FoundationDbConflictDiagnostics.isConflict(error)) {
+                        BlockingReadTransaction.await(diagnostics.record(tr));
+                    }
+                    tr = BlockingReadTransaction.await(tr.onError(error));
+                }
+            }
+        } finally {
+            tr.close();
+        }
+    }
+
+    @Nullable
+    private static FDBException unwrap(RuntimeException e) {
+        if (e instanceof FDBException fdbException) {
+            return fdbException;
+        }
+        if (e instanceof CompletionException && e.getCause() instanceof FDBException fdbException) {
+            return fdbException;
+        }
+        return null;
+    }
+}
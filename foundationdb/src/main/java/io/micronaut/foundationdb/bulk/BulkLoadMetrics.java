@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.bulk;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of bulk writers.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface BulkLoadMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    BulkLoadMetrics NOOP = new BulkLoadMetrics() {
+    };
+
+    /**
+     * Records the start of a commit.
+     */
+    default void commitStarted() {
+    }
+
+    /**
+     * Records a successful commit.
+     *
+     * @param keys  The number of mutations
+     * @param bytes The approximate size of the mutations
+     * @param nanos The commit latency
+     */
+    default void committed(long keys, long bytes, long nanos) {
+    }
+
+    /**
+     * Records the end of a commit, successful or not.
+     */
+    default void commitCompleted() {
+    }
+
+    /**
+     * Records a batch which was split after failing with a size or time related error.
+     */
+    default void split() {
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.bulk;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.Mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Buffers blind writes and commits them in batches sized just under the limits of a single
+ * transaction, with several commits in flight at once.
+ *
+ * <p>The batch size adapts to the observed commit latency: it grows while commits are faster
+ * than the target latency, shrinks when they are slower and is halved when a commit fails with
+ * {@code transaction_too_large} or {@code transaction_too_old}, in which case the failed batch is
+ * split in two and committed again. A commit which failed with {@code transaction_timed_out} may
+ * have been applied, so its batch is only split if all of its mutations are idempotent.</p>
+ *
+ * <p>Other retryable errors commit the batch again, except {@code commit_unknown_result} for a
+ * batch holding atomic operations, which fails the writer rather than possibly applying them twice.</p>
+ *
+ * <p>Instances are not thread-safe and should be used by a single producer. Writes block when
+ * the maximum number of commits is in flight.</p>
+ *
+ * @author Nikolai Papakha
+ */
+public final class BulkWriter implements AutoCloseable {
+
+    private static final int TRANSACTION_TOO_OLD = 1007;
+    private static final int TRANSACTION_TIMED_OUT = 1031;
+    private static final int TRANSACTION_TOO_LARGE = 2101;
+
+    private static final double GROWTH_FACTOR = 1.25;
+    private static final double SHRINK_FACTOR = 0.75;
+
+    private final Database database;
+
+    private final BulkLoadMetrics metrics;
+
+    private final Semaphore permits;
+
+    private final long minBatchBytes;
+
+    private final long maxBatchBytes;
+
+    private final long targetLatencyNanos;
+
+    private final AtomicLong targetBatchBytes;
+
+    private final AtomicLong keysWritten = new AtomicLong();
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private List<Mutation> batch = new ArrayList<>();
+
+    private long batchBytes;
+
+    private boolean closed;
+
+    BulkWriter(Database database, FoundationDbBulkLoadConfig config, BulkLoadMetrics metrics) {
+        this.database = database;
+        this.metrics = metrics;
+        this.permits = new Semaphore(Math.max(1, config.getMaxInFlight()));
+        this.minBatchBytes = config.getMinBatchBytes();
+        this.maxBatchBytes = config.getMaxBatchBytes();
+        this.targetLatencyNanos = config.getTargetCommitLatency().toNanos();
+        this.targetBatchBytes = new AtomicLong(Math.min(maxBatchBytes, Math.max(minBatchBytes, config.getInitialBatchBytes())));
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void set(@NonNull byte[] key, @NonNull byte[] value) {
+        add(new Mutation(null, key, value));
+    }
+
+    /**
+     * Clears a key.
+     *
+     * @param key The key
+     */
+    public void clear(@NonNull byte[] key) {
+        add(new Mutation(null, key, null));
+    }
+
+    /**
+     * Performs an atomic operation on a key.
+     *
+     * @param type  The atomic operation
+     * @param key   The key
+     * @param param The parameter of the operation
+     */
+    public void mutate(@NonNull MutationType type, @NonNull byte[] key, @NonNull byte[] param) {
+        add(new Mutation(type, key, param));
+    }
+
+    /**
+     * Commits the buffered writes and waits for all commits in flight.
+     *
+     * @throws FDBException if a commit failed
+     */
+    public void flush() {
+        submit();
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        checkFailure();
+    }
+
+    /**
+     * Flushes the buffered writes and rejects further writes.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            flush();
+        }
+    }
+
+    /**
+     * Gets the number of mutations committed so far.
+     *
+     * @return The number of mutations
+     */
+    public long getKeysWritten() {
+        return keysWritten.get();
+    }
+
+    /**
+     * Gets the approximate number of bytes committed so far.
+     *
+     * @return The number of bytes
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Gets the current target size of a batch.
+     *
+     * @return The batch size in bytes
+     */
+    public long getTargetBatchBytes() {
+        return targetBatchBytes.get();
+    }
+
+    private void add(Mutation mutation) {
+        if (closed) {
+            throw new IllegalStateException("Bulk writer is closed");
+        }
+        checkFailure();
+        batch.add(mutation);
+        batchBytes += mutation.approximateSize();
+        if (batchBytes >= targetBatchBytes.get()) {
+            submit();
+        }
+    }
+
+    private void submit() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Mutation> mutations = batch;
+        long bytes = batchBytes;
+        batch = new ArrayList<>();
+        batchBytes = 0;
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a commit slot", e);
+        }
+        metrics.commitStarted();
+        CompletableFuture<Void> commit = commit(mutations, bytes).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                failure.compareAndSet(null, unwrap(throwable));
+            }
+            permits.release();
+            metrics.commitCompleted();
+        });
+        inFlight.add(commit);
+        commit.whenComplete((ignored, throwable) -> inFlight.remove(commit));
+    }
+
+    private CompletableFuture<Void> commit(List<Mutation> mutations, long bytes) {
+        Transaction transaction = database.createTransaction();
+        transaction.options().setReadYourWritesDisable();
+        return attempt(transaction, mutations, bytes);
+    }
+
+    private CompletableFuture<Void> attempt(Transaction transaction, List<Mutation> mutations, long bytes) {
+        for (Mutation mutation : mutations) {
+            mutation.applyTo(transaction);
+        }
+        long start = System.nanoTime();
+        return transaction.commit().handle((ignored, throwable) -> {
+            if (throwable == null) {
+                transaction.close();
+                long latency = System.nanoTime() - start;
+                adapt(latency);
+                keysWritten.addAndGet(mutations.size());
+                bytesWritten.addAndGet(bytes);
+                metrics.committed(mutations.size(), bytes, latency);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            FDBException error = unwrap(throwable) instanceof FDBException e ? e : null;
+            if (error != null && isTooLarge(error, mutations) && mutations.size() > 1) {
+                transaction.close();
+                shrink();
+                metrics.split();
+                return split(mutations);
+            }
+            if (error != null && isRetryable(error, mutations)) {
+                return transaction.onError(error)
+                    .thenCompose(next -> attempt(next, mutations, bytes))
+                    .whenComplete((next, retryError) -> {
+                        if (retryError != null) {
+                            transaction.close();
+                        }
+                    });
+            }
+            transaction.close();
+            return CompletableFuture.<Void>failedFuture(throwable);
+        }).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> split(List<Mutation> mutations) {
+        int middle = mutations.size() / 2;
+        List<Mutation> first = mutations.subList(0, middle);
+        List<Mutation> second = mutations.subList(middle, mutations.size());
+        return commit(first, size(first)).thenCompose(ignored -> commit(second, size(second)));
+    }
+
+    private void adapt(long latencyNanos) {
+        double factor = latencyNanos <= targetLatencyNanos ? GROWTH_FACTOR : SHRINK_FACTOR;
+        targetBatchBytes.updateAndGet(current -> clamp((long) (current * factor)));
+    }
+
+    private void shrink() {
+        targetBatchBytes.updateAndGet(current -> clamp(current / 2));
+    }
+
+    private long clamp(long bytes) {
+        return Math.max(minBatchBytes, Math.min(maxBatchBytes, bytes));
+    }
+
+    private void checkFailure() {
+        Throwable throwable = failure.get();
+        if (throwable instanceof RuntimeException e) {
+            throw e;
+        }
+        if (throwable != null) {
+            throw new IllegalStateException("Bulk write failed", throwable);
+        }
+    }
+
+    /**
+     * Whether a batch should be split, which is not the case of a batch with non-idempotent
+     * mutations when the timed out commit may have succeeded.
+     */
+    private static boolean isTooLarge(FDBException error, List<Mutation> mutations) {
+        int code = error.getCode();
+        if (code == TRANSACTION_TOO_LARGE || code == TRANSACTION_TOO_OLD) {
+            return true;
+        }
+        return code == TRANSACTION_TIMED_OUT && mutations.stream().allMatch(Mutation::isIdempotent);
+    }
+
+    /**
+     * Whether a batch can be committed again, which is not the case of a batch with non-idempotent
+     * mutations when the failed commit may have succeeded.
+     */
+    private static boolean isRetryable(FDBException error, List<Mutation> mutations) {
+        if (error.isRetryableNotCommitted()) {
+            return true;
+        }
+        return error.isRetryable() && mutations.stream().allMatch(Mutation::isIdempotent);
+    }
+
+    private static long size(List<Mutation> mutations) {
+        long bytes = 0;
+        for (Mutation mutation : mutations) {
+            bytes += mutation.approximateSize();
+        }
+        return bytes;
+    }
+
+    @Nullable
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.bulk;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of bulk writers created by {@link FoundationDbBulkLoader}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbBulkLoadConfig.PREFIX)
+public final class FoundationDbBulkLoadConfig {
+
+    /**
+     * The prefix to use for bulk load configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".bulk-load";
+
+    /**
+     * The default maximum number of commits in flight per writer.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private static final long DEFAULT_INITIAL_BATCH_BYTES = 256 * 1024;
+    private static final long DEFAULT_MIN_BATCH_BYTES = 16 * 1024;
+    private static final long DEFAULT_MAX_BATCH_BYTES = 4 * 1024 * 1024;
+    private static final Duration DEFAULT_TARGET_COMMIT_LATENCY = Duration.ofMillis(500);
+
+    private long initialBatchBytes = DEFAULT_INITIAL_BATCH_BYTES;
+
+    private long minBatchBytes = DEFAULT_MIN_BATCH_BYTES;
+
+    private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    @NonNull
+    private Duration targetCommitLatency = DEFAULT_TARGET_COMMIT_LATENCY;
+
+    /**
+     * Gets the approximate size of the first transaction of a writer.
+     *
+     * @return The initial batch size in bytes
+     */
+    public long getInitialBatchBytes() {
+        return initialBatchBytes;
+    }
+
+    /**
+     * Sets the approximate size of the first transaction of a writer. Default value: 256KB.
+     *
+     * @param initialBatchBytes The initial batch size in bytes
+     */
+    public void setInitialBatchBytes(@ReadableBytes long initialBatchBytes) {
+        this.initialBatchBytes = initialBatchBytes;
+    }
+
+    /**
+     * Gets the lower bound of the adaptive batch size.
+     *
+     * @return The min batch size in bytes
+     */
+    public long getMinBatchBytes() {
+        return minBatchBytes;
+    }
+
+    /**
+     * Sets the lower bound of the adaptive batch size. Default value: 16KB.
+     *
+     * @param minBatchBytes The min batch size in bytes
+     */
+    public void setMinBatchBytes(@ReadableBytes long minBatchBytes) {
+        this.minBatchBytes = minBatchBytes;
+    }
+
+    /**
+     * Gets the upper bound of the adaptive batch size.
+     *
+     * @return The max batch size in bytes
+     */
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Sets the upper bound of the adaptive batch size. It should stay well below the 10MB
+     * transaction size limit of FoundationDB. Default value: 4MB.
+     *
+     * @param maxBatchBytes The max batch size in bytes
+     */
+    public void setMaxBatchBytes(@ReadableBytes long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    /**
+     * Gets the maximum number of commits in flight per writer.
+     *
+     * @return The max number of commits in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of commits in flight per writer. Writers block once the limit is
+     * reached. Default value: {@value #DEFAULT_MAX_IN_FLIGHT}.
+     *
+     * @param maxInFlight The max number of commits in flight
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gets the commit latency the batch size is adapted to.
+     *
+     * @return The target commit latency
+     */
+    @NonNull
+    public Duration getTargetCommitLatency() {
+        return targetCommitLatency;
+    }
+
+    /**
+     * Sets the commit latency the batch size is adapted to. Batches grow while commits are faster
+     * and shrink when they are slower. Default value: 500 milliseconds.
+     *
+     * @param targetCommitLatency The target commit latency
+     */
+    public void setTargetCommitLatency(@NonNull Duration targetCommitLatency) {
+        this.targetCommitLatency = targetCommitLatency;
+    }
+}
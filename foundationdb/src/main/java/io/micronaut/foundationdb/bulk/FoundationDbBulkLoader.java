@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.bulk;
+
+import com.apple.foundationdb.Database;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+import java.util.Optional;
+
+/**
+ * Creates {@link BulkWriter}s for ingesting large data sets into the FoundationDB {@link Database}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbBulkLoader {
+
+    private final Database database;
+
+    private final FoundationDbBulkLoadConfig config;
+
+    private final BulkLoadMetrics metrics;
+
+    /**
+     * Constructs a new {@code FoundationDbBulkLoader} instance.
+     *
+     * @param database The FoundationDB database
+     * @param config   The bulk load configuration
+     * @param metrics  The bulk load metrics, if any
+     */
+    public FoundationDbBulkLoader(Database database, FoundationDbBulkLoadConfig config, Optional<BulkLoadMetrics> metrics) {
+        this.database = database;
+        this.config = config;
+        this.metrics = metrics.orElse(BulkLoadMetrics.NOOP);
+    }
+
+    /**
+     * Creates a new writer. The writer must be closed to commit the remaining buffered writes.
+     *
+     * @return The writer
+     */
+    @NonNull
+    public BulkWriter newWriter() {
+        return new BulkWriter(database, config, metrics);
+    }
+}
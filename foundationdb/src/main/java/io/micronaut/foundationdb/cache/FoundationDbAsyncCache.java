@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.cache;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.core.type.Argument;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncCache} storing its entries in a subspace of the FoundationDB {@link Database}.
+ *
+ * <p>Every entry is stored as a {@code (expiration, value)} tuple under {@code ("e", key)}. Entries
+ * which expire are also indexed under {@code ("x", expiration, key)}, so that expired entries can
+ * be found and cleared in key order.</p>
+ *
+ * @author Nikolai Papakha
+ */
+final class FoundationDbAsyncCache implements AsyncCache<Database> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final long NO_EXPIRATION = 0L;
+
+    private final String name;
+
+    private final Database database;
+
+    private final Subspace subspace;
+
+    private final Subspace entries;
+
+    private final Subspace expirations;
+
+    @Nullable
+    private final Duration expireAfterWrite;
+
+    private final ObjectSerializer keySerializer;
+
+    private final ObjectSerializer valueSerializer;
+
+    private final Executor loaderExecutor;
+
+    FoundationDbAsyncCache(String name,
+                           Database database,
+                           Subspace subspace,
+                           @Nullable Duration expireAfterWrite,
+                           ObjectSerializer keySerializer,
+                           ObjectSerializer valueSerializer,
+                           Executor loaderExecutor) {
+        this.name = name;
+        this.database = database;
+        this.subspace = subspace;
+        this.entries = subspace.get("e");
+        this.expirations = subspace.get("x");
+        this.expireAfterWrite = expireAfterWrite;
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.loaderExecutor = loaderExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Database getNativeCache() {
+        return database;
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(Object key, Argument<T> requiredType) {
+        byte[] entryKey = entries.pack(serializeKey(key));
+        return database.readAsync(tr -> tr.get(entryKey))
+            .thenApply(entry -> decode(entry, requiredType));
+    }
+
+    /**
+     * Gets the value of the key, or stores the value of the supplier if the key is absent. The
+     * supplier is run on the loader executor, never on the network callbacks of the client. A
+     * {@code null} value is returned without being stored.
+     */
+    @Override
+    public <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
+        return get(key, requiredType).thenCompose(existing -> existing.isPresent()
+            ? CompletableFuture.completedFuture(existing.get())
+            : CompletableFuture.supplyAsync(supplier, loaderExecutor).thenCompose(value -> putLoaded(key, value)));
+    }
+
+    /**
+     * Stores a value returned by a supplier unless the key is present, skipping {@code null} values.
+     *
+     * @param key   The key
+     * @param value The supplied value
+     * @param <T>   The value type
+     * @return The current value of the key
+     */
+    <T> CompletableFuture<T> putLoaded(Object key, @Nullable T value) {
+        if (value == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return putIfAbsent(key, value).thenApply(current -> current.orElse(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
+        byte[] keyBytes = serializeKey(key);
+        byte[] entryKey = entries.pack(keyBytes);
+        byte[] valueBytes = serializeValue(value);
+        Argument<T> type = Argument.of((Class<T>) value.getClass());
+        return database.runAsync(tr -> tr.get(entryKey).thenApply(entry -> {
+            Optional<T> existing = decode(entry, type);
+            if (existing.isEmpty()) {
+                write(tr, keyBytes, entry, valueBytes);
+            }
+            return existing;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> put(Object key, Object value) {
+        if (value == null) {
+            return invalidate(key);
+        }
+        byte[] keyBytes = serializeKey(key);
+        byte[] entryKey = entries.pack(keyBytes);
+        byte[] valueBytes = serializeValue(value);
+        return database.runAsync(tr -> tr.get(entryKey).thenApply(entry -> {
+            write(tr, keyBytes, entry, valueBytes);
+            return true;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidate(Object key) {
+        byte[] keyBytes = serializeKey(key);
+        byte[] entryKey = entries.pack(keyBytes);
+        return database.runAsync(tr -> tr.get(entryKey).thenApply(entry -> {
+            clearExpiration(tr, keyBytes, entry);
+            tr.clear(entryKey);
+            return true;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll() {
+        return database.runAsync(tr -> {
+            tr.clear(subspace.range());
+            return CompletableFuture.completedFuture(true);
+        });
+    }
+
+    /**
+     * Clears a batch of expired entries.
+     *
+     * @param tr        The transaction
+     * @param batchSize The maximum number of entries to clear
+     * @return The number of cleared entries
+     */
+    CompletableFuture<Integer> sweep(Transaction tr, int batchSize) {
+        byte[] begin = expirations.range().begin;
+        byte[] end = expirations.pack(System.currentTimeMillis());
+        return tr.getRange(begin, end, batchSize).asList().thenApply(expired -> {
+            if (expired.isEmpty()) {
+                return 0;
+            }
+            for (KeyValue kv : expired) {
+                tr.clear(entries.pack(expirations.unpack(kv.getKey()).getBytes(1)));
+            }
+            byte[] last = expired.get(expired.size() - 1).getKey();
+            tr.clear(begin, ByteArrayUtil.join(last, new byte[]{0}));
+            return expired.size();
+        });
+    }
+
+    private void write(Transaction tr, byte[] keyBytes, @Nullable byte[] previous, byte[] valueBytes) {
+        clearExpiration(tr, keyBytes, previous);
+        long expiration = expireAfterWrite == null ? NO_EXPIRATION : System.currentTimeMillis() + expireAfterWrite.toMillis();
+        tr.set(entries.pack(keyBytes), Tuple.from(expiration, valueBytes).pack());
+        if (expiration != NO_EXPIRATION) {
+            tr.set(expirations.pack(Tuple.from(expiration, keyBytes)), EMPTY);
+        }
+    }
+
+    private void clearExpiration(Transaction tr, byte[] keyBytes, @Nullable byte[] entry) {
+        if (entry == null) {
+            return;
+        }
+        long expiration = Tuple.fromBytes(entry).getLong(0);
+        if (expiration != NO_EXPIRATION) {
+            tr.clear(expirations.pack(Tuple.from(expiration, keyBytes)));
+        }
+    }
+
+    private <T> Optional<T> decode(@Nullable byte[] entry, Argument<T> type) {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Tuple tuple = Tuple.fromBytes(entry);
+        long expiration = tuple.getLong(0);
+        if (expiration != NO_EXPIRATION && expiration <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return valueSerializer.deserialize(tuple.getBytes(1), type);
+    }
+
+    private byte[] serializeKey(Object key) {
+        return keySerializer.serialize(key)
+            .orElseThrow(() -> new IllegalArgumentException("Key cannot be serialized: " + key));
+    }
+
+    private byte[] serializeValue(Object value) {
+        return valueSerializer.serialize(value)
+            .orElseThrow(() -> new IllegalArgumentException("Value cannot be serialized: " + value));
+    }
+}
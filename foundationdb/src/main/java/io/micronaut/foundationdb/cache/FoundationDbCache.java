@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.cache;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.serialize.JdkSerializer;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link SyncCache} storing its entries in a subspace of the FoundationDB {@link Database}, shared
+ * by every application instance connected to the cluster. Expired entries are hidden on read and
+ * cleared by a background sweeper in batches.
+ *
+ * @author Nikolai Papakha
+ */
+@EachBean(FoundationDbCacheConfig.class)
+public class FoundationDbCache implements SyncCache<Database> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbCache.class);
+
+    private final FoundationDbAsyncCache asyncCache;
+
+    private final Database database;
+
+    private final int sweepBatchSize;
+
+    @Nullable
+    private final ScheduledFuture<?> sweeper;
+
+    /**
+     * Constructs a new {@code FoundationDbCache} instance.
+     *
+     * @param config            The cache configuration
+     * @param database          The FoundationDB database
+     * @param beanContext       The bean context used to instantiate serializers and find the loader executor
+     * @param conversionService The conversion service
+     * @param taskScheduler     The scheduler of the sweeper
+     */
+    public FoundationDbCache(FoundationDbCacheConfig config,
+                             Database database,
+                             BeanContext beanContext,
+                             ConversionService conversionService,
+                             TaskScheduler taskScheduler) {
+        this.database = database;
+        this.sweepBatchSize = Math.max(1, config.getSweepBatchSize());
+        Subspace subspace = new Subspace(config.getSubspace() != null ? Tuple.from(config.getSubspace()) : Tuple.from("cache", config.getName()));
+        this.asyncCache = new FoundationDbAsyncCache(
+            config.getName(),
+            database,
+            subspace,
+            config.getExpireAfterWrite(),
+            serializer(config.getKeySerializer(), beanContext, conversionService),
+            serializer(config.getValueSerializer(), beanContext, conversionService),
+            beanContext.getBean(ExecutorService.class, Qualifiers.byName(Optional.ofNullable(config.getExecutor()).orElse(TaskExecutors.BLOCKING)))
+        );
+        this.sweeper = config.getExpireAfterWrite() == null ? null
+            : taskScheduler.scheduleWithFixedDelay(config.getSweepInterval(), config.getSweepInterval(), this::sweep);
+    }
+
+    @Override
+    public String getName() {
+        return asyncCache.getName();
+    }
+
+    @Override
+    public Database getNativeCache() {
+        return database;
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
+        return join(asyncCache.get(key, requiredType));
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Argument<T> requiredType, @NonNull Supplier<T> supplier) {
+        Optional<T> existing = get(key, requiredType);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        return join(asyncCache.putLoaded(key, supplier.get()));
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> putIfAbsent(@NonNull Object key, @NonNull T value) {
+        return join(asyncCache.putIfAbsent(key, value));
+    }
+
+    @Override
+    public void put(@NonNull Object key, @NonNull Object value) {
+        join(asyncCache.put(key, value));
+    }
+
+    @Override
+    public void invalidate(@NonNull Object key) {
+        join(asyncCache.invalidate(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        join(asyncCache.invalidateAll());
+    }
+
+    @NonNull
+    @Override
+    public AsyncCache<Database> async() {
+        return asyncCache;
+    }
+
+    /**
+     * Clears the expired entries, one batch per transaction.
+     *
+     * @return The number of cleared entries
+     */
+    public int sweep() {
+        int total = 0;
+        try {
+            int cleared;
+            do {
+                cleared = database.run(tr -> asyncCache.sweep(tr, sweepBatchSize).join());
+                total += cleared;
+            } while (cleared == sweepBatchSize);
+        } catch (FDBException | CompletionException e) {
+            LOG.warn("Failed to clear expired entries of cache {}", getName(), e);
+        }
+        return total;
+    }
+
+    /**
+     * Stops the sweeper.
+     */
+    @PreDestroy
+    public void close() {
+        if (sweeper != null) {
+            sweeper.cancel(false);
+        }
+    }
+
+    private static ObjectSerializer serializer(@Nullable Class<? extends ObjectSerializer> type,
+                                               BeanContext beanContext,
+                                               ConversionService conversionService) {
+        if (type == null) {
+            return new JdkSerializer(conversionService);
+        }
+        return beanContext.findOrInstantiateBean(type)
+            .orElseThrow(() -> new IllegalStateException("Cannot instantiate serializer " + type.getName()));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
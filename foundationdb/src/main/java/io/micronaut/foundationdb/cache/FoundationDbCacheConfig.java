@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.cache;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a cache stored in FoundationDB, one for each name configured under
+ * {@code foundationdb.caches}.
+ *
+ * @author Nikolai Papakha
+ */
+@EachProperty(FoundationDbCacheConfig.PREFIX)
+public final class FoundationDbCacheConfig {
+
+    /**
+     * The prefix to use for cache configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".caches";
+
+    /**
+     * The default maximum number of expired entries cleared per transaction.
+     */
+    public static final int DEFAULT_SWEEP_BATCH_SIZE = 1000;
+
+    private final String name;
+
+    @Nullable
+    private String subspace;
+
+    @Nullable
+    private Duration expireAfterWrite;
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private int sweepBatchSize = DEFAULT_SWEEP_BATCH_SIZE;
+
+    @Nullable
+    private Class<? extends ObjectSerializer> keySerializer;
+
+    @Nullable
+    private Class<? extends ObjectSerializer> valueSerializer;
+
+    @Nullable
+    private String executor;
+
+    /**
+     * Constructs a new {@code FoundationDbCacheConfig} instance.
+     *
+     * @param name The name of the cache
+     */
+    public FoundationDbCacheConfig(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the cache.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the name of the subspace entries are stored in.
+     *
+     * @return The subspace name
+     */
+    @Nullable
+    public String getSubspace() {
+        return subspace;
+    }
+
+    /**
+     * Sets the name of the subspace entries are stored in, used as a single element tuple prefix.
+     * Defaults to the {@code ("cache", <name>)} tuple prefix.
+     *
+     * @param subspace The subspace name
+     */
+    public void setSubspace(@Nullable String subspace) {
+        this.subspace = subspace;
+    }
+
+    /**
+     * Gets the time after which an entry expires once it has been written.
+     *
+     * @return The expiration
+     */
+    @Nullable
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Sets the time after which an entry expires once it has been written. Entries do not expire by default.
+     *
+     * @param expireAfterWrite The expiration
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Gets the interval at which expired entries are cleared.
+     *
+     * @return The sweep interval
+     */
+    @NonNull
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    /**
+     * Sets the interval at which expired entries are cleared. Default value: 1 minute.
+     *
+     * @param sweepInterval The sweep interval
+     */
+    public void setSweepInterval(@NonNull Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    /**
+     * Gets the maximum number of expired entries cleared per transaction.
+     *
+     * @return The sweep batch size
+     */
+    public int getSweepBatchSize() {
+        return sweepBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of expired entries cleared per transaction. Default value: {@value #DEFAULT_SWEEP_BATCH_SIZE}.
+     *
+     * @param sweepBatchSize The sweep batch size
+     */
+    public void setSweepBatchSize(int sweepBatchSize) {
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * Gets the serializer of the cache keys.
+     *
+     * @return The key serializer type
+     */
+    @Nullable
+    public Class<? extends ObjectSerializer> getKeySerializer() {
+        return keySerializer;
+    }
+
+    /**
+     * Sets the serializer of the cache keys. Defaults to Java serialization.
+     *
+     * @param keySerializer The key serializer type
+     */
+    public void setKeySerializer(@Nullable Class<? extends ObjectSerializer> keySerializer) {
+        this.keySerializer = keySerializer;
+    }
+
+    /**
+     * Gets the serializer of the cached values.
+     *
+     * @return The value serializer type
+     */
+    @Nullable
+    public Class<? extends ObjectSerializer> getValueSerializer() {
+        return valueSerializer;
+    }
+
+    /**
+     * Sets the serializer of the cached values. Defaults to Java serialization.
+     *
+     * @param valueSerializer The value serializer type
+     */
+    public void setValueSerializer(@Nullable Class<? extends ObjectSerializer> valueSerializer) {
+        this.valueSerializer = valueSerializer;
+    }
+
+    /**
+     * Gets the name of the executor service bean the suppliers of missing values are run on.
+     *
+     * @return The name of the executor bean
+     */
+    @Nullable
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the name of the executor service bean the suppliers of missing values are run on, so
+     * that they never block the network callbacks of the client. Defaults to the {@code blocking}
+     * executor.
+     *
+     * @param executor The name of the executor bean
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.counter;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.transaction.FoundationDbReadVersionCache;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counters stored in FoundationDB whose increments do not conflict with each other.
+ *
+ * <p>Each increment is an atomic {@link MutationType#ADD} on one of the shard keys of the counter,
+ * chosen at random, so concurrent writers neither read the counter nor touch the same key. The
+ * value of a counter is the sum of its shards, read with a single range read. The shards can be
+ * consolidated into a single key in the background, which keeps reads of rarely written
+ * counters small.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@EachBean(FoundationDbCounterConfig.class)
+public class FoundationDbCounter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbCounter.class);
+
+    private final String name;
+
+    private final Database database;
+
+    private final FoundationDbReadVersionCache readVersionCache;
+
+    private final Subspace subspace;
+
+    private final int shards;
+
+    private final int consolidationBatchSize;
+
+    @Nullable
+    private final ScheduledFuture<?> consolidator;
+
+    /**
+     * Constructs a new {@code FoundationDbCounter} instance.
+     *
+     * @param config           The counter configuration
+     * @param database         The FoundationDB database
+     * @param readVersionCache The read version cache used by approximate reads
+     * @param taskScheduler    The scheduler of the consolidation
+     */
+    public FoundationDbCounter(FoundationDbCounterConfig config,
+                               Database database,
+                               FoundationDbReadVersionCache readVersionCache,
+                               TaskScheduler taskScheduler) {
+        this.name = config.getName();
+        this.database = database;
+        this.readVersionCache = readVersionCache;
+        this.subspace = new Subspace(config.getSubspace() != null ? Tuple.from(config.getSubspace()) : Tuple.from("counter", config.getName()));
+        this.shards = Math.max(1, config.getShards());
+        this.consolidationBatchSize = Math.max(2, config.getConsolidationBatchSize());
+        this.consolidator = config.getConsolidationInterval() == null ? null
+            : taskScheduler.scheduleWithFixedDelay(config.getConsolidationInterval(), config.getConsolidationInterval(), this::consolidate);
+    }
+
+    /**
+     * Gets the name of the counters.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds a delta to a counter in the given transaction, without reading it.
+     *
+     * @param tr    The transaction
+     * @param key   The key of the counter
+     * @param delta The delta, negative to decrement
+     */
+    public void increment(@NonNull Transaction tr, @NonNull Tuple key, long delta) {
+        int shard = shards == 1 ? 0 : ThreadLocalRandom.current().nextInt(shards);
+        tr.mutate(MutationType.ADD, counter(key).pack(shard), ByteArrayUtil.encodeInt(delta));
+    }
+
+    /**
+     * Adds a delta to a counter in its own transaction.
+     *
+     * @param key   The key of the counter
+     * @param delta The delta, negative to decrement
+     * @return A future completed once committed
+     */
+    @NonNull
+    public CompletableFuture<Void> increment(@NonNull Tuple key, long delta) {
+        return database.runAsync(tr -> {
+            increment(tr, key, delta);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Reads a counter in the given transaction. The read conflicts with concurrent increments of
+     * the counter, use {@link #getSnapshot(ReadTransaction, Tuple)} when an approximate value is enough.
+     *
+     * @param tr  The transaction
+     * @param key The key of the counter
+     * @return A future of the value
+     */
+    @NonNull
+    public CompletableFuture<Long> get(@NonNull ReadTransaction tr, @NonNull Tuple key) {
+        return tr.getRange(counter(key).range()).asList().thenApply(FoundationDbCounter::sum);
+    }
+
+    /**
+     * Reads a counter in its own transaction.
+     *
+     * @param key The key of the counter
+     * @return A future of the value
+     */
+    @NonNull
+    public CompletableFuture<Long> get(@NonNull Tuple key) {
+        return database.readAsync(tr -> get(tr, key));
+    }
+
+    /**
+     * Reads a counter in the given transaction with a snapshot read, which does not add a read
+     * conflict, so the transaction is not aborted by concurrent increments.
+     *
+     * @param tr  The transaction
+     * @param key The key of the counter
+     * @return A future of the value
+     */
+    @NonNull
+    public CompletableFuture<Long> getSnapshot(@NonNull ReadTransaction tr, @NonNull Tuple key) {
+        return get(tr.snapshot(), key);
+    }
+
+    /**
+     * Reads a counter with a shared read version of the {@link FoundationDbReadVersionCache},
+     * saving the read version round trip. The value may miss increments committed within the
+     * staleness bound of the cache.
+     *
+     * @param key The key of the counter
+     * @return A future of the approximate value
+     */
+    @NonNull
+    public CompletableFuture<Long> getApproximate(@NonNull Tuple key) {
+        return readVersionCache.readAsync(tr -> getSnapshot(tr, key));
+    }
+
+    /**
+     * Clears a counter in the given transaction.
+     *
+     * @param tr  The transaction
+     * @param key The key of the counter
+     */
+    public void clear(@NonNull Transaction tr, @NonNull Tuple key) {
+        tr.clear(counter(key).range());
+    }
+
+    /**
+     * Sums the shards of a counter into a single key. The consolidation conflicts with concurrent
+     * increments of the counter, in which case it is retried, while the increments are not affected.
+     *
+     * @param key The key of the counter
+     * @return A future of whether shards were merged
+     */
+    @NonNull
+    public CompletableFuture<Boolean> consolidate(@NonNull Tuple key) {
+        Subspace counter = counter(key);
+        return database.runAsync(tr -> tr.getRange(counter.range()).asList().thenApply(shardValues -> {
+            if (shardValues.size() < 2) {
+                return false;
+            }
+            long sum = sum(shardValues);
+            tr.clear(counter.range());
+            if (sum != 0) {
+                tr.set(counter.pack(0), ByteArrayUtil.encodeInt(sum));
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * Consolidates every counter with several shards, scanning the counters with snapshot reads of
+     * at most {@code consolidation-batch-size} keys.
+     *
+     * @return The number of consolidated counters
+     */
+    public int consolidate() {
+        int consolidated = 0;
+        byte[] begin = subspace.range().begin;
+        byte[] end = subspace.range().end;
+        try {
+            List<KeyValue> batch;
+            do {
+                byte[] from = begin;
+                batch = database.read(tr -> tr.snapshot().getRange(from, end, consolidationBatchSize).asList().join());
+                Map<Tuple, Integer> shardCounts = new LinkedHashMap<>();
+                for (KeyValue kv : batch) {
+                    shardCounts.merge(subspace.unpack(kv.getKey()).getNestedTuple(0), 1, Integer::sum);
+                }
+                for (Map.Entry<Tuple, Integer> entry : shardCounts.entrySet()) {
+                    if (entry.getValue() > 1 && consolidate(entry.getKey()).join()) {
+                        consolidated++;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    begin = ByteArrayUtil.join(batch.get(batch.size() - 1).getKey(), new byte[]{0});
+                }
+            } while (batch.size() == consolidationBatchSize);
+        } catch (FDBException | CompletionException e) {
+            LOG.warn("Failed to consolidate counters {}", name, e);
+        }
+        return consolidated;
+    }
+
+    /**
+     * Stops the consolidation.
+     */
+    @PreDestroy
+    public void close() {
+        if (consolidator != null) {
+            consolidator.cancel(false);
+        }
+    }
+
+    private Subspace counter(Tuple key) {
+        return subspace.get(Tuple.from(key));
+    }
+
+    private static long sum(List<KeyValue> shardValues) {
+        long sum = 0;
+        for (KeyValue kv : shardValues) {
+            sum += ByteArrayUtil.decodeInt(kv.getValue());
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.counter;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a set of sharded counters, one for each name configured under
+ * {@code foundationdb.counters}.
+ *
+ * @author Nikolai Papakha
+ */
+@EachProperty(FoundationDbCounterConfig.PREFIX)
+public final class FoundationDbCounterConfig {
+
+    /**
+     * The prefix to use for counter configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".counters";
+
+    /**
+     * The default number of shards of a counter.
+     */
+    public static final int DEFAULT_SHARDS = 16;
+
+    /**
+     * The default number of keys scanned per transaction by the consolidation.
+     */
+    public static final int DEFAULT_CONSOLIDATION_BATCH_SIZE = 1000;
+
+    private final String name;
+
+    @Nullable
+    private String subspace;
+
+    private int shards = DEFAULT_SHARDS;
+
+    @Nullable
+    private Duration consolidationInterval;
+
+    private int consolidationBatchSize = DEFAULT_CONSOLIDATION_BATCH_SIZE;
+
+    /**
+     * Constructs a new {@code FoundationDbCounterConfig} instance.
+     *
+     * @param name The name of the counters
+     */
+    public FoundationDbCounterConfig(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the counters.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the name of the subspace the counters are stored in.
+     *
+     * @return The subspace name
+     */
+    @Nullable
+    public String getSubspace() {
+        return subspace;
+    }
+
+    /**
+     * Sets the name of the subspace the counters are stored in, used as a single element tuple prefix.
+     * Defaults to the {@code ("counter", <name>)} tuple prefix.
+     *
+     * @param subspace The subspace name
+     */
+    public void setSubspace(@Nullable String subspace) {
+        this.subspace = subspace;
+    }
+
+    /**
+     * Gets the number of shards increments of a counter are spread over.
+     *
+     * @return The number of shards
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Sets the number of shards increments of a counter are spread over. More shards spread the
+     * writes of hot counters over more storage servers, at the cost of larger reads. Default value: {@value #DEFAULT_SHARDS}.
+     *
+     * @param shards The number of shards
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Gets the interval at which the shards of the counters are consolidated.
+     *
+     * @return The consolidation interval
+     */
+    @Nullable
+    public Duration getConsolidationInterval() {
+        return consolidationInterval;
+    }
+
+    /**
+     * Sets the interval at which the shards of each counter are summed into a single key. Counters
+     * are not consolidated in the background by default.
+     *
+     * @param consolidationInterval The consolidation interval
+     */
+    public void setConsolidationInterval(@Nullable Duration consolidationInterval) {
+        this.consolidationInterval = consolidationInterval;
+    }
+
+    /**
+     * Gets the number of keys scanned per transaction by the consolidation.
+     *
+     * @return The consolidation batch size
+     */
+    public int getConsolidationBatchSize() {
+        return consolidationBatchSize;
+    }
+
+    /**
+     * Sets the number of keys scanned per transaction by the consolidation. Default value: {@value #DEFAULT_CONSOLIDATION_BATCH_SIZE}.
+     *
+     * @param consolidationBatchSize The consolidation batch size
+     */
+    public void setConsolidationBatchSize(int consolidationBatchSize) {
+        this.consolidationBatchSize = consolidationBatchSize;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of the {@link FoundationDbConflictDiagnostics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface ConflictMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    ConflictMetrics NOOP = new ConflictMetrics() {
+    };
+
+    /**
+     * Records a conflicting range reported by a failed commit.
+     *
+     * @param prefix The subspace prefix of the range
+     */
+    default void conflict(String prefix) {
+    }
+}
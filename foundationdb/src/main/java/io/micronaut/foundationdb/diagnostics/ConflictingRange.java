@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * A conflicting key range and its estimated number of conflicts.
+ *
+ * @param begin The first key of the range, in printable form
+ * @param end   The key following the range, in printable form
+ * @param count The estimated number of conflicts, which may overestimate by up to {@code error}
+ * @param error The maximum overestimation of the count
+ * @author Nikolai Papakha
+ */
+@Serdeable
+public record ConflictingRange(@NonNull String begin, @NonNull String end, long count, long error) {
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the key ranges on which the transactions of the primary FoundationDB {@link Database}
+ * conflict, to find the hot keys of a contended workload.
+ *
+ * <p>When enabled, every transaction of the primary database reports its conflicting keys, and
+ * the retry loops of this module read them from the
+ * {@code \xff\xff/transaction/conflicting_keys/} special key range after a commit fails with
+ * {@code not_committed}. Custom retry loops call {@link #record(ReadTransaction)} before
+ * {@code onError}. The ranges are counted in a bounded space-saving sketch.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Context
+@Requires(property = FoundationDbConflictDiagnosticsConfig.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class FoundationDbConflictDiagnostics {
+
+    /**
+     * The code of the {@code not_committed} error.
+     */
+    public static final int NOT_COMMITTED = 1020;
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbConflictDiagnostics.class);
+
+    private static final String OTHER = "other";
+
+    private static final byte[] CONFLICTING_KEYS = ByteArrayUtil.join(
+        new byte[]{(byte) 0xff, (byte) 0xff},
+        "/transaction/conflicting_keys/".getBytes(StandardCharsets.US_ASCII)
+    );
+
+    private static final byte[] CONFLICT_BEGIN = {'1'};
+
+    private final SpaceSaving<RangeKey> ranges;
+
+    private final int maxPrefixes;
+
+    private final Set<String> prefixes = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder conflicts = new LongAdder();
+
+    private final ConflictMetrics metrics;
+
+    /**
+     * Constructs a new {@code FoundationDbConflictDiagnostics} instance, enabling the report of
+     * conflicting keys on the transactions of the database.
+     *
+     * @param database The FoundationDB database
+     * @param config   The conflict diagnostics configuration
+     * @param metrics  The conflict metrics, if any
+     */
+    public FoundationDbConflictDiagnostics(Database database,
+                                           FoundationDbConflictDiagnosticsConfig config,
+                                           Optional<ConflictMetrics> metrics) {
+        this.ranges = new SpaceSaving<>(config.getCapacity());
+        this.maxPrefixes = Math.max(0, config.getMaxPrefixes());
+        this.metrics = metrics.orElse(ConflictMetrics.NOOP);
+        database.options().setTransactionReportConflictingKeys();
+    }
+
+    /**
+     * Whether the given error is a conflict whose keys can be recorded.
+     *
+     * @param error The error
+     * @return {@code true} if the error is {@code not_committed}
+     */
+    public static boolean isConflict(@NonNull FDBException error) {
+        return error.getCode() == NOT_COMMITTED;
+    }
+
+    /**
+     * Reads the conflicting key ranges of a transaction whose commit failed with
+     * {@code not_committed}, before {@code onError} resets it, and counts them.
+     *
+     * @param tr The transaction
+     * @return A future of the number of conflicting ranges, {@code 0} if they could not be read
+     */
+    @NonNull
+    public CompletableFuture<Integer> record(@NonNull ReadTransaction tr) {
+        return tr.getRange(CONFLICTING_KEYS, ByteArrayUtil.strinc(CONFLICTING_KEYS)).asList()
+            .thenApply(this::record)
+            .exceptionally(throwable -> {
+                LOG.debug("Failed to read the conflicting keys of a transaction", throwable);
+                return 0;
+            });
+    }
+
+    /**
+     * Gets the most frequently conflicting ranges, most frequent first.
+     *
+     * @return The conflicting ranges
+     */
+    @NonNull
+    public List<ConflictingRange> getConflictingRanges() {
+        return ranges.top().stream()
+            .map(estimate -> new ConflictingRange(estimate.item().begin(), estimate.item().end(), estimate.count(), estimate.error()))
+            .toList();
+    }
+
+    /**
+     * Gets the number of conflicting ranges recorded.
+     *
+     * @return The number of conflicts
+     */
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Forgets the recorded conflicting ranges.
+     */
+    public void reset() {
+        ranges.clear();
+        conflicts.reset();
+    }
+
+    /**
+     * Pairs the boundaries of the special key range, each starting ({@code 1}) or ending
+     * ({@code 0}) a conflicting range.
+     */
+    private int record(List<KeyValue> boundaries) {
+        List<byte[][]> conflicting = new ArrayList<>();
+        byte[] begin = null;
+        for (KeyValue kv : boundaries) {
+            byte[] key = Arrays.copyOfRange(kv.getKey(), CONFLICTING_KEYS.length, kv.getKey().length);
+            if (Arrays.equals(kv.getValue(), CONFLICT_BEGIN)) {
+                begin = key;
+            } else if (begin != null) {
+                conflicting.add(new byte[][]{begin, key});
+                begin = null;
+            }
+        }
+        for (byte[][] range : conflicting) {
+            ranges.add(new RangeKey(ByteArrayUtil.printable(range[0]), ByteArrayUtil.printable(range[1])));
+            conflicts.increment();
+            metrics.conflict(prefix(range[0]));
+        }
+        return conflicting.size();
+    }
+
+    /**
+     * Gets the first tuple element of a key, the subspace prefix of most layouts, limiting the
+     * number of distinct prefixes.
+     */
+    private String prefix(byte[] key) {
+        String prefix;
+        try {
+            Tuple tuple = Tuple.fromBytes(key);
+            Object first = tuple.isEmpty() ? "" : tuple.get(0);
+            prefix = first instanceof String string ? string : ByteArrayUtil.printable(Tuple.from(first).pack());
+        } catch (IllegalArgumentException e) {
+            prefix = key.length == 0 ? "" : ByteArrayUtil.printable(new byte[]{key[0]});
+        }
+        if (prefixes.contains(prefix) || prefixes.size() < maxPrefixes && prefixes.add(prefix)) {
+            return prefix;
+        }
+        return OTHER;
+    }
+
+    private record RangeKey(String begin, String end) {
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+/**
+ * Configuration of the {@link FoundationDbConflictDiagnostics}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbConflictDiagnosticsConfig.PREFIX)
+public final class FoundationDbConflictDiagnosticsConfig {
+
+    /**
+     * The prefix to use for conflict diagnostics configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".conflict-diagnostics";
+
+    /**
+     * The default number of conflicting ranges tracked.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * The default maximum number of subspace prefixes the conflicts are tagged with.
+     */
+    public static final int DEFAULT_MAX_PREFIXES = 100;
+
+    private boolean enabled;
+
+    private int capacity = DEFAULT_CAPACITY;
+
+    private int maxPrefixes = DEFAULT_MAX_PREFIXES;
+
+    /**
+     * Whether conflict diagnostics are enabled.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the conflicting keys of the transactions of the primary database are reported
+     * and aggregated. Default value: {@code false}.
+     *
+     * @param enabled {@code true} to enable
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the number of conflicting ranges tracked.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the number of conflicting ranges tracked by the space-saving sketch, which bounds the
+     * memory used whatever the number of distinct ranges. Default value: {@value #DEFAULT_CAPACITY}.
+     *
+     * @param capacity The capacity
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the maximum number of subspace prefixes the conflict counters are tagged with.
+     *
+     * @return The max number of prefixes
+     */
+    public int getMaxPrefixes() {
+        return maxPrefixes;
+    }
+
+    /**
+     * Sets the maximum number of subspace prefixes the conflict counters are tagged with. Conflicts
+     * in further prefixes are tagged {@code other}. Default value: {@value #DEFAULT_MAX_PREFIXES}.
+     *
+     * @param maxPrefixes The max number of prefixes
+     */
+    public void setMaxPrefixes(int maxPrefixes) {
+        this.maxPrefixes = maxPrefixes;
+    }
+}
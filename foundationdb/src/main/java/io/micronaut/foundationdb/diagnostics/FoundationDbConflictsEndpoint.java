@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.annotation.Delete;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+import java.util.List;
+
+/**
+ * Management endpoint exposing the most frequently conflicting key ranges recorded by the
+ * {@link FoundationDbConflictDiagnostics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Endpoint(id = FoundationDbConflictsEndpoint.NAME)
+@Requires(classes = Endpoint.class)
+@Requires(beans = FoundationDbConflictDiagnostics.class)
+public class FoundationDbConflictsEndpoint {
+
+    /**
+     * The identifier of the endpoint.
+     */
+    public static final String NAME = "fdbconflicts";
+
+    private final FoundationDbConflictDiagnostics diagnostics;
+
+    /**
+     * Constructs a new {@code FoundationDbConflictsEndpoint} instance.
+     *
+     * @param diagnostics The conflict diagnostics
+     */
+    public FoundationDbConflictsEndpoint(FoundationDbConflictDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Gets the most frequently conflicting ranges, most frequent first.
+     *
+     * @return The conflicting ranges
+     */
+    @Read
+    public List<ConflictingRange> conflicts() {
+        return diagnostics.getConflictingRanges();
+    }
+
+    /**
+     * Forgets the recorded conflicting ranges.
+     */
+    @Delete
+    public void reset() {
+        diagnostics.reset();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-saving sketch estimating the most frequent items of a stream in bounded memory. Once
+ * full, a new item replaces the least frequent one and inherits its count, which bounds the
+ * overestimation of each count.
+ *
+ * @param <T> The type of the items
+ * @author Nikolai Papakha
+ */
+final class SpaceSaving<T> {
+
+    private final int capacity;
+
+    private final Map<T, long[]> counters = new HashMap<>();
+
+    SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    synchronized void add(T item) {
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0]++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[]{1, 0});
+            return;
+        }
+        Map.Entry<T, long[]> min = null;
+        for (Map.Entry<T, long[]> entry : counters.entrySet()) {
+            if (min == null || entry.getValue()[0] < min.getValue()[0]) {
+                min = entry;
+            }
+        }
+        long count = min.getValue()[0];
+        counters.remove(min.getKey());
+        counters.put(item, new long[]{count + 1, count});
+    }
+
+    synchronized List<Estimate<T>> top() {
+        List<Estimate<T>> estimates = new ArrayList<>(counters.size());
+        counters.forEach((item, counter) -> estimates.add(new Estimate<>(item, counter[0], counter[1])));
+        estimates.sort(Comparator.comparingLong(Estimate<T>::count).reversed());
+        return estimates;
+    }
+
+    synchronized void clear() {
+        counters.clear();
+    }
+
+    record Estimate<T>(T item, long count, long error) {
+    }
+}
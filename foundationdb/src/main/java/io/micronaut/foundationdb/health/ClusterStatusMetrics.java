@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records metrics of the {@link FoundationDbStatusPoller}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface ClusterStatusMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    ClusterStatusMetrics NOOP = new ClusterStatusMetrics() {
+    };
+
+    /**
+     * Records a polled cluster status.
+     *
+     * @param database The name of the database
+     * @param status   The cluster status
+     */
+    default void polled(@NonNull String database, @NonNull FoundationDbClusterStatus status) {
+    }
+
+    /**
+     * Records a failed poll.
+     *
+     * @param database The name of the database
+     */
+    default void pollFailed(@NonNull String database) {
+    }
+}
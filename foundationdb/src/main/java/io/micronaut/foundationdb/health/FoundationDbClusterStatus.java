@@ -0,0 +1,505 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * The subset of the cluster status, read from {@code \xff\xff/status/json}, used for health checks
+ * and metrics. Fields missing from the status, e.g. while the cluster is recovering, are {@code null}.
+ *
+ * @author Nikolai Papakha
+ */
+@Serdeable
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FoundationDbClusterStatus {
+
+    @Nullable
+    private Client client;
+
+    @Nullable
+    private Cluster cluster;
+
+    /**
+     * Gets the status of the database as seen by the client.
+     *
+     * @return The client section
+     */
+    @Nullable
+    public Client getClient() {
+        return client;
+    }
+
+    void setClient(@Nullable Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Gets the status reported by the cluster controller.
+     *
+     * @return The cluster section
+     */
+    @Nullable
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    void setCluster(@Nullable Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Whether the database is available, according to the client or the cluster controller.
+     *
+     * @return {@code false} if reported unavailable
+     */
+    public boolean isAvailable() {
+        if (client != null && client.databaseStatus != null && Boolean.FALSE.equals(client.databaseStatus.available)) {
+            return false;
+        }
+        return cluster == null || !Boolean.FALSE.equals(cluster.databaseAvailable);
+    }
+
+    /**
+     * The {@code client} section of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Client {
+
+        @Nullable
+        @JsonProperty("database_status")
+        private DatabaseStatus databaseStatus;
+
+        /**
+         * Gets the database status.
+         *
+         * @return The database status
+         */
+        @Nullable
+        public DatabaseStatus getDatabaseStatus() {
+            return databaseStatus;
+        }
+
+        void setDatabaseStatus(@Nullable DatabaseStatus databaseStatus) {
+            this.databaseStatus = databaseStatus;
+        }
+    }
+
+    /**
+     * The {@code client.database_status} section of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class DatabaseStatus {
+
+        @Nullable
+        private Boolean available;
+
+        @Nullable
+        private Boolean healthy;
+
+        /**
+         * Whether the database is available.
+         *
+         * @return {@code true} if available
+         */
+        @Nullable
+        public Boolean getAvailable() {
+            return available;
+        }
+
+        void setAvailable(@Nullable Boolean available) {
+            this.available = available;
+        }
+
+        /**
+         * Whether the database is healthy.
+         *
+         * @return {@code true} if healthy
+         */
+        @Nullable
+        public Boolean getHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(@Nullable Boolean healthy) {
+            this.healthy = healthy;
+        }
+    }
+
+    /**
+     * The {@code cluster} section of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Cluster {
+
+        @Nullable
+        @JsonProperty("database_available")
+        private Boolean databaseAvailable;
+
+        @Nullable
+        @JsonProperty("degraded_processes")
+        private Integer degradedProcesses;
+
+        @Nullable
+        @JsonProperty("latency_probe")
+        private LatencyProbe latencyProbe;
+
+        @Nullable
+        private Qos qos;
+
+        /**
+         * Whether the database is available.
+         *
+         * @return {@code true} if available
+         */
+        @Nullable
+        public Boolean getDatabaseAvailable() {
+            return databaseAvailable;
+        }
+
+        void setDatabaseAvailable(@Nullable Boolean databaseAvailable) {
+            this.databaseAvailable = databaseAvailable;
+        }
+
+        /**
+         * Gets the number of degraded processes.
+         *
+         * @return The number of degraded processes
+         */
+        @Nullable
+        public Integer getDegradedProcesses() {
+            return degradedProcesses;
+        }
+
+        void setDegradedProcesses(@Nullable Integer degradedProcesses) {
+            this.degradedProcesses = degradedProcesses;
+        }
+
+        /**
+         * Gets the latencies measured by the cluster controller.
+         *
+         * @return The latency probe
+         */
+        @Nullable
+        public LatencyProbe getLatencyProbe() {
+            return latencyProbe;
+        }
+
+        void setLatencyProbe(@Nullable LatencyProbe latencyProbe) {
+            this.latencyProbe = latencyProbe;
+        }
+
+        /**
+         * Gets the ratekeeper limits and the worst queues of the cluster.
+         *
+         * @return The quality of service
+         */
+        @Nullable
+        public Qos getQos() {
+            return qos;
+        }
+
+        void setQos(@Nullable Qos qos) {
+            this.qos = qos;
+        }
+    }
+
+    /**
+     * The {@code cluster.latency_probe} section of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LatencyProbe {
+
+        @Nullable
+        @JsonProperty("transaction_start_seconds")
+        private Double transactionStartSeconds;
+
+        @Nullable
+        @JsonProperty("read_seconds")
+        private Double readSeconds;
+
+        @Nullable
+        @JsonProperty("commit_seconds")
+        private Double commitSeconds;
+
+        /**
+         * Gets the latency of getting a read version at default priority.
+         *
+         * @return The GRV latency in seconds
+         */
+        @Nullable
+        public Double getTransactionStartSeconds() {
+            return transactionStartSeconds;
+        }
+
+        void setTransactionStartSeconds(@Nullable Double transactionStartSeconds) {
+            this.transactionStartSeconds = transactionStartSeconds;
+        }
+
+        /**
+         * Gets the latency of a single key read.
+         *
+         * @return The read latency in seconds
+         */
+        @Nullable
+        public Double getReadSeconds() {
+            return readSeconds;
+        }
+
+        void setReadSeconds(@Nullable Double readSeconds) {
+            this.readSeconds = readSeconds;
+        }
+
+        /**
+         * Gets the latency of a commit.
+         *
+         * @return The commit latency in seconds
+         */
+        @Nullable
+        public Double getCommitSeconds() {
+            return commitSeconds;
+        }
+
+        void setCommitSeconds(@Nullable Double commitSeconds) {
+            this.commitSeconds = commitSeconds;
+        }
+    }
+
+    /**
+     * The {@code cluster.qos} section of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Qos {
+
+        @Nullable
+        @JsonProperty("transactions_per_second_limit")
+        private Double transactionsPerSecondLimit;
+
+        @Nullable
+        @JsonProperty("batch_transactions_per_second_limit")
+        private Double batchTransactionsPerSecondLimit;
+
+        @Nullable
+        @JsonProperty("worst_queue_bytes_storage_server")
+        private Long worstQueueBytesStorageServer;
+
+        @Nullable
+        @JsonProperty("worst_queue_bytes_log_server")
+        private Long worstQueueBytesLogServer;
+
+        @Nullable
+        @JsonProperty("worst_durability_lag_storage_server")
+        private Lag worstDurabilityLagStorageServer;
+
+        @Nullable
+        @JsonProperty("worst_data_lag_storage_server")
+        private Lag worstDataLagStorageServer;
+
+        @Nullable
+        @JsonProperty("performance_limited_by")
+        private LimitReason performanceLimitedBy;
+
+        /**
+         * Gets the rate of default priority transactions allowed by the ratekeeper.
+         *
+         * @return The transactions per second limit
+         */
+        @Nullable
+        public Double getTransactionsPerSecondLimit() {
+            return transactionsPerSecondLimit;
+        }
+
+        void setTransactionsPerSecondLimit(@Nullable Double transactionsPerSecondLimit) {
+            this.transactionsPerSecondLimit = transactionsPerSecondLimit;
+        }
+
+        /**
+         * Gets the rate of batch priority transactions allowed by the ratekeeper.
+         *
+         * @return The batch transactions per second limit
+         */
+        @Nullable
+        public Double getBatchTransactionsPerSecondLimit() {
+            return batchTransactionsPerSecondLimit;
+        }
+
+        void setBatchTransactionsPerSecondLimit(@Nullable Double batchTransactionsPerSecondLimit) {
+            this.batchTransactionsPerSecondLimit = batchTransactionsPerSecondLimit;
+        }
+
+        /**
+         * Gets the largest queue of a storage server.
+         *
+         * @return The queue size in bytes
+         */
+        @Nullable
+        public Long getWorstQueueBytesStorageServer() {
+            return worstQueueBytesStorageServer;
+        }
+
+        void setWorstQueueBytesStorageServer(@Nullable Long worstQueueBytesStorageServer) {
+            this.worstQueueBytesStorageServer = worstQueueBytesStorageServer;
+        }
+
+        /**
+         * Gets the largest queue of a log server.
+         *
+         * @return The queue size in bytes
+         */
+        @Nullable
+        public Long getWorstQueueBytesLogServer() {
+            return worstQueueBytesLogServer;
+        }
+
+        void setWorstQueueBytesLogServer(@Nullable Long worstQueueBytesLogServer) {
+            this.worstQueueBytesLogServer = worstQueueBytesLogServer;
+        }
+
+        /**
+         * Gets the largest lag between the versions made durable by a storage server and the latest version.
+         *
+         * @return The durability lag
+         */
+        @Nullable
+        public Lag getWorstDurabilityLagStorageServer() {
+            return worstDurabilityLagStorageServer;
+        }
+
+        void setWorstDurabilityLagStorageServer(@Nullable Lag worstDurabilityLagStorageServer) {
+            this.worstDurabilityLagStorageServer = worstDurabilityLagStorageServer;
+        }
+
+        /**
+         * Gets the largest lag between the versions readable from a storage server and the latest version.
+         *
+         * @return The data lag
+         */
+        @Nullable
+        public Lag getWorstDataLagStorageServer() {
+            return worstDataLagStorageServer;
+        }
+
+        void setWorstDataLagStorageServer(@Nullable Lag worstDataLagStorageServer) {
+            this.worstDataLagStorageServer = worstDataLagStorageServer;
+        }
+
+        /**
+         * Gets the reason the ratekeeper currently limits the transaction rate.
+         *
+         * @return The limiting reason
+         */
+        @Nullable
+        public LimitReason getPerformanceLimitedBy() {
+            return performanceLimitedBy;
+        }
+
+        void setPerformanceLimitedBy(@Nullable LimitReason performanceLimitedBy) {
+            this.performanceLimitedBy = performanceLimitedBy;
+        }
+    }
+
+    /**
+     * A storage server lag of the status.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Lag {
+
+        @Nullable
+        private Double seconds;
+
+        @Nullable
+        private Long versions;
+
+        /**
+         * Gets the lag in seconds.
+         *
+         * @return The seconds
+         */
+        @Nullable
+        public Double getSeconds() {
+            return seconds;
+        }
+
+        void setSeconds(@Nullable Double seconds) {
+            this.seconds = seconds;
+        }
+
+        /**
+         * Gets the lag in versions.
+         *
+         * @return The versions
+         */
+        @Nullable
+        public Long getVersions() {
+            return versions;
+        }
+
+        void setVersions(@Nullable Long versions) {
+            this.versions = versions;
+        }
+    }
+
+    /**
+     * The reason of a ratekeeper limit.
+     */
+    @Serdeable
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LimitReason {
+
+        @Nullable
+        private String name;
+
+        @Nullable
+        private String description;
+
+        /**
+         * Gets the name of the reason, e.g. {@code workload}.
+         *
+         * @return The name
+         */
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        void setName(@Nullable String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the description of the reason.
+         *
+         * @return The description
+         */
+        @Nullable
+        public String getDescription() {
+            return description;
+        }
+
+        void setDescription(@Nullable String description) {
+            this.description = description;
+        }
+    }
+}
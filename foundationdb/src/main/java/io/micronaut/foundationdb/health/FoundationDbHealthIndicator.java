@@ -17,23 +17,31 @@ package io.micronaut.foundationdb.health;
 
 import com.apple.foundationdb.Database;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.management.endpoint.health.HealthEndpoint;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Health indicator for FoundationDB.
+ * Health indicator for FoundationDB. When the {@link FoundationDbStatusPoller} is enabled, the health
+ * is served from the last polled status, otherwise the client status is queried on every probe. A
+ * polled status older than the configured maximum age is reported as down.
  *
  * @author Nikolai Papakha
  */
@@ -42,14 +50,19 @@ import java.util.concurrent.CompletableFuture;
 @Singleton
 public class FoundationDbHealthIndicator implements HealthIndicator {
 
-    private static final String NAME = "foundationdb";
+    static final String NAME = "foundationdb";
 
     private static final Logger LOG = LoggerFactory.getLogger(FoundationDbHealthIndicator.class);
 
+    private final String name;
+
     private final Database database;
 
     private final JsonMapper jsonMapper;
 
+    @Nullable
+    private final FoundationDbStatusPoller statusPoller;
+
     /**
      * Constructs a new {@code FoundationDbHealthIndicator} instance.
      *
@@ -57,8 +70,28 @@ public class FoundationDbHealthIndicator implements HealthIndicator {
      * @param jsonMapper The {@code JsonMapper}
      */
     public FoundationDbHealthIndicator(Database database, JsonMapper jsonMapper) {
+        this(NAME, database, jsonMapper, null);
+    }
+
+    /**
+     * Constructs a new {@code FoundationDbHealthIndicator} instance.
+     *
+     * @param database     The FoundationDB database
+     * @param jsonMapper   The {@code JsonMapper}
+     * @param statusPoller The status poller of the database, if enabled
+     */
+    @Inject
+    public FoundationDbHealthIndicator(Database database,
+                                       JsonMapper jsonMapper,
+                                       @Named(FoundationDbClientConfig.DEFAULT_NAME) Optional<FoundationDbStatusPoller> statusPoller) {
+        this(NAME, database, jsonMapper, statusPoller.orElse(null));
+    }
+
+    FoundationDbHealthIndicator(String name, Database database, JsonMapper jsonMapper, @Nullable FoundationDbStatusPoller statusPoller) {
+        this.name = name;
         this.database = database;
         this.jsonMapper = jsonMapper;
+        this.statusPoller = statusPoller;
     }
 
     @Override
@@ -67,6 +100,10 @@ public class FoundationDbHealthIndicator implements HealthIndicator {
     }
 
     private CompletableFuture<HealthResult> getResultFuture() {
+        FoundationDbStatusPoller.Status status = statusPoller != null ? statusPoller.getStatus() : null;
+        if (status != null) {
+            return CompletableFuture.completedFuture(buildHealthResult(statusPoller, status));
+        }
         CompletableFuture<byte[]> clientStatus = database.getClientStatus();
         return clientStatus
             .thenApply(this::deserialize)
@@ -85,10 +122,25 @@ public class FoundationDbHealthIndicator implements HealthIndicator {
 
     private HealthResult buildHealthResult(FoundationDbClientStatus clientStatus) {
         HealthStatus status = Boolean.TRUE.equals(clientStatus.getHealthy()) ? HealthStatus.UP : HealthStatus.DOWN;
-        return HealthResult.builder(NAME, status).details(clientStatus).build();
+        return HealthResult.builder(name, status).details(clientStatus).build();
+    }
+
+    private HealthResult buildHealthResult(FoundationDbStatusPoller poller, FoundationDbStatusPoller.Status status) {
+        if (status.error() != null) {
+            return buildErrorResult(status.error());
+        }
+        if (poller.isStale(status)) {
+            return HealthResult.builder(name, HealthStatus.DOWN)
+                .details(Map.of("error", "The last status was polled more than " + poller.getMaxAge() + " ago"))
+                .build();
+        }
+        FoundationDbClientStatus clientStatus = status.clientStatus();
+        boolean healthy = clientStatus != null && Boolean.TRUE.equals(clientStatus.getHealthy())
+            && (status.clusterStatus() == null || status.clusterStatus().isAvailable());
+        return HealthResult.builder(name, healthy ? HealthStatus.UP : HealthStatus.DOWN).details(clientStatus).build();
     }
 
     private HealthResult buildErrorResult(Throwable throwable) {
-        return HealthResult.builder(NAME, HealthStatus.DOWN).exception(throwable).build();
+        return HealthResult.builder(name, HealthStatus.DOWN).exception(throwable).build();
     }
 }
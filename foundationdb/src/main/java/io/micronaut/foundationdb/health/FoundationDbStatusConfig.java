@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link FoundationDbStatusPoller}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbStatusConfig.PREFIX)
+public final class FoundationDbStatusConfig {
+
+    /**
+     * The prefix to use for status polling configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".status";
+
+    /**
+     * The default value of whether the cluster status is polled.
+     */
+    public static final boolean DEFAULT_CLUSTER_STATUS = true;
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(30);
+
+    private boolean enabled;
+
+    @NonNull
+    private Duration interval = DEFAULT_INTERVAL;
+
+    @NonNull
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    @NonNull
+    private Duration maxAge = DEFAULT_MAX_AGE;
+
+    private boolean clusterStatus = DEFAULT_CLUSTER_STATUS;
+
+    /**
+     * Whether the status of the databases is polled in the background.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the status of the databases is polled in the background. Health checks
+     * are then served from the last polled status. Default value: {@code false}.
+     *
+     * @param enabled {@code true} to enable
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the delay between two polls.
+     *
+     * @return The interval
+     */
+    @NonNull
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the delay between two polls. Default value: 10 seconds.
+     *
+     * @param interval The interval
+     */
+    public void setInterval(@NonNull Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Gets the timeout of reading the cluster status.
+     *
+     * @return The timeout
+     */
+    @NonNull
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout of reading the cluster status. A poll which times out reports the database
+     * as down. Default value: 5 seconds.
+     *
+     * @param timeout The timeout
+     */
+    public void setTimeout(@NonNull Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the age after which the last polled status is stale.
+     *
+     * @return The maximum age
+     */
+    @NonNull
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Sets the age after which the last polled status is stale, and the database is reported as
+     * down. Keep it longer than the interval and the timeout together. Default value: 30 seconds.
+     *
+     * @param maxAge The maximum age
+     */
+    public void setMaxAge(@NonNull Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Whether the cluster status is polled in addition to the client status.
+     *
+     * @return {@code true} if polled
+     */
+    public boolean isClusterStatus() {
+        return clusterStatus;
+    }
+
+    /**
+     * Sets whether the cluster status, {@code \xff\xff/status/json}, is polled in addition to the
+     * client status. It is computed by the cluster controller, so every poll adds load to the
+     * cluster. Default value: {@value #DEFAULT_CLUSTER_STATUS}.
+     *
+     * @param clusterStatus {@code true} to poll the cluster status
+     */
+    public void setClusterStatus(boolean clusterStatus) {
+        this.clusterStatus = clusterStatus;
+    }
+}
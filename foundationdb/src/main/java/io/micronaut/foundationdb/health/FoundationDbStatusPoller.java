@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import io.micronaut.inject.BeanIdentifier;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the client status and the cluster status of a database in the background, so that health
+ * checks and metrics are served from the last polled status instead of querying the client on
+ * every probe. A poller is created for every {@link Database} bean, named after it.
+ *
+ * <p>A status older than {@link FoundationDbStatusConfig#getMaxAge()} is stale: polls are no longer
+ * completing, e.g. because the scheduler is starved, and the health of the database is reported
+ * as down.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Context
+@EachBean(Database.class)
+@Requires(property = FoundationDbStatusConfig.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Requires(beans = JsonMapper.class)
+public class FoundationDbStatusPoller {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbStatusPoller.class);
+
+    private static final byte[] STATUS_KEY = ByteArrayUtil.join(
+        new byte[]{(byte) 0xff, (byte) 0xff}, "/status/json".getBytes(StandardCharsets.US_ASCII));
+
+    private final String name;
+
+    private final Database database;
+
+    private final JsonMapper jsonMapper;
+
+    private final ClusterStatusMetrics metrics;
+
+    private final boolean clusterStatus;
+
+    private final long timeoutMillis;
+
+    private final Duration maxAge;
+
+    private final ScheduledFuture<?> poller;
+
+    @Nullable
+    private volatile Status status;
+
+    /**
+     * Constructs a new {@code FoundationDbStatusPoller} instance.
+     *
+     * @param config        The status polling configuration
+     * @param database      The FoundationDB database
+     * @param jsonMapper    The {@code JsonMapper}
+     * @param metrics       The cluster status metrics, if enabled
+     * @param taskScheduler The scheduler of the polls
+     * @param beanContext   The bean context, resolving the name of the database
+     */
+    public FoundationDbStatusPoller(FoundationDbStatusConfig config,
+                                    Database database,
+                                    JsonMapper jsonMapper,
+                                    Optional<ClusterStatusMetrics> metrics,
+                                    TaskScheduler taskScheduler,
+                                    BeanContext beanContext) {
+        this.name = beanContext.findBeanRegistration(database)
+            .map(BeanRegistration::getIdentifier)
+            .map(BeanIdentifier::getName)
+            .orElse(FoundationDbClientConfig.DEFAULT_NAME);
+        this.database = database;
+        this.jsonMapper = jsonMapper;
+        this.metrics = metrics.orElse(ClusterStatusMetrics.NOOP);
+        this.clusterStatus = config.isClusterStatus();
+        this.timeoutMillis = config.getTimeout().toMillis();
+        this.maxAge = config.getMaxAge();
+        this.poller = taskScheduler.scheduleWithFixedDelay(Duration.ZERO, config.getInterval(), this::poll);
+    }
+
+    /**
+     * Gets the name of the polled database.
+     *
+     * @return The database name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the last polled cluster status.
+     *
+     * @return The cluster status, empty until the first successful poll or if the cluster status is not polled
+     */
+    @NonNull
+    public Optional<FoundationDbClusterStatus> getClusterStatus() {
+        Status current = status;
+        return current == null ? Optional.empty() : Optional.ofNullable(current.clusterStatus());
+    }
+
+    /**
+     * Polls the client status and the cluster status.
+     */
+    public void poll() {
+        try {
+            FoundationDbClientStatus client = deserialize(
+                database.getClientStatus().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join(),
+                FoundationDbClientStatus.class);
+            FoundationDbClusterStatus cluster = null;
+            if (clusterStatus) {
+                byte[] json = database.readAsync(tr -> {
+                    tr.options().setTimeout(timeoutMillis);
+                    return tr.get(STATUS_KEY);
+                }).join();
+                if (json != null) {
+                    cluster = deserialize(json, FoundationDbClusterStatus.class);
+                    metrics.polled(name, cluster);
+                }
+            }
+            status = new Status(client, cluster, null, System.nanoTime());
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Failed to poll the status of the database {}", name, e);
+            metrics.pollFailed(name);
+            status = new Status(null, null, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e, System.nanoTime());
+        }
+    }
+
+    /**
+     * Stops polling.
+     */
+    @PreDestroy
+    public void close() {
+        poller.cancel(false);
+    }
+
+    @Nullable
+    Status getStatus() {
+        return status;
+    }
+
+    boolean isStale(Status status) {
+        return System.nanoTime() - status.polledAt() > maxAge.toNanos();
+    }
+
+    Duration getMaxAge() {
+        return maxAge;
+    }
+
+    private <T> T deserialize(byte[] json, Class<T> type) throws IOException {
+        return jsonMapper.readValue(json, type);
+    }
+
+    /**
+     * The outcome of a poll.
+     *
+     * @param clientStatus  The client status, {@code null} if the poll failed
+     * @param clusterStatus The cluster status, {@code null} if the poll failed or is disabled
+     * @param error         The failure of the poll
+     * @param polledAt      The {@link System#nanoTime()} at which the poll completed
+     */
+    record Status(@Nullable FoundationDbClientStatus clientStatus,
+                  @Nullable FoundationDbClusterStatus clusterStatus,
+                  @Nullable Throwable error,
+                  long polledAt) {
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.foundationdb.FoundationDbWarmup;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Readiness indicator which stays down until the {@link FoundationDbWarmup} has completed.
+ *
+ * @author Nikolai Papakha
+ */
+@Readiness
+@Requires(beans = HealthEndpoint.class)
+@Requires(beans = FoundationDbWarmup.class)
+@Requires(property = HealthEndpoint.PREFIX + ".foundationdb.enabled", notEquals = StringUtils.FALSE)
+@Singleton
+public class FoundationDbWarmupIndicator implements HealthIndicator {
+
+    static final String NAME = "foundationdb-warmup";
+
+    private final FoundationDbWarmup warmup;
+
+    /**
+     * Constructs a new {@code FoundationDbWarmupIndicator} instance.
+     *
+     * @param warmup The warm-up of the primary database
+     */
+    public FoundationDbWarmupIndicator(FoundationDbWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        Duration duration = warmup.getDuration();
+        if (duration != null) {
+            return Publishers.just(HealthResult.builder(NAME, HealthStatus.UP)
+                .details(Map.of("duration", duration.toMillis() + "ms", "locations", warmup.getLocations()))
+                .build());
+        }
+        HealthResult.Builder result = HealthResult.builder(NAME, HealthStatus.DOWN);
+        Throwable error = warmup.getLastError();
+        return Publishers.just(error != null ? result.exception(error).build() : result.details(Map.of("status", "warming up")).build());
+    }
+}
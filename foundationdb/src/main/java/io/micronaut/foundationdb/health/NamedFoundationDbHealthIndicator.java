@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.health;
+
+import com.apple.foundationdb.Database;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.foundationdb.FoundationDbDatabaseConfig;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import org.reactivestreams.Publisher;
+
+/**
+ * Health indicator for each named FoundationDB database, reported as {@code foundationdb-<name>}.
+ *
+ * @author Nikolai Papakha
+ */
+@Requires(beans = HealthEndpoint.class)
+@Requires(property = HealthEndpoint.PREFIX + ".foundationdb.enabled", notEquals = StringUtils.FALSE)
+@EachBean(FoundationDbDatabaseConfig.class)
+public class NamedFoundationDbHealthIndicator implements HealthIndicator {
+
+    private final FoundationDbHealthIndicator delegate;
+
+    /**
+     * Constructs a new {@code NamedFoundationDbHealthIndicator} instance.
+     *
+     * @param config      The configuration of the named database
+     * @param database    The named FoundationDB database
+     * @param jsonMapper  The {@code JsonMapper}
+     * @param beanLocator The bean locator, resolving the status poller of the database if enabled
+     */
+    public NamedFoundationDbHealthIndicator(FoundationDbDatabaseConfig config,
+                                            @Parameter Database database,
+                                            JsonMapper jsonMapper,
+                                            BeanLocator beanLocator) {
+        FoundationDbStatusPoller statusPoller = beanLocator
+            .findBean(FoundationDbStatusPoller.class, Qualifiers.byName(config.getName()))
+            .orElse(null);
+        this.delegate = new FoundationDbHealthIndicator(FoundationDbHealthIndicator.NAME + '-' + config.getName(), database, jsonMapper, statusPoller);
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        return delegate.getResult();
+    }
+}
@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * Provides health indicator for FoundationDB.
+ * Provides health indicator and status polling for FoundationDB.
  */
 package io.micronaut.foundationdb.health;
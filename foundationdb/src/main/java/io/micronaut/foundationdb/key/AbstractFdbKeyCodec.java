@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the generated {@link FdbKeyCodec} implementations, which compute the packed size
+ * of a key first so that it is written into a single array of the exact size.
+ *
+ * @param <K> The type of the key
+ * @author Nikolai Papakha
+ */
+@Internal
+public abstract class AbstractFdbKeyCodec<K> implements FdbKeyCodec<K> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Class<K> keyType;
+
+    /**
+     * Constructs a new codec.
+     *
+     * @param keyType The type of the key
+     */
+    protected AbstractFdbKeyCodec(Class<K> keyType) {
+        this.keyType = keyType;
+    }
+
+    @Override
+    @NonNull
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    @Override
+    @NonNull
+    public byte[] pack(@NonNull K key) {
+        return pack(EMPTY, key);
+    }
+
+    @Override
+    @NonNull
+    public byte[] pack(@NonNull byte[] prefix, @NonNull K key) {
+        byte[] packed = new byte[prefix.length + packedSize(key)];
+        System.arraycopy(prefix, 0, packed, 0, prefix.length);
+        write(key, packed, prefix.length);
+        return packed;
+    }
+
+    @Override
+    @NonNull
+    public K unpack(@NonNull byte[] key) {
+        return unpack(EMPTY, key);
+    }
+
+    @Override
+    @NonNull
+    public K unpack(@NonNull byte[] prefix, @NonNull byte[] key) {
+        if (!ByteArrayUtil.startsWith(key, prefix)) {
+            throw new IllegalArgumentException("Key does not start with the prefix " + ByteArrayUtil.printable(prefix));
+        }
+        TupleDecoder decoder = new TupleDecoder(key, prefix.length);
+        K result = read(decoder);
+        if (decoder.hasRemaining()) {
+            throw new IllegalArgumentException("Key has more elements than " + keyType.getSimpleName());
+        }
+        return result;
+    }
+
+    /**
+     * Computes the packed size of a key.
+     *
+     * @param key The key
+     * @return The size in bytes
+     */
+    protected abstract int packedSize(K key);
+
+    /**
+     * Writes a key.
+     *
+     * @param key    The key
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @return The position after the key
+     */
+    protected abstract int write(K key, byte[] target, int offset);
+
+    /**
+     * Reads a key.
+     *
+     * @param decoder The decoder positioned at the key
+     * @return The key
+     */
+    protected abstract K read(TupleDecoder decoder);
+
+    /**
+     * Allocates an array for a prefix range, holding the raw prefix followed by the packed elements
+     * and one spare byte.
+     *
+     * @param prefix      The raw prefix
+     * @param elementSize The size of the packed elements
+     * @return The array
+     */
+    protected static byte[] allocateRange(byte[] prefix, int elementSize) {
+        byte[] begin = new byte[prefix.length + elementSize + 1];
+        System.arraycopy(prefix, 0, begin, 0, prefix.length);
+        return begin;
+    }
+
+    /**
+     * Completes the range of all keys starting with the given packed elements, like
+     * {@link com.apple.foundationdb.tuple.Tuple#range()}.
+     *
+     * @param begin The array from {@link #allocateRange(byte[], int)} with the elements written
+     * @return The range
+     */
+    protected static Range prefixRange(byte[] begin) {
+        byte[] end = Arrays.copyOf(begin, begin.length);
+        begin[begin.length - 1] = 0x00;
+        end[end.length - 1] = (byte) 0xff;
+        return new Range(begin, end);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record whose components form a tuple-encoded FoundationDB key. The
+ * {@code micronaut-foundationdb-processor} generates a {@link FdbKeyCodec} named
+ * {@code <Record>KeyCodec} in the package of the record, which packs keys compatibly with
+ * {@link com.apple.foundationdb.tuple.Tuple#pack()}.
+ *
+ * <p>Components are encoded in declaration order and may be of type {@code String},
+ * {@code byte[]}, {@code long}, {@code int}, {@code short}, {@code boolean}, {@code double},
+ * {@code float}, their boxed types, {@code UUID} or an enum, which is encoded by name.
+ * {@code null} components are encoded as the tuple null element.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FdbKey {
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import com.apple.foundationdb.subspace.Subspace;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Packs and unpacks keys of type {@code K} as FoundationDB tuples. Implementations are generated
+ * for records annotated with {@link FdbKey}.
+ *
+ * @param <K> The type of the key
+ * @author Nikolai Papakha
+ */
+public interface FdbKeyCodec<K> {
+
+    /**
+     * Gets the type of the key.
+     *
+     * @return The key type
+     */
+    @NonNull
+    Class<K> getKeyType();
+
+    /**
+     * Packs a key.
+     *
+     * @param key The key
+     * @return The packed key
+     */
+    @NonNull
+    byte[] pack(@NonNull K key);
+
+    /**
+     * Packs a key behind a raw prefix, e.g. the key of a subspace obtained once.
+     *
+     * @param prefix The raw prefix
+     * @param key    The key
+     * @return The packed key
+     */
+    @NonNull
+    byte[] pack(@NonNull byte[] prefix, @NonNull K key);
+
+    /**
+     * Packs a key in a subspace, like {@link Subspace#pack(com.apple.foundationdb.tuple.Tuple)}.
+     *
+     * @param subspace The subspace
+     * @param key      The key
+     * @return The packed key
+     */
+    @NonNull
+    default byte[] pack(@NonNull Subspace subspace, @NonNull K key) {
+        return pack(subspace.getKey(), key);
+    }
+
+    /**
+     * Unpacks a key.
+     *
+     * @param key The packed key
+     * @return The key
+     * @throws IllegalArgumentException if the key is not a tuple of the expected elements
+     */
+    @NonNull
+    K unpack(@NonNull byte[] key);
+
+    /**
+     * Unpacks a key behind a raw prefix.
+     *
+     * @param prefix The raw prefix
+     * @param key    The packed key
+     * @return The key
+     * @throws IllegalArgumentException if the key does not start with the prefix or is not a tuple of the expected elements
+     */
+    @NonNull
+    K unpack(@NonNull byte[] prefix, @NonNull byte[] key);
+
+    /**
+     * Unpacks a key in a subspace, like {@link Subspace#unpack(byte[])}.
+     *
+     * @param subspace The subspace
+     * @param key      The packed key
+     * @return The key
+     * @throws IllegalArgumentException if the key is not in the subspace or is not a tuple of the expected elements
+     */
+    @NonNull
+    default K unpack(@NonNull Subspace subspace, @NonNull byte[] key) {
+        return unpack(subspace.getKey(), key);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static io.micronaut.foundationdb.key.TupleEncoder.BYTES_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.DOUBLE_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.ESCAPE;
+import static io.micronaut.foundationdb.key.TupleEncoder.FALSE_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.FLOAT_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.INT_ZERO_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.NULL_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.STRING_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.TRUE_CODE;
+import static io.micronaut.foundationdb.key.TupleEncoder.UUID_CODE;
+
+/**
+ * Reads the elements of a packed tuple in order, expecting the type of each element.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public final class TupleDecoder {
+
+    private final byte[] bytes;
+
+    private int position;
+
+    /**
+     * Constructs a new decoder.
+     *
+     * @param bytes  The packed tuple
+     * @param offset The position of the first element
+     */
+    public TupleDecoder(byte[] bytes, int offset) {
+        this.bytes = bytes;
+        this.position = offset;
+    }
+
+    /**
+     * Whether there are elements left.
+     *
+     * @return {@code true} if not all elements have been read
+     */
+    public boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    /**
+     * Reads the null element, if it is next.
+     *
+     * @return {@code true} if the null element was read
+     */
+    public boolean readNull() {
+        if (hasRemaining() && bytes[position] == NULL_CODE) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads a byte string.
+     *
+     * @return The value
+     */
+    public byte[] readBytes() {
+        expect(BYTES_CODE, "byte string");
+        return readEscaped();
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return The value
+     */
+    public String readString() {
+        expect(STRING_CODE, "string");
+        int start = position;
+        int end = terminator(start);
+        if (end >= 0) {
+            position = end + 1;
+            return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+        return new String(readEscaped(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads an integer.
+     *
+     * @return The value
+     */
+    public long readLong() {
+        int code = next("integer");
+        int length = code - INT_ZERO_CODE;
+        if (length < -8 || length > 8) {
+            throw mismatch("integer of at most 8 bytes", code);
+        }
+        int size = Math.abs(length);
+        require(size);
+        long bits = 0;
+        for (int i = 0; i < size; i++) {
+            bits = (bits << 8) | (bytes[position++] & 0xff);
+        }
+        if (length > 0) {
+            if (bits < 0) {
+                throw new IllegalArgumentException("Integer exceeds the range of long");
+            }
+            return bits;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        // negative integers are the one's complement of their magnitude
+        long mask = size == 8 ? -1L : (1L << (8 * size)) - 1;
+        long value = bits - mask;
+        if (value >= 0 && size == 8) {
+            throw new IllegalArgumentException("Integer exceeds the range of long");
+        }
+        return value;
+    }
+
+    /**
+     * Reads an integer which fits in an {@code int}.
+     *
+     * @return The value
+     */
+    public int readInt() {
+        return Math.toIntExact(readLong());
+    }
+
+    /**
+     * Reads an integer which fits in a {@code short}.
+     *
+     * @return The value
+     */
+    public short readShort() {
+        long value = readLong();
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Integer exceeds the range of short: " + value);
+        }
+        return (short) value;
+    }
+
+    /**
+     * Reads a boolean.
+     *
+     * @return The value
+     */
+    public boolean readBoolean() {
+        int code = next("boolean");
+        if (code == TRUE_CODE) {
+            return true;
+        }
+        if (code == FALSE_CODE) {
+            return false;
+        }
+        throw mismatch("boolean", code);
+    }
+
+    /**
+     * Reads a float.
+     *
+     * @return The value
+     */
+    public float readFloat() {
+        expect(FLOAT_CODE, "float");
+        require(4);
+        int bits = 0;
+        for (int i = 0; i < 4; i++) {
+            bits = (bits << 8) | (bytes[position++] & 0xff);
+        }
+        return Float.intBitsToFloat(bits < 0 ? bits ^ Integer.MIN_VALUE : ~bits);
+    }
+
+    /**
+     * Reads a double.
+     *
+     * @return The value
+     */
+    public double readDouble() {
+        expect(DOUBLE_CODE, "double");
+        long bits = readFixed64();
+        return Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+    }
+
+    /**
+     * Reads a UUID.
+     *
+     * @return The value
+     */
+    public UUID readUuid() {
+        expect(UUID_CODE, "UUID");
+        require(16);
+        return new UUID(readFixed64(), readFixed64());
+    }
+
+    private long readFixed64() {
+        require(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (bytes[position++] & 0xff);
+        }
+        return bits;
+    }
+
+    /**
+     * Finds the terminator of an element without escaped bytes.
+     *
+     * @return The position of the terminator, or -1 if the element contains escaped bytes
+     */
+    private int terminator(int start) {
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] == 0x00) {
+                return i + 1 < bytes.length && bytes[i + 1] == ESCAPE ? -1 : i;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated element at position " + start);
+    }
+
+    private byte[] readEscaped() {
+        byte[] value = new byte[bytes.length - position];
+        int length = 0;
+        while (position < bytes.length) {
+            byte b = bytes[position++];
+            if (b == 0x00) {
+                if (position < bytes.length && bytes[position] == ESCAPE) {
+                    position++;
+                } else {
+                    return Arrays.copyOf(value, length);
+                }
+            }
+            value[length++] = b;
+        }
+        throw new IllegalArgumentException("Unterminated element");
+    }
+
+    private void expect(byte code, String type) {
+        int actual = next(type);
+        if (actual != code) {
+            throw mismatch(type, actual);
+        }
+    }
+
+    private int next(String type) {
+        if (!hasRemaining()) {
+            throw new IllegalArgumentException("Expected " + type + " but the key has no more elements");
+        }
+        return bytes[position++];
+    }
+
+    private void require(int size) {
+        if (position + size > bytes.length) {
+            throw new IllegalArgumentException("Truncated element at position " + position);
+        }
+    }
+
+    private IllegalArgumentException mismatch(String type, int code) {
+        return new IllegalArgumentException("Expected " + type + " but found type code 0x" + Integer.toHexString(code & 0xff));
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.key;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.UUID;
+
+/**
+ * Writes tuple elements into pre-sized arrays, producing the same bytes as
+ * {@link com.apple.foundationdb.tuple.Tuple#pack()}. Each {@code write} method returns the position
+ * after the written element, and each {@code sizeOf} method the number of bytes it writes.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public final class TupleEncoder {
+
+    static final byte NULL_CODE = 0x00;
+    static final byte BYTES_CODE = 0x01;
+    static final byte STRING_CODE = 0x02;
+    static final byte INT_ZERO_CODE = 0x14;
+    static final byte FLOAT_CODE = 0x20;
+    static final byte DOUBLE_CODE = 0x21;
+    static final byte FALSE_CODE = 0x26;
+    static final byte TRUE_CODE = 0x27;
+    static final byte UUID_CODE = 0x30;
+    static final byte ESCAPE = (byte) 0xff;
+
+    /**
+     * The size of the null element.
+     */
+    public static final int NULL_SIZE = 1;
+
+    private TupleEncoder() {
+    }
+
+    /**
+     * Writes the null element.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @return The position after the element
+     */
+    public static int writeNull(byte[] target, int offset) {
+        target[offset] = NULL_CODE;
+        return offset + 1;
+    }
+
+    /**
+     * Computes the size of a byte string.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfBytes(byte[] value) {
+        int size = value.length + 2;
+        for (byte b : value) {
+            if (b == 0x00) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a byte string.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeBytes(byte[] target, int offset, byte[] value) {
+        int position = offset;
+        target[position++] = BYTES_CODE;
+        for (byte b : value) {
+            target[position++] = b;
+            if (b == 0x00) {
+                target[position++] = ESCAPE;
+            }
+        }
+        target[position++] = NULL_CODE;
+        return position;
+    }
+
+    /**
+     * Computes the size of a string, encoded as UTF-8.
+     *
+     * @param value The value
+     * @return The size in bytes
+     * @throws IllegalArgumentException if the string has unpaired surrogates
+     */
+    public static int sizeOfString(String value) {
+        int size = 2;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == 0) {
+                size += 2;
+            } else if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                throw new IllegalArgumentException("Malformed UTF-16 string, unpaired surrogate at index " + i);
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a string, encoded as UTF-8.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeString(byte[] target, int offset, String value) {
+        int position = offset;
+        target[position++] = STRING_CODE;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == 0) {
+                target[position++] = 0x00;
+                target[position++] = ESCAPE;
+            } else if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xc0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c)) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target[position++] = (byte) (0xf0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else {
+                target[position++] = (byte) (0xe0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                target[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        target[position++] = NULL_CODE;
+        return position;
+    }
+
+    /**
+     * Computes the size of an integer.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfLong(long value) {
+        return 1 + byteLength(value);
+    }
+
+    /**
+     * Writes an integer with the minimal number of bytes.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeLong(byte[] target, int offset, long value) {
+        int length = byteLength(value);
+        // negative integers are stored as the one's complement of their magnitude, which are the low bytes of value - 1
+        long bits = value < 0 ? value - 1 : value;
+        target[offset] = (byte) (value < 0 ? INT_ZERO_CODE - length : INT_ZERO_CODE + length);
+        for (int i = 0; i < length; i++) {
+            target[offset + length - i] = (byte) (bits >>> (8 * i));
+        }
+        return offset + 1 + length;
+    }
+
+    /**
+     * Computes the size of a boolean.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfBoolean(boolean value) {
+        return 1;
+    }
+
+    /**
+     * Writes a boolean.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeBoolean(byte[] target, int offset, boolean value) {
+        target[offset] = value ? TRUE_CODE : FALSE_CODE;
+        return offset + 1;
+    }
+
+    /**
+     * Computes the size of a float.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfFloat(float value) {
+        return 5;
+    }
+
+    /**
+     * Writes a float, whose bits are adjusted to sort in numeric order.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeFloat(byte[] target, int offset, float value) {
+        int bits = Float.floatToRawIntBits(value);
+        bits = bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE;
+        target[offset] = FLOAT_CODE;
+        for (int i = 0; i < 4; i++) {
+            target[offset + 4 - i] = (byte) (bits >>> (8 * i));
+        }
+        return offset + 5;
+    }
+
+    /**
+     * Computes the size of a double.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfDouble(double value) {
+        return 9;
+    }
+
+    /**
+     * Writes a double, whose bits are adjusted to sort in numeric order.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeDouble(byte[] target, int offset, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        bits = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        target[offset] = DOUBLE_CODE;
+        for (int i = 0; i < 8; i++) {
+            target[offset + 8 - i] = (byte) (bits >>> (8 * i));
+        }
+        return offset + 9;
+    }
+
+    /**
+     * Computes the size of a UUID.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    public static int sizeOfUuid(UUID value) {
+        return 17;
+    }
+
+    /**
+     * Writes a UUID.
+     *
+     * @param target The array to write to
+     * @param offset The position to write at
+     * @param value  The value
+     * @return The position after the element
+     */
+    public static int writeUuid(byte[] target, int offset, UUID value) {
+        target[offset] = UUID_CODE;
+        long most = value.getMostSignificantBits();
+        long least = value.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            target[offset + 8 - i] = (byte) (most >>> (8 * i));
+            target[offset + 16 - i] = (byte) (least >>> (8 * i));
+        }
+        return offset + 17;
+    }
+
+    private static int byteLength(long value) {
+        if (value == 0) {
+            return 0;
+        }
+        // the magnitude of Long.MIN_VALUE overflows to itself, which still needs 8 bytes
+        long magnitude = value < 0 ? -value : value;
+        return (Long.SIZE - Long.numberOfLeadingZeros(magnitude) + 7) / 8;
+    }
+}
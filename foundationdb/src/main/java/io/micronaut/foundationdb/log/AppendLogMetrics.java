@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.log;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Records metrics of the {@link FoundationDbAppendLog}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface AppendLogMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    AppendLogMetrics NOOP = new AppendLogMetrics() {
+    };
+
+    /**
+     * Records entries appended by a committed transaction.
+     *
+     * @param log     The name of the log
+     * @param entries The number of entries
+     */
+    default void appended(String log, int entries) {
+    }
+
+    /**
+     * Records a batch handled by a consumer.
+     *
+     * @param log      The name of the log
+     * @param consumer The name of the consumer
+     * @param entries  The number of entries
+     */
+    default void consumed(String log, String consumer, int entries) {
+    }
+
+    /**
+     * Records a new subscription.
+     *
+     * @param log       The name of the log
+     * @param consumer  The name of the consumer
+     * @param lagMillis The approximate lag of the consumer behind the head of the log
+     */
+    default void subscribed(String log, String consumer, LongSupplier lagMillis) {
+    }
+
+    /**
+     * Records a closed subscription.
+     *
+     * @param log      The name of the log
+     * @param consumer The name of the consumer
+     */
+    default void unsubscribed(String log, String consumer) {
+    }
+}
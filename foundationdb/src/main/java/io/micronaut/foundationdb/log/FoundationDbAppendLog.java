@@ -0,0 +1,382 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.log;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.KeySelector;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import com.apple.foundationdb.tuple.Versionstamp;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.VersionstampedWrites;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * A totally ordered log stored in FoundationDB, such as the outbox of an application.
+ *
+ * <p>Entries are written under versionstamped keys, so appends never conflict with each other
+ * and are ordered by the commit version of their transaction. Consumers tail the log through a
+ * {@link LogSubscription}, which waits on a watch of the head of the log while it is caught up,
+ * and stores its cursor in the database. Entries older than the configured retention are
+ * cleared in bounded range clears.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@EachBean(FoundationDbAppendLogConfig.class)
+public class FoundationDbAppendLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbAppendLog.class);
+
+    private final String name;
+
+    private final Database database;
+
+    private final Subspace entries;
+
+    private final Subspace cursors;
+
+    private final byte[] headKey;
+
+    private final int batchSize;
+
+    private final int trimBatchSize;
+
+    @Nullable
+    private final Duration retention;
+
+    private final Duration retryDelay;
+
+    private final TaskScheduler taskScheduler;
+
+    private final AppendLogMetrics metrics;
+
+    private final VersionstampedWrites versionstamps = new VersionstampedWrites();
+
+    private final List<LogSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Nullable
+    private final ScheduledFuture<?> trimmer;
+
+    /**
+     * Constructs a new {@code FoundationDbAppendLog} instance.
+     *
+     * @param config        The log configuration
+     * @param database      The FoundationDB database
+     * @param taskScheduler The scheduler of the trimming and the retries
+     * @param metrics       The append log metrics, if any
+     */
+    public FoundationDbAppendLog(FoundationDbAppendLogConfig config,
+                                 Database database,
+                                 TaskScheduler taskScheduler,
+                                 Optional<AppendLogMetrics> metrics) {
+        this.name = config.getName();
+        this.database = database;
+        Subspace subspace = new Subspace(config.getSubspace() != null ? Tuple.from(config.getSubspace()) : Tuple.from("log", config.getName()));
+        this.entries = subspace.get("e");
+        this.cursors = subspace.get("c");
+        this.headKey = subspace.pack("h");
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.trimBatchSize = Math.max(1, config.getTrimBatchSize());
+        this.retention = config.getRetention();
+        this.retryDelay = config.getRetryDelay();
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics.orElse(AppendLogMetrics.NOOP);
+        this.trimmer = retention == null ? null
+            : taskScheduler.scheduleWithFixedDelay(config.getTrimInterval(), config.getTrimInterval(), this::trim);
+    }
+
+    /**
+     * Gets the name of the log.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Appends an entry in its own transaction.
+     *
+     * @param value The value of the entry
+     * @return A future of the versionstamp of the entry, completed once committed
+     */
+    @NonNull
+    public CompletableFuture<Versionstamp> append(@NonNull byte[] value) {
+        int[] userVersion = new int[1];
+        return database.runAsync(tr -> {
+            userVersion[0] = add(tr, value);
+            return CompletableFuture.completedFuture(tr.getVersionstamp());
+        }).thenCompose(Function.identity()).thenApply(version -> {
+            metrics.appended(name, 1);
+            return Versionstamp.complete(version, userVersion[0]);
+        });
+    }
+
+    /**
+     * Appends an entry in the given transaction, typically the one writing the change the entry
+     * describes. The entry becomes visible when the transaction commits, and its versionstamp is
+     * given by {@link Transaction#getVersionstamp()}. At most 65536 entries can be appended by a
+     * transaction.
+     *
+     * @param tr    The transaction
+     * @param value The value of the entry
+     * @throws IllegalStateException if the transaction has already appended 65536 entries
+     */
+    public void append(@NonNull Transaction tr, @NonNull byte[] value) {
+        add(tr, value);
+        countOnCommit(tr, 1);
+    }
+
+    /**
+     * Appends entries in the given transaction, in the order of the list. No entry is appended if
+     * they do not all fit in the 65536 entries a transaction can append.
+     *
+     * @param tr     The transaction
+     * @param values The values of the entries
+     * @throws IllegalStateException if the entries do not fit in the transaction
+     */
+    public void append(@NonNull Transaction tr, @NonNull List<byte[]> values) {
+        int userVersion = versionstamps.reserve(tr, values.size());
+        for (byte[] value : values) {
+            write(tr, userVersion++, value);
+        }
+        countOnCommit(tr, values.size());
+    }
+
+    /**
+     * Reads the entries following a versionstamp.
+     *
+     * @param tr    The transaction
+     * @param after The versionstamp of the last entry already read, {@code null} to read from the start
+     * @param limit The maximum number of entries
+     * @return A future of the entries
+     */
+    @NonNull
+    public CompletableFuture<List<LogEntry>> read(@NonNull ReadTransaction tr, @Nullable Versionstamp after, int limit) {
+        return tr.getRange(begin(after), entries.range().end, limit).asList().thenApply(this::toEntries);
+    }
+
+    /**
+     * Gets the cursor of a consumer.
+     *
+     * @param consumer The name of the consumer
+     * @return A future of the versionstamp of the last entry handled by the consumer
+     */
+    @NonNull
+    public CompletableFuture<Optional<Versionstamp>> cursor(@NonNull String consumer) {
+        return database.readAsync(tr -> tr.get(cursors.pack(consumer)))
+            .thenApply(cursor -> Optional.ofNullable(cursor).map(Versionstamp::fromBytes));
+    }
+
+    /**
+     * Moves the cursor of a consumer, which resumes after the given entry.
+     *
+     * @param consumer     The name of the consumer
+     * @param versionstamp The versionstamp of the last entry handled, {@code null} to start over
+     * @return A future completed once the cursor is stored
+     */
+    @NonNull
+    public CompletableFuture<Void> seek(@NonNull String consumer, @Nullable Versionstamp versionstamp) {
+        byte[] cursorKey = cursors.pack(consumer);
+        return database.runAsync(tr -> {
+            if (versionstamp == null) {
+                tr.clear(cursorKey);
+            } else {
+                tr.set(cursorKey, versionstamp.getBytes());
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Subscribes a consumer, which receives the entries following its cursor in batches. The
+     * cursor is stored once the future returned by the handler completes, so a batch is delivered
+     * again after a failure. A consumer name must only be subscribed once at a time.
+     *
+     * @param consumer The name of the consumer
+     * @param handler  The handler of the batches
+     * @return The subscription
+     */
+    @NonNull
+    public LogSubscription subscribe(@NonNull String consumer,
+                                     @NonNull Function<List<LogEntry>, ? extends CompletionStage<?>> handler) {
+        LogSubscription subscription = new LogSubscription(this, consumer, handler);
+        subscriptions.add(subscription);
+        metrics.subscribed(name, consumer, subscription::getLagMillis);
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Clears the entries older than the retention, in transactions clearing at most
+     * {@code trim-batch-size} entries each.
+     */
+    public void trim() {
+        if (retention == null) {
+            return;
+        }
+        try {
+            boolean more;
+            do {
+                more = database.run(tr -> trim(tr, retention).join());
+            } while (more);
+        } catch (FDBException | CompletionException e) {
+            LOG.warn("Failed to trim log {}", name, e);
+        }
+    }
+
+    /**
+     * Closes the subscriptions and stops trimming.
+     */
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(LogSubscription::close);
+        if (trimmer != null) {
+            trimmer.cancel(false);
+        }
+    }
+
+    /**
+     * Reads the next batch of a consumer, watching the head of the log when there is none.
+     */
+    CompletableFuture<Poll> poll(String consumer) {
+        return database.runAsync(tr -> tr.get(cursors.pack(consumer)).thenCompose(cursor -> {
+            Versionstamp after = cursor == null ? null : Versionstamp.fromBytes(cursor);
+            CompletableFuture<byte[]> head = tr.snapshot().get(headKey);
+            return read(tr, after, batchSize).thenCombine(head, (batch, version) -> batch.isEmpty()
+                ? new Poll(batch, 0, tr.watch(headKey))
+                : new Poll(batch, lagMillis(version, batch.get(0).versionstamp()), null));
+        }));
+    }
+
+    CompletableFuture<Void> commit(String consumer, List<LogEntry> batch) {
+        return seek(consumer, batch.get(batch.size() - 1).versionstamp())
+            .thenRun(() -> metrics.consumed(name, consumer, batch.size()));
+    }
+
+    void unsubscribed(LogSubscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            metrics.unsubscribed(name, subscription.getConsumer());
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    Duration retryDelay() {
+        return retryDelay;
+    }
+
+    TaskScheduler taskScheduler() {
+        return taskScheduler;
+    }
+
+    private int add(Transaction tr, byte[] value) {
+        int userVersion = versionstamps.reserve(tr, 1);
+        write(tr, userVersion, value);
+        return userVersion;
+    }
+
+    private void write(Transaction tr, int userVersion, byte[] value) {
+        tr.mutate(MutationType.SET_VERSIONSTAMPED_KEY, entries.packWithVersionstamp(Tuple.from(Versionstamp.incomplete(userVersion))), value);
+        VersionstampedWrites.setVersionstamp(tr, headKey);
+    }
+
+    /**
+     * Counts entries appended in a transaction of the caller once it commits. The versionstamp
+     * future fails if the transaction is reset by a retry, cancelled or closed without committing.
+     */
+    private void countOnCommit(Transaction tr, int entries) {
+        if (metrics != AppendLogMetrics.NOOP) {
+            tr.getVersionstamp().thenRun(() -> metrics.appended(name, entries));
+        }
+    }
+
+    /**
+     * Clears up to {@code trim-batch-size} entries committed before the retention. The boundary is
+     * located with a snapshot key selector, so trimming does not conflict with appends.
+     */
+    private CompletableFuture<Boolean> trim(Transaction tr, Duration retention) {
+        return tr.getReadVersion().thenCompose(readVersion -> {
+            long cutoff = readVersion - retention.toNanos() / 1000;
+            if (cutoff <= 0) {
+                return CompletableFuture.completedFuture(false);
+            }
+            byte[] begin = entries.range().begin;
+            byte[] end = entries.pack(Tuple.from(Versionstamp.complete(ByteBuffer.allocate(10).putLong(cutoff).putShort((short) 0).array())));
+            return tr.snapshot().getKey(KeySelector.firstGreaterOrEqual(begin).add(trimBatchSize)).thenApply(boundary -> {
+                boolean more = ByteArrayUtil.compareUnsigned(boundary, end) < 0;
+                tr.clear(begin, more ? boundary : end);
+                return more;
+            });
+        });
+    }
+
+    private byte[] begin(@Nullable Versionstamp after) {
+        return after == null ? entries.range().begin : ByteArrayUtil.join(entries.pack(Tuple.from(after)), new byte[]{0});
+    }
+
+    private List<LogEntry> toEntries(List<KeyValue> keyValues) {
+        List<LogEntry> batch = new ArrayList<>(keyValues.size());
+        for (KeyValue kv : keyValues) {
+            batch.add(new LogEntry(entries.unpack(kv.getKey()).getVersionstamp(0), kv.getValue()));
+        }
+        return batch;
+    }
+
+    /**
+     * Approximates the lag from the commit versions, which advance by about one million per second.
+     */
+    private static long lagMillis(@Nullable byte[] head, Versionstamp oldest) {
+        if (head == null || head.length < Long.BYTES) {
+            return 0;
+        }
+        long headVersion = ByteBuffer.wrap(head).getLong();
+        long oldestVersion = ByteBuffer.wrap(oldest.getTransactionVersion()).getLong();
+        return Math.max(0, (headVersion - oldestVersion) / 1000);
+    }
+
+    /**
+     * The next batch of a consumer, or the watch of the head if the consumer is caught up.
+     */
+    record Poll(List<LogEntry> entries, long lagMillis, @Nullable CompletableFuture<Void> watch) {
+    }
+}
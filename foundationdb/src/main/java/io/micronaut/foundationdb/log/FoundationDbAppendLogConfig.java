@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.log;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of an append log stored in FoundationDB, one for each name configured under
+ * {@code foundationdb.logs}.
+ *
+ * @author Nikolai Papakha
+ */
+@EachProperty(FoundationDbAppendLogConfig.PREFIX)
+public final class FoundationDbAppendLogConfig {
+
+    /**
+     * The prefix to use for append log configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".logs";
+
+    /**
+     * The default maximum number of entries delivered to a consumer at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The default maximum number of entries cleared per transaction by the retention.
+     */
+    public static final int DEFAULT_TRIM_BATCH_SIZE = 1000;
+
+    private final String name;
+
+    @Nullable
+    private String subspace;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @Nullable
+    private Duration retention;
+
+    @NonNull
+    private Duration trimInterval = Duration.ofMinutes(1);
+
+    private int trimBatchSize = DEFAULT_TRIM_BATCH_SIZE;
+
+    @NonNull
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * Constructs a new {@code FoundationDbAppendLogConfig} instance.
+     *
+     * @param name The name of the log
+     */
+    public FoundationDbAppendLogConfig(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the log.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the name of the subspace the log is stored in.
+     *
+     * @return The subspace name
+     */
+    @Nullable
+    public String getSubspace() {
+        return subspace;
+    }
+
+    /**
+     * Sets the name of the subspace the log is stored in, used as a single element tuple prefix.
+     * Defaults to the {@code ("log", <name>)} tuple prefix.
+     *
+     * @param subspace The subspace name
+     */
+    public void setSubspace(@Nullable String subspace) {
+        this.subspace = subspace;
+    }
+
+    /**
+     * Gets the maximum number of entries delivered to a consumer at once.
+     *
+     * @return The batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of entries delivered to a consumer at once. Default value: {@value #DEFAULT_BATCH_SIZE}.
+     *
+     * @param batchSize The batch size
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the time entries are kept for.
+     *
+     * @return The retention
+     */
+    @Nullable
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * Sets the time entries are kept for, measured in database versions which advance by about
+     * one million per second. Entries are kept until they are trimmed explicitly by default.
+     *
+     * @param retention The retention
+     */
+    public void setRetention(@Nullable Duration retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * Gets the interval at which entries older than the retention are cleared.
+     *
+     * @return The trim interval
+     */
+    @NonNull
+    public Duration getTrimInterval() {
+        return trimInterval;
+    }
+
+    /**
+     * Sets the interval at which entries older than the retention are cleared. Default value: 1 minute.
+     *
+     * @param trimInterval The trim interval
+     */
+    public void setTrimInterval(@NonNull Duration trimInterval) {
+        this.trimInterval = trimInterval;
+    }
+
+    /**
+     * Gets the maximum number of entries cleared per transaction.
+     *
+     * @return The trim batch size
+     */
+    public int getTrimBatchSize() {
+        return trimBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of entries cleared per transaction. Default value: {@value #DEFAULT_TRIM_BATCH_SIZE}.
+     *
+     * @param trimBatchSize The trim batch size
+     */
+    public void setTrimBatchSize(int trimBatchSize) {
+        this.trimBatchSize = trimBatchSize;
+    }
+
+    /**
+     * Gets the delay before a failed batch is delivered again.
+     *
+     * @return The retry delay
+     */
+    @NonNull
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the delay before a batch whose handler failed, or whose read failed, is delivered
+     * again. Default value: 1 second.
+     *
+     * @param retryDelay The retry delay
+     */
+    public void setRetryDelay(@NonNull Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.log;
+
+import com.apple.foundationdb.tuple.Versionstamp;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * An entry of a {@link FoundationDbAppendLog}.
+ *
+ * @param versionstamp The versionstamp of the entry, which orders the log
+ * @param value        The value of the entry
+ * @author Nikolai Papakha
+ */
+public record LogEntry(@NonNull Versionstamp versionstamp, @NonNull byte[] value) {
+}
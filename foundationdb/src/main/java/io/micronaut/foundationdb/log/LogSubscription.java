@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.log;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * A consumer tailing a {@link FoundationDbAppendLog}. The entries following the cursor of the
+ * consumer are delivered in batches, one at a time. Once caught up, the subscription waits for a
+ * watch on the head of the log instead of polling.
+ *
+ * @author Nikolai Papakha
+ */
+public final class LogSubscription implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogSubscription.class);
+
+    private final FoundationDbAppendLog log;
+
+    private final String consumer;
+
+    private final Function<List<LogEntry>, ? extends CompletionStage<?>> handler;
+
+    private volatile long lagMillis;
+
+    @Nullable
+    private volatile CompletableFuture<Void> watch;
+
+    @Nullable
+    private volatile ScheduledFuture<?> retry;
+
+    private volatile boolean closed;
+
+    LogSubscription(FoundationDbAppendLog log, String consumer, Function<List<LogEntry>, ? extends CompletionStage<?>> handler) {
+        this.log = log;
+        this.consumer = consumer;
+        this.handler = handler;
+    }
+
+    /**
+     * Gets the name of the consumer.
+     *
+     * @return The consumer
+     */
+    @NonNull
+    public String getConsumer() {
+        return consumer;
+    }
+
+    /**
+     * Gets the approximate time between the oldest entry not yet handled and the head of the log,
+     * as of the last batch read.
+     *
+     * @return The lag in milliseconds, {@code 0} if caught up
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * Whether the subscription has been closed.
+     *
+     * @return {@code true} if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops delivering batches. A batch being handled is not committed if the handler completes afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<Void> watching = watch;
+        if (watching != null) {
+            watching.cancel(false);
+        }
+        ScheduledFuture<?> scheduled = retry;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        log.unsubscribed(this);
+    }
+
+    void start() {
+        poll();
+    }
+
+    private void poll() {
+        if (closed) {
+            return;
+        }
+        log.poll(consumer).whenComplete((poll, throwable) -> {
+            if (throwable != null) {
+                retryLater(throwable);
+                return;
+            }
+            lagMillis = poll.lagMillis();
+            if (poll.watch() != null) {
+                await(poll.watch());
+            } else {
+                handle(poll.entries());
+            }
+        });
+    }
+
+    private void await(CompletableFuture<Void> head) {
+        watch = head;
+        if (closed) {
+            head.cancel(false);
+            return;
+        }
+        head.whenComplete((v, throwable) -> {
+            if (closed) {
+                return;
+            }
+            if (throwable == null) {
+                poll();
+            } else {
+                retryLater(throwable);
+            }
+        });
+    }
+
+    private void handle(List<LogEntry> batch) {
+        CompletableFuture<?> handled;
+        try {
+            handled = handler.apply(batch).toCompletableFuture();
+        } catch (RuntimeException e) {
+            handled = CompletableFuture.failedFuture(e);
+        }
+        handled.thenCompose(v -> closed ? CompletableFuture.completedFuture(null) : log.commit(consumer, batch))
+            .whenComplete((v, throwable) -> {
+                if (throwable == null) {
+                    poll();
+                } else {
+                    retryLater(throwable);
+                }
+            });
+    }
+
+    private void retryLater(Throwable throwable) {
+        if (closed) {
+            return;
+        }
+        LOG.warn("Consumer {} of log {} failed, retrying in {}", consumer, log.name(), log.retryDelay(), throwable);
+        retry = log.taskScheduler().schedule(log.retryDelay(), this::poll);
+    }
+}
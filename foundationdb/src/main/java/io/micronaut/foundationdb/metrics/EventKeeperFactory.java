@@ -18,11 +18,16 @@ package io.micronaut.foundationdb.metrics;
 import com.apple.foundationdb.EventKeeper;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.context.annotation.Factory;
-import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
 /**
- * Factory for creating {@link EventKeeper}.
+ * Factory for creating the {@link EventKeeper} of the primary database, named {@code default}. It is
+ * a secondary bean, so that an {@code EventKeeper} bean named {@code default} defined by the
+ * application takes precedence, while keepers named after other databases leave it in place. The
+ * event keepers of named databases are created by {@link MicrometerNamedEventKeepers}.
  *
  * @author Nikolai Papakha
  */
@@ -30,8 +35,9 @@ import jakarta.inject.Singleton;
 class EventKeeperFactory {
 
     @Singleton
-    @Requires(missingBeans = EventKeeper.class)
+    @Secondary
+    @Named(FoundationDbClientConfig.DEFAULT_NAME)
     EventKeeper createEventKeeper(EventMetadataProvider metadataProvider, MeterRegistry registry) {
-        return new MicrometerEventKeeper(metadataProvider, registry);
+        return new MicrometerEventKeeper(metadataProvider, registry, FoundationDbClientConfig.DEFAULT_NAME);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.inject.Singleton;
+
+/**
+ * Applies the configured percentiles and histogram to the FoundationDB timers.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class FoundationDbMeterFilter implements MeterFilter {
+
+    private static final String METER_PREFIX = EventMetadataProvider.PREFIX + '.';
+
+    private final double[] percentiles;
+
+    private final boolean histogram;
+
+    FoundationDbMeterFilter(FoundationDbMetricsConfig config) {
+        this.percentiles = config.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        this.histogram = config.isHistogram();
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (id.getType() != Meter.Type.TIMER || !id.getName().startsWith(METER_PREFIX)) {
+            return config;
+        }
+        DistributionStatisticConfig.Builder builder = DistributionStatisticConfig.builder();
+        if (percentiles.length > 0) {
+            builder.percentiles(percentiles);
+        }
+        if (histogram) {
+            builder.percentilesHistogram(true);
+        }
+        return builder.build().merge(config);
+    }
+}
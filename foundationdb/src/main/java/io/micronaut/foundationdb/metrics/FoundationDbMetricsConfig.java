@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_BINDERS;
+
+/**
+ * Configuration of the FoundationDB meters.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbMetricsConfig.PREFIX)
+@Internal
+public final class FoundationDbMetricsConfig {
+
+    /**
+     * The prefix to use for FoundationDB metrics configuration.
+     */
+    public static final String PREFIX = MICRONAUT_METRICS_BINDERS + ".foundationdb";
+
+    @NonNull
+    private List<Double> percentiles = new ArrayList<>();
+
+    private boolean histogram;
+
+    /**
+     * Gets the percentiles published by the FoundationDB timers.
+     *
+     * @return The percentiles
+     */
+    @NonNull
+    public List<Double> getPercentiles() {
+        return percentiles;
+    }
+
+    /**
+     * Sets the percentiles published by the FoundationDB timers, e.g. {@code 0.5, 0.99}. None are published by default.
+     *
+     * @param percentiles The percentiles
+     */
+    public void setPercentiles(@NonNull List<Double> percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Whether the FoundationDB timers publish a percentile histogram.
+     *
+     * @return {@code true} if a histogram is published
+     */
+    public boolean isHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Sets whether the FoundationDB timers publish a percentile histogram, which monitoring systems
+     * can aggregate across instances. Default value: {@code false}.
+     *
+     * @param histogram {@code true} to publish a histogram
+     */
+    public void setHistogram(boolean histogram) {
+        this.histogram = histogram;
+    }
+}
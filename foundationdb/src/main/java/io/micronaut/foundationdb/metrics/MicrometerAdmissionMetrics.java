@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.admission.AdmissionMetrics;
+import io.micronaut.foundationdb.admission.AdmissionPriority;
+import jakarta.inject.Singleton;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-based implementation of {@link AdmissionMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerAdmissionMetrics implements AdmissionMetrics {
+
+    private final AtomicInteger limit = new AtomicInteger();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Map<AdmissionPriority, Timer> waits = new EnumMap<>(AdmissionPriority.class);
+
+    private final Map<AdmissionPriority, Counter> rejections = new EnumMap<>(AdmissionPriority.class);
+
+    MicrometerAdmissionMetrics(MeterRegistry meterRegistry) {
+        for (AdmissionPriority priority : AdmissionPriority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            waits.put(priority, Timer.builder("foundationdb.admission.wait")
+                .description("The time transactions waited for admission")
+                .tag("priority", tag)
+                .register(meterRegistry));
+            rejections.put(priority, Counter.builder("foundationdb.admission.rejections")
+                .description("The number of transactions rejected by admission control")
+                .tag("priority", tag)
+                .register(meterRegistry));
+        }
+        Gauge.builder("foundationdb.admission.limit", limit, AtomicInteger::get)
+            .description("The in-flight transaction limit")
+            .register(meterRegistry);
+        Gauge.builder("foundationdb.admission.in.flight", inFlight, AtomicInteger::get)
+            .description("The number of admitted transactions in flight")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void admitted(AdmissionPriority priority, long waitNanos) {
+        inFlight.incrementAndGet();
+        waits.get(priority).record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void rejected(AdmissionPriority priority) {
+        rejections.get(priority).increment();
+    }
+
+    @Override
+    public void released() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public void limitChanged(int limit) {
+        this.limit.set(limit);
+    }
+}
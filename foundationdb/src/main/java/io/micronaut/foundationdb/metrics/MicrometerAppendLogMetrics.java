@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.foundationdb.log.AppendLogMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Micrometer-based implementation of {@link AppendLogMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerAppendLogMetrics implements AppendLogMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> appends = new ConcurrentHashMap<>();
+
+    private final Map<String, Gauge> lags = new ConcurrentHashMap<>();
+
+    MicrometerAppendLogMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void appended(String log, int entries) {
+        appends.computeIfAbsent(log, name -> Counter.builder("foundationdb.log.appends")
+            .description("The number of entries appended to the log")
+            .tag("log", name)
+            .register(meterRegistry)).increment(entries);
+    }
+
+    @Override
+    public void consumed(String log, String consumer, int entries) {
+        Counter.builder("foundationdb.log.consumed")
+            .description("The number of log entries handled by the consumer")
+            .tag("log", log)
+            .tag("consumer", consumer)
+            .register(meterRegistry)
+            .increment(entries);
+    }
+
+    @Override
+    public void subscribed(String log, String consumer, LongSupplier lagMillis) {
+        Gauge gauge = Gauge.builder("foundationdb.log.consumer.lag", () -> lagMillis.getAsLong())
+            .description("The approximate time between the oldest entry not yet handled by the consumer and the head of the log")
+            .baseUnit("milliseconds")
+            .tag("log", log)
+            .tag("consumer", consumer)
+            .register(meterRegistry);
+        lags.put(log + '/' + consumer, gauge);
+    }
+
+    @Override
+    public void unsubscribed(String log, String consumer) {
+        Gauge gauge = lags.remove(log + '/' + consumer);
+        if (gauge != null) {
+            meterRegistry.remove(gauge);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.batch.BatchReadMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-based implementation of {@link BatchReadMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerBatchReadMetrics implements BatchReadMetrics {
+
+    private final DistributionSummary batchSize;
+
+    private final Timer latency;
+
+    MicrometerBatchReadMetrics(MeterRegistry meterRegistry) {
+        this.batchSize = DistributionSummary.builder("foundationdb.batch.read.size")
+            .description("The number of keys read per batch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.latency = Timer.builder("foundationdb.batch.read.latency")
+            .description("The latency of batch read transactions")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void batch(int size, long nanos) {
+        batchSize.record(size);
+        latency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.bulk.BulkLoadMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-based implementation of {@link BulkLoadMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerBulkLoadMetrics implements BulkLoadMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter keys;
+
+    private final Counter bytes;
+
+    private final Counter splits;
+
+    private final Timer commits;
+
+    private final DistributionSummary batchSize;
+
+    MicrometerBulkLoadMetrics(MeterRegistry meterRegistry) {
+        this.keys = Counter.builder("foundationdb.bulk.keys")
+            .description("The number of mutations committed by bulk writers")
+            .register(meterRegistry);
+        this.bytes = Counter.builder("foundationdb.bulk.bytes")
+            .description("The approximate number of bytes committed by bulk writers")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.splits = Counter.builder("foundationdb.bulk.splits")
+            .description("The number of batches split after exceeding transaction limits")
+            .register(meterRegistry);
+        this.commits = Timer.builder("foundationdb.bulk.commit")
+            .description("The commit latency of bulk writer batches")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("foundationdb.bulk.batch.size")
+            .description("The approximate size of committed batches")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("foundationdb.bulk.commits.in.flight", inFlight, AtomicInteger::get)
+            .description("The number of bulk writer commits in flight")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void commitStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void committed(long keys, long bytes, long nanos) {
+        this.keys.increment(keys);
+        this.bytes.increment(bytes);
+        batchSize.record(bytes);
+        commits.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commitCompleted() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public void split() {
+        splits.increment();
+    }
+}
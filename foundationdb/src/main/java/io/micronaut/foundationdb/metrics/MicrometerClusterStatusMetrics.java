@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.foundationdb.health.ClusterStatusMetrics;
+import io.micronaut.foundationdb.health.FoundationDbClusterStatus;
+import io.micronaut.foundationdb.health.FoundationDbClusterStatus.Cluster;
+import io.micronaut.foundationdb.health.FoundationDbClusterStatus.Lag;
+import io.micronaut.foundationdb.health.FoundationDbClusterStatus.LatencyProbe;
+import io.micronaut.foundationdb.health.FoundationDbClusterStatus.Qos;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Micrometer-based implementation of {@link ClusterStatusMetrics}, publishing the last polled
+ * cluster status of each database as gauges tagged by {@code database}. Values missing from the
+ * status are reported as {@code NaN}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerClusterStatusMetrics implements ClusterStatusMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, DatabaseMetrics> databases = new ConcurrentHashMap<>();
+
+    MicrometerClusterStatusMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void polled(String database, FoundationDbClusterStatus status) {
+        forDatabase(database).status.set(status);
+    }
+
+    @Override
+    public void pollFailed(String database) {
+        forDatabase(database).failures.increment();
+    }
+
+    private DatabaseMetrics forDatabase(String database) {
+        return databases.computeIfAbsent(database, name -> new DatabaseMetrics(meterRegistry, name));
+    }
+
+    /**
+     * The meters of a single database.
+     */
+    private static final class DatabaseMetrics {
+
+        private final AtomicReference<FoundationDbClusterStatus> status = new AtomicReference<>();
+
+        private final Counter failures;
+
+        DatabaseMetrics(MeterRegistry meterRegistry, String database) {
+            this.failures = Counter.builder("foundationdb.cluster.status.failures")
+                .description("The number of failed status polls")
+                .tag("database", database)
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.available", this, m -> m.cluster(c -> c.getDatabaseAvailable() == null ? null : c.getDatabaseAvailable() ? 1 : 0))
+                .description("Whether the database is available")
+                .tag("database", database)
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.degraded.processes", this, m -> m.cluster(Cluster::getDegradedProcesses))
+                .description("The number of degraded processes")
+                .tag("database", database)
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.ratekeeper.limit", this, m -> m.qos(Qos::getTransactionsPerSecondLimit))
+                .description("The rate of transactions allowed by the ratekeeper")
+                .tags("database", database, "priority", "default")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.ratekeeper.limit", this, m -> m.qos(Qos::getBatchTransactionsPerSecondLimit))
+                .description("The rate of transactions allowed by the ratekeeper")
+                .tags("database", database, "priority", "batch")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.queue.bytes", this, m -> m.qos(Qos::getWorstQueueBytesStorageServer))
+                .description("The largest queue of a server")
+                .tags("database", database, "role", "storage")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.queue.bytes", this, m -> m.qos(Qos::getWorstQueueBytesLogServer))
+                .description("The largest queue of a server")
+                .tags("database", database, "role", "log")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.storage.lag", this, m -> m.qos(q -> seconds(q.getWorstDurabilityLagStorageServer())))
+                .description("The largest lag of a storage server")
+                .tags("database", database, "type", "durability")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.storage.lag", this, m -> m.qos(q -> seconds(q.getWorstDataLagStorageServer())))
+                .description("The largest lag of a storage server")
+                .tags("database", database, "type", "data")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.latency.probe", this, m -> m.latencyProbe(LatencyProbe::getTransactionStartSeconds))
+                .description("The latency measured by the cluster controller")
+                .tags("database", database, "operation", "grv")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.latency.probe", this, m -> m.latencyProbe(LatencyProbe::getReadSeconds))
+                .description("The latency measured by the cluster controller")
+                .tags("database", database, "operation", "read")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("foundationdb.cluster.latency.probe", this, m -> m.latencyProbe(LatencyProbe::getCommitSeconds))
+                .description("The latency measured by the cluster controller")
+                .tags("database", database, "operation", "commit")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        }
+
+        private double cluster(Function<Cluster, Number> value) {
+            return Optional.ofNullable(status.get())
+                .map(FoundationDbClusterStatus::getCluster)
+                .map(value)
+                .map(Number::doubleValue)
+                .orElse(Double.NaN);
+        }
+
+        private double qos(Function<Qos, Number> value) {
+            return cluster(c -> c.getQos() == null ? null : value.apply(c.getQos()));
+        }
+
+        private double latencyProbe(Function<LatencyProbe, Number> value) {
+            return cluster(c -> c.getLatencyProbe() == null ? null : value.apply(c.getLatencyProbe()));
+        }
+
+        private static Double seconds(Lag lag) {
+            return lag == null ? null : lag.getSeconds();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.foundationdb.diagnostics.ConflictMetrics;
+import jakarta.inject.Singleton;
+
+/**
+ * Micrometer-based implementation of {@link ConflictMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerConflictMetrics implements ConflictMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerConflictMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void conflict(String prefix) {
+        Counter.builder("foundationdb.transaction.conflicts")
+            .description("The number of conflicting key ranges reported by failed commits")
+            .tag("prefix", prefix)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -21,111 +21,147 @@ import io.micrometer.core.instrument.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 
 /**
  * Micrometer-based implementation of {@link EventKeeper} for FoundationDB metrics.
- * Pre-registers all known {@link Events} enum.
+ * Pre-registers all known {@link Events} enum. Meters are tagged with the name of the database.
+ *
+ * <p>The client reports events on every JNI call and range query chunk, so the meters of known
+ * events are looked up by ordinal and other events only go through a map lookup, without
+ * allocating on the hot path.</p>
  *
  * @author Nikolai Papakha
  */
 class MicrometerEventKeeper implements EventKeeper {
 
-    private final ConcurrentMap<Event, Counter> counters = new ConcurrentHashMap<>();
+    private static final Events[] EVENTS = Events.values();
+
+    private final Counter[] counters = new Counter[EVENTS.length];
+
+    private final Timer[] timers = new Timer[EVENTS.length];
+
+    private final ConcurrentMap<Event, Counter> genericCounters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Event, Timer> genericTimers = new ConcurrentHashMap<>();
 
-    private final ConcurrentMap<Event, Timer> timers = new ConcurrentHashMap<>();
+    private final Function<Event, Counter> counterRegistration = this::registerCounter;
+
+    private final Function<Event, Timer> timerRegistration = this::registerTimer;
 
     private final EventMetadataProvider metadataProvider;
 
     private final MeterRegistry meterRegistry;
 
-    MicrometerEventKeeper(EventMetadataProvider metadataProvider, MeterRegistry meterRegistry) {
+    private final String database;
+
+    MicrometerEventKeeper(EventMetadataProvider metadataProvider, MeterRegistry meterRegistry, String database) {
         this.metadataProvider = metadataProvider;
         this.meterRegistry = meterRegistry;
-
-        counters.put(Events.JNI_CALL,
-            Counter.builder("foundationdb.jni.call")
-                .description("Number of JNI calls made by the FoundationDB client")
-                .tags(getTags(Events.JNI_CALL))
-                .register(meterRegistry));
-
-        counters.put(Events.BYTES_FETCHED,
-            Counter.builder("foundationdb.bytes.fetched")
-                .description("The total number of bytes pulled from the native layer")
-                .tags(getTags(Events.BYTES_FETCHED))
-                .baseUnit("bytes")
-                .register(meterRegistry));
-
-        counters.put(Events.RANGE_QUERY_DIRECT_BUFFER_HIT,
-            Counter.builder("foundationdb.range.query.direct.buffer.hit")
-                .description("The number of times a DirectBuffer was used to transfer a range query chunk")
-                .tags(getTags(Events.RANGE_QUERY_DIRECT_BUFFER_HIT))
-                .register(meterRegistry));
-
-        counters.put(Events.RANGE_QUERY_DIRECT_BUFFER_MISS,
-            Counter.builder("foundationdb.range.query.direct.buffer.miss")
-                .description("The number of times a range query chunk was unable to use a DirectBuffer")
-                .tags(getTags(Events.RANGE_QUERY_DIRECT_BUFFER_MISS))
-                .register(meterRegistry));
-
-        counters.put(Events.RANGE_QUERY_FETCHES, Counter.builder("foundationdb.range.query.fetches")
-            .description("The number of direct fetches made during a range query")
-            .tags(getTags(Events.RANGE_QUERY_FETCHES))
-            .register(meterRegistry));
-
-        counters.put(Events.RANGE_QUERY_RECORDS_FETCHED, Counter.builder("foundationdb.range.query.records.fetched")
-            .description("The number of tuples fetched during a range query")
-            .tags(getTags(Events.RANGE_QUERY_RECORDS_FETCHED))
-            .register(meterRegistry));
-
-        counters.put(Events.RANGE_QUERY_CHUNK_FAILED, Counter.builder("foundationdb.range.query.chunk.failed")
-            .description("The number of times a range query chunk fetch failed")
-            .tags(getTags(Events.RANGE_QUERY_CHUNK_FAILED))
-            .register(meterRegistry));
-
-        timers.put(Events.RANGE_QUERY_FETCH_TIME_NANOS, Timer.builder("foundationdb.range.query.fetch.time.nanos")
-            .description("The time taken to perform an internal `getRange` fetch")
-            .tags(getTags(Events.RANGE_QUERY_FETCH_TIME_NANOS))
-            .register(meterRegistry));
+        this.database = database;
+        for (Events event : EVENTS) {
+            if (event.isTimeEvent()) {
+                timers[event.ordinal()] = registerTimer(event);
+            } else {
+                counters[event.ordinal()] = registerCounter(event);
+            }
+        }
     }
 
     @Override
     public void count(Event event, long amt) {
-        counters.computeIfAbsent(event, this::getGenericCounter).increment(amt);
+        counter(event).increment(amt);
     }
 
     @Override
     public void timeNanos(Event event, long nanos) {
-        timers.computeIfAbsent(event, this::getGenericTimer).record(nanos, TimeUnit.NANOSECONDS);
+        timer(event).record(nanos, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public long getCount(Event event) {
-        Counter counter = counters.get(event);
+        Counter counter = event instanceof Events known ? counters[known.ordinal()] : genericCounters.get(event);
         return counter == null ? 0 : (long) counter.count();
     }
 
     @Override
     public long getTimeNanos(Event event) {
-        Timer timer = timers.get(event);
+        Timer timer = event instanceof Events known ? timers[known.ordinal()] : genericTimers.get(event);
         return timer == null ? 0 : (long) timer.totalTime(TimeUnit.NANOSECONDS);
     }
 
-    private Counter getGenericCounter(Event event) {
-        return Counter.builder(metadataProvider.getMeterName(event))
-            .description(metadataProvider.getCountDescription(event))
-            .tags(getTags(event))
-            .register(meterRegistry);
+    private Counter counter(Event event) {
+        if (event instanceof Events known) {
+            Counter counter = counters[known.ordinal()];
+            if (counter != null) {
+                return counter;
+            }
+        }
+        Counter counter = genericCounters.get(event);
+        return counter != null ? counter : genericCounters.computeIfAbsent(event, counterRegistration);
+    }
+
+    private Timer timer(Event event) {
+        if (event instanceof Events known) {
+            Timer timer = timers[known.ordinal()];
+            if (timer != null) {
+                return timer;
+            }
+        }
+        Timer timer = genericTimers.get(event);
+        return timer != null ? timer : genericTimers.computeIfAbsent(event, timerRegistration);
+    }
+
+    private Counter registerCounter(Event event) {
+        Counter.Builder builder = Counter.builder(metadataProvider.getMeterName(event))
+            .description(getCountDescription(event))
+            .tags(getTags(event));
+        if (event == Events.BYTES_FETCHED) {
+            builder.baseUnit("bytes");
+        }
+        return builder.register(meterRegistry);
     }
 
-    private Timer getGenericTimer(Event event) {
+    private Timer registerTimer(Event event) {
         return Timer.builder(metadataProvider.getMeterName(event))
-            .description(metadataProvider.getTimerDescription(event))
+            .description(getTimerDescription(event))
             .tags(getTags(event))
             .register(meterRegistry);
     }
 
+    private String getCountDescription(Event event) {
+        if (event instanceof Events known) {
+            switch (known) {
+                case JNI_CALL:
+                    return "Number of JNI calls made by the FoundationDB client";
+                case BYTES_FETCHED:
+                    return "The total number of bytes pulled from the native layer";
+                case RANGE_QUERY_DIRECT_BUFFER_HIT:
+                    return "The number of times a DirectBuffer was used to transfer a range query chunk";
+                case RANGE_QUERY_DIRECT_BUFFER_MISS:
+                    return "The number of times a range query chunk was unable to use a DirectBuffer";
+                case RANGE_QUERY_FETCHES:
+                    return "The number of direct fetches made during a range query";
+                case RANGE_QUERY_RECORDS_FETCHED:
+                    return "The number of tuples fetched during a range query";
+                case RANGE_QUERY_CHUNK_FAILED:
+                    return "The number of times a range query chunk fetch failed";
+                default:
+                    break;
+            }
+        }
+        return metadataProvider.getCountDescription(event);
+    }
+
+    private String getTimerDescription(Event event) {
+        if (event == Events.RANGE_QUERY_FETCH_TIME_NANOS) {
+            return "The time taken to perform an internal `getRange` fetch";
+        }
+        return metadataProvider.getTimerDescription(event);
+    }
+
     private Iterable<Tag> getTags(Event event) {
-        return Tags.of("event", event.name());
+        return Tags.of("event", event.name(), "database", database);
     }
 }
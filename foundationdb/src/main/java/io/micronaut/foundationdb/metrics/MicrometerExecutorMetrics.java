@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micronaut.foundationdb.ExecutorMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Micrometer-based implementation of {@link ExecutorMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerExecutorMetrics implements ExecutorMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerExecutorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void monitor(String database, ThreadPoolExecutor executor) {
+        new ExecutorServiceMetrics(executor, "fdb-" + database, "foundationdb", Tags.of("database", database))
+            .bindTo(meterRegistry);
+    }
+
+    @Override
+    public void overflow(String database) {
+        Counter.builder("foundationdb.executor.overflow")
+            .description("The number of callbacks run on an overflow virtual thread because the executor queue was full")
+            .tag("database", database)
+            .register(meterRegistry)
+            .increment();
+    }
+}
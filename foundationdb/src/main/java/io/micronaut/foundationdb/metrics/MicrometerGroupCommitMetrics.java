@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.batch.GroupCommitMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-based implementation of {@link GroupCommitMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerGroupCommitMetrics implements GroupCommitMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final DistributionSummary groupSize;
+
+    private final DistributionSummary groupBytes;
+
+    private final Timer commits;
+
+    private final Counter splits;
+
+    MicrometerGroupCommitMetrics(MeterRegistry meterRegistry) {
+        this.groupSize = DistributionSummary.builder("foundationdb.group.commit.size")
+            .description("The number of writes per committed group")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.groupBytes = DistributionSummary.builder("foundationdb.group.commit.bytes")
+            .description("The approximate size of committed groups")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.commits = Timer.builder("foundationdb.group.commit.latency")
+            .description("The commit latency of groups")
+            .register(meterRegistry);
+        this.splits = Counter.builder("foundationdb.group.commit.splits")
+            .description("The number of groups split after a failed commit")
+            .register(meterRegistry);
+        Gauge.builder("foundationdb.group.commit.queue.depth", queueDepth, AtomicInteger::get)
+            .description("The number of writes waiting for their group")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void enqueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    @Override
+    public void groupStarted(int mutations, long bytes) {
+        queueDepth.addAndGet(-mutations);
+        groupSize.record(mutations);
+        groupBytes.record(bytes);
+    }
+
+    @Override
+    public void committed(long nanos) {
+        commits.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void split() {
+        splits.increment();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import com.apple.foundationdb.EventKeeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.foundationdb.NamedEventKeepers;
+import jakarta.inject.Singleton;
+
+/**
+ * Micrometer-based implementation of {@link NamedEventKeepers}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerNamedEventKeepers implements NamedEventKeepers {
+
+    private final EventMetadataProvider metadataProvider;
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerNamedEventKeepers(EventMetadataProvider metadataProvider, MeterRegistry meterRegistry) {
+        this.metadataProvider = metadataProvider;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public EventKeeper create(String database) {
+        return new MicrometerEventKeeper(metadataProvider, meterRegistry, database);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.foundationdb.nearcache.NearCacheMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-based implementation of {@link NearCacheMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerNearCacheMetrics implements NearCacheMetrics {
+
+    private final AtomicInteger watches = new AtomicInteger();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter evictions;
+
+    private final Counter invalidations;
+
+    MicrometerNearCacheMetrics(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("foundationdb.near.cache.hits")
+            .description("The number of reads served from the near cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("foundationdb.near.cache.misses")
+            .description("The number of near cache reads served by the database")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("foundationdb.near.cache.evictions")
+            .description("The number of near cache entries evicted to stay within the maximum size")
+            .register(meterRegistry);
+        this.invalidations = Counter.builder("foundationdb.near.cache.invalidations")
+            .description("The number of near cache entries invalidated by a watch")
+            .register(meterRegistry);
+        Gauge.builder("foundationdb.near.cache.watches", watches, AtomicInteger::get)
+            .description("The number of outstanding near cache watches")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void hit() {
+        hits.increment();
+    }
+
+    @Override
+    public void miss() {
+        misses.increment();
+    }
+
+    @Override
+    public void eviction() {
+        evictions.increment();
+    }
+
+    @Override
+    public void invalidation() {
+        invalidations.increment();
+    }
+
+    @Override
+    public void watchRegistered() {
+        watches.incrementAndGet();
+    }
+
+    @Override
+    public void watchReleased() {
+        watches.decrementAndGet();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.transaction.ReadVersionMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-based implementation of {@link ReadVersionMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerReadVersionMetrics implements ReadVersionMetrics {
+
+    private final Counter reused;
+
+    private final Counter tooOld;
+
+    private final Timer age;
+
+    private final Timer grv;
+
+    MicrometerReadVersionMetrics(MeterRegistry meterRegistry) {
+        this.reused = Counter.builder("foundationdb.read.version.reused")
+            .description("The number of GRV requests saved by sharing a read version")
+            .register(meterRegistry);
+        this.tooOld = Counter.builder("foundationdb.read.version.too.old")
+            .description("The number of shared read versions rejected as too old")
+            .register(meterRegistry);
+        this.age = Timer.builder("foundationdb.read.version.age")
+            .description("The age of the read versions served to transactions")
+            .register(meterRegistry);
+        this.grv = Timer.builder("foundationdb.read.version.grv")
+            .description("The latency of the GRV requests of the read version cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void served(long ageNanos, boolean reused) {
+        age.record(ageNanos, TimeUnit.NANOSECONDS);
+        if (reused) {
+            this.reused.increment();
+        }
+    }
+
+    @Override
+    public void fetched(long nanos) {
+        grv.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void tooOld() {
+        tooOld.increment();
+    }
+}
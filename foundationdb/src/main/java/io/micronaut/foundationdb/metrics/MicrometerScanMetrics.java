@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.range.ScanMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-based implementation of {@link ScanMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerScanMetrics implements ScanMetrics {
+
+    private final AtomicInteger activePartitions = new AtomicInteger();
+
+    private final Counter records;
+
+    private final Counter bytes;
+
+    private final Timer partitionDuration;
+
+    MicrometerScanMetrics(MeterRegistry meterRegistry) {
+        this.records = Counter.builder("foundationdb.scan.records")
+            .description("The number of key-value pairs read by parallel scans")
+            .register(meterRegistry);
+        this.bytes = Counter.builder("foundationdb.scan.bytes")
+            .description("The number of key and value bytes read by parallel scans")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.partitionDuration = Timer.builder("foundationdb.scan.partition.duration")
+            .description("The time taken to scan a single partition")
+            .register(meterRegistry);
+        Gauge.builder("foundationdb.scan.partitions.active", activePartitions, AtomicInteger::get)
+            .description("The number of partitions currently being scanned")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void partitionStarted() {
+        activePartitions.incrementAndGet();
+    }
+
+    @Override
+    public void chunk(long records, long bytes) {
+        this.records.increment(records);
+        this.bytes.increment(bytes);
+    }
+
+    @Override
+    public void partitionCompleted(long nanos) {
+        activePartitions.decrementAndGet();
+        partitionDuration.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
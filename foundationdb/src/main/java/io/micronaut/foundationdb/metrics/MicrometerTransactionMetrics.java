@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import com.apple.foundationdb.FDBException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.transaction.TransactionMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-based implementation of {@link TransactionMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerTransactionMetrics implements TransactionMetrics {
+
+    static final String COMMIT = EventMetadataProvider.PREFIX + ".transaction.commit";
+    static final String RETRIES = EventMetadataProvider.PREFIX + ".transaction.retries";
+    static final String CONFLICTS = EventMetadataProvider.PREFIX + ".transaction.conflicts";
+    static final String FAILURES = EventMetadataProvider.PREFIX + ".transaction.failures";
+
+    private static final int NOT_COMMITTED = 1020;
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerTransactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Recorder forOperation(String name) {
+        return new MicrometerRecorder(
+            Timer.builder(COMMIT)
+                .description("The commit latency of a transactional operation")
+                .tag("operation", name)
+                .register(meterRegistry),
+            Counter.builder(RETRIES)
+                .description("The number of times a transactional operation was retried")
+                .tag("operation", name)
+                .register(meterRegistry),
+            Counter.builder(CONFLICTS)
+                .description("The number of times a transactional operation failed with a conflict")
+                .tag("operation", name)
+                .register(meterRegistry),
+            Counter.builder(FAILURES)
+                .description("The number of times a transactional operation failed without being retried")
+                .tag("operation", name)
+                .register(meterRegistry)
+        );
+    }
+
+    private record MicrometerRecorder(Timer commits,
+                                      Counter retries,
+                                      Counter conflicts,
+                                      Counter failures) implements Recorder {
+
+        @Override
+        public void commit(long nanos) {
+            commits.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void retry(FDBException error) {
+            retries.increment();
+            if (error.getCode() == NOT_COMMITTED) {
+                conflicts.increment();
+            }
+        }
+
+        @Override
+        public void failure(Throwable error) {
+            failures.increment();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.WarmupMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-based implementation of {@link WarmupMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerWarmupMetrics implements WarmupMetrics {
+
+    private final Timer duration;
+
+    private final Counter failures;
+
+    MicrometerWarmupMetrics(MeterRegistry meterRegistry) {
+        this.duration = Timer.builder("foundationdb.warmup.duration")
+            .description("The time from opening the database to the end of the warm-up")
+            .register(meterRegistry);
+        this.failures = Counter.builder("foundationdb.warmup.failures")
+            .description("The number of failed warm-up attempts")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void warmedUp(long nanos, int locations) {
+        duration.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void failed() {
+        failures.increment();
+    }
+}
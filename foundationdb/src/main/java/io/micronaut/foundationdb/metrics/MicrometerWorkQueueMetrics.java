@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.foundationdb.queue.WorkQueueMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Micrometer-based implementation of {@link WorkQueueMetrics}.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+class MicrometerWorkQueueMetrics implements WorkQueueMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerWorkQueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void created(String queue, LongSupplier depth) {
+        Gauge.builder("foundationdb.queue.depth", () -> depth.getAsLong())
+            .description("The number of items pending or leased, as of the last redelivery")
+            .tag("queue", queue)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void claimConflict(String queue) {
+        Counter.builder("foundationdb.queue.claim.conflicts")
+            .description("The number of claims which conflicted with a concurrent claim")
+            .tag("queue", queue)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void leasesExpired(String queue, int items) {
+        Counter.builder("foundationdb.queue.lease.expiries")
+            .description("The number of items delivered again because their lease expired")
+            .tag("queue", queue)
+            .register(meterRegistry)
+            .increment(items);
+    }
+
+    @Override
+    public void completed(String queue, long nanos) {
+        Timer.builder("foundationdb.queue.processing")
+            .description("The time from the claim to the completion of items")
+            .tag("queue", queue)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
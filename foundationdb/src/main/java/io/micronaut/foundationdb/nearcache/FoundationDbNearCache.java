@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.nearcache;
+
+import com.apple.foundationdb.Database;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-through cache of frequently read keys of the FoundationDB {@link Database}. Every cached
+ * key is watched, so that its entry is invalidated as soon as the key changes. Entries are
+ * evicted in approximately least recently used order once the maximum size or the maximum number
+ * of watches is reached.
+ *
+ * <p>Lookups do not take any lock: an entry only records the time of its last access, with a
+ * resolution of a millisecond, so that hot keys do not write it on every read. Eviction sorts the
+ * entries by their last access under a lock of its own, and evicts a sixteenth of the maximum
+ * size at once, so that its cost is amortized over the following misses.</p>
+ *
+ * <p>Invalidation is asynchronous: a read following a write may still return the previous value
+ * until the watch fires.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbNearCache {
+
+    private static final long ACCESS_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Database database;
+
+    private final int maximumSize;
+
+    private final int maxWatches;
+
+    private final NearCacheMetrics metrics;
+
+    private final AtomicInteger watches = new AtomicInteger();
+
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Object evictionLock = new Object();
+
+    private final Map<CacheKey, CompletableFuture<byte[]>> loading = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code FoundationDbNearCache} instance.
+     *
+     * @param database The FoundationDB database
+     * @param config   The near cache configuration
+     * @param metrics  The near cache metrics, if any
+     */
+    public FoundationDbNearCache(Database database, FoundationDbNearCacheConfig config, Optional<NearCacheMetrics> metrics) {
+        this.database = database;
+        this.maximumSize = Math.max(1, config.getMaximumSize());
+        this.maxWatches = config.getMaxWatches();
+        this.metrics = metrics.orElse(NearCacheMetrics.NOOP);
+    }
+
+    /**
+     * Reads the value of the given key, from the cache if present. Concurrent reads of a key
+     * which is not cached share a single database read. The returned array must not be modified.
+     *
+     * @param key The key
+     * @return The value, completed with {@code null} if the key does not exist
+     */
+    @NonNull
+    public CompletableFuture<byte[]> get(@NonNull byte[] key) {
+        Entry entry = entries.get(new CacheKey(key));
+        if (entry != null) {
+            entry.touch();
+            metrics.hit();
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        metrics.miss();
+        CacheKey cacheKey = new CacheKey(key.clone());
+        CompletableFuture<byte[]> promise = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = loading.putIfAbsent(cacheKey, promise);
+        if (existing != null) {
+            return existing;
+        }
+        load(cacheKey).whenComplete((value, throwable) -> {
+            loading.remove(cacheKey, promise);
+            if (throwable != null) {
+                promise.completeExceptionally(throwable);
+            } else {
+                promise.complete(value);
+            }
+        });
+        return promise;
+    }
+
+    /**
+     * Removes the given key from the cache.
+     *
+     * @param key The key
+     */
+    public void invalidate(@NonNull byte[] key) {
+        Entry entry = entries.remove(new CacheKey(key));
+        if (entry != null) {
+            entry.watch.cancel(true);
+        }
+    }
+
+    /**
+     * Removes all keys from the cache.
+     */
+    public void invalidateAll() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            entry.watch.cancel(true);
+        }
+    }
+
+    /**
+     * Gets the number of cached keys.
+     *
+     * @return The number of cached keys
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of outstanding watches.
+     *
+     * @return The number of watches
+     */
+    public int getWatchCount() {
+        return watches.get();
+    }
+
+    /**
+     * Cancels all watches and stops caching.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        invalidateAll();
+    }
+
+    private CompletableFuture<byte[]> load(CacheKey key) {
+        if (closed || !acquireWatch()) {
+            return database.readAsync(tr -> tr.get(key.bytes));
+        }
+        return database.runAsync(tr -> {
+            CompletableFuture<byte[]> value = tr.get(key.bytes);
+            CompletableFuture<Void> watch = tr.watch(key.bytes);
+            return value.thenApply(v -> new Entry(v, watch));
+        }).whenComplete((entry, throwable) -> {
+            if (throwable != null) {
+                releaseWatch();
+            } else {
+                cache(key, entry);
+            }
+        }).thenApply(entry -> entry.value);
+    }
+
+    private void cache(CacheKey key, Entry entry) {
+        Entry previous = closed ? null : entries.put(key, entry);
+        // registered after the entry is visible, so that a watch fired in the meantime still removes it
+        entry.watch.whenComplete((v, throwable) -> {
+            releaseWatch();
+            if (entries.remove(key, entry)) {
+                metrics.invalidation();
+            }
+        });
+        if (closed) {
+            entry.watch.cancel(true);
+        }
+        if (previous != null) {
+            previous.watch.cancel(true);
+        }
+        int excess = entries.size() - maximumSize;
+        if (excess > 0) {
+            evict(excess + maximumSize / 16);
+        }
+    }
+
+    /**
+     * Evicts up to the given number of least recently used entries.
+     *
+     * @return The number of evicted entries
+     */
+    private int evict(int count) {
+        List<Entry> evicted = new ArrayList<>(count);
+        synchronized (evictionLock) {
+            // the access times are copied, since they keep changing while sorting
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(new Candidate(key, entry, entry.lastAccess)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (Candidate candidate : candidates) {
+                if (evicted.size() == count) {
+                    break;
+                }
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    evicted.add(candidate.entry());
+                }
+            }
+        }
+        for (Entry entry : evicted) {
+            metrics.eviction();
+            entry.watch.cancel(true);
+        }
+        return evicted.size();
+    }
+
+    private boolean acquireWatch() {
+        if (tryAcquireWatch()) {
+            return true;
+        }
+        // cancelling the watch of the evicted entry completes it right away, which releases its slot
+        if (evict(1) == 0) {
+            return false;
+        }
+        return tryAcquireWatch();
+    }
+
+    private boolean tryAcquireWatch() {
+        int current;
+        do {
+            current = watches.get();
+            if (current >= maxWatches) {
+                return false;
+            }
+        } while (!watches.compareAndSet(current, current + 1));
+        metrics.watchRegistered();
+        return true;
+    }
+
+    private void releaseWatch() {
+        watches.decrementAndGet();
+        metrics.watchReleased();
+    }
+
+    private static final class CacheKey {
+
+        private final byte[] bytes;
+
+        private final int hash;
+
+        private CacheKey(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+
+        @Nullable
+        private final byte[] value;
+
+        private final CompletableFuture<Void> watch;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(@Nullable byte[] value, CompletableFuture<Void> watch) {
+            this.value = value;
+            this.watch = watch;
+        }
+
+        private void touch() {
+            long now = System.nanoTime();
+            if (now - lastAccess > ACCESS_RESOLUTION_NANOS) {
+                lastAccess = now;
+            }
+        }
+    }
+
+    private record Candidate(CacheKey key, Entry entry, long lastAccess) {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.nearcache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+/**
+ * Configuration of the {@link FoundationDbNearCache}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbNearCacheConfig.PREFIX)
+public final class FoundationDbNearCacheConfig {
+
+    /**
+     * The prefix to use for near cache configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".near-cache";
+
+    /**
+     * The default maximum number of cached keys.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /**
+     * The default maximum number of outstanding watches.
+     */
+    public static final int DEFAULT_MAX_WATCHES = 1000;
+
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    private int maxWatches = DEFAULT_MAX_WATCHES;
+
+    /**
+     * Gets the maximum number of cached keys.
+     *
+     * @return The maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of cached keys, the least recently used key is evicted once it is
+     * exceeded. Default value: {@value #DEFAULT_MAXIMUM_SIZE}.
+     *
+     * @param maximumSize The maximum size
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the maximum number of outstanding watches.
+     *
+     * @return The max number of watches
+     */
+    public int getMaxWatches() {
+        return maxWatches;
+    }
+
+    /**
+     * Sets the maximum number of outstanding watches. Once it is reached, the least recently used
+     * entry is evicted to free a watch. It must stay below the {@code max-watches} database option, which counts the
+     * watches of the whole database. Default value: {@value #DEFAULT_MAX_WATCHES}.
+     *
+     * @param maxWatches The max number of watches
+     */
+    public void setMaxWatches(int maxWatches) {
+        this.maxWatches = maxWatches;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.nearcache;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of the near cache.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface NearCacheMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    NearCacheMetrics NOOP = new NearCacheMetrics() {
+    };
+
+    /**
+     * Records a read served from the cache.
+     */
+    default void hit() {
+    }
+
+    /**
+     * Records a read served by the database.
+     */
+    default void miss() {
+    }
+
+    /**
+     * Records an entry evicted to stay within the maximum size.
+     */
+    default void eviction() {
+    }
+
+    /**
+     * Records an entry invalidated because its key changed.
+     */
+    default void invalidation() {
+    }
+
+    /**
+     * Records a watch registration.
+     */
+    default void watchRegistered() {
+    }
+
+    /**
+     * Records the completion or cancellation of a watch.
+     */
+    default void watchReleased() {
+    }
+}
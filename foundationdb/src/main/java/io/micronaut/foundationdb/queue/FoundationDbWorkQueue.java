@@ -0,0 +1,411 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.queue;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.MutationType;
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import com.apple.foundationdb.tuple.Versionstamp;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.VersionstampedWrites;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A distributed work queue stored in FoundationDB.
+ *
+ * <p>Items are enqueued under versionstamped keys in one of several shards, chosen at random, so
+ * enqueues never conflict. A claim starts at a random shard and reads the items with a snapshot
+ * read, adding a read conflict on the claimed keys only, so concurrent workers conflict only when
+ * they claim the very same items. Claimed items are moved to lease records ordered by expiry, and
+ * items whose lease expired are delivered again in the background.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@EachBean(FoundationDbWorkQueueConfig.class)
+public class FoundationDbWorkQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FoundationDbWorkQueue.class);
+
+    private static final int NOT_COMMITTED = 1020;
+
+    private static final byte[] ONE = ByteArrayUtil.encodeInt(1);
+
+    private static final byte[] MINUS_ONE = ByteArrayUtil.encodeInt(-1);
+
+    private final String name;
+
+    private final Database database;
+
+    private final Subspace pending;
+
+    private final Subspace leases;
+
+    private final byte[] notifyKey;
+
+    private final byte[] depthKey;
+
+    private final int shards;
+
+    private final int claimBatchSize;
+
+    private final long leaseMillis;
+
+    private final int redeliveryBatchSize;
+
+    private final Duration retryDelay;
+
+    private final TaskScheduler taskScheduler;
+
+    private final WorkQueueMetrics metrics;
+
+    private final VersionstampedWrites versionstamps = new VersionstampedWrites();
+
+    private final List<WorkQueueSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final ScheduledFuture<?> redelivery;
+
+    private volatile long depth;
+
+    /**
+     * Constructs a new {@code FoundationDbWorkQueue} instance.
+     *
+     * @param config        The queue configuration
+     * @param database      The FoundationDB database
+     * @param taskScheduler The scheduler of the redelivery and the retries
+     * @param metrics       The work queue metrics, if any
+     */
+    public FoundationDbWorkQueue(FoundationDbWorkQueueConfig config,
+                                 Database database,
+                                 TaskScheduler taskScheduler,
+                                 Optional<WorkQueueMetrics> metrics) {
+        this.name = config.getName();
+        this.database = database;
+        Subspace subspace = new Subspace(config.getSubspace() != null ? Tuple.from(config.getSubspace()) : Tuple.from("queue", config.getName()));
+        this.pending = subspace.get("p");
+        this.leases = subspace.get("l");
+        this.notifyKey = subspace.pack("n");
+        this.depthKey = subspace.pack("d");
+        this.shards = Math.max(1, config.getShards());
+        this.claimBatchSize = Math.max(1, config.getClaimBatchSize());
+        this.leaseMillis = config.getLeaseDuration().toMillis();
+        this.redeliveryBatchSize = Math.min(VersionstampedWrites.MAX_PER_TRANSACTION, Math.max(1, config.getRedeliveryBatchSize()));
+        this.retryDelay = config.getRetryDelay();
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics.orElse(WorkQueueMetrics.NOOP);
+        this.metrics.created(name, () -> depth);
+        this.redelivery = taskScheduler.scheduleWithFixedDelay(config.getRedeliveryInterval(), config.getRedeliveryInterval(), this::redeliverExpired);
+    }
+
+    /**
+     * Gets the name of the queue.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Enqueues an item in its own transaction.
+     *
+     * @param payload The payload of the item
+     * @return A future of the identifier of the item, completed once committed
+     */
+    @NonNull
+    public CompletableFuture<Versionstamp> enqueue(@NonNull byte[] payload) {
+        int[] userVersion = new int[1];
+        return database.runAsync(tr -> {
+            userVersion[0] = add(tr, payload);
+            return CompletableFuture.completedFuture(tr.getVersionstamp());
+        }).thenCompose(Function.identity()).thenApply(version -> Versionstamp.complete(version, userVersion[0]));
+    }
+
+    /**
+     * Enqueues an item in the given transaction, so that it only becomes visible if the
+     * transaction commits. At most 65536 items can be enqueued by a transaction.
+     *
+     * @param tr      The transaction
+     * @param payload The payload of the item
+     * @throws IllegalStateException if the transaction has already enqueued 65536 items
+     */
+    public void enqueue(@NonNull Transaction tr, @NonNull byte[] payload) {
+        add(tr, payload);
+    }
+
+    /**
+     * Claims up to the given number of items, leasing them to the caller.
+     *
+     * @param max The maximum number of items
+     * @return A future of the claimed items, empty if the queue is empty
+     */
+    @NonNull
+    public CompletableFuture<List<WorkItem>> claim(int max) {
+        return claim(max, false).thenApply(Claim::items);
+    }
+
+    /**
+     * Completes an item, removing it from the queue.
+     *
+     * @param item The claimed item
+     * @return A future of whether the item was still leased, {@code false} if its lease expired
+     */
+    @NonNull
+    public CompletableFuture<Boolean> complete(@NonNull WorkItem item) {
+        return database.runAsync(tr -> tr.get(item.leaseKey()).thenApply(lease -> {
+            if (lease == null) {
+                return false;
+            }
+            tr.clear(item.leaseKey());
+            tr.mutate(MutationType.ADD, depthKey, MINUS_ONE);
+            return true;
+        })).thenApply(completed -> {
+            if (completed) {
+                metrics.completed(name, System.nanoTime() - item.claimedAt());
+            }
+            return completed;
+        });
+    }
+
+    /**
+     * Releases an item before its lease expires, so that it is delivered again right away.
+     *
+     * @param item The claimed item
+     * @return A future of whether the item was still leased, {@code false} if its lease expired
+     */
+    @NonNull
+    public CompletableFuture<Boolean> release(@NonNull WorkItem item) {
+        return database.runAsync(tr -> tr.get(item.leaseKey()).thenApply(lease -> {
+            if (lease == null) {
+                return false;
+            }
+            tr.clear(item.leaseKey());
+            redeliver(tr, Tuple.fromBytes(lease), versionstamps.reserve(tr, 1));
+            VersionstampedWrites.setVersionstamp(tr, notifyKey);
+            return true;
+        }));
+    }
+
+    /**
+     * Subscribes a worker, which claims batches of items and handles them concurrently. An item is
+     * completed once the future returned by the handler completes, and released if it fails. Once
+     * the queue is empty, the subscription waits on a watch instead of polling.
+     *
+     * @param handler The handler of the items
+     * @return The subscription
+     */
+    @NonNull
+    public WorkQueueSubscription subscribe(@NonNull Function<WorkItem, ? extends CompletionStage<?>> handler) {
+        WorkQueueSubscription subscription = new WorkQueueSubscription(this, handler);
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Reads the number of items pending or leased.
+     *
+     * @return A future of the depth
+     */
+    @NonNull
+    public CompletableFuture<Long> depth() {
+        return database.readAsync(tr -> tr.get(depthKey)).thenApply(value -> {
+            long current = value == null ? 0 : ByteArrayUtil.decodeInt(value);
+            depth = current;
+            return current;
+        });
+    }
+
+    /**
+     * Delivers again the items whose lease expired, in transactions moving at most
+     * {@code redelivery-batch-size} items each, and refreshes the queue depth.
+     *
+     * @return The number of redelivered items
+     */
+    public int redeliverExpired() {
+        int total = 0;
+        try {
+            int redelivered;
+            do {
+                redelivered = database.run(tr -> redeliverExpired(tr).join());
+                total += redelivered;
+            } while (redelivered == redeliveryBatchSize);
+            depth().join();
+        } catch (FDBException | CompletionException e) {
+            LOG.warn("Failed to redeliver the expired items of queue {}", name, e);
+        }
+        if (total > 0) {
+            metrics.leasesExpired(name, total);
+        }
+        return total;
+    }
+
+    /**
+     * Closes the subscriptions and stops the redelivery.
+     */
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(WorkQueueSubscription::close);
+        redelivery.cancel(false);
+    }
+
+    /**
+     * Claims items in a transaction of its own, retrying conflicting claims from another random
+     * shard. When no item is found and {@code watch} is set, the notification key is watched.
+     */
+    CompletableFuture<Claim> claim(int max, boolean watch) {
+        AtomicReference<Transaction> transaction = new AtomicReference<>(database.createTransaction());
+        return attempt(transaction, max, watch).whenComplete((claim, throwable) -> transaction.get().close());
+    }
+
+    void unsubscribed(WorkQueueSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    String name() {
+        return name;
+    }
+
+    int claimBatchSize() {
+        return claimBatchSize;
+    }
+
+    Duration retryDelay() {
+        return retryDelay;
+    }
+
+    TaskScheduler taskScheduler() {
+        return taskScheduler;
+    }
+
+    private CompletableFuture<Claim> attempt(AtomicReference<Transaction> transaction, int max, boolean watch) {
+        Transaction tr = transaction.get();
+        List<WorkItem> items = new ArrayList<>();
+        int start = shards == 1 ? 0 : ThreadLocalRandom.current().nextInt(shards);
+        return claim(tr, start, 0, max, items)
+            .thenApply(v -> new Claim(items, watch && items.isEmpty() ? tr.watch(notifyKey) : null))
+            .thenCompose(claim -> tr.commit().thenApply(v -> claim))
+            .handle((claim, throwable) -> throwable == null ? CompletableFuture.completedFuture(claim) : retry(transaction, throwable, max, watch))
+            .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Claim> retry(AtomicReference<Transaction> transaction, Throwable throwable, int max, boolean watch) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (!(cause instanceof FDBException e)) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        if (e.getCode() == NOT_COMMITTED) {
+            metrics.claimConflict(name);
+        }
+        return transaction.get().onError(e).thenCompose(next -> {
+            transaction.set(next);
+            return attempt(transaction, max, watch);
+        });
+    }
+
+    /**
+     * Claims items from the shards following the start shard until the batch is full.
+     */
+    private CompletableFuture<Void> claim(Transaction tr, int start, int visited, int max, List<WorkItem> items) {
+        if (visited == shards || items.size() >= max) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int shard = (start + visited) % shards;
+        Range range = pending.range(Tuple.from(shard));
+        return tr.snapshot().getRange(range, max - items.size()).asList().thenCompose(keyValues -> {
+            long expiry = System.currentTimeMillis() + leaseMillis;
+            for (KeyValue kv : keyValues) {
+                tr.addReadConflictKey(kv.getKey());
+                tr.clear(kv.getKey());
+                Versionstamp id = pending.unpack(kv.getKey()).getVersionstamp(1);
+                Tuple value = Tuple.fromBytes(kv.getValue());
+                int deliveries = (int) value.getLong(0) + 1;
+                byte[] payload = value.getBytes(1);
+                byte[] leaseKey = leases.pack(Tuple.from(expiry, id));
+                tr.set(leaseKey, Tuple.from(shard, deliveries, payload).pack());
+                items.add(new WorkItem(id, payload, deliveries, Instant.ofEpochMilli(expiry), leaseKey));
+            }
+            return claim(tr, start, visited + 1, max, items);
+        });
+    }
+
+    private CompletableFuture<Integer> redeliverExpired(Transaction tr) {
+        byte[] end = leases.pack(Tuple.from(System.currentTimeMillis()));
+        return tr.getRange(leases.range().begin, end, redeliveryBatchSize).asList().thenApply(expired -> {
+            int userVersion = versionstamps.reserve(tr, expired.size());
+            for (KeyValue kv : expired) {
+                tr.clear(kv.getKey());
+                redeliver(tr, Tuple.fromBytes(kv.getValue()), userVersion++);
+            }
+            if (!expired.isEmpty()) {
+                VersionstampedWrites.setVersionstamp(tr, notifyKey);
+            }
+            return expired.size();
+        });
+    }
+
+    /**
+     * Enqueues a leased item again at the end of its shard, keeping its number of deliveries.
+     */
+    private void redeliver(Transaction tr, Tuple lease, int userVersion) {
+        int shard = (int) lease.getLong(0);
+        tr.mutate(MutationType.SET_VERSIONSTAMPED_KEY, pendingKey(shard, userVersion), Tuple.from(lease.getLong(1), lease.getBytes(2)).pack());
+    }
+
+    private int add(Transaction tr, byte[] payload) {
+        int userVersion = versionstamps.reserve(tr, 1);
+        int shard = shards == 1 ? 0 : ThreadLocalRandom.current().nextInt(shards);
+        tr.mutate(MutationType.SET_VERSIONSTAMPED_KEY, pendingKey(shard, userVersion), Tuple.from(0L, payload).pack());
+        tr.mutate(MutationType.ADD, depthKey, ONE);
+        VersionstampedWrites.setVersionstamp(tr, notifyKey);
+        return userVersion;
+    }
+
+    private byte[] pendingKey(int shard, int userVersion) {
+        return pending.packWithVersionstamp(Tuple.from(shard, Versionstamp.incomplete(userVersion)));
+    }
+
+    /**
+     * The items of a claim, and the watch of the notification key if none was found.
+     */
+    record Claim(List<WorkItem> items, @Nullable CompletableFuture<Void> watch) {
+    }
+}
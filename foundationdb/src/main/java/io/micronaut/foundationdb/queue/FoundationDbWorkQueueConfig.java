@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.queue;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a work queue stored in FoundationDB, one for each name configured under
+ * {@code foundationdb.queues}.
+ *
+ * @author Nikolai Papakha
+ */
+@EachProperty(FoundationDbWorkQueueConfig.PREFIX)
+public final class FoundationDbWorkQueueConfig {
+
+    /**
+     * The prefix to use for work queue configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".queues";
+
+    /**
+     * The default number of shards items are spread over.
+     */
+    public static final int DEFAULT_SHARDS = 16;
+
+    /**
+     * The default maximum number of items claimed at once.
+     */
+    public static final int DEFAULT_CLAIM_BATCH_SIZE = 10;
+
+    /**
+     * The default maximum number of expired leases redelivered per transaction.
+     */
+    public static final int DEFAULT_REDELIVERY_BATCH_SIZE = 1000;
+
+    private final String name;
+
+    @Nullable
+    private String subspace;
+
+    private int shards = DEFAULT_SHARDS;
+
+    private int claimBatchSize = DEFAULT_CLAIM_BATCH_SIZE;
+
+    @NonNull
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    @NonNull
+    private Duration redeliveryInterval = Duration.ofSeconds(5);
+
+    private int redeliveryBatchSize = DEFAULT_REDELIVERY_BATCH_SIZE;
+
+    @NonNull
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * Constructs a new {@code FoundationDbWorkQueueConfig} instance.
+     *
+     * @param name The name of the queue
+     */
+    public FoundationDbWorkQueueConfig(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the queue.
+     *
+     * @return The name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the name of the subspace the queue is stored in.
+     *
+     * @return The subspace name
+     */
+    @Nullable
+    public String getSubspace() {
+        return subspace;
+    }
+
+    /**
+     * Sets the name of the subspace the queue is stored in, used as a single element tuple prefix.
+     * Defaults to the {@code ("queue", <name>)} tuple prefix.
+     *
+     * @param subspace The subspace name
+     */
+    public void setSubspace(@Nullable String subspace) {
+        this.subspace = subspace;
+    }
+
+    /**
+     * Gets the number of shards items are spread over.
+     *
+     * @return The number of shards
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Sets the number of shards items are spread over. Workers start claiming from a random shard,
+     * so more shards make concurrent claims of the same items less likely. Default value: {@value #DEFAULT_SHARDS}.
+     *
+     * @param shards The number of shards
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Gets the maximum number of items claimed at once.
+     *
+     * @return The claim batch size
+     */
+    public int getClaimBatchSize() {
+        return claimBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of items claimed at once by a subscription. Default value: {@value #DEFAULT_CLAIM_BATCH_SIZE}.
+     *
+     * @param claimBatchSize The claim batch size
+     */
+    public void setClaimBatchSize(int claimBatchSize) {
+        this.claimBatchSize = claimBatchSize;
+    }
+
+    /**
+     * Gets the time a claimed item is leased to its worker.
+     *
+     * @return The lease duration
+     */
+    @NonNull
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * Sets the time a claimed item is leased to its worker. An item which is not completed within
+     * its lease is delivered again. Default value: 30 seconds.
+     *
+     * @param leaseDuration The lease duration
+     */
+    public void setLeaseDuration(@NonNull Duration leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * Gets the interval at which items with an expired lease are delivered again.
+     *
+     * @return The redelivery interval
+     */
+    @NonNull
+    public Duration getRedeliveryInterval() {
+        return redeliveryInterval;
+    }
+
+    /**
+     * Sets the interval at which items with an expired lease are delivered again, which also
+     * refreshes the queue depth. Default value: 5 seconds.
+     *
+     * @param redeliveryInterval The redelivery interval
+     */
+    public void setRedeliveryInterval(@NonNull Duration redeliveryInterval) {
+        this.redeliveryInterval = redeliveryInterval;
+    }
+
+    /**
+     * Gets the maximum number of expired leases redelivered per transaction.
+     *
+     * @return The redelivery batch size
+     */
+    public int getRedeliveryBatchSize() {
+        return redeliveryBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of expired leases redelivered per transaction. Default value: {@value #DEFAULT_REDELIVERY_BATCH_SIZE}.
+     *
+     * @param redeliveryBatchSize The redelivery batch size
+     */
+    public void setRedeliveryBatchSize(int redeliveryBatchSize) {
+        this.redeliveryBatchSize = redeliveryBatchSize;
+    }
+
+    /**
+     * Gets the delay before a subscription retries a failed claim.
+     *
+     * @return The retry delay
+     */
+    @NonNull
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the delay before a subscription retries a failed claim. Default value: 1 second.
+     *
+     * @param retryDelay The retry delay
+     */
+    public void setRetryDelay(@NonNull Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.queue;
+
+import com.apple.foundationdb.tuple.Versionstamp;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Instant;
+
+/**
+ * An item claimed from a {@link FoundationDbWorkQueue}, leased to its worker until it is
+ * completed or released, or until its lease expires.
+ *
+ * @author Nikolai Papakha
+ */
+public final class WorkItem {
+
+    private final Versionstamp id;
+
+    private final byte[] payload;
+
+    private final int deliveries;
+
+    private final Instant leaseExpiry;
+
+    private final byte[] leaseKey;
+
+    private final long claimedAt;
+
+    WorkItem(Versionstamp id, byte[] payload, int deliveries, Instant leaseExpiry, byte[] leaseKey) {
+        this.id = id;
+        this.payload = payload;
+        this.deliveries = deliveries;
+        this.leaseExpiry = leaseExpiry;
+        this.leaseKey = leaseKey;
+        this.claimedAt = System.nanoTime();
+    }
+
+    /**
+     * Gets the identifier of the item, the versionstamp of its enqueue or of its last redelivery.
+     *
+     * @return The identifier
+     */
+    @NonNull
+    public Versionstamp getId() {
+        return id;
+    }
+
+    /**
+     * Gets the payload of the item.
+     *
+     * @return The payload
+     */
+    @NonNull
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Gets the number of times the item has been delivered, including this delivery.
+     *
+     * @return The number of deliveries
+     */
+    public int getDeliveries() {
+        return deliveries;
+    }
+
+    /**
+     * Gets the time at which the lease of the item expires.
+     *
+     * @return The lease expiry
+     */
+    @NonNull
+    public Instant getLeaseExpiry() {
+        return leaseExpiry;
+    }
+
+    byte[] leaseKey() {
+        return leaseKey;
+    }
+
+    long claimedAt() {
+        return claimedAt;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.queue;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Records metrics of the {@link FoundationDbWorkQueue}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface WorkQueueMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    WorkQueueMetrics NOOP = new WorkQueueMetrics() {
+    };
+
+    /**
+     * Records a new queue.
+     *
+     * @param queue The name of the queue
+     * @param depth The number of items pending or leased, as of the last redelivery
+     */
+    default void created(String queue, LongSupplier depth) {
+    }
+
+    /**
+     * Records a claim which conflicted with a concurrent claim and is retried.
+     *
+     * @param queue The name of the queue
+     */
+    default void claimConflict(String queue) {
+    }
+
+    /**
+     * Records items delivered again because their lease expired.
+     *
+     * @param queue The name of the queue
+     * @param items The number of items
+     */
+    default void leasesExpired(String queue, int items) {
+    }
+
+    /**
+     * Records a completed item.
+     *
+     * @param queue The name of the queue
+     * @param nanos The time from the claim to the completion of the item
+     */
+    default void completed(String queue, long nanos) {
+    }
+}
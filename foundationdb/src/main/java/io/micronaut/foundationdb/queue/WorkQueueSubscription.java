@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.queue;
+
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * A worker of a {@link FoundationDbWorkQueue}. Batches of items are claimed and handled
+ * concurrently, and the next batch is claimed once every item of the batch has been completed or
+ * released. Once the queue is empty, the subscription waits for a watch on the notification key
+ * of the queue instead of polling.
+ *
+ * @author Nikolai Papakha
+ */
+public final class WorkQueueSubscription implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkQueueSubscription.class);
+
+    private final FoundationDbWorkQueue queue;
+
+    private final Function<WorkItem, ? extends CompletionStage<?>> handler;
+
+    @Nullable
+    private volatile CompletableFuture<Void> watch;
+
+    @Nullable
+    private volatile ScheduledFuture<?> retry;
+
+    private volatile boolean closed;
+
+    WorkQueueSubscription(FoundationDbWorkQueue queue, Function<WorkItem, ? extends CompletionStage<?>> handler) {
+        this.queue = queue;
+        this.handler = handler;
+    }
+
+    /**
+     * Whether the subscription has been closed.
+     *
+     * @return {@code true} if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops claiming items. Items being handled are still completed or released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<Void> watching = watch;
+        if (watching != null) {
+            watching.cancel(false);
+        }
+        ScheduledFuture<?> scheduled = retry;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        queue.unsubscribed(this);
+    }
+
+    void start() {
+        claim();
+    }
+
+    private void claim() {
+        if (closed) {
+            return;
+        }
+        queue.claim(queue.claimBatchSize(), true).whenComplete((claim, throwable) -> {
+            if (throwable != null) {
+                retryLater(throwable);
+            } else if (claim.watch() != null) {
+                await(claim.watch());
+            } else {
+                handle(claim.items());
+            }
+        });
+    }
+
+    private void await(CompletableFuture<Void> notification) {
+        watch = notification;
+        if (closed) {
+            notification.cancel(false);
+            return;
+        }
+        notification.whenComplete((v, throwable) -> {
+            if (closed) {
+                return;
+            }
+            if (throwable == null) {
+                claim();
+            } else {
+                retryLater(throwable);
+            }
+        });
+    }
+
+    private void handle(List<WorkItem> items) {
+        CompletableFuture<?>[] handled = items.stream().map(this::handle).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(handled).whenComplete((v, throwable) -> claim());
+    }
+
+    private CompletableFuture<Boolean> handle(WorkItem item) {
+        CompletableFuture<?> handled;
+        try {
+            handled = handler.apply(item).toCompletableFuture();
+        } catch (RuntimeException e) {
+            handled = CompletableFuture.failedFuture(e);
+        }
+        return handled.handle((result, throwable) -> throwable)
+            .thenCompose(throwable -> {
+                if (throwable == null) {
+                    return queue.complete(item);
+                }
+                LOG.warn("Item {} of queue {} failed, releasing it", item.getId(), queue.name(), throwable);
+                return queue.release(item);
+            })
+            .exceptionally(throwable -> {
+                LOG.warn("Item {} of queue {} could not be acknowledged, it is delivered again once its lease expires",
+                    item.getId(), queue.name(), throwable);
+                return false;
+            });
+    }
+
+    private void retryLater(Throwable throwable) {
+        if (closed) {
+            return;
+        }
+        LOG.warn("Claiming items of queue {} failed, retrying in {}", queue.name(), queue.retryDelay(), throwable);
+        retry = queue.taskScheduler().schedule(queue.retryDelay(), this::claim);
+    }
+}
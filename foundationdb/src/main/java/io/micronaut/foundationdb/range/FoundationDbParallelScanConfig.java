@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+/**
+ * Configuration of parallel scans executed by {@link FoundationDbParallelScanner}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbParallelScanConfig.PREFIX)
+public final class FoundationDbParallelScanConfig {
+
+    /**
+     * The prefix to use for parallel scan configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".parallel-scan";
+
+    /**
+     * The default maximum number of partitions scanned concurrently.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    @Nullable
+    private String executor;
+
+    /**
+     * Gets the maximum number of partitions scanned concurrently.
+     *
+     * @return The parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of partitions scanned concurrently. Default value: {@value #DEFAULT_PARALLELISM}.
+     *
+     * @param parallelism The parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the name of the executor service bean partitions are scanned on.
+     *
+     * @return The name of the executor bean
+     */
+    @Nullable
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the name of the executor service bean partitions are scanned on. Defaults to the
+     * executor of the client, or the {@code blocking} executor if none is configured.
+     *
+     * @param executor The name of the executor bean
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.*;
+import com.apple.foundationdb.async.AsyncUtil;
+import com.apple.foundationdb.async.CloseableAsyncIterator;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scans key ranges in parallel, split along the shard boundaries of the cluster so that every
+ * partition is served by a different set of storage servers.
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbParallelScanner {
+
+    private static final int TRANSACTION_TOO_OLD = 1007;
+
+    private final Database database;
+
+    private final ExecutorService executor;
+
+    private final int parallelism;
+
+    private final int chunkSize;
+
+    private final long maxTransactionAgeNanos;
+
+    private final ScanMetrics metrics;
+
+    /**
+     * Constructs a new {@code FoundationDbParallelScanner} instance.
+     *
+     * @param database     The FoundationDB database
+     * @param config       The parallel scan configuration
+     * @param streamConfig The range stream configuration
+     * @param clientConfig The client configuration
+     * @param beanLocator  The {@link BeanLocator}
+     * @param metrics      The scan metrics, if any
+     */
+    public FoundationDbParallelScanner(Database database,
+                                       FoundationDbParallelScanConfig config,
+                                       FoundationDbRangeStreamConfig streamConfig,
+                                       FoundationDbClientConfig clientConfig,
+                                       BeanLocator beanLocator,
+                                       Optional<ScanMetrics> metrics) {
+        this.database = database;
+        this.parallelism = Math.max(1, config.getParallelism());
+        this.chunkSize = streamConfig.getChunkSize();
+        this.maxTransactionAgeNanos = streamConfig.getMaxTransactionAge().toNanos();
+        this.metrics = metrics.orElse(ScanMetrics.NOOP);
+        String executorName = Optional.ofNullable(config.getExecutor())
+            .or(() -> Optional.ofNullable(clientConfig.getExecutor()))
+            .orElse(TaskExecutors.BLOCKING);
+        this.executor = beanLocator.getBean(ExecutorService.class, Qualifiers.byName(executorName));
+    }
+
+    /**
+     * Splits the given range along shard boundaries.
+     *
+     * @param range The range
+     * @return The ranges of the shards, in key order
+     */
+    @NonNull
+    public CompletableFuture<List<Range>> split(@NonNull Range range) {
+        CloseableAsyncIterator<byte[]> boundaries = LocalityUtil.getBoundaryKeys(database, range.begin, range.end);
+        return AsyncUtil.collectRemaining(boundaries)
+            .whenComplete((keys, throwable) -> boundaries.close())
+            .thenApply(keys -> toRanges(range, keys));
+    }
+
+    /**
+     * Scans the given range, delivering the chunks of every partition to the consumer.
+     *
+     * @param range    The range
+     * @param consumer The consumer of the scanned chunks
+     * @return The running scan
+     */
+    @NonNull
+    public ParallelScan scan(@NonNull Range range, @NonNull PartitionConsumer consumer) {
+        ParallelScan scan = new ParallelScan();
+        split(range).whenComplete((ranges, throwable) -> {
+            if (throwable != null) {
+                scan.getCompletion().completeExceptionally(throwable);
+                return;
+            }
+            List<ScanPartition> partitions = new ArrayList<>(ranges.size());
+            for (int i = 0; i < ranges.size(); i++) {
+                partitions.add(new ScanPartition(i, ranges.get(i)));
+            }
+            scan.setPartitions(List.copyOf(partitions));
+            if (partitions.isEmpty()) {
+                scan.getCompletion().complete(null);
+                return;
+            }
+            Queue<ScanPartition> pending = new ConcurrentLinkedQueue<>(partitions);
+            AtomicInteger remaining = new AtomicInteger(partitions.size());
+            int workers = Math.min(parallelism, partitions.size());
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(scan, pending, remaining, consumer));
+            }
+        });
+        return scan;
+    }
+
+    private void work(ParallelScan scan, Queue<ScanPartition> pending, AtomicInteger remaining, PartitionConsumer consumer) {
+        while (!scan.isCancelled()) {
+            ScanPartition partition = pending.poll();
+            if (partition == null) {
+                return;
+            }
+            try {
+                scanPartition(scan, partition, consumer);
+            } catch (Throwable e) {
+                scan.getCompletion().completeExceptionally(e);
+                return;
+            }
+            if (remaining.decrementAndGet() == 0) {
+                scan.getCompletion().complete(null);
+            }
+        }
+    }
+
+    private void scanPartition(ParallelScan scan, ScanPartition partition, PartitionConsumer consumer) {
+        partition.started();
+        metrics.partitionStarted();
+        byte[] cursor = partition.getRange().begin;
+        byte[] end = partition.getRange().end;
+        Transaction tr = null;
+        long transactionStart = 0;
+        try {
+            while (!scan.isCancelled()) {
+                if (tr != null && System.nanoTime() - transactionStart > maxTransactionAgeNanos) {
+                    tr.close();
+                    tr = null;
+                }
+                if (tr == null) {
+                    tr = database.createTransaction();
+                    transactionStart = System.nanoTime();
+                }
+                List<KeyValue> chunk;
+                try {
+                    chunk = tr.snapshot().getRange(
+                        KeySelector.firstGreaterOrEqual(cursor),
+                        KeySelector.firstGreaterOrEqual(end),
+                        chunkSize,
+                        false,
+                        StreamingMode.WANT_ALL
+                    ).asList().join();
+                } catch (CompletionException e) {
+                    if (!(e.getCause() instanceof FDBException error)) {
+                        throw e;
+                    }
+                    if (error.getCode() == TRANSACTION_TOO_OLD) {
+                        tr.close();
+                        tr = null;
+                    } else if (error.isRetryable()) {
+                        tr = tr.onError(error).join();
+                    } else {
+                        throw error;
+                    }
+                    continue;
+                }
+                if (!chunk.isEmpty()) {
+                    long bytes = 0;
+                    for (KeyValue kv : chunk) {
+                        bytes += kv.getKey().length + kv.getValue().length;
+                    }
+                    partition.progress(chunk.size(), bytes);
+                    metrics.chunk(chunk.size(), bytes);
+                    consumer.accept(partition, chunk);
+                    byte[] lastKey = chunk.get(chunk.size() - 1).getKey();
+                    cursor = ByteArrayUtil.join(lastKey, new byte[]{0x00});
+                }
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            if (tr != null) {
+                tr.close();
+            }
+            metrics.partitionCompleted(partition.completed());
+        }
+    }
+
+    private static List<Range> toRanges(Range range, List<byte[]> boundaries) {
+        List<Range> ranges = new ArrayList<>(boundaries.size() + 1);
+        byte[] begin = range.begin;
+        for (byte[] boundary : boundaries) {
+            if (ByteArrayUtil.compareUnsigned(boundary, begin) > 0 && ByteArrayUtil.compareUnsigned(boundary, range.end) < 0) {
+                ranges.add(new Range(begin, boundary));
+                begin = boundary;
+            }
+        }
+        if (!Arrays.equals(begin, range.end)) {
+            ranges.add(new Range(begin, range.end));
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of range streams created by {@link FoundationDbRangeStreamer}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbRangeStreamConfig.PREFIX)
+public final class FoundationDbRangeStreamConfig {
+
+    /**
+     * The prefix to use for range stream configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".range-stream";
+
+    /**
+     * The default maximum number of key-value pairs fetched in a single round trip.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final Duration DEFAULT_MAX_TRANSACTION_AGE = Duration.ofSeconds(4);
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @NonNull
+    private Duration maxTransactionAge = DEFAULT_MAX_TRANSACTION_AGE;
+
+    /**
+     * Gets the maximum number of key-value pairs fetched in a single round trip.
+     *
+     * @return The chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the maximum number of key-value pairs fetched in a single round trip. Default value: {@value #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkSize The chunk size
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the age after which a stream continues reading in a fresh transaction.
+     *
+     * @return The max transaction age
+     */
+    @NonNull
+    public Duration getMaxTransactionAge() {
+        return maxTransactionAge;
+    }
+
+    /**
+     * Sets the age after which a stream continues reading in a fresh transaction. It should stay
+     * below the 5 seconds transaction lifetime of FoundationDB. Default value: 4 seconds.
+     *
+     * @param maxTransactionAge The max transaction age
+     */
+    public void setMaxTransactionAge(@NonNull Duration maxTransactionAge) {
+        this.maxTransactionAge = maxTransactionAge;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.EventKeeper;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.Range;
+import com.apple.foundationdb.subspace.Subspace;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.Optional;
+
+/**
+ * Streams key ranges of the FoundationDB {@link Database} as Reactive Streams {@link Publisher}s.
+ *
+ * <p>Chunks are fetched only when the subscriber signals demand, so memory usage stays constant
+ * regardless of the size of the range. Scans longer than the transaction lifetime continue from
+ * the last delivered key in a fresh transaction, which means that a stream is not a consistent
+ * snapshot of the whole range.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbRangeStreamer {
+
+    private final Database database;
+
+    private final FoundationDbRangeStreamConfig config;
+
+    private final EventKeeper eventKeeper;
+
+    /**
+     * Constructs a new {@code FoundationDbRangeStreamer} instance.
+     *
+     * @param database    The FoundationDB database
+     * @param config      The range stream configuration
+     * @param eventKeeper The event keeper of the primary database, if any
+     */
+    public FoundationDbRangeStreamer(Database database,
+                                     FoundationDbRangeStreamConfig config,
+                                     @Named(FoundationDbClientConfig.DEFAULT_NAME) Optional<EventKeeper> eventKeeper) {
+        this.database = database;
+        this.config = config;
+        this.eventKeeper = eventKeeper.orElse(null);
+    }
+
+    /**
+     * Streams all key-value pairs of the given range in ascending key order.
+     *
+     * @param range The range
+     * @return The publisher
+     */
+    @NonNull
+    public Publisher<KeyValue> stream(@NonNull Range range) {
+        return stream(range, false);
+    }
+
+    /**
+     * Streams all key-value pairs of the given range.
+     *
+     * @param range   The range
+     * @param reverse Whether to stream in descending key order
+     * @return The publisher
+     */
+    @NonNull
+    public Publisher<KeyValue> stream(@NonNull Range range, boolean reverse) {
+        return new RangePublisher(
+            database,
+            range.begin,
+            range.end,
+            reverse,
+            config.getChunkSize(),
+            config.getMaxTransactionAge().toNanos(),
+            eventKeeper
+        );
+    }
+
+    /**
+     * Streams all key-value pairs of the given subspace in ascending key order.
+     *
+     * @param subspace The subspace
+     * @return The publisher
+     */
+    @NonNull
+    public Publisher<KeyValue> stream(@NonNull Subspace subspace) {
+        return stream(subspace.range(), false);
+    }
+}
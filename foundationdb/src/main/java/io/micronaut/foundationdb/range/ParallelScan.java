@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A running parallel scan started by {@link FoundationDbParallelScanner}.
+ *
+ * @author Nikolai Papakha
+ */
+public final class ParallelScan {
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private volatile List<ScanPartition> partitions = List.of();
+
+    private volatile boolean cancelled;
+
+    ParallelScan() {
+    }
+
+    /**
+     * Gets the partitions of the scan, empty until the shard boundaries have been resolved.
+     *
+     * @return The partitions
+     */
+    @NonNull
+    public List<ScanPartition> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Gets the total number of key-value pairs scanned so far.
+     *
+     * @return The number of records
+     */
+    public long getRecords() {
+        return partitions.stream().mapToLong(ScanPartition::getRecords).sum();
+    }
+
+    /**
+     * Gets the future completed once all partitions have been scanned, or exceptionally with the
+     * first error.
+     *
+     * @return The completion future
+     */
+    @NonNull
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Stops the scan after the chunks currently being consumed.
+     */
+    public void cancel() {
+        cancelled = true;
+        completion.cancel(false);
+    }
+
+    boolean isCancelled() {
+        return cancelled || completion.isDone();
+    }
+
+    void setPartitions(List<ScanPartition> partitions) {
+        this.partitions = partitions;
+    }
+}
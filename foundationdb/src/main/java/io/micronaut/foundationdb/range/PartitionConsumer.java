@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.KeyValue;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * Receives the chunks of a parallel scan. Chunks of the same partition are delivered
+ * sequentially and in key order, chunks of different partitions concurrently.
+ *
+ * @author Nikolai Papakha
+ */
+@FunctionalInterface
+public interface PartitionConsumer {
+
+    /**
+     * Consumes a chunk of key-value pairs.
+     *
+     * @param partition The partition the chunk belongs to
+     * @param chunk     The key-value pairs
+     */
+    void accept(@NonNull ScanPartition partition, @NonNull List<KeyValue> chunk);
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.*;
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import io.micronaut.core.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Publisher} of the key-value pairs in a range, fetched in chunks sized by the demand of
+ * the subscriber. Each subscription reads the range in a sequence of snapshot transactions, moving
+ * on to a fresh transaction before the current one gets too old.
+ *
+ * @author Nikolai Papakha
+ */
+final class RangePublisher implements Publisher<KeyValue> {
+
+    private static final int TRANSACTION_TOO_OLD = 1007;
+
+    private final Database database;
+
+    private final byte[] begin;
+
+    private final byte[] end;
+
+    private final boolean reverse;
+
+    private final int chunkSize;
+
+    private final long maxTransactionAgeNanos;
+
+    @Nullable
+    private final EventKeeper eventKeeper;
+
+    RangePublisher(Database database,
+                   byte[] begin,
+                   byte[] end,
+                   boolean reverse,
+                   int chunkSize,
+                   long maxTransactionAgeNanos,
+                   @Nullable EventKeeper eventKeeper) {
+        this.database = database;
+        this.begin = begin;
+        this.end = end;
+        this.reverse = reverse;
+        this.chunkSize = chunkSize;
+        this.maxTransactionAgeNanos = maxTransactionAgeNanos;
+        this.eventKeeper = eventKeeper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super KeyValue> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        RangeSubscription subscription = new RangeSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Picks the streaming mode for the outstanding demand: small demands are served with exactly
+     * one round trip, unbounded demands let the client transfer as much as possible.
+     */
+    static StreamingMode streamingMode(long demand, int limit) {
+        if (demand <= limit) {
+            return StreamingMode.EXACT;
+        }
+        return demand == Long.MAX_VALUE ? StreamingMode.WANT_ALL : StreamingMode.ITERATOR;
+    }
+
+    private final class RangeSubscription implements Subscription {
+
+        private final Subscriber<? super KeyValue> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final ArrayDeque<KeyValue> buffer = new ArrayDeque<>();
+
+        private volatile boolean cancelled;
+
+        private volatile boolean fetching;
+
+        private volatile boolean exhausted;
+
+        private volatile boolean terminated;
+
+        @Nullable
+        private volatile List<KeyValue> fetched;
+
+        @Nullable
+        private volatile Throwable error;
+
+        // Only accessed by the single in-flight fetch, guarded by the fetching flag
+        private byte[] cursorBegin = begin;
+        private byte[] cursorEnd = end;
+        @Nullable
+        private Transaction transaction;
+        private long transactionStart;
+
+        RangeSubscription(Subscriber<? super KeyValue> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("§3.9 violated: positive request amount required");
+            } else {
+                requested.getAndUpdate(current -> {
+                    long next = current + n;
+                    return next < 0 ? Long.MAX_VALUE : next;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (terminated) {
+                    if (!fetching) {
+                        closeTransaction();
+                    }
+                    return;
+                }
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                List<KeyValue> chunk = fetched;
+                if (chunk != null) {
+                    fetched = null;
+                    buffer.addAll(chunk);
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !buffer.isEmpty() && !cancelled) {
+                    subscriber.onNext(buffer.poll());
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                Throwable failure = error;
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (buffer.isEmpty() && !fetching) {
+                    if (exhausted) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    long outstanding = requested.get();
+                    if (outstanding > 0 && !cancelled) {
+                        fetching = true;
+                        fetch(outstanding);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetch(long demand) {
+            Transaction tr;
+            try {
+                tr = currentTransaction();
+            } catch (RuntimeException e) {
+                onFetchError(e);
+                return;
+            }
+            int limit = (int) Math.min(demand, chunkSize);
+            tr.snapshot().getRange(
+                KeySelector.firstGreaterOrEqual(cursorBegin),
+                KeySelector.firstGreaterOrEqual(cursorEnd),
+                limit,
+                reverse,
+                streamingMode(demand, limit)
+            ).asList().whenComplete((chunk, throwable) -> {
+                if (throwable != null) {
+                    onFetchError(throwable);
+                } else {
+                    onChunk(chunk, limit);
+                }
+            });
+        }
+
+        private void onChunk(List<KeyValue> chunk, int limit) {
+            if (!chunk.isEmpty()) {
+                byte[] lastKey = chunk.get(chunk.size() - 1).getKey();
+                if (reverse) {
+                    cursorEnd = lastKey;
+                } else {
+                    cursorBegin = ByteArrayUtil.join(lastKey, new byte[]{0x00});
+                }
+                count(RangeStreamEvents.RANGE_STREAM_CHUNKS, 1);
+                count(RangeStreamEvents.RANGE_STREAM_RECORDS, chunk.size());
+            }
+            exhausted = chunk.size() < limit;
+            fetched = chunk;
+            fetching = false;
+            drain();
+        }
+
+        private void onFetchError(Throwable throwable) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            Transaction tr = transaction;
+            if (cause instanceof FDBException fdbException && tr != null) {
+                if (fdbException.getCode() == TRANSACTION_TOO_OLD) {
+                    count(RangeStreamEvents.RANGE_STREAM_RESUMES, 1);
+                    closeTransaction();
+                    fetching = false;
+                    drain();
+                    return;
+                }
+                if (fdbException.isRetryable()) {
+                    tr.onError(fdbException).whenComplete((next, retryError) -> {
+                        if (retryError != null) {
+                            closeTransaction();
+                            error = retryError;
+                        } else {
+                            transaction = next;
+                        }
+                        fetching = false;
+                        drain();
+                    });
+                    return;
+                }
+            }
+            error = cause;
+            fetching = false;
+            drain();
+        }
+
+        private Transaction currentTransaction() {
+            Transaction tr = transaction;
+            if (tr != null && System.nanoTime() - transactionStart > maxTransactionAgeNanos) {
+                count(RangeStreamEvents.RANGE_STREAM_RESUMES, 1);
+                closeTransaction();
+                tr = null;
+            }
+            if (tr == null) {
+                tr = database.createTransaction();
+                transaction = tr;
+                transactionStart = System.nanoTime();
+            }
+            return tr;
+        }
+
+        private void closeTransaction() {
+            Transaction tr = transaction;
+            if (tr != null) {
+                transaction = null;
+                tr.close();
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            buffer.clear();
+            if (!fetching) {
+                closeTransaction();
+            }
+        }
+
+        private void count(EventKeeper.Event event, long amount) {
+            if (eventKeeper != null) {
+                eventKeeper.count(event, amount);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.EventKeeper;
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Events reported by range streams to the {@link EventKeeper}, in addition to the
+ * {@code RANGE_QUERY_*} events reported by the client for every fetched chunk.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public enum RangeStreamEvents implements EventKeeper.Event {
+
+    /**
+     * The number of chunks delivered to subscribers.
+     */
+    RANGE_STREAM_CHUNKS,
+
+    /**
+     * The number of key-value pairs delivered to subscribers.
+     */
+    RANGE_STREAM_RECORDS,
+
+    /**
+     * The number of times a stream continued reading in a fresh transaction.
+     */
+    RANGE_STREAM_RESUMES
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of parallel scans.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface ScanMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    ScanMetrics NOOP = new ScanMetrics() {
+    };
+
+    /**
+     * Records the start of a partition scan.
+     */
+    default void partitionStarted() {
+    }
+
+    /**
+     * Records a scanned chunk.
+     *
+     * @param records The number of key-value pairs
+     * @param bytes   The number of key and value bytes
+     */
+    default void chunk(long records, long bytes) {
+    }
+
+    /**
+     * Records the end of a partition scan.
+     *
+     * @param nanos The time taken to scan the partition
+     */
+    default void partitionCompleted(long nanos) {
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.range;
+
+import com.apple.foundationdb.Range;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A partition of a parallel scan, aligned to a shard of the cluster, and its progress.
+ *
+ * @author Nikolai Papakha
+ */
+public final class ScanPartition {
+
+    private final int index;
+
+    private final Range range;
+
+    private final AtomicLong records = new AtomicLong();
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private volatile long startedAt;
+
+    private volatile long completedAt;
+
+    ScanPartition(int index, Range range) {
+        this.index = index;
+        this.range = range;
+    }
+
+    /**
+     * Gets the position of the partition in the scanned range.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the key range of the partition.
+     *
+     * @return The range
+     */
+    @NonNull
+    public Range getRange() {
+        return range;
+    }
+
+    /**
+     * Gets the number of key-value pairs scanned so far.
+     *
+     * @return The number of records
+     */
+    public long getRecords() {
+        return records.get();
+    }
+
+    /**
+     * Gets the number of key and value bytes scanned so far.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Whether the partition has been scanned completely.
+     *
+     * @return {@code true} if completed
+     */
+    public boolean isCompleted() {
+        return completedAt != 0;
+    }
+
+    /**
+     * Gets the scan throughput of the partition in key-value pairs per second.
+     *
+     * @return The throughput
+     */
+    public double getRecordsPerSecond() {
+        long started = startedAt;
+        if (started == 0) {
+            return 0;
+        }
+        long completed = completedAt;
+        long elapsed = (completed == 0 ? System.nanoTime() : completed) - started;
+        return elapsed <= 0 ? 0 : records.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    void started() {
+        startedAt = System.nanoTime();
+    }
+
+    void progress(long chunkRecords, long chunkBytes) {
+        records.addAndGet(chunkRecords);
+        bytes.addAndGet(chunkBytes);
+    }
+
+    long completed() {
+        completedAt = System.nanoTime();
+        return completedAt - startedAt;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous CRUD operations of a {@link FdbRepository}. The operations on several entities run
+ * in one transaction, reading all keys concurrently.
+ *
+ * @param <E>  The type of the entity
+ * @param <ID> The type of the key
+ * @author Nikolai Papakha
+ */
+public interface FdbAsyncCrudRepository<E, ID> extends FdbGenericRepository<E, ID> {
+
+    /**
+     * Finds an entity by its key.
+     *
+     * @param id The key
+     * @return The entity, if stored
+     */
+    @NonNull
+    CompletableFuture<Optional<E>> findById(@NonNull ID id);
+
+    /**
+     * Whether an entity is stored under a key.
+     *
+     * @param id The key
+     * @return {@code true} if stored
+     */
+    @NonNull
+    CompletableFuture<Boolean> existsById(@NonNull ID id);
+
+    /**
+     * Finds the entities stored under the given keys.
+     *
+     * @param ids The keys
+     * @return The stored entities, in the order of their keys
+     */
+    @NonNull
+    CompletableFuture<List<E>> findAllById(@NonNull Iterable<ID> ids);
+
+    /**
+     * Finds all entities of the repository, in key order. Meant for small repositories, since all
+     * entities are read in a single transaction.
+     *
+     * @return The entities
+     */
+    @NonNull
+    CompletableFuture<List<E>> findAll();
+
+    /**
+     * Stores an entity under its key.
+     *
+     * @param entity The entity
+     * @return The entity
+     */
+    @NonNull
+    CompletableFuture<E> save(@NonNull E entity);
+
+    /**
+     * Stores entities under their keys.
+     *
+     * @param entities The entities
+     * @return The entities
+     */
+    @NonNull
+    CompletableFuture<List<E>> saveAll(@NonNull Iterable<E> entities);
+
+    /**
+     * Deletes the entity stored under a key.
+     *
+     * @param id The key
+     */
+    @NonNull
+    CompletableFuture<Void> deleteById(@NonNull ID id);
+
+    /**
+     * Deletes an entity.
+     *
+     * @param entity The entity
+     */
+    @NonNull
+    CompletableFuture<Void> delete(@NonNull E entity);
+
+    /**
+     * Deletes the entities stored under the given keys.
+     *
+     * @param ids The keys
+     */
+    @NonNull
+    CompletableFuture<Void> deleteAllById(@NonNull Iterable<ID> ids);
+
+    /**
+     * Deletes all entities of the repository.
+     */
+    @NonNull
+    CompletableFuture<Void> deleteAll();
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+/**
+ * Common super interface of the FoundationDB repositories, carrying their type arguments.
+ *
+ * @param <E>  The type of the entity
+ * @param <ID> The type of the key, an {@link io.micronaut.foundationdb.key.FdbKey} record, an
+ *             introspected type or a single tuple element such as {@code String}, {@code Long} or {@code UUID}
+ * @author Nikolai Papakha
+ */
+public interface FdbGenericRepository<E, ID> {
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+import io.micronaut.aop.Introduction;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import jakarta.inject.Singleton;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an interface extending {@link FdbCrudRepository} or {@link FdbAsyncCrudRepository} as a
+ * repository whose implementation is introduced at compile time.
+ *
+ * <p>Entities are serialized as JSON with the {@link io.micronaut.json.JsonMapper} of
+ * micronaut-serde and stored under their {@link FdbId} packed as a tuple in the subspace of the
+ * repository. Besides the inherited methods, an interface may declare prefix finders named
+ * {@code findBy<Component>[And<Component>...]}, whose parameters are the leading components of
+ * the key, returning a {@code List} of entities or a {@code CompletableFuture} of it.</p>
+ *
+ * <p>Within an {@link io.micronaut.foundationdb.transaction.FdbTransactional} method, repositories
+ * use the bound transaction, otherwise each call runs in a transaction of its own.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Introduction
+@Type(FdbRepositoryInterceptor.class)
+@Singleton
+public @interface FdbRepository {
+
+    /**
+     * The name of the subspace of the repository, defaults to the simple name of the entity.
+     *
+     * @return The subspace name
+     */
+    String value() default "";
+
+    /**
+     * The path of a directory of the directory layer to store the entities in, instead of a
+     * subspace named by {@link #value()}.
+     *
+     * @return The directory path
+     */
+    String[] directory() default {};
+
+    /**
+     * The name of the database, the primary database by default.
+     *
+     * @return The database name
+     */
+    String database() default FoundationDbClientConfig.DEFAULT_NAME;
+}
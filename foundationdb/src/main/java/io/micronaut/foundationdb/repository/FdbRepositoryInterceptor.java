@@ -0,0 +1,291 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.KeyValue;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.Transaction;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.foundationdb.FoundationDbDirectoryRegistry;
+import io.micronaut.foundationdb.key.FdbKeyCodec;
+import io.micronaut.foundationdb.transaction.CurrentTransaction;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Interceptor implementing the methods of {@link FdbRepository} interfaces.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+@Singleton
+final class FdbRepositoryInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final BeanContext beanContext;
+
+    private final ConversionService conversionService;
+
+    private final Map<Class<?>, RepositoryDefinition> repositories = new ConcurrentHashMap<>();
+
+    private final Map<ExecutableMethod<?, ?>, Operation> operations = new ConcurrentHashMap<>();
+
+    FdbRepositoryInterceptor(BeanContext beanContext, ConversionService conversionService) {
+        this.beanContext = beanContext;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            Object target = context.getTarget();
+            RepositoryDefinition repository = repositories.computeIfAbsent(target.getClass(), type -> createRepository(target));
+            Operation operation = operations.computeIfAbsent(context.getExecutableMethod(), Operation::of);
+            boolean optional = interceptedMethod.returnTypeValue().getType() == Optional.class;
+            CompletableFuture<Object> result = execute(repository, operation, context.getParameterValues(), optional);
+            return switch (interceptedMethod.resultType()) {
+                case SYNCHRONOUS -> join(result);
+                case COMPLETION_STAGE -> interceptedMethod.handleResult(result);
+                default -> interceptedMethod.unsupported();
+            };
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    private CompletableFuture<Object> execute(RepositoryDefinition repository, Operation operation, Object[] arguments, boolean optional) {
+        // the bound transaction is captured here, since the continuations may run on other threads
+        Transaction current = CurrentTransaction.find().orElse(null);
+        return switch (operation) {
+            case FIND_BY_ID -> read(repository, current, (tr, subspace) -> tr.get(repository.key(subspace, arguments[0]))
+                .thenApply(value -> {
+                    Object entity = value == null ? null : repository.deserialize(value);
+                    return optional ? Optional.ofNullable(entity) : entity;
+                }));
+            case EXISTS_BY_ID -> read(repository, current, (tr, subspace) -> tr.get(repository.key(subspace, arguments[0]))
+                .thenApply(value -> (Object) (value != null)));
+            case FIND_ALL_BY_ID -> read(repository, current, (tr, subspace) -> {
+                List<CompletableFuture<byte[]>> values = new ArrayList<>();
+                for (Object id : (Iterable<?>) arguments[0]) {
+                    values.add(tr.get(repository.key(subspace, id)));
+                }
+                return CompletableFuture.allOf(values.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+                    List<Object> entities = new ArrayList<>(values.size());
+                    for (CompletableFuture<byte[]> value : values) {
+                        byte[] bytes = value.join();
+                        if (bytes != null) {
+                            entities.add(repository.deserialize(bytes));
+                        }
+                    }
+                    return entities;
+                });
+            });
+            case FIND_ALL -> read(repository, current, (tr, subspace) -> readRange(repository, tr, subspace));
+            case FIND_BY_PREFIX -> read(repository, current, (tr, subspace) -> readRange(repository, tr, subspace.get(prefix(arguments))));
+            case SAVE -> write(repository, current, (tr, subspace) -> {
+                tr.set(repository.key(subspace, repository.id(arguments[0])), repository.serialize(arguments[0]));
+                return CompletableFuture.completedFuture(arguments[0]);
+            });
+            case SAVE_ALL -> write(repository, current, (tr, subspace) -> {
+                List<Object> entities = new ArrayList<>();
+                for (Object entity : (Iterable<?>) arguments[0]) {
+                    tr.set(repository.key(subspace, repository.id(entity)), repository.serialize(entity));
+                    entities.add(entity);
+                }
+                return CompletableFuture.completedFuture(entities);
+            });
+            case DELETE_BY_ID -> write(repository, current, (tr, subspace) -> {
+                tr.clear(repository.key(subspace, arguments[0]));
+                return CompletableFuture.completedFuture(null);
+            });
+            case DELETE -> write(repository, current, (tr, subspace) -> {
+                tr.clear(repository.key(subspace, repository.id(arguments[0])));
+                return CompletableFuture.completedFuture(null);
+            });
+            case DELETE_ALL_BY_ID -> write(repository, current, (tr, subspace) -> {
+                for (Object id : (Iterable<?>) arguments[0]) {
+                    tr.clear(repository.key(subspace, id));
+                }
+                return CompletableFuture.completedFuture(null);
+            });
+            case DELETE_ALL -> write(repository, current, (tr, subspace) -> {
+                tr.clear(subspace.range());
+                return CompletableFuture.completedFuture(null);
+            });
+        };
+    }
+
+    private CompletableFuture<Object> readRange(RepositoryDefinition repository, ReadTransaction tr, Subspace subspace) {
+        return tr.getRange(subspace.range()).asList().thenApply(keyValues -> {
+            List<Object> entities = new ArrayList<>(keyValues.size());
+            for (KeyValue keyValue : keyValues) {
+                entities.add(repository.deserialize(keyValue.getValue()));
+            }
+            return entities;
+        });
+    }
+
+    private static CompletableFuture<Object> read(RepositoryDefinition repository,
+                                                  @Nullable Transaction current,
+                                                  BiFunction<ReadTransaction, Subspace, CompletableFuture<Object>> work) {
+        return repository.subspace().thenCompose(subspace -> current == null
+            ? repository.database().readAsync(tr -> work.apply(tr, subspace))
+            : work.apply(current, subspace));
+    }
+
+    private static CompletableFuture<Object> write(RepositoryDefinition repository,
+                                                   @Nullable Transaction current,
+                                                   BiFunction<Transaction, Subspace, CompletableFuture<Object>> work) {
+        return repository.subspace().thenCompose(subspace -> current == null
+            ? repository.database().runAsync(tr -> work.apply(tr, subspace))
+            : work.apply(current, subspace));
+    }
+
+    private static Tuple prefix(Object[] arguments) {
+        return Tuple.fromList(Arrays.stream(arguments).map(TupleKeyCodec::toElement).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private RepositoryDefinition createRepository(Object target) {
+        BeanDefinition<Object> definition = beanContext.findBeanRegistration(target)
+            .map(BeanRegistration::getBeanDefinition)
+            .orElseThrow(() -> new IllegalStateException("No bean definition found for repository " + target.getClass().getName()));
+        String name = definition.getBeanType().getSimpleName();
+        List<Argument<?>> typeArguments = definition.getTypeArguments(FdbGenericRepository.class);
+        if (typeArguments.size() != 2) {
+            throw new IllegalStateException("Repository " + name + " must extend FdbCrudRepository or FdbAsyncCrudRepository");
+        }
+        Argument<Object> entityType = (Argument<Object>) typeArguments.get(0);
+        Class<Object> idType = (Class<Object>) typeArguments.get(1).getType();
+
+        BeanIntrospection<Object> introspection = BeanIntrospector.SHARED.findIntrospection(entityType.getType())
+            .orElseThrow(() -> new IllegalStateException(
+                "Entity " + entityType.getTypeName() + " of repository " + name + " must be annotated with @Serdeable or @Introspected"
+            ));
+        BeanProperty<Object, Object> idProperty = (BeanProperty<Object, Object>) introspection.getBeanProperties().stream()
+            .filter(property -> property.hasAnnotation(FdbId.class))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Entity " + entityType.getTypeName() + " has no @FdbId property"));
+
+        FdbKeyCodec<Object> keyCodec = beanContext.findBean(Argument.of(FdbKeyCodec.class, idType))
+            .map(codec -> (FdbKeyCodec<Object>) codec)
+            .orElseGet(() -> TupleKeyCodec.of(idType, conversionService));
+
+        AnnotationValue<FdbRepository> annotation = definition.getAnnotation(FdbRepository.class);
+        String subspaceName = annotation == null ? "" : annotation.stringValue().orElse("");
+        List<String> directory = annotation == null ? List.of() : List.of(annotation.stringValues("directory"));
+        String database = annotation == null ? "" : annotation.stringValue("database").orElse("");
+        return new RepositoryDefinition(
+            name,
+            database.isEmpty() ? beanContext.getBean(Database.class) : beanContext.getBean(Database.class, Qualifiers.byName(database)),
+            entityType,
+            idProperty,
+            keyCodec,
+            beanContext.getBean(JsonMapper.class),
+            directory.isEmpty() ? null : directories(database),
+            subspaceName.isEmpty() ? entityType.getType().getSimpleName() : subspaceName,
+            directory
+        );
+    }
+
+    private FoundationDbDirectoryRegistry directories(String database) {
+        return database.isEmpty()
+            ? beanContext.getBean(FoundationDbDirectoryRegistry.class)
+            : beanContext.getBean(FoundationDbDirectoryRegistry.class, Qualifiers.byName(database));
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The operation implemented by a repository method, derived from its name.
+     */
+    private enum Operation {
+        FIND_BY_ID,
+        EXISTS_BY_ID,
+        FIND_ALL_BY_ID,
+        FIND_ALL,
+        FIND_BY_PREFIX,
+        SAVE,
+        SAVE_ALL,
+        DELETE_BY_ID,
+        DELETE,
+        DELETE_ALL_BY_ID,
+        DELETE_ALL;
+
+        static Operation of(ExecutableMethod<?, ?> method) {
+            String name = method.getMethodName();
+            int arguments = method.getArguments().length;
+            Operation operation = switch (name) {
+                case "findById" -> FIND_BY_ID;
+                case "existsById" -> EXISTS_BY_ID;
+                case "findAllById" -> FIND_ALL_BY_ID;
+                case "findAll" -> FIND_ALL;
+                case "save" -> SAVE;
+                case "saveAll" -> SAVE_ALL;
+                case "deleteById" -> DELETE_BY_ID;
+                case "delete" -> DELETE;
+                case "deleteAllById" -> DELETE_ALL_BY_ID;
+                case "deleteAll" -> DELETE_ALL;
+                default -> name.startsWith("findBy") && arguments > 0 ? FIND_BY_PREFIX : null;
+            };
+            if (operation == null || (operation != FIND_BY_PREFIX && arguments != operation.arguments())) {
+                throw new IllegalStateException("Unsupported repository method " + method.getDeclaringType().getSimpleName() + '.' + name);
+            }
+            return operation;
+        }
+
+        private int arguments() {
+            return this == FIND_ALL || this == DELETE_ALL ? 0 : 1;
+        }
+    }
+}
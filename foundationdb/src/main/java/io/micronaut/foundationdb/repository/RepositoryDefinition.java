@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.subspace.Subspace;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.type.Argument;
+import io.micronaut.foundationdb.FoundationDbDirectoryRegistry;
+import io.micronaut.foundationdb.key.FdbKeyCodec;
+import io.micronaut.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The resolved types, key codec and location of a {@link FdbRepository}.
+ *
+ * @author Nikolai Papakha
+ */
+final class RepositoryDefinition {
+
+    private final String name;
+
+    private final Database database;
+
+    private final Argument<Object> entityType;
+
+    private final BeanProperty<Object, Object> idProperty;
+
+    private final FdbKeyCodec<Object> keyCodec;
+
+    private final JsonMapper jsonMapper;
+
+    @Nullable
+    private final FoundationDbDirectoryRegistry directories;
+
+    private final List<String> directory;
+
+    private final CompletableFuture<Subspace> subspace;
+
+    RepositoryDefinition(String name,
+                         Database database,
+                         Argument<Object> entityType,
+                         BeanProperty<Object, Object> idProperty,
+                         FdbKeyCodec<Object> keyCodec,
+                         JsonMapper jsonMapper,
+                         @Nullable FoundationDbDirectoryRegistry directories,
+                         String subspaceName,
+                         List<String> directory) {
+        this.name = name;
+        this.database = database;
+        this.entityType = entityType;
+        this.idProperty = idProperty;
+        this.keyCodec = keyCodec;
+        this.jsonMapper = jsonMapper;
+        this.directories = directories;
+        this.directory = directory;
+        this.subspace = CompletableFuture.completedFuture(new Subspace(Tuple.from(subspaceName)));
+    }
+
+    Database database() {
+        return database;
+    }
+
+    /**
+     * Gets the subspace of the repository. The subspace of a directory is cached by the
+     * {@link FoundationDbDirectoryRegistry}, which follows moves of the directory.
+     */
+    CompletableFuture<? extends Subspace> subspace() {
+        return directories == null ? subspace : directories.resolve(directory);
+    }
+
+    byte[] key(Subspace subspace, Object id) {
+        return keyCodec.pack(subspace.getKey(), id);
+    }
+
+    Object id(Object entity) {
+        Object id = idProperty.get(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("The @FdbId property " + idProperty.getName() + " of " + name + " is null");
+        }
+        return id;
+    }
+
+    byte[] serialize(Object entity) {
+        try {
+            return jsonMapper.writeValueAsBytes(entityType, entity);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Entity of " + name + " cannot be serialized: " + e.getMessage(), e);
+        }
+    }
+
+    Object deserialize(byte[] value) {
+        try {
+            return jsonMapper.readValue(value, entityType);
+        } catch (IOException e) {
+            throw new IllegalStateException("Entity of " + name + " cannot be deserialized: " + e.getMessage(), e);
+        }
+    }
+}
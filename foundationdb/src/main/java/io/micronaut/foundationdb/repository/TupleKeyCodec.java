@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.repository;
+
+import com.apple.foundationdb.tuple.ByteArrayUtil;
+import com.apple.foundationdb.tuple.Tuple;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.foundationdb.key.FdbKeyCodec;
+
+import java.util.UUID;
+
+/**
+ * Key codec of repositories whose key is not a {@link io.micronaut.foundationdb.key.FdbKey}
+ * record, packing a single tuple element or the constructor arguments of an introspected type
+ * with {@link Tuple}.
+ *
+ * @param <K> The type of the key
+ * @author Nikolai Papakha
+ */
+final class TupleKeyCodec<K> implements FdbKeyCodec<K> {
+
+    private final Class<K> keyType;
+
+    @Nullable
+    private final BeanIntrospection<K> introspection;
+
+    private final ConversionService conversionService;
+
+    private TupleKeyCodec(Class<K> keyType, @Nullable BeanIntrospection<K> introspection, ConversionService conversionService) {
+        this.keyType = keyType;
+        this.introspection = introspection;
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * Creates a codec for the given key type.
+     *
+     * @param keyType           The type of the key
+     * @param conversionService The conversion service
+     * @param <K>               The type of the key
+     * @return The codec
+     * @throws IllegalStateException if the type is neither a tuple element nor introspected
+     */
+    static <K> TupleKeyCodec<K> of(Class<K> keyType, ConversionService conversionService) {
+        if (isElement(keyType)) {
+            return new TupleKeyCodec<>(keyType, null, conversionService);
+        }
+        BeanIntrospection<K> introspection = BeanIntrospector.SHARED.findIntrospection(keyType).orElseThrow(() -> new IllegalStateException(
+            "Key type " + keyType.getName() + " must be annotated with @FdbKey or @Introspected, or be a single tuple element"
+        ));
+        return new TupleKeyCodec<>(keyType, introspection, conversionService);
+    }
+
+    /**
+     * Converts a value to a tuple element, enums are packed by name.
+     *
+     * @param value The value
+     * @return The tuple element
+     */
+    static Object toElement(Object value) {
+        return value instanceof Enum<?> e ? e.name() : value;
+    }
+
+    @Override
+    @NonNull
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    @Override
+    @NonNull
+    public byte[] pack(@NonNull K key) {
+        return toTuple(key).pack();
+    }
+
+    @Override
+    @NonNull
+    public byte[] pack(@NonNull byte[] prefix, @NonNull K key) {
+        return ByteArrayUtil.join(prefix, toTuple(key).pack());
+    }
+
+    @Override
+    @NonNull
+    public K unpack(@NonNull byte[] key) {
+        return fromTuple(Tuple.fromBytes(key));
+    }
+
+    @Override
+    @NonNull
+    public K unpack(@NonNull byte[] prefix, @NonNull byte[] key) {
+        if (!ByteArrayUtil.startsWith(key, prefix)) {
+            throw new IllegalArgumentException("Key does not start with the prefix " + ByteArrayUtil.printable(prefix));
+        }
+        return fromTuple(Tuple.fromBytes(key, prefix.length, key.length - prefix.length));
+    }
+
+    private Tuple toTuple(K key) {
+        if (introspection == null) {
+            return Tuple.from(toElement(key));
+        }
+        Argument<?>[] components = introspection.getConstructorArguments();
+        Object[] elements = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            elements[i] = toElement(introspection.getRequiredProperty(components[i].getName(), Object.class).get(key));
+        }
+        return Tuple.from(elements);
+    }
+
+    private K fromTuple(Tuple tuple) {
+        if (introspection == null) {
+            if (tuple.size() != 1) {
+                throw new IllegalArgumentException("Expected a tuple of 1 element but found " + tuple.size());
+            }
+            return convert(tuple.get(0), Argument.of(keyType));
+        }
+        Argument<?>[] components = introspection.getConstructorArguments();
+        if (tuple.size() != components.length) {
+            throw new IllegalArgumentException("Expected a tuple of " + components.length + " elements but found " + tuple.size());
+        }
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            values[i] = convert(tuple.get(i), components[i]);
+        }
+        return introspection.instantiate(values);
+    }
+
+    private <T> T convert(Object element, Argument<T> type) {
+        if (element == null) {
+            return null;
+        }
+        return conversionService.convert(element, type).orElseThrow(() -> new IllegalArgumentException(
+            "Cannot convert tuple element " + element + " to " + type.getTypeName()
+        ));
+    }
+
+    private static boolean isElement(Class<?> type) {
+        return type == String.class || type == byte[].class || type == UUID.class || type == Boolean.class
+            || type.isEnum() || Number.class.isAssignableFrom(type);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Gives access to the transaction bound by {@link FdbTransactional} to the current thread.
+ *
+ * <p>The transaction is only bound while the intercepted method body is executing on the
+ * calling thread. Asynchronous continuations should declare a {@link Transaction} parameter
+ * instead.</p>
+ *
+ * @author Nikolai Papakha
+ */
+public final class CurrentTransaction {
+
+    private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+
+    private CurrentTransaction() {
+    }
+
+    /**
+     * Finds the transaction bound to the current thread.
+     *
+     * @return The transaction, if any
+     */
+    @NonNull
+    public static Optional<Transaction> find() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Gets the transaction bound to the current thread.
+     *
+     * @return The transaction
+     * @throws IllegalStateException if no transaction is bound
+     */
+    @NonNull
+    public static Transaction get() {
+        Transaction transaction = CURRENT.get();
+        if (transaction == null) {
+            throw new IllegalStateException("No FoundationDB transaction is bound to the current thread");
+        }
+        return transaction;
+    }
+
+    @Nullable
+    static Transaction bind(@Nullable Transaction transaction) {
+        Transaction previous = CURRENT.get();
+        if (transaction == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(transaction);
+        }
+        return previous;
+    }
+}
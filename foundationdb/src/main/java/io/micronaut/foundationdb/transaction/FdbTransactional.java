@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated method inside a FoundationDB transaction which is committed when the
+ * method completes and retried on retryable errors.
+ *
+ * <p>The bound {@link com.apple.foundationdb.Transaction} is passed to any parameter of a
+ * compatible type which is {@code null}, and is available through {@link CurrentTransaction}
+ * while the method body is executing. Methods returning a
+ * {@link java.util.concurrent.CompletionStage} are committed once the returned stage
+ * completes.</p>
+ *
+ * <p>A method called while a transaction is bound to the current thread, e.g. from another
+ * {@code FdbTransactional} method, joins that transaction: it is neither committed nor retried
+ * on its own, and its {@link #retryLimit()} and {@link #timeout()} are ignored.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+public @interface FdbTransactional {
+
+    /**
+     * The maximum number of retries, a negative value uses the configured default.
+     *
+     * @return The retry limit
+     */
+    int retryLimit() default -1;
+
+    /**
+     * The total time budget of the transaction including retries in milliseconds, a negative
+     * value uses the configured default.
+     *
+     * @return The timeout in milliseconds
+     */
+    long timeout() default -1;
+
+    /**
+     * Whether the method is safe to retry when the outcome of a commit is unknown,
+     * e.g. on {@code commit_unknown_result}.
+     *
+     * @return {@code true} if the method is idempotent
+     */
+    boolean idempotent() default false;
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.MutableArgumentValue;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import io.micronaut.foundationdb.diagnostics.FoundationDbConflictDiagnostics;
+import io.micronaut.inject.ExecutableMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Interceptor executing {@link FdbTransactional} methods in a retry loop. A method called while a
+ * transaction is bound to the current thread joins it, and leaves the commit and the retries to
+ * the outermost method.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+@InterceptorBean(FdbTransactional.class)
+final class FdbTransactionalInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final Database database;
+
+    private final FoundationDbTransactionConfig config;
+
+    private final int defaultRetryLimit;
+
+    private final long defaultTimeoutMillis;
+
+    private final TransactionMetrics metrics;
+
+    private final ConversionService conversionService;
+
+    @Nullable
+    private final FoundationDbConflictDiagnostics diagnostics;
+
+    private final Map<ExecutableMethod<?, ?>, TransactionPolicy> policies = new ConcurrentHashMap<>();
+
+    FdbTransactionalInterceptor(Database database,
+                                FoundationDbTransactionConfig config,
+                                FoundationDbClientConfig clientConfig,
+                                Optional<TransactionMetrics> metrics,
+                                ConversionService conversionService,
+                                Optional<FoundationDbConflictDiagnostics> diagnostics) {
+        this.database = database;
+        this.config = config;
+        this.defaultRetryLimit = config.resolveRetryLimit(clientConfig.getTransactionOptions());
+        this.defaultTimeoutMillis = config.resolveTimeout(clientConfig.getTransactionOptions()).toMillis();
+        this.metrics = metrics.orElse(TransactionMetrics.NOOP);
+        this.conversionService = conversionService;
+        this.diagnostics = diagnostics.orElse(null);
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Transaction current = CurrentTransaction.find().orElse(null);
+        if (current != null) {
+            injectTransaction(transactionArguments(context), current);
+            return context.proceed(this);
+        }
+        TransactionPolicy policy = policies.computeIfAbsent(context.getExecutableMethod(), this::createPolicy);
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            return switch (interceptedMethod.resultType()) {
+                case SYNCHRONOUS -> executeBlocking(context, policy);
+                case COMPLETION_STAGE -> interceptedMethod.handleResult(executeAsync(context, interceptedMethod, policy));
+                default -> interceptedMethod.unsupported();
+            };
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    private Object executeBlocking(MethodInvocationContext<Object, Object> context, TransactionPolicy policy) {
+        Attempt attempt = new Attempt(policy, transactionArguments(context));
+        while (true) {
+            Transaction transaction = attempt.begin(database);
+            Transaction previous = CurrentTransaction.bind(transaction);
+            try {
+                injectTransaction(attempt.arguments, transaction);
+                Object result = context.proceed(this);
+                attempt.commit(transaction).join();
+                return result;
+            } catch (RuntimeException e) {
+                FDBException error = unwrap(e);
+                recordConflict(transaction, error).join();
+                if (error == null || !attempt.shouldRetry(error)) {
+                    policy.recorder().failure(e);
+                    throw error == null ? e : error;
+                }
+                sleep(attempt.nextBackoffNanos());
+            } finally {
+                CurrentTransaction.bind(previous);
+                transaction.close();
+            }
+        }
+    }
+
+    private CompletableFuture<Object> executeAsync(MethodInvocationContext<Object, Object> context,
+                                                   InterceptedMethod interceptedMethod,
+                                                   TransactionPolicy policy) {
+        Attempt attempt = new Attempt(policy, transactionArguments(context));
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        runAttempt(context, interceptedMethod, attempt, result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runAttempt(MethodInvocationContext<Object, Object> context,
+                            InterceptedMethod interceptedMethod,
+                            Attempt attempt,
+                            CompletableFuture<Object> result) {
+        Transaction transaction = attempt.begin(database);
+        CompletionStage<Object> stage;
+        Transaction previous = CurrentTransaction.bind(transaction);
+        try {
+            injectTransaction(attempt.arguments, transaction);
+            stage = (CompletionStage<Object>) interceptedMethod.interceptResultAsCompletionStage(this);
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        } finally {
+            CurrentTransaction.bind(previous);
+        }
+        stage.thenCompose(value -> attempt.commit(transaction).thenApply(ignored -> value))
+            .whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    transaction.close();
+                    result.complete(value);
+                    return;
+                }
+                FDBException error = unwrap(throwable);
+                recordConflict(transaction, error).whenComplete((ignored, t) -> {
+                    transaction.close();
+                    retryOrFail(context, interceptedMethod, attempt, result, throwable, error);
+                });
+            });
+    }
+
+    private void retryOrFail(MethodInvocationContext<Object, Object> context,
+                             InterceptedMethod interceptedMethod,
+                             Attempt attempt,
+                             CompletableFuture<Object> result,
+                             Throwable throwable,
+                             @Nullable FDBException error) {
+        if (error == null || !attempt.shouldRetry(error)) {
+            attempt.policy.recorder().failure(throwable);
+            result.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            return;
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(attempt.nextBackoffNanos(), TimeUnit.NANOSECONDS, database.getExecutor());
+        delayed.execute(() -> runAttempt(context, interceptedMethod, attempt, result));
+    }
+
+    /**
+     * Records the conflicting keys of a transaction which failed to commit, before it is closed.
+     */
+    private CompletableFuture<?> recordConflict(Transaction transaction, @Nullable FDBException error) {
+        if (diagnostics == null || error == null || !FoundationDbConflictDiagnostics.isConflict(error)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return diagnostics.record(transaction);
+    }
+
+    /**
+     * Finds the parameters the transaction is injected into, those of a compatible type which the
+     * caller left {@code null}. They are resolved once per invocation, since later attempts find
+     * them holding the transaction of the previous attempt.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<MutableArgumentValue<Object>> transactionArguments(MethodInvocationContext<Object, Object> context) {
+        List<MutableArgumentValue<Object>> arguments = new ArrayList<>(1);
+        for (MutableArgumentValue<?> argument : context.getParameters().values()) {
+            Class<?> type = argument.getType();
+            if (argument.getValue() == null && type != Object.class && type.isAssignableFrom(Transaction.class)) {
+                arguments.add((MutableArgumentValue<Object>) argument);
+            }
+        }
+        return arguments;
+    }
+
+    private static void injectTransaction(List<MutableArgumentValue<Object>> arguments, Transaction transaction) {
+        for (MutableArgumentValue<Object> argument : arguments) {
+            argument.setValue(transaction);
+        }
+    }
+
+    private TransactionPolicy createPolicy(ExecutableMethod<?, ?> method) {
+        AnnotationValue<FdbTransactional> annotation = method.getAnnotation(FdbTransactional.class);
+        int retryLimit = annotation == null ? -1 : annotation.intValue("retryLimit").orElse(-1);
+        long timeoutMillis = annotation == null ? -1 : annotation.longValue("timeout").orElse(-1);
+        boolean idempotent = annotation != null && annotation.isTrue("idempotent");
+        String name = method.getDeclaringType().getSimpleName() + '.' + method.getMethodName();
+        return new TransactionPolicy(
+            retryLimit < 0 ? defaultRetryLimit : retryLimit,
+            TimeUnit.MILLISECONDS.toNanos(timeoutMillis < 0 ? defaultTimeoutMillis : timeoutMillis),
+            idempotent,
+            config.getInitialBackoff().toNanos(),
+            config.getMaxBackoff().toNanos(),
+            config.getBackoffMultiplier(),
+            config.getBackoffJitter(),
+            metrics.forOperation(name)
+        );
+    }
+
+    @Nullable
+    private static FDBException unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof FDBException fdbException) {
+                return fdbException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry transaction", e);
+        }
+    }
+
+    private record TransactionPolicy(int retryLimit,
+                                     long timeoutNanos,
+                                     boolean idempotent,
+                                     long initialBackoffNanos,
+                                     long maxBackoffNanos,
+                                     double backoffMultiplier,
+                                     double backoffJitter,
+                                     TransactionMetrics.Recorder recorder) {
+    }
+
+    /**
+     * State of a single invocation across its retries.
+     */
+    private static final class Attempt {
+
+        private final TransactionPolicy policy;
+
+        private final List<MutableArgumentValue<Object>> arguments;
+
+        private final long deadline;
+
+        private int retries;
+
+        private double backoffNanos;
+
+        Attempt(TransactionPolicy policy, List<MutableArgumentValue<Object>> arguments) {
+            this.policy = policy;
+            this.arguments = arguments;
+            this.deadline = System.nanoTime() + policy.timeoutNanos();
+            this.backoffNanos = policy.initialBackoffNanos();
+        }
+
+        Transaction begin(Database database) {
+            Transaction transaction = database.createTransaction();
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            transaction.options().setTimeout(Math.max(1, remainingMillis));
+            return transaction;
+        }
+
+        CompletableFuture<Void> commit(Transaction transaction) {
+            long start = System.nanoTime();
+            return transaction.commit().thenRun(() -> policy.recorder().commit(System.nanoTime() - start));
+        }
+
+        boolean shouldRetry(FDBException error) {
+            boolean retryable = policy.idempotent() ? error.isRetryable() : error.isRetryableNotCommitted();
+            if (!retryable || retries >= policy.retryLimit() || System.nanoTime() >= deadline) {
+                return false;
+            }
+            retries++;
+            policy.recorder().retry(error);
+            return true;
+        }
+
+        long nextBackoffNanos() {
+            double current = Math.min(backoffNanos, policy.maxBackoffNanos());
+            backoffNanos = current * policy.backoffMultiplier();
+            double jitter = policy.backoffJitter() * current * ThreadLocalRandom.current().nextDouble();
+            long delay = (long) (current - jitter);
+            return Math.max(0, Math.min(delay, deadline - System.nanoTime()));
+        }
+    }
+}
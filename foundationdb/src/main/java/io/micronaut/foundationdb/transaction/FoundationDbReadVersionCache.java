@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import com.apple.foundationdb.Database;
+import com.apple.foundationdb.FDBException;
+import com.apple.foundationdb.ReadTransaction;
+import com.apple.foundationdb.Transaction;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Shares recently obtained read versions across read-only transactions of the FoundationDB
+ * {@link Database}, saving the GRV (get read version) round trip of each transaction.
+ *
+ * <p>A read version is shared while it is younger than the configured staleness bound, and a new
+ * one is requested in the background once it gets older than the refresh age. Transactions
+ * rejected with {@code transaction_too_old} are retried with a read version of their own.</p>
+ *
+ * <p>Reads may miss commits made within the staleness bound, including commits of the same
+ * application, so that only reads tolerating slightly stale data should use it.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@Singleton
+public class FoundationDbReadVersionCache {
+
+    private static final int TRANSACTION_TOO_OLD = 1007;
+
+    private final Database database;
+
+    private final long maxStalenessNanos;
+
+    private final long refreshAfterNanos;
+
+    private final ReadVersionMetrics metrics;
+
+    private final AtomicReference<ReadVersion> current = new AtomicReference<>();
+
+    private final AtomicReference<CompletableFuture<ReadVersion>> refreshing = new AtomicReference<>();
+
+    /**
+     * Constructs a new {@code FoundationDbReadVersionCache} instance.
+     *
+     * @param database The FoundationDB database
+     * @param config   The read version cache configuration
+     * @param metrics  The read version metrics, if any
+     */
+    public FoundationDbReadVersionCache(Database database,
+                                        FoundationDbReadVersionCacheConfig config,
+                                        Optional<ReadVersionMetrics> metrics) {
+        this.database = database;
+        this.maxStalenessNanos = config.getMaxStaleness().toNanos();
+        this.refreshAfterNanos = Math.min(config.getRefreshAfter().toNanos(), maxStalenessNanos);
+        this.metrics = metrics.orElse(ReadVersionMetrics.NOOP);
+    }
+
+    /**
+     * Runs the given read-only function with a shared read version, retrying it on retryable errors.
+     *
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    @NonNull
+    public <T> CompletableFuture<T> readAsync(@NonNull Function<? super ReadTransaction, ? extends CompletableFuture<T>> retryable) {
+        AtomicReference<Transaction> transaction = new AtomicReference<>(database.createTransaction());
+        return attempt(transaction, retryable, true).whenComplete((result, throwable) -> transaction.get().close());
+    }
+
+    /**
+     * Runs the given read-only function with a shared read version, retrying it on retryable errors.
+     * The function is invoked on a thread of the database executor.
+     *
+     * @param retryable The function reading from the database
+     * @param <T>       The type of the result
+     * @return The result of the function
+     */
+    public <T> T read(@NonNull Function<? super ReadTransaction, T> retryable) {
+        try {
+            return readAsync(tr -> CompletableFuture.completedFuture(retryable.apply(tr))).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets a read version which is not older than the staleness bound.
+     *
+     * @return The read version
+     */
+    @NonNull
+    public CompletableFuture<Long> getReadVersion() {
+        ReadVersion cached = current.get();
+        if (cached != null) {
+            long age = System.nanoTime() - cached.obtainedAt();
+            if (age < maxStalenessNanos) {
+                if (age >= refreshAfterNanos) {
+                    refresh();
+                }
+                metrics.served(age, true);
+                return CompletableFuture.completedFuture(cached.version());
+            }
+        }
+        return refresh().thenApply(fetched -> {
+            metrics.served(System.nanoTime() - fetched.obtainedAt(), false);
+            return fetched.version();
+        });
+    }
+
+    /**
+     * Discards the given read version if it is still the shared one.
+     *
+     * @param version The read version
+     */
+    public void invalidate(long version) {
+        ReadVersion cached = current.get();
+        if (cached != null && cached.version() == version) {
+            current.compareAndSet(cached, null);
+        }
+    }
+
+    private <T> CompletableFuture<T> attempt(AtomicReference<Transaction> transaction,
+                                             Function<? super ReadTransaction, ? extends CompletableFuture<T>> retryable,
+                                             boolean shared) {
+        Transaction tr = transaction.get();
+        CompletableFuture<Long> version = shared ? getReadVersion() : CompletableFuture.completedFuture(null);
+        return version.thenCompose(v -> {
+            if (v != null) {
+                tr.setReadVersion(v);
+            }
+            return retryable.apply(tr);
+        }).handle((result, throwable) -> {
+            if (throwable == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (!(cause instanceof FDBException e)) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            boolean retryShared = shared;
+            if (shared && e.getCode() == TRANSACTION_TOO_OLD) {
+                metrics.tooOld();
+                version.thenAccept(this::invalidate);
+                retryShared = false;
+            }
+            boolean next = retryShared;
+            return tr.onError(e).thenCompose(retry -> {
+                transaction.set(retry);
+                return attempt(transaction, retryable, next);
+            });
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<ReadVersion> refresh() {
+        CompletableFuture<ReadVersion> promise = new CompletableFuture<>();
+        CompletableFuture<ReadVersion> existing = refreshing.compareAndExchange(null, promise);
+        if (existing != null) {
+            return existing;
+        }
+        long start = System.nanoTime();
+        Transaction tr = database.createTransaction();
+        tr.getReadVersion().whenComplete((version, throwable) -> {
+            tr.close();
+            if (throwable != null) {
+                refreshing.set(null);
+                promise.completeExceptionally(throwable);
+                return;
+            }
+            metrics.fetched(System.nanoTime() - start);
+            ReadVersion fetched = new ReadVersion(version, start);
+            current.accumulateAndGet(fetched, (previous, next) -> previous == null || next.version() > previous.version() ? next : previous);
+            refreshing.set(null);
+            promise.complete(fetched);
+        });
+        return promise;
+    }
+
+    private record ReadVersion(long version, long obtainedAt) {
+    }
+}
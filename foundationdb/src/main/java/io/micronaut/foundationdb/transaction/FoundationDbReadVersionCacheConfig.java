@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link FoundationDbReadVersionCache}.
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbReadVersionCacheConfig.PREFIX)
+public final class FoundationDbReadVersionCacheConfig {
+
+    /**
+     * The prefix to use for read version cache configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".read-version-cache";
+
+    private static final Duration DEFAULT_MAX_STALENESS = Duration.ofMillis(100);
+    private static final Duration DEFAULT_REFRESH_AFTER = Duration.ofMillis(50);
+
+    @NonNull
+    private Duration maxStaleness = DEFAULT_MAX_STALENESS;
+
+    @NonNull
+    private Duration refreshAfter = DEFAULT_REFRESH_AFTER;
+
+    /**
+     * Gets the maximum age of a shared read version.
+     *
+     * @return The max staleness
+     */
+    @NonNull
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Sets the maximum age of a shared read version. Reads never observe data older than this,
+     * but may miss commits made in the meantime, including their own. Default value: 100 milliseconds.
+     *
+     * @param maxStaleness The max staleness
+     */
+    public void setMaxStaleness(@NonNull Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Gets the age after which a new read version is requested in the background.
+     *
+     * @return The refresh age
+     */
+    @NonNull
+    public Duration getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    /**
+     * Sets the age after which a new read version is requested in the background, while the
+     * current one is still being shared. Default value: 50 milliseconds.
+     *
+     * @param refreshAfter The refresh age
+     */
+    public void setRefreshAfter(@NonNull Duration refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.foundationdb.FoundationDbClientConfig;
+import io.micronaut.foundationdb.FoundationDbTransactionOptions;
+
+import java.time.Duration;
+
+/**
+ * Configuration of transactions executed by {@link FdbTransactional} methods.
+ *
+ * <p>The retry limit and the timeout which are not set fall back to the
+ * {@code foundationdb.transaction-options} of the database, and then to the defaults of this
+ * class, so that a single setting governs both the retry loop and the transactions of the
+ * database.</p>
+ *
+ * @author Nikolai Papakha
+ */
+@ConfigurationProperties(FoundationDbTransactionConfig.PREFIX)
+public final class FoundationDbTransactionConfig {
+
+    /**
+     * The prefix to use for transaction configuration.
+     */
+    public static final String PREFIX = FoundationDbClientConfig.PREFIX + ".transactions";
+
+    /**
+     * The default retry limit.
+     */
+    public static final int DEFAULT_RETRY_LIMIT = 10;
+
+    /**
+     * The default backoff multiplier.
+     */
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+
+    /**
+     * The default backoff jitter.
+     */
+    public static final double DEFAULT_BACKOFF_JITTER = 0.5;
+
+    /**
+     * The default timeout.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    @Nullable
+    private Integer retryLimit;
+
+    @Nullable
+    private Duration timeout;
+
+    @NonNull
+    private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+    @NonNull
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+    private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+    private double backoffJitter = DEFAULT_BACKOFF_JITTER;
+
+    /**
+     * Gets the maximum number of retries of a transaction.
+     *
+     * @return The retry limit, {@code null} if not set
+     */
+    @Nullable
+    public Integer getRetryLimit() {
+        return retryLimit;
+    }
+
+    /**
+     * Sets the maximum number of retries of a transaction. Default value: the
+     * {@code retry-limit} of the transaction options, or {@value #DEFAULT_RETRY_LIMIT}.
+     *
+     * @param retryLimit The retry limit
+     */
+    public void setRetryLimit(@Nullable Integer retryLimit) {
+        this.retryLimit = retryLimit;
+    }
+
+    /**
+     * Gets the total time budget of a transaction including retries.
+     *
+     * @return The timeout, {@code null} if not set
+     */
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the total time budget of a transaction including retries. Default value: the
+     * {@code timeout} of the transaction options, or 5 seconds.
+     *
+     * @param timeout The timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Resolves the retry limit, falling back to the given transaction options.
+     *
+     * @param options The transaction options of the database
+     * @return The retry limit
+     */
+    public int resolveRetryLimit(@NonNull FoundationDbTransactionOptions options) {
+        if (retryLimit != null) {
+            return retryLimit;
+        }
+        return options.getRetryLimit() != null ? Math.toIntExact(options.getRetryLimit()) : DEFAULT_RETRY_LIMIT;
+    }
+
+    /**
+     * Resolves the timeout, falling back to the given transaction options.
+     *
+     * @param options The transaction options of the database
+     * @return The timeout
+     */
+    @NonNull
+    public Duration resolveTimeout(@NonNull FoundationDbTransactionOptions options) {
+        if (timeout != null) {
+            return timeout;
+        }
+        return options.getTimeout() != null ? options.getTimeout() : DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Gets the delay before the first retry.
+     *
+     * @return The initial backoff
+     */
+    @NonNull
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Sets the delay before the first retry. Default value: 10 milliseconds.
+     *
+     * @param initialBackoff The initial backoff
+     */
+    public void setInitialBackoff(@NonNull Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * Gets the upper bound of the delay between retries.
+     *
+     * @return The max backoff
+     */
+    @NonNull
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Sets the upper bound of the delay between retries. Default value: 1 second.
+     *
+     * @param maxBackoff The max backoff
+     */
+    public void setMaxBackoff(@NonNull Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Gets the factor the delay is multiplied by after each retry.
+     *
+     * @return The backoff multiplier
+     */
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * Sets the factor the delay is multiplied by after each retry. Default value: {@value #DEFAULT_BACKOFF_MULTIPLIER}.
+     *
+     * @param backoffMultiplier The backoff multiplier
+     */
+    public void setBackoffMultiplier(double backoffMultiplier) {
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+    /**
+     * Gets the fraction of the delay which is randomized.
+     *
+     * @return The backoff jitter
+     */
+    public double getBackoffJitter() {
+        return backoffJitter;
+    }
+
+    /**
+     * Sets the fraction of the delay which is randomized, between 0 and 1. Default value: {@value #DEFAULT_BACKOFF_JITTER}.
+     *
+     * @param backoffJitter The backoff jitter
+     */
+    public void setBackoffJitter(double backoffJitter) {
+        this.backoffJitter = backoffJitter;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * Records metrics of the {@link FoundationDbReadVersionCache}.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface ReadVersionMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    ReadVersionMetrics NOOP = new ReadVersionMetrics() {
+    };
+
+    /**
+     * Records a read version served to a transaction.
+     *
+     * @param ageNanos The age of the read version
+     * @param reused   Whether the read version was shared, saving a GRV request
+     */
+    default void served(long ageNanos, boolean reused) {
+    }
+
+    /**
+     * Records a GRV request.
+     *
+     * @param nanos The latency of the request
+     */
+    default void fetched(long nanos) {
+    }
+
+    /**
+     * Records a shared read version rejected with {@code transaction_too_old}.
+     */
+    default void tooOld() {
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.foundationdb.transaction;
+
+import com.apple.foundationdb.FDBException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records metrics of {@link FdbTransactional} methods.
+ *
+ * @author Nikolai Papakha
+ */
+@Internal
+public interface TransactionMetrics {
+
+    /**
+     * No-op implementation used when metrics are disabled.
+     */
+    TransactionMetrics NOOP = name -> Recorder.NOOP;
+
+    /**
+     * Creates a recorder for the given transactional operation.
+     *
+     * @param name The name of the operation
+     * @return The recorder
+     */
+    @NonNull
+    Recorder forOperation(@NonNull String name);
+
+    /**
+     * Records metrics of a single transactional operation.
+     */
+    interface Recorder {
+
+        /**
+         * No-op recorder.
+         */
+        Recorder NOOP = new Recorder() {
+        };
+
+        /**
+         * Records the latency of a successful commit.
+         *
+         * @param nanos The commit latency in nanoseconds
+         */
+        default void commit(long nanos) {
+        }
+
+        /**
+         * Records a retry caused by the given error.
+         *
+         * @param error The retryable error
+         */
+        default void retry(@NonNull FDBException error) {
+        }
+
+        /**
+         * Records a transaction which failed after exhausting retries or with a non-retryable error.
+         *
+         * @param error The error
+         */
+        default void failure(@NonNull Throwable error) {
+        }
+    }
+}
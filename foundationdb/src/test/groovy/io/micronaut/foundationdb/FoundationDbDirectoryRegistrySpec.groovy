@@ -0,0 +1,90 @@
+package io.micronaut.foundationdb
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.directory.DirectoryLayer
+import com.apple.foundationdb.directory.DirectorySubspace
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbDirectoryRegistrySpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private FoundationDbDirectoryRegistry registry
+
+    @Inject
+    private Database database
+
+    @Inject
+    private UserStore store
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.directories.paths': 'registry/preloaded'
+        ]
+    }
+
+    def 'resolves the configured directories at startup'() {
+        expect:
+        await().atMost(10, SECONDS).until { registry.find(['registry', 'preloaded']).present }
+    }
+
+    def 'caches resolved directories'() {
+        when:
+        def first = registry.get('registry', 'cached')
+        def second = registry.get('registry', 'cached')
+
+        then:
+        first.is(second)
+        first.path == ['registry', 'cached']
+    }
+
+    def 'injects directories of annotated injection points'() {
+        expect:
+        store.users.path == ['registry', 'users']
+        store.users.key == registry.get('registry', 'users').key
+    }
+
+    def 'resolves moved directories again'() {
+        given:
+        def original = registry.get('registry', 'moving')
+
+        when:
+        registry.move(['registry', 'moving'], ['registry', 'moved']).join()
+
+        then:
+        !registry.find(['registry', 'moving']).present
+        !DirectoryLayer.getDefault().exists(database, ['registry', 'moving']).join()
+        registry.get('registry', 'moved').key == original.key
+    }
+
+    def 'invalidates directories when the metadata version changes'() {
+        given:
+        registry.get('registry', 'external')
+
+        when:
+        database.run { tr ->
+            DirectoryLayer.getDefault().remove(tr, ['registry', 'external']).join()
+            registry.bumpVersion(tr)
+        }
+
+        then:
+        await().atMost(10, SECONDS).until { !registry.find(['registry', 'external']).present }
+        !DirectoryLayer.getDefault().exists(database, ['registry', 'external']).join()
+    }
+
+    @Singleton
+    static class UserStore {
+
+        final DirectorySubspace users
+
+        UserStore(@FdbDirectory(['registry', 'users']) DirectorySubspace users) {
+            this.users = users
+        }
+    }
+}
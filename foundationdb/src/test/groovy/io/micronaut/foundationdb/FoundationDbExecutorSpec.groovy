@@ -0,0 +1,96 @@
+package io.micronaut.foundationdb
+
+import com.apple.foundationdb.Database
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+@MicronautTest
+class FoundationDbExecutorSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database primary
+
+    @Inject
+    @Named('bounded')
+    private Database bounded
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.executor-options.type'                       : 'virtual',
+                'foundationdb.databases.bounded.cluster-file-path'         : foundationDb.getClusterFilePath(),
+                'foundationdb.databases.bounded.executor-options.type'     : 'bounded',
+                'foundationdb.databases.bounded.executor-options.threads'  : '2',
+                'foundationdb.databases.bounded.executor-options.queue-size': '100'
+        ]
+    }
+
+    def 'callbacks of the primary database run on virtual threads'() {
+        when:
+        def thread = primary.runAsync { tr ->
+            tr.get('EXECUTOR_KEY'.bytes).thenApply { Thread.currentThread() }
+        }.join()
+
+        then:
+        thread.virtual
+        thread.name.startsWith('fdb-default-callback-')
+    }
+
+    def 'callbacks of the bounded database run on a fixed pool'() {
+        expect:
+        bounded.executor instanceof ThreadPoolExecutor
+        (bounded.executor as ThreadPoolExecutor).maximumPoolSize == 2
+
+        when:
+        def threads = (1..20).collect {
+            bounded.runAsync { tr -> tr.get('EXECUTOR_KEY'.bytes).thenApply { Thread.currentThread() } }
+        }.collect { it.join() }
+
+        then:
+        threads.every { !it.virtual && it.name.startsWith('fdb-bounded-callback-') }
+    }
+
+    def 'queue of the bounded executor is published'() {
+        when:
+        CompletableFuture.allOf(
+                (1..10).collect { bounded.runAsync { tr -> tr.get('EXECUTOR_KEY'.bytes) } } as CompletableFuture[]
+        ).join()
+
+        then:
+        registry.find('foundationdb.executor.queued').tag('database', 'bounded').gauge() != null
+        registry.find('foundationdb.executor.completed').tag('database', 'bounded').functionCounter().count() > 0
+    }
+
+    def 'callbacks overflow to virtual threads once the bounded queue is full'() {
+        given:
+        def executor = bounded.executor as ThreadPoolExecutor
+        def release = new CountDownLatch(1)
+        def overflows = registry.find('foundationdb.executor.overflow').tag('database', 'bounded').counter()?.count() ?: 0
+        def blocked = (1..102).collect { CompletableFuture.runAsync({ release.await() }, executor) }
+
+        when:
+        def thread = CompletableFuture.supplyAsync({ Thread.currentThread() }, executor).get(5, TimeUnit.SECONDS)
+
+        then:
+        thread.virtual
+        thread.name.startsWith('fdb-bounded-overflow-')
+        registry.find('foundationdb.executor.overflow').tag('database', 'bounded').counter().count() == overflows + 1
+
+        when:
+        release.countDown()
+
+        then:
+        CompletableFuture.allOf(blocked as CompletableFuture[]).get(5, TimeUnit.SECONDS) == null
+        bounded.runAsync { tr -> tr.get('EXECUTOR_KEY'.bytes) }.get(5, TimeUnit.SECONDS) == null
+    }
+}
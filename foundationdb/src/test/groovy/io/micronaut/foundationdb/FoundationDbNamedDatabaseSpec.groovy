@@ -0,0 +1,143 @@
+package io.micronaut.foundationdb
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.EventKeeper
+import com.apple.foundationdb.MapEventKeeper
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.foundationdb.health.NamedFoundationDbHealthIndicator
+import io.micronaut.foundationdb.range.FoundationDbRangeStreamer
+import io.micronaut.health.HealthStatus
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+
+@MicronautTest
+class FoundationDbNamedDatabaseSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database primary
+
+    @Inject
+    @Named('audit')
+    private Database audit
+
+    @Inject
+    private MeterRegistry registry
+
+    @Inject
+    private NamedFoundationDbHealthIndicator healthIndicator
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.databases.audit.cluster-file-path': foundationDb.getClusterFilePath()
+        ]
+    }
+
+    def 'named database is injected next to the primary one'() {
+        expect:
+        primary != null
+        audit != null
+        !primary.is(audit)
+    }
+
+    def 'named database reads data written by the primary one'() {
+        given:
+        byte[] key = 'NAMED_KEY'.bytes
+
+        when:
+        primary.run { it.set(key, 'VALUE'.bytes) }
+
+        then:
+        audit.run { it.get(key) }.join() == 'VALUE'.bytes
+
+        cleanup:
+        primary.run { it.clear(key) }
+    }
+
+    def 'meters are tagged with the database name'() {
+        when:
+        audit.run { it.get('NAMED_KEY'.bytes) }.join()
+
+        then:
+        registry.find('foundationdb.jni.call').tag('database', 'audit').counter() != null
+        registry.find('foundationdb.jni.call').tag('database', 'default').counter() != null
+    }
+
+    def 'named health indicator reports the named database'() {
+        when:
+        def result = Mono.from(healthIndicator.getResult()).block()
+
+        then:
+        result.name == 'foundationdb-audit'
+        result.status == HealthStatus.UP
+    }
+
+    def 'an event keeper defined by the application replaces the built-in one'() {
+        given:
+        def context = ApplicationContext.run(getProperties() + ['spec.custom-event-keeper': 'true'])
+
+        expect:
+        context.getBean(EventKeeper, Qualifiers.byName('default')) instanceof CustomEventKeeper
+
+        cleanup:
+        context?.close()
+    }
+
+    def 'an event keeper named after a named database leaves the built-in one to the primary'() {
+        given:
+        def context = ApplicationContext.run(getProperties() + ['spec.audit-event-keeper': 'true'])
+        def primaryDatabase = context.getBean(Database)
+        def meterRegistry = context.getBean(MeterRegistry)
+
+        when:
+        primaryDatabase.run { it.get('NAMED_KEY'.bytes) }.join()
+
+        then:
+        context.getBean(EventKeeper, Qualifiers.byName('default')).class.simpleName == 'MicrometerEventKeeper'
+        context.getBean(EventKeeper, Qualifiers.byName('audit')) instanceof AuditEventKeeper
+        context.getBean(FoundationDbRangeStreamer) != null
+        meterRegistry.find('foundationdb.jni.call').tag('database', 'default').counter().count() > 0
+
+        cleanup:
+        context?.close()
+    }
+
+    def 'rejects a named database called default'() {
+        when:
+        def context = ApplicationContext.run(getProperties() + [
+                'foundationdb.databases.default.cluster-file-path': foundationDb.getClusterFilePath()
+        ])
+        context.withCloseable { it.getBeansOfType(FoundationDbDatabaseConfig) }
+
+        then:
+        def e = thrown(Exception)
+        causes(e).any { it instanceof ConfigurationException }
+    }
+
+    private static List<Throwable> causes(Throwable throwable) {
+        def causes = []
+        for (Throwable current = throwable; current != null; current = current.cause) {
+            causes << current
+        }
+        return causes
+    }
+
+    @Singleton
+    @Named('default')
+    @Requires(property = 'spec.custom-event-keeper')
+    static class CustomEventKeeper extends MapEventKeeper {
+    }
+
+    @Singleton
+    @Named('audit')
+    @Requires(property = 'spec.audit-event-keeper')
+    static class AuditEventKeeper extends MapEventKeeper {
+    }
+}
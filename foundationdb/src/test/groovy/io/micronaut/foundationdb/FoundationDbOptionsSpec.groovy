@@ -0,0 +1,65 @@
+package io.micronaut.foundationdb
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDBException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.time.Duration
+import java.util.concurrent.CompletionException
+
+@MicronautTest
+class FoundationDbOptionsSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbClientConfig config
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.database-options.max-watches'   : '1',
+                'foundationdb.transaction-options.timeout'    : '3s',
+                'foundationdb.transaction-options.retry-limit': '5',
+                'foundationdb.transaction-options.size-limit' : '1KB'
+        ]
+    }
+
+    def 'options are bound'() {
+        expect:
+        config.databaseOptions.maxWatches == 1
+        config.transactionOptions.timeout == Duration.ofSeconds(3)
+        config.transactionOptions.retryLimit == 5
+        config.transactionOptions.sizeLimit == 1024
+    }
+
+    def 'transaction size limit is applied to every transaction'() {
+        when:
+        db.run { it.set('LARGE_KEY'.bytes, new byte[2048]) }
+
+        then:
+        def e = thrown(FDBException)
+        e.code == 2101
+    }
+
+    def 'max watches is applied to the database'() {
+        given:
+        def tr = db.createTransaction()
+
+        when:
+        def first = tr.watch('WATCH_1'.bytes)
+        def second = tr.watch('WATCH_2'.bytes)
+        tr.commit().join()
+        second.join()
+
+        then:
+        def e = thrown(CompletionException)
+        (e.cause as FDBException).code == 1032
+
+        cleanup:
+        first?.cancel(true)
+        tr.close()
+    }
+}
@@ -0,0 +1,53 @@
+package io.micronaut.foundationdb
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.health.FoundationDbWarmupIndicator
+import io.micronaut.health.HealthStatus
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Mono
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbWarmupSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private FoundationDbWarmup warmup
+
+    @Inject
+    private FoundationDbWarmupIndicator indicator
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.warmup.enabled'     : 'true',
+                'foundationdb.warmup.key-prefixes': 'users/,orders/'
+        ]
+    }
+
+    def 'warms up the database at startup'() {
+        expect:
+        await().atMost(10, SECONDS).until { warmup.warm }
+
+        and:
+        warmup.duration.toNanos() > 0
+        warmup.locations >= 2
+        warmup.lastError == null
+        registry.find('foundationdb.warmup.duration').timer().count() == 1
+    }
+
+    def 'reports ready once warm'() {
+        when:
+        await().atMost(10, SECONDS).until { warmup.warm }
+        def result = Mono.from(indicator.getResult()).block()
+
+        then:
+        result.status == HealthStatus.UP
+        result.details.locations == warmup.locations
+    }
+}
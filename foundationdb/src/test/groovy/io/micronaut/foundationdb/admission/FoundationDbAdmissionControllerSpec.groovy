@@ -0,0 +1,149 @@
+package io.micronaut.foundationdb.admission
+
+import com.apple.foundationdb.Database
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.scheduling.TaskScheduler
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbAdmissionControllerSpec extends AbstractFoundationDbSpec {
+
+    static final byte[] KEY = 'ADMISSION_KEY'.bytes
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbAdmissionController controller
+
+    @Inject
+    private FoundationDbAdmissionConfig config
+
+    @Inject
+    private TaskScheduler taskScheduler
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.admission.initial-limit' : '2',
+                'foundationdb.admission.min-limit'     : '2',
+                'foundationdb.admission.max-limit'     : '2',
+                'foundationdb.admission.max-queue-wait': '500ms',
+                'foundationdb.admission.batch-tags'    : 'reporting'
+        ]
+    }
+
+    def cleanup() {
+        db.run { it.clear(KEY) }
+    }
+
+    def 'runs admitted transactions'() {
+        when:
+        controller.run { it.set(KEY, 'VALUE'.bytes) }
+
+        then:
+        controller.read { it.get(KEY).join() } == 'VALUE'.bytes
+        controller.inFlight == 0
+        registry.find('foundationdb.admission.wait').tag('priority', 'default').timer().count() >= 2
+    }
+
+    def 'queues transactions over the limit until a slot frees up'() {
+        given:
+        def gate = new CompletableFuture<Void>()
+        def held = (1..2).collect { controller.runAsync { tr -> gate } }
+
+        when:
+        def queued = controller.readAsync { tr -> tr.get(KEY) }
+
+        then:
+        controller.inFlight == 2
+        !queued.done
+
+        when:
+        gate.complete(null)
+        CompletableFuture.allOf(held as CompletableFuture[]).join()
+
+        then:
+        queued.get(5, SECONDS) == null
+        await().atMost(5, SECONDS).until { controller.inFlight == 0 }
+    }
+
+    def 'rejects transactions waiting longer than the deadline'() {
+        given:
+        def rejections = registry.find('foundationdb.admission.rejections').tag('priority', 'default').counter().count()
+        def gate = new CompletableFuture<Void>()
+        def held = (1..2).collect { controller.runAsync { tr -> gate } }
+
+        when:
+        controller.readAsync { tr -> tr.get(KEY) }.join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof AdmissionRejectedException
+        registry.find('foundationdb.admission.rejections').tag('priority', 'default').counter().count() - rejections == 1
+
+        cleanup:
+        gate.complete(null)
+        CompletableFuture.allOf(held as CompletableFuture[]).join()
+    }
+
+    def 'admits batch priority transactions up to their share of the limit'() {
+        given:
+        def gate = new CompletableFuture<Void>()
+        def first = controller.runAsync('reporting') { tr -> gate }
+
+        when:
+        def second = controller.readAsync('reporting') { tr -> tr.get(KEY) }
+        def regular = controller.readAsync { tr -> tr.get(KEY) }
+
+        then:
+        regular.get(5, SECONDS) == null
+        !second.done
+
+        when:
+        gate.complete(null)
+        first.join()
+
+        then:
+        second.get(5, SECONDS) == null
+    }
+
+    def 'rejects queued transactions and drains in-flight ones on close'() {
+        given:
+        def admission = new FoundationDbAdmissionController(db, config, taskScheduler, Optional.empty())
+        def gate = new CompletableFuture<Void>()
+        def held = (1..2).collect { admission.runAsync { tr -> gate } }
+        def queued = admission.readAsync { tr -> tr.get(KEY) }
+
+        when:
+        Thread.start {
+            sleep(200)
+            gate.complete(null)
+        }
+        admission.close()
+
+        then:
+        held.every { it.get(1, SECONDS) == null }
+        queued.completedExceptionally
+        admission.inFlight == 0
+
+        when:
+        admission.runAsync { tr -> CompletableFuture.completedFuture(null) }.join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof AdmissionRejectedException
+    }
+}
@@ -0,0 +1,78 @@
+package io.micronaut.foundationdb.batch
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.CompletableFuture
+
+@MicronautTest
+class FoundationDbBatchReaderSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('batch-read'))
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbBatchReader reader
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.batch-read.window'        : '50ms',
+                'foundationdb.batch-read.max-batch-size': '10'
+        ]
+    }
+
+    def setup() {
+        db.run { tr -> (0..<25).each { tr.set(SUBSPACE.pack(Tuple.from(it)), Tuple.from(it).pack()) } }
+    }
+
+    def cleanup() {
+        db.run { it.clear(SUBSPACE.range()) }
+    }
+
+    def 'completes every read with its own value'() {
+        when:
+        def futures = (0..<5).collect { reader.get(SUBSPACE.pack(Tuple.from(it))) }
+        def missing = reader.get(SUBSPACE.pack(Tuple.from('missing')))
+
+        then:
+        futures.withIndex().every { future, i -> Tuple.fromBytes(future.join()).getLong(0) == i }
+        missing.join() == null
+    }
+
+    def 'splits reads into batches of the maximum size'() {
+        given:
+        def summary = registry.find('foundationdb.batch.read.size').summary()
+        def batches = summary?.count() ?: 0
+        def keys = summary?.totalAmount() ?: 0
+
+        when:
+        def futures = (0..<25).collect { reader.get(SUBSPACE.pack(Tuple.from(it))) }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        def after = registry.find('foundationdb.batch.read.size').summary()
+        after.count() - batches == 3
+        after.totalAmount() - keys == 25
+        after.max() == 10
+    }
+
+    def 'flush executes pending reads right away'() {
+        when:
+        def future = reader.get(SUBSPACE.pack(Tuple.from(1)))
+        reader.flush()
+
+        then:
+        Tuple.fromBytes(future.join()).getLong(0) == 1
+    }
+}
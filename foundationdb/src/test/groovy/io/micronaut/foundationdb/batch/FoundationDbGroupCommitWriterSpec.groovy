@@ -0,0 +1,157 @@
+package io.micronaut.foundationdb.batch
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDB
+import com.apple.foundationdb.FDBException
+import com.apple.foundationdb.MutationType
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.ByteArrayUtil
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.annotation.Property
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.scheduling.TaskScheduler
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+class FoundationDbGroupCommitWriterSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('group-commit'))
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbGroupCommitWriter writer
+
+    @Inject
+    private MeterRegistry registry
+
+    @Inject
+    private TaskScheduler taskScheduler
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.group-commit.max-delay'      : '50ms',
+                'foundationdb.group-commit.max-group-bytes': '4KB'
+        ]
+    }
+
+    def cleanup() {
+        db.run { it.clear(SUBSPACE.range()) }
+    }
+
+    def 'merges concurrent writes into a single commit'() {
+        given:
+        def groups = registry.find('foundationdb.group.commit.size').summary()?.count() ?: 0
+
+        when:
+        def futures = (0..<20).collect { writer.set(SUBSPACE.pack(Tuple.from(it)), 'VALUE'.bytes) }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        registry.find('foundationdb.group.commit.size').summary().count() - groups == 1
+        db.read { it.getRange(SUBSPACE.range()).asList() }.join().size() == 20
+    }
+
+    def 'commits full groups without waiting for the delay'() {
+        given:
+        def groups = registry.find('foundationdb.group.commit.size').summary()?.count() ?: 0
+
+        when:
+        def futures = (0..<10).collect { writer.set(SUBSPACE.pack(Tuple.from(it)), new byte[1000]) }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        registry.find('foundationdb.group.commit.size').summary().count() - groups >= 3
+        registry.find('foundationdb.group.commit.queue.depth').gauge().value() == 0
+    }
+
+    def 'applies atomic operations once'() {
+        given:
+        byte[] counter = SUBSPACE.pack(Tuple.from('counter'))
+        byte[] one = ByteArrayUtil.encodeInt(1)
+
+        when:
+        def futures = (0..<10).collect { writer.mutate(MutationType.ADD, counter, one) }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        ByteArrayUtil.decodeInt(db.read { it.get(counter) }.join()) == 10
+    }
+
+    def 'does not split timed out groups of atomic operations'() {
+        given:
+        def splits = new AtomicInteger()
+        def metrics = new GroupCommitMetrics() {
+            @Override
+            void split() {
+                splits.incrementAndGet()
+            }
+        }
+        def timingOut = FDB.instance().open(foundationDb.clusterFilePath)
+        timingOut.options().setTransactionTimeout(1)
+        def timingOutWriter = new FoundationDbGroupCommitWriter(timingOut, new FoundationDbGroupCommitConfig(), taskScheduler, Optional.of(metrics))
+        byte[] one = ByteArrayUtil.encodeInt(1)
+
+        when:
+        def futures = (0..<2000).collect { timingOutWriter.mutate(MutationType.ADD, SUBSPACE.pack(Tuple.from(it)), one) }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof FDBException
+        (e.cause as FDBException).code == 1031
+        splits.get() == 0
+
+        cleanup:
+        timingOutWriter?.close()
+        timingOut?.close()
+    }
+
+    def 'commits the pending writes on close'() {
+        given:
+        def config = new FoundationDbGroupCommitConfig(maxDelay: Duration.ofHours(1))
+        def closingWriter = new FoundationDbGroupCommitWriter(db, config, taskScheduler, Optional.empty())
+
+        when:
+        def futures = (0..<20).collect { closingWriter.set(SUBSPACE.pack(Tuple.from(it)), 'VALUE'.bytes) }
+        closingWriter.close()
+
+        then:
+        futures.every { it.isDone() && !it.isCompletedExceptionally() }
+        db.read { it.getRange(SUBSPACE.range()).asList() }.join().size() == 20
+
+        when:
+        closingWriter.set(SUBSPACE.pack(Tuple.from('late')), 'VALUE'.bytes).join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof IllegalStateException
+    }
+
+    @Property(name = 'foundationdb.group-commit.max-group-bytes', value = '1MB')
+    def 'fails only the writes of the failing caller'() {
+        given:
+        def splits = registry.find('foundationdb.group.commit.splits').counter()?.count() ?: 0
+
+        when:
+        def good = (0..<3).collect { writer.set(SUBSPACE.pack(Tuple.from(it)), 'VALUE'.bytes) }
+        def bad = writer.set(SUBSPACE.pack(Tuple.from('bad')), new byte[200_000])
+        CompletableFuture.allOf(good as CompletableFuture[]).join()
+        bad.join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof FDBException
+        db.read { it.getRange(SUBSPACE.range()).asList() }.join().size() == 3
+        registry.find('foundationdb.group.commit.splits').counter().count() > splits
+    }
+}
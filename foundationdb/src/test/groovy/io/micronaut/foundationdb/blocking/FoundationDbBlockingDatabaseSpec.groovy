@@ -0,0 +1,105 @@
+package io.micronaut.foundationdb.blocking
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDBException
+import com.apple.foundationdb.MutationType
+import com.apple.foundationdb.Range
+import com.apple.foundationdb.tuple.ByteArrayUtil
+import com.apple.foundationdb.tuple.Tuple
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executors
+
+@MicronautTest
+class FoundationDbBlockingDatabaseSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private FoundationDbBlockingDatabase blocking
+
+    @Inject
+    private Database db
+
+    def 'writes are committed and read back'() {
+        given:
+        byte[] key = Tuple.from('blocking', 'written').pack()
+
+        when:
+        blocking.run { tr -> tr.set(key, 'VALUE'.bytes) }
+
+        then:
+        blocking.read { tr -> tr.get(key) } == 'VALUE'.bytes
+
+        cleanup:
+        db.run { it.clear(key) }
+    }
+
+    def 'reads a range'() {
+        given:
+        def range = Range.startsWith(Tuple.from('blocking', 'range').pack())
+        blocking.run { tr ->
+            (0..<5).each { tr.set(Tuple.from('blocking', 'range', it).pack(), new byte[0]) }
+        }
+
+        expect:
+        blocking.read { tr -> tr.getRange(range) }.size() == 5
+        blocking.read { tr -> tr.getRange(range, 2) }.size() == 2
+
+        cleanup:
+        db.run { it.clear(range) }
+    }
+
+    def 'conflicting transactions are retried'() {
+        given:
+        byte[] key = Tuple.from('blocking', 'counter').pack()
+        def executor = Executors.newVirtualThreadPerTaskExecutor()
+
+        when:
+        def futures = (1..50).collect {
+            CompletableFuture.runAsync({
+                blocking.run { tr ->
+                    byte[] value = tr.get(key)
+                    long count = value == null ? 0 : Tuple.fromBytes(value).getLong(0)
+                    tr.set(key, Tuple.from(count + 1).pack())
+                }
+            }, executor)
+        }
+        CompletableFuture.allOf(futures as CompletableFuture[]).join()
+
+        then:
+        Tuple.fromBytes(blocking.read { tr -> tr.get(key) }).getLong(0) == 50
+
+        cleanup:
+        executor.close()
+        db.run { it.clear(key) }
+    }
+
+    def 'runs on a virtual thread for platform thread callers'() {
+        given:
+        byte[] key = Tuple.from('blocking', 'virtual').pack()
+
+        when:
+        def thread = blocking.runOnVirtualThread { tr ->
+            tr.mutate(MutationType.ADD, key, ByteArrayUtil.encodeInt(1))
+            Thread.currentThread()
+        }.join()
+
+        then:
+        thread.virtual
+        blocking.readOnVirtualThread { tr -> ByteArrayUtil.decodeInt(tr.get(key)) }.join() == 1
+
+        cleanup:
+        db.run { it.clear(key) }
+    }
+
+    def 'non-retryable errors are thrown'() {
+        when:
+        blocking.run { tr -> tr.set(Tuple.from('blocking', 'large').pack(), new byte[200_000]) }
+
+        then:
+        def e = thrown(FDBException)
+        e.code == 2103
+    }
+}
@@ -0,0 +1,144 @@
+package io.micronaut.foundationdb.bulk
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDB
+import com.apple.foundationdb.FDBException
+import com.apple.foundationdb.MutationType
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+class FoundationDbBulkLoaderSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('bulk-load'))
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbBulkLoader loader
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.bulk-load.initial-batch-bytes': '32KB',
+                'foundationdb.bulk-load.max-in-flight'      : '2'
+        ]
+    }
+
+    def cleanup() {
+        db.run { it.clear(SUBSPACE.range()) }
+    }
+
+    def 'writes all keys in several batches'() {
+        given:
+        def value = new byte[100]
+        def commits = registry.find('foundationdb.bulk.commit').timer().count()
+
+        when:
+        def writer = loader.newWriter()
+        (0..<5000).each { writer.set(SUBSPACE.pack(Tuple.from(it)), value) }
+        writer.close()
+
+        then:
+        writer.keysWritten == 5000
+        db.read { it.getRange(SUBSPACE.range()).asList() }.join().size() == 5000
+        registry.find('foundationdb.bulk.commit').timer().count() - commits > 1
+    }
+
+    def 'grows the batch size while commits are fast'() {
+        when:
+        def writer = loader.newWriter()
+        def initial = writer.targetBatchBytes
+        (0..<2000).each { writer.set(SUBSPACE.pack(Tuple.from(it)), new byte[100]) }
+        writer.close()
+
+        then:
+        writer.targetBatchBytes > initial
+    }
+
+    def 'splits batches which are too large for a transaction'() {
+        given:
+        def splits = new AtomicInteger()
+        def metrics = new BulkLoadMetrics() {
+            @Override
+            void split() {
+                splits.incrementAndGet()
+            }
+        }
+        def config = new FoundationDbBulkLoadConfig(initialBatchBytes: 256 * 1024, minBatchBytes: 1024)
+        def limited = FDB.instance().open(foundationDb.clusterFilePath)
+        limited.options().setTransactionSizeLimit(64 * 1024)
+
+        when:
+        def writer = new BulkWriter(limited, config, metrics)
+        (0..<2000).each { writer.set(SUBSPACE.pack(Tuple.from(it)), new byte[200]) }
+        writer.close()
+
+        then:
+        splits.get() > 0
+        writer.keysWritten == 2000
+        writer.targetBatchBytes < 256 * 1024
+        db.read { it.getRange(SUBSPACE.range()).asList() }.join().size() == 2000
+
+        cleanup:
+        limited?.close()
+    }
+
+    def 'does not split timed out batches of atomic operations'() {
+        given:
+        def splits = new AtomicInteger()
+        def metrics = new BulkLoadMetrics() {
+            @Override
+            void split() {
+                splits.incrementAndGet()
+            }
+        }
+        def config = new FoundationDbBulkLoadConfig(initialBatchBytes: 256 * 1024, minBatchBytes: 1024)
+        def timingOut = FDB.instance().open(foundationDb.clusterFilePath)
+        timingOut.options().setTransactionTimeout(1)
+
+        when:
+        def writer = new BulkWriter(timingOut, config, metrics)
+        (0..<2000).each { writer.mutate(MutationType.ADD, SUBSPACE.pack(Tuple.from(it)), [1, 0, 0, 0] as byte[]) }
+        writer.close()
+
+        then:
+        def e = thrown(Exception)
+        fdbError(e)?.code == 1031
+        splits.get() == 0
+
+        cleanup:
+        timingOut?.close()
+    }
+
+    def 'rejects writes after close'() {
+        given:
+        def writer = loader.newWriter()
+        writer.close()
+
+        when:
+        writer.set(SUBSPACE.pack(Tuple.from(1)), new byte[1])
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    private static FDBException fdbError(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.cause) {
+            if (current instanceof FDBException) {
+                return current
+            }
+        }
+        return null
+    }
+}
@@ -0,0 +1,168 @@
+package io.micronaut.foundationdb.cache
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micronaut.cache.CacheManager
+import io.micronaut.cache.annotation.CacheInvalidate
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.core.type.Argument
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbCacheSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    @Named('books')
+    private FoundationDbCache books
+
+    @Inject
+    @Named('sessions')
+    private FoundationDbCache sessions
+
+    @Inject
+    private CacheManager<?> cacheManager
+
+    @Inject
+    private BookService bookService
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.caches.books.subspace'                : 'books-cache',
+                'foundationdb.caches.books.executor'                : 'cache-loader',
+                'micronaut.executors.cache-loader.type'             : 'fixed',
+                'micronaut.executors.cache-loader.number-of-threads': '1',
+                'foundationdb.caches.sessions.expire-after-write'   : '500ms',
+                'foundationdb.caches.sessions.sweep-interval'       : '1h',
+                'foundationdb.caches.sessions.sweep-batch-size'     : '2'
+        ]
+    }
+
+    def cleanup() {
+        books.invalidateAll()
+        sessions.invalidateAll()
+    }
+
+    def 'caches are registered with the cache manager'() {
+        expect:
+        cacheManager.cacheNames.containsAll(['books', 'sessions'])
+        cacheManager.getCache('books').is(books)
+    }
+
+    def 'stores entries in the configured subspace'() {
+        when:
+        books.put('isbn-1', 'Dune')
+
+        then:
+        books.get('isbn-1', String).get() == 'Dune'
+        db.read { it.getRange(new Subspace(Tuple.from('books-cache')).range()).asList() }.join().size() == 1
+    }
+
+    def 'puts only absent entries'() {
+        expect:
+        books.putIfAbsent('isbn-2', 'Solaris').isEmpty()
+        books.putIfAbsent('isbn-2', 'Other').get() == 'Solaris'
+        books.async().putIfAbsent('isbn-2', 'Async').join().get() == 'Solaris'
+        books.get('isbn-2', String).get() == 'Solaris'
+    }
+
+    def 'runs asynchronous suppliers on the configured executor'() {
+        when:
+        def thread = books.async().get('isbn-6', Argument.STRING, { Thread.currentThread().name }).join()
+
+        then:
+        thread.startsWith('cache-loader')
+        books.get('isbn-6', String).get() == thread
+    }
+
+    def 'does not cache null values of suppliers'() {
+        expect:
+        books.get('isbn-7', Argument.STRING, { null }) == null
+        books.async().get('isbn-7', Argument.STRING, { null }).join() == null
+        books.get('isbn-7', String).isEmpty()
+        books.get('isbn-7', Argument.STRING, { 'Ubik' }) == 'Ubik'
+        books.get('isbn-7', String).get() == 'Ubik'
+    }
+
+    def 'invalidates entries'() {
+        given:
+        books.put('isbn-3', 'Hyperion')
+
+        when:
+        books.invalidate('isbn-3')
+
+        then:
+        books.get('isbn-3', String).isEmpty()
+    }
+
+    def 'hides expired entries and sweeps them in batches'() {
+        given:
+        (0..<5).each { sessions.put("session-$it".toString(), "user-$it".toString()) }
+        def range = new Subspace(Tuple.from('cache', 'sessions')).range()
+
+        expect:
+        sessions.get('session-0', String).get() == 'user-0'
+
+        when:
+        await().atMost(5, TimeUnit.SECONDS).until { sessions.get('session-0', String).isEmpty() }
+
+        then:
+        db.read { it.getRange(range).asList() }.join().size() == 10
+        sessions.sweep() == 5
+        db.read { it.getRange(range).asList() }.join().isEmpty()
+    }
+
+    def 'caches method results with annotations'() {
+        when:
+        def first = bookService.title('isbn-4')
+        def second = bookService.title('isbn-4')
+        def async = bookService.titleAsync('isbn-5').join()
+        def asyncAgain = bookService.titleAsync('isbn-5').join()
+
+        then:
+        first == second
+        async == asyncAgain
+        bookService.calls.get() == 2
+
+        when:
+        bookService.evict('isbn-4')
+        bookService.title('isbn-4')
+
+        then:
+        bookService.calls.get() == 3
+    }
+
+    @Singleton
+    static class BookService {
+
+        final AtomicInteger calls = new AtomicInteger()
+
+        @Cacheable('books')
+        String title(String isbn) {
+            return "title-${calls.incrementAndGet()}".toString()
+        }
+
+        @Cacheable('books')
+        CompletableFuture<String> titleAsync(String isbn) {
+            return CompletableFuture.completedFuture("title-${calls.incrementAndGet()}".toString())
+        }
+
+        @CacheInvalidate('books')
+        void evict(String isbn) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.micronaut.foundationdb.client
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+
+class NativeLibraryCacheSpec extends Specification {
+
+    static final String RESOURCE = 'logback.xml'
+
+    @TempDir
+    Path directory
+
+    def 'copies the resource once and reuses the verified copy'() {
+        given:
+        def cache = new NativeLibraryCache(directory)
+        def checksum = sha256(resourceBytes())
+
+        when:
+        def installed = cache.install(RESOURCE, '7.4.3', checksum)
+
+        then:
+        installed == directory.resolve('7.4.3').resolve(checksum).resolve(RESOURCE)
+        installed.bytes == resourceBytes()
+
+        when:
+        def modified = Files.getLastModifiedTime(installed)
+        sleep(10)
+        def reused = cache.install(RESOURCE, '7.4.3', checksum)
+
+        then:
+        reused == installed
+        Files.getLastModifiedTime(reused) == modified
+        Files.list(installed.parent).count() == 1
+    }
+
+    def 'replaces a corrupted copy'() {
+        given:
+        def cache = new NativeLibraryCache(directory)
+        def checksum = sha256(resourceBytes())
+        def corrupted = directory.resolve('7.4.3').resolve(checksum).resolve(RESOURCE)
+        Files.createDirectories(corrupted.parent)
+        corrupted.bytes = 'corrupted'.bytes
+
+        when:
+        def installed = cache.install(RESOURCE, '7.4.3', checksum)
+
+        then:
+        installed == corrupted
+        installed.bytes == resourceBytes()
+    }
+
+    def 'rejects a resource not matching the checksum'() {
+        given:
+        def cache = new NativeLibraryCache(directory)
+        def checksum = sha256('other'.bytes)
+
+        when:
+        cache.install(RESOURCE, '7.4.3', checksum)
+
+        then:
+        thrown(IOException)
+        Files.list(directory.resolve('7.4.3').resolve(checksum)).count() == 0
+    }
+
+    private static byte[] resourceBytes() {
+        return NativeLibraryCacheSpec.classLoader.getResourceAsStream(RESOURCE).bytes
+    }
+
+    private static String sha256(byte[] bytes) {
+        return MessageDigest.getInstance('SHA-256').digest(bytes).encodeHex().toString()
+    }
+}
@@ -0,0 +1,107 @@
+package io.micronaut.foundationdb.counter
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+
+import java.util.concurrent.CompletableFuture
+
+@MicronautTest
+class FoundationDbCounterSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    @Named('views')
+    private FoundationDbCounter views
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.counters.views.subspace'                : 'views',
+                'foundationdb.counters.views.shards'                  : '8',
+                'foundationdb.counters.views.consolidation-interval'  : '1h',
+                'foundationdb.counters.views.consolidation-batch-size': '3'
+        ]
+    }
+
+    def cleanup() {
+        db.run { tr -> tr.clear(new Subspace(Tuple.from('views')).range()) }
+    }
+
+    def 'sums concurrent increments'() {
+        given:
+        def key = Tuple.from('page', 1L)
+
+        when:
+        CompletableFuture.allOf((1..100).collect { views.increment(key, 1) } as CompletableFuture[]).join()
+        views.increment(key, -10).join()
+
+        then:
+        views.get(key).join() == 90
+        views.getApproximate(key).join() in 0..100
+    }
+
+    def 'spreads increments over the shards'() {
+        given:
+        def key = Tuple.from('page', 2L)
+
+        when:
+        100.times { views.increment(key, 1).join() }
+        def shards = db.read { tr -> tr.getRange(new Subspace(Tuple.from('views')).get(Tuple.from(key)).range()).asList().join() }
+
+        then:
+        shards.size() > 1
+        shards.size() <= 8
+    }
+
+    def 'keeps counters with a common prefix apart'() {
+        when:
+        views.increment(Tuple.from('page'), 5).join()
+        views.increment(Tuple.from('page', 3L), 7).join()
+
+        then:
+        views.get(Tuple.from('page')).join() == 5
+        views.get(Tuple.from('page', 3L)).join() == 7
+    }
+
+    def 'reads with snapshot reads in a transaction'() {
+        given:
+        def key = Tuple.from('page', 4L)
+        views.increment(key, 3).join()
+
+        expect:
+        db.run { tr -> views.getSnapshot(tr, key).join() } == 3
+    }
+
+    def 'consolidates the shards of every counter'() {
+        given:
+        def keys = (5L..8L).collect { Tuple.from('page', it) }
+        keys.each { key -> 50.times { views.increment(key, 2).join() } }
+
+        when:
+        def consolidated = views.consolidate()
+
+        then:
+        consolidated > 0
+        keys.every { views.get(it).join() == 100 }
+        keys.every { key -> db.read { tr -> tr.getRange(new Subspace(Tuple.from('views')).get(Tuple.from(key)).range()).asList().join() }.size() <= 2 }
+    }
+
+    def 'clears a counter'() {
+        given:
+        def key = Tuple.from('page', 9L)
+        views.increment(key, 3).join()
+
+        when:
+        db.run { tr -> views.clear(tr, key) }
+
+        then:
+        views.get(key).join() == 0
+    }
+}
@@ -0,0 +1,133 @@
+package io.micronaut.foundationdb.diagnostics
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDBException
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.ByteArrayUtil
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.foundationdb.blocking.FoundationDbBlockingDatabase
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.CompletionException
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+class FoundationDbConflictDiagnosticsSpec extends AbstractFoundationDbSpec {
+
+    private static final Subspace HOT = new Subspace(Tuple.from('hot'))
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbConflictDiagnostics diagnostics
+
+    @Inject
+    private FoundationDbConflictsEndpoint endpoint
+
+    @Inject
+    private FoundationDbBlockingDatabase blocking
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.conflict-diagnostics.enabled' : 'true',
+                'foundationdb.conflict-diagnostics.capacity': '2'
+        ]
+    }
+
+    def setup() {
+        diagnostics.reset()
+    }
+
+    def cleanup() {
+        db.run { tr -> tr.clear(HOT.range()) }
+    }
+
+    def 'records the conflicting range of a failed commit'() {
+        given:
+        def key = HOT.pack(Tuple.from('counter'))
+
+        when:
+        def recorded = conflict(key)
+
+        then:
+        recorded == 1
+        diagnostics.conflicts == 1
+        with(diagnostics.conflictingRanges[0]) {
+            begin() == ByteArrayUtil.printable(key)
+            end() == ByteArrayUtil.printable(ByteArrayUtil.join(key, [0] as byte[]))
+            count() == 1
+            error() == 0
+        }
+        registry.find('foundationdb.transaction.conflicts').tag('prefix', 'hot').counter().count() >= 1
+    }
+
+    def 'records conflicts in the blocking retry loop'() {
+        given:
+        def key = HOT.pack(Tuple.from('blocking'))
+        def attempts = new AtomicInteger()
+
+        when:
+        blocking.run { tr ->
+            tr.get(key)
+            if (attempts.getAndIncrement() == 0) {
+                db.run { other -> other.set(key, 'other'.bytes) }
+            }
+            tr.set(key, 'mine'.bytes)
+        }
+
+        then:
+        attempts.get() == 2
+        diagnostics.conflictingRanges*.begin() == [ByteArrayUtil.printable(key)]
+    }
+
+    def 'keeps the most frequently conflicting ranges'() {
+        given:
+        def hottest = HOT.pack(Tuple.from('a'))
+
+        when:
+        3.times { conflict(hottest) }
+        conflict(HOT.pack(Tuple.from('b')))
+        conflict(HOT.pack(Tuple.from('c')))
+
+        then:
+        def ranges = endpoint.conflicts()
+        ranges.size() == 2
+        ranges[0].begin() == ByteArrayUtil.printable(hottest)
+        ranges[0].count() == 3
+        ranges[1].count() == 2
+        ranges[1].error() == 1
+
+        when:
+        endpoint.reset()
+
+        then:
+        endpoint.conflicts().isEmpty()
+        diagnostics.conflicts == 0
+    }
+
+    private int conflict(byte[] key) {
+        def tr = db.createTransaction()
+        try {
+            tr.get(key).join()
+            db.run { other -> other.set(key, 'other'.bytes) }
+            tr.set(key, 'mine'.bytes)
+            try {
+                tr.commit().join()
+                throw new IllegalStateException('Expected a conflict')
+            } catch (CompletionException e) {
+                assert (e.cause as FDBException).code == FoundationDbConflictDiagnostics.NOT_COMMITTED
+            }
+            return diagnostics.record(tr).join()
+        } finally {
+            tr.close()
+        }
+    }
+}
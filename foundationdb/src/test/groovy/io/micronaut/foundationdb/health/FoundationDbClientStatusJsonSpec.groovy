@@ -30,6 +30,66 @@ class FoundationDbClientStatusJsonSpec extends AbstractFoundationDbSpec {
         CLIENT_STATUS_DOWN  | false     | '8998052a62673e2026ca6fbefcfaae8d'    | '127.0.0.1:54081' | 'failed'
     }
 
+    def 'should deserialize clusterStatus'() {
+        when:
+        def clusterStatus = jsonMapper.readValue(CLUSTER_STATUS, FoundationDbClusterStatus.class)
+
+        then:
+        clusterStatus.available
+        clusterStatus.client.databaseStatus.healthy
+        clusterStatus.cluster.degradedProcesses == 1
+        clusterStatus.cluster.latencyProbe.transactionStartSeconds == 0.0005d
+        clusterStatus.cluster.latencyProbe.readSeconds == 0.0002d
+        clusterStatus.cluster.latencyProbe.commitSeconds == 0.003d
+        clusterStatus.cluster.qos.transactionsPerSecondLimit == 2500000.0d
+        clusterStatus.cluster.qos.batchTransactionsPerSecondLimit == 1250000.0d
+        clusterStatus.cluster.qos.worstQueueBytesStorageServer == 1048576L
+        clusterStatus.cluster.qos.worstQueueBytesLogServer == 2097152L
+        clusterStatus.cluster.qos.worstDurabilityLagStorageServer.seconds == 5.1d
+        clusterStatus.cluster.qos.worstDataLagStorageServer.versions == 100000L
+        clusterStatus.cluster.qos.performanceLimitedBy.name == 'workload'
+    }
+
+    static def CLUSTER_STATUS =
+        """
+        {
+          "client": {
+            "database_status": {
+              "available": true,
+              "healthy": true
+            }
+          },
+          "cluster": {
+            "database_available": true,
+            "degraded_processes": 1,
+            "latency_probe": {
+              "commit_seconds": 0.003,
+              "read_seconds": 0.0002,
+              "transaction_start_seconds": 0.0005
+            },
+            "qos": {
+              "batch_transactions_per_second_limit": 1250000.0,
+              "performance_limited_by": {
+                "description": "The database is not being saturated by the workload.",
+                "name": "workload",
+                "reason_id": 2
+              },
+              "transactions_per_second_limit": 2500000.0,
+              "worst_data_lag_storage_server": {
+                "seconds": 0.1,
+                "versions": 100000
+              },
+              "worst_durability_lag_storage_server": {
+                "seconds": 5.1,
+                "versions": 5100000
+              },
+              "worst_queue_bytes_log_server": 2097152,
+              "worst_queue_bytes_storage_server": 1048576
+            }
+          }
+        }
+        """
+
     static def CLIENT_STATUS_UP =
         """
         {
@@ -0,0 +1,143 @@
+package io.micronaut.foundationdb.health
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.health.HealthStatus
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+import reactor.core.publisher.Mono
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+
+@MicronautTest
+class FoundationDbStatusPollerSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    @Named('default')
+    private FoundationDbStatusPoller statusPoller
+
+    @Inject
+    @Named('audit')
+    private FoundationDbStatusPoller auditStatusPoller
+
+    @Inject
+    private FoundationDbHealthIndicator healthIndicator
+
+    @Inject
+    private NamedFoundationDbHealthIndicator auditHealthIndicator
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.status.enabled' : 'true',
+                'foundationdb.status.interval': '200ms',
+                'foundationdb.status.timeout' : '2s',
+                'foundationdb.databases.audit.cluster-file-path': foundationDb.getClusterFilePath()
+        ]
+    }
+
+    def 'polls the cluster status'() {
+        expect:
+        await().atMost(10, SECONDS).until { statusPoller.clusterStatus.present }
+
+        and:
+        def status = statusPoller.clusterStatus.get()
+        status.available
+        status.cluster.qos != null
+        status.cluster.degradedProcesses == 0
+    }
+
+    def 'serves the health from the polled status'() {
+        when:
+        await().atMost(10, SECONDS).until { statusPoller.status != null }
+        def result = Mono.from(healthIndicator.getResult()).block()
+
+        then:
+        result.status == HealthStatus.UP
+        result.details instanceof FoundationDbClientStatus
+    }
+
+    def 'polls the status of named databases'() {
+        expect:
+        statusPoller.name == 'default'
+        auditStatusPoller.name == 'audit'
+        await().atMost(10, SECONDS).until { auditStatusPoller.status != null }
+
+        when:
+        def result = Mono.from(auditHealthIndicator.getResult()).block()
+
+        then:
+        result.name == 'foundationdb-audit'
+        result.status == HealthStatus.UP
+        result.details instanceof FoundationDbClientStatus
+    }
+
+    def 'publishes the cluster status as gauges'() {
+        expect:
+        await().atMost(10, SECONDS).until {
+            def read = registry.find('foundationdb.cluster.latency.probe').tags('database', 'default', 'operation', 'read').gauge()
+            read != null && !Double.isNaN(read.value())
+        }
+        registry.find('foundationdb.cluster.available').tag('database', 'default').gauge().value() == 1
+        registry.find('foundationdb.cluster.ratekeeper.limit').tags('database', 'default', 'priority', 'default').gauge().value() > 0
+        registry.find('foundationdb.cluster.queue.bytes').tags('database', 'default', 'role', 'storage').gauge() != null
+
+        and:
+        await().atMost(10, SECONDS).until {
+            registry.find('foundationdb.cluster.available').tag('database', 'audit').gauge()?.value() == 1
+        }
+    }
+
+    def 'reports down once the last status is older than the max age'() {
+        given:
+        def context = ApplicationContext.run(getProperties() + [
+                'foundationdb.status.interval': '1h',
+                'foundationdb.status.max-age' : '2s'
+        ])
+        def indicator = context.getBean(FoundationDbHealthIndicator)
+        def poller = context.getBean(FoundationDbStatusPoller, Qualifiers.byName('default'))
+
+        when:
+        await().atMost(10, SECONDS).until { poller.status != null }
+
+        then:
+        Mono.from(indicator.getResult()).block().status == HealthStatus.UP
+
+        and:
+        await().atMost(10, SECONDS).until {
+            Mono.from(indicator.getResult()).block().status == HealthStatus.DOWN
+        }
+        Mono.from(indicator.getResult()).block().details.error.contains('PT2S')
+
+        cleanup:
+        context?.close()
+    }
+
+    def 'reports down once a poll fails'() {
+        given:
+        await().atMost(10, SECONDS).until { statusPoller.status != null }
+        def failures = registry.find('foundationdb.cluster.status.failures').tag('database', 'default').counter().count()
+
+        when:
+        foundationDb.stop()
+
+        then:
+        await().atMost(10, SECONDS).until {
+            Mono.from(healthIndicator.getResult()).block().status == HealthStatus.DOWN
+        }
+        await().atMost(10, SECONDS).until {
+            registry.find('foundationdb.cluster.status.failures').tag('database', 'default').counter().count() > failures
+        }
+
+        cleanup:
+        foundationDb.startNewSingleMemory()
+    }
+}
@@ -0,0 +1,166 @@
+package io.micronaut.foundationdb.log
+
+import com.apple.foundationdb.Database
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbAppendLogSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    @Named('outbox')
+    private FoundationDbAppendLog outbox
+
+    @Inject
+    @Named('events')
+    private FoundationDbAppendLog events
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.logs.outbox.batch-size'     : '2',
+                'foundationdb.logs.outbox.retry-delay'    : '100ms',
+                'foundationdb.logs.events.retention'      : '1ms',
+                'foundationdb.logs.events.trim-interval'  : '1h',
+                'foundationdb.logs.events.trim-batch-size': '2'
+        ]
+    }
+
+    def 'orders entries by commit version'() {
+        when:
+        def first = outbox.append('a'.bytes).join()
+        db.run { tr -> outbox.append(tr, ['b'.bytes, 'c'.bytes]) }
+        def entries = db.read { tr -> outbox.read(tr, first, 10).join() }
+
+        then:
+        entries*.value.collect { new String(it) } == ['b', 'c']
+        entries[0].versionstamp() > first
+        entries[0].versionstamp() < entries[1].versionstamp()
+    }
+
+    def 'delivers batches to a consumer and resumes after its cursor'() {
+        given:
+        def received = new CopyOnWriteArrayList<String>()
+        def existing = db.read { tr -> outbox.read(tr, null, 1000).join() }
+        outbox.seek('mailer', existing ? existing.last().versionstamp() : null).join()
+
+        when:
+        def subscription = outbox.subscribe('mailer') { batch ->
+            assert batch.size() <= 2
+            received.addAll(batch*.value.collect { new String(it) })
+            CompletableFuture.completedFuture(null)
+        }
+        ['1', '2', '3'].each { outbox.append(it.bytes).join() }
+
+        then:
+        await().atMost(10, SECONDS).until { received == ['1', '2', '3'] }
+        await().atMost(10, SECONDS).until { outbox.cursor('mailer').join().isPresent() && subscription.lagMillis == 0 }
+        registry.find('foundationdb.log.consumed').tag('consumer', 'mailer').counter().count() == 3
+
+        when:
+        subscription.close()
+        outbox.append('4'.bytes).join()
+        def resumed = outbox.subscribe('mailer') { batch ->
+            received.addAll(batch*.value.collect { new String(it) })
+            CompletableFuture.completedFuture(null)
+        }
+
+        then:
+        await().atMost(10, SECONDS).until { received == ['1', '2', '3', '4'] }
+
+        cleanup:
+        resumed?.close()
+    }
+
+    def 'redelivers a batch whose handler failed'() {
+        given:
+        def attempts = 0
+        def received = new CopyOnWriteArrayList<String>()
+        def existing = db.read { tr -> outbox.read(tr, null, 1000).join() }
+        outbox.seek('flaky', existing ? existing.last().versionstamp() : null).join()
+        outbox.append('retried'.bytes).join()
+
+        when:
+        def subscription = outbox.subscribe('flaky') { batch ->
+            if (attempts++ == 0) {
+                return CompletableFuture.failedFuture(new IllegalStateException('boom'))
+            }
+            received.addAll(batch*.value.collect { new String(it) })
+            CompletableFuture.completedFuture(null)
+        }
+
+        then:
+        await().atMost(10, SECONDS).until { received == ['retried'] }
+        attempts == 2
+
+        cleanup:
+        subscription?.close()
+    }
+
+    def 'trims entries older than the retention in bounded clears'() {
+        given:
+        5.times { events.append("event-$it".bytes).join() }
+
+        when:
+        Thread.sleep(10)
+        events.trim()
+
+        then:
+        db.read { tr -> events.read(tr, null, 10).join() }.isEmpty()
+    }
+
+    def 'rejects more entries than a transaction can append'() {
+        given:
+        def tr = db.createTransaction()
+        outbox.append(tr, (0..<65535).collect { new byte[0] })
+
+        when:
+        outbox.append(tr, [new byte[0], new byte[0]])
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        outbox.append(tr, new byte[0])
+        outbox.append(tr, new byte[0])
+
+        then:
+        thrown(IllegalStateException)
+
+        cleanup:
+        tr?.close()
+    }
+
+    def 'counts appended entries once committed'() {
+        given:
+        def appends = { registry.find('foundationdb.log.appends').tag('log', 'outbox').counter()?.count() ?: 0 }
+        def before = appends()
+
+        when:
+        def aborted = db.createTransaction()
+        outbox.append(aborted, 'aborted'.bytes)
+        aborted.cancel()
+        aborted.close()
+        db.run { tr -> outbox.append(tr, ['a'.bytes, 'b'.bytes]) }
+        outbox.append('c'.bytes).join()
+
+        then:
+        await().atMost(10, SECONDS).until { appends() - before == 3 }
+        appends() - before == 3
+    }
+}
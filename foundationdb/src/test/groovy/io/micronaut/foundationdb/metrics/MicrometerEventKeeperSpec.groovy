@@ -4,6 +4,7 @@ import com.apple.foundationdb.Database
 import com.apple.foundationdb.EventKeeper
 import io.micrometer.core.instrument.MeterRegistry
 import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.foundationdb.range.RangeStreamEvents
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
 
@@ -19,6 +20,16 @@ class MicrometerEventKeeperSpec extends AbstractFoundationDbSpec {
     @Inject
     private EventMetadataProvider metadataProvider
 
+    @Inject
+    private EventKeeper eventKeeper
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'micronaut.metrics.binders.foundationdb.percentiles': '0.5,0.99'
+        ]
+    }
+
     def 'test all known count events are registered'() {
         given:
         def knownEvents = EventKeeper.Events.values().findAll { !it.isTimeEvent() } as EventKeeper.Event[]
@@ -53,4 +64,24 @@ class MicrometerEventKeeperSpec extends AbstractFoundationDbSpec {
         cleanup:
         db.run { it.clear(key) }
     }
+
+    def 'test custom events are counted'() {
+        given:
+        def prevValue = eventKeeper.getCount(RangeStreamEvents.RANGE_STREAM_RESUMES)
+
+        when:
+        eventKeeper.count(RangeStreamEvents.RANGE_STREAM_RESUMES, 2)
+
+        then:
+        eventKeeper.getCount(RangeStreamEvents.RANGE_STREAM_RESUMES) - prevValue == 2
+        registry.find('foundationdb.range.stream.resumes').counter() != null
+    }
+
+    def 'test timers publish the configured percentiles'() {
+        when:
+        eventKeeper.timeNanos(EventKeeper.Events.RANGE_QUERY_FETCH_TIME_NANOS, 1000)
+
+        then:
+        registry.find('foundationdb.range.query.fetch.time.nanos').timer().takeSnapshot().percentileValues()*.percentile() == [0.5d, 0.99d]
+    }
 }
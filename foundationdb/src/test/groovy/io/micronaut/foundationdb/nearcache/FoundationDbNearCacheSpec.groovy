@@ -0,0 +1,120 @@
+package io.micronaut.foundationdb.nearcache
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.annotation.Property
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.TimeUnit
+
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbNearCacheSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('near-cache'))
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbNearCache cache
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.near-cache.maximum-size': '3',
+                'foundationdb.near-cache.max-watches' : '3'
+        ]
+    }
+
+    def cleanup() {
+        cache.invalidateAll()
+        db.run { it.clear(SUBSPACE.range()) }
+    }
+
+    def 'serves repeated reads from the cache'() {
+        given:
+        byte[] key = SUBSPACE.pack(Tuple.from('flag'))
+        db.run { it.set(key, 'on'.bytes) }
+        def hits = registry.find('foundationdb.near.cache.hits').counter().count()
+
+        when:
+        def first = cache.get(key).join()
+        def second = cache.get(key).join()
+
+        then:
+        first == 'on'.bytes
+        second == 'on'.bytes
+        registry.find('foundationdb.near.cache.hits').counter().count() - hits == 1
+        cache.size() == 1
+    }
+
+    def 'invalidates the entry when the key changes'() {
+        given:
+        byte[] key = SUBSPACE.pack(Tuple.from('config'))
+        db.run { it.set(key, 'v1'.bytes) }
+        cache.get(key).join()
+
+        when:
+        db.run { it.set(key, 'v2'.bytes) }
+
+        then:
+        await().atMost(5, TimeUnit.SECONDS).until { cache.get(key).join() == 'v2'.bytes }
+        registry.find('foundationdb.near.cache.invalidations').counter().count() >= 1
+    }
+
+    def 'caches missing keys until they are created'() {
+        given:
+        byte[] key = SUBSPACE.pack(Tuple.from('missing'))
+
+        expect:
+        cache.get(key).join() == null
+        cache.size() == 1
+
+        when:
+        db.run { it.set(key, 'created'.bytes) }
+
+        then:
+        await().atMost(5, TimeUnit.SECONDS).until { cache.get(key).join() == 'created'.bytes }
+    }
+
+    def 'evicts the least recently used entry'() {
+        given:
+        def keys = (0..<4).collect { SUBSPACE.pack(Tuple.from('lru', it)) }
+        keys.each { key -> db.run { it.set(key, key) } }
+        def evictions = registry.find('foundationdb.near.cache.evictions').counter().count()
+
+        when:
+        keys.each { cache.get(it).join() }
+
+        then:
+        cache.size() == 3
+        registry.find('foundationdb.near.cache.evictions').counter().count() - evictions == 1
+        await().atMost(5, TimeUnit.SECONDS).until { cache.watchCount == 3 }
+    }
+
+    @Property(name = 'foundationdb.near-cache.max-watches', value = '1')
+    def 'evicts entries to stay within the watch limit'() {
+        given:
+        def keys = (0..<2).collect { SUBSPACE.pack(Tuple.from('watch', it)) }
+        def misses = registry.find('foundationdb.near.cache.misses').counter().count()
+
+        when:
+        keys.each { cache.get(it).join() }
+        keys.each { cache.get(it).join() }
+
+        then:
+        cache.size() == 1
+        cache.watchCount == 1
+        registry.find('foundationdb.near.cache.watches').gauge().value() == 1
+        registry.find('foundationdb.near.cache.misses').counter().count() - misses == 4
+    }
+}
@@ -0,0 +1,155 @@
+package io.micronaut.foundationdb.queue
+
+import com.apple.foundationdb.Database
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Named
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+@MicronautTest
+class FoundationDbWorkQueueSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    @Named('jobs')
+    private FoundationDbWorkQueue jobs
+
+    @Inject
+    @Named('leased')
+    private FoundationDbWorkQueue leased
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.queues.jobs.shards'               : '4',
+                'foundationdb.queues.jobs.claim-batch-size'     : '5',
+                'foundationdb.queues.leased.lease-duration'     : '100ms',
+                'foundationdb.queues.leased.redelivery-interval': '1h'
+        ]
+    }
+
+    def 'claims every enqueued item once'() {
+        given:
+        (1..20).each { jobs.enqueue("job-$it".bytes).join() }
+
+        when:
+        def claimed = (1..4).collect { jobs.claim(10) }.collectMany { it.join() }
+        claimed.addAll(jobs.claim(20).join())
+
+        then:
+        claimed.collect { new String(it.payload) } as Set == (1..20).collect { "job-$it" as String } as Set
+        claimed.size() == 20
+        claimed.every { it.deliveries == 1 }
+
+        when:
+        claimed.each { jobs.complete(it).join() }
+
+        then:
+        jobs.depth().join() == 0
+        jobs.claim(10).join().isEmpty()
+    }
+
+    def 'enqueues within a transaction'() {
+        when:
+        db.run { tr -> jobs.enqueue(tr, 'a'.bytes); jobs.enqueue(tr, 'b'.bytes) }
+        def claimed = jobs.claim(10).join()
+
+        then:
+        claimed.collect { new String(it.payload) } as Set == ['a', 'b'] as Set
+
+        cleanup:
+        claimed.each { jobs.complete(it).join() }
+    }
+
+    def 'rejects more items than a transaction can enqueue'() {
+        given:
+        def tr = db.createTransaction()
+        65536.times { jobs.enqueue(tr, new byte[0]) }
+
+        when:
+        jobs.enqueue(tr, new byte[0])
+
+        then:
+        thrown(IllegalStateException)
+
+        cleanup:
+        tr?.close()
+    }
+
+    def 'delivers items whose lease expired again'() {
+        given:
+        leased.enqueue('slow'.bytes).join()
+        def item = leased.claim(1).join().first()
+
+        when:
+        Thread.sleep(200)
+        def redelivered = leased.redeliverExpired()
+        def again = leased.claim(1).join()
+
+        then:
+        redelivered == 1
+        again.size() == 1
+        again.first().deliveries == 2
+        !leased.complete(item).join()
+        leased.complete(again.first()).join()
+        registry.find('foundationdb.queue.lease.expiries').tag('queue', 'leased').counter().count() == 1
+    }
+
+    def 'releases items for immediate redelivery'() {
+        given:
+        jobs.enqueue('released'.bytes).join()
+        def item = jobs.claim(1).join().first()
+
+        when:
+        def released = jobs.release(item).join()
+        def again = jobs.claim(1).join()
+
+        then:
+        released
+        again*.deliveries == [2]
+
+        cleanup:
+        again.each { jobs.complete(it).join() }
+    }
+
+    def 'subscriptions handle items and wake up on enqueue'() {
+        given:
+        def handled = ConcurrentHashMap.newKeySet()
+        def attempts = new ConcurrentHashMap<String, Integer>()
+        def subscriptions = (1..3).collect {
+            jobs.subscribe { item ->
+                def payload = new String(item.payload)
+                if (attempts.merge(payload, 1, Integer::sum) == 1 && payload == 'task-3') {
+                    return CompletableFuture.failedFuture(new IllegalStateException('boom'))
+                }
+                handled.add(payload)
+                CompletableFuture.completedFuture(null)
+            }
+        }
+
+        when:
+        Thread.sleep(100)
+        (1..10).each { jobs.enqueue("task-$it".bytes).join() }
+
+        then:
+        await().atMost(10, SECONDS).until { handled.size() == 10 }
+        attempts['task-3'] == 2
+        await().atMost(10, SECONDS).until { jobs.depth().join() == 0 }
+        registry.find('foundationdb.queue.processing').tag('queue', 'jobs').timer().count() >= 10
+
+        cleanup:
+        subscriptions*.close()
+    }
+}
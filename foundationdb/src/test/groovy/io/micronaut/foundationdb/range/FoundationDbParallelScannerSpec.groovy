@@ -0,0 +1,73 @@
+package io.micronaut.foundationdb.range
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+
+@MicronautTest
+class FoundationDbParallelScannerSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('parallel-scan'))
+    static final int SIZE = 1000
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbParallelScanner scanner
+
+    @Inject
+    private MeterRegistry registry
+
+    def setup() {
+        db.run { tr -> (0..<SIZE).each { tr.set(SUBSPACE.pack(Tuple.from(it)), Tuple.from(it).pack()) } }
+    }
+
+    def cleanup() {
+        db.run { it.clear(SUBSPACE.range()) }
+    }
+
+    def 'splits the range into contiguous partitions'() {
+        when:
+        def ranges = scanner.split(SUBSPACE.range()).join()
+
+        then:
+        !ranges.isEmpty()
+        ranges.first().begin == SUBSPACE.range().begin
+        ranges.last().end == SUBSPACE.range().end
+    }
+
+    def 'scans all key-value pairs'() {
+        given:
+        def keys = new ConcurrentLinkedQueue<Long>()
+
+        when:
+        def scan = scanner.scan(SUBSPACE.range()) { partition, chunk ->
+            chunk.each { keys.add(SUBSPACE.unpack(it.key).getLong(0)) }
+        }
+        scan.completion.get(10, TimeUnit.SECONDS)
+
+        then:
+        keys.sort() == (0L..<SIZE).toList()
+        scan.records == SIZE
+        scan.partitions.every { it.completed }
+        registry.find('foundationdb.scan.records').counter().count() >= SIZE
+    }
+
+    def 'fails the scan when the consumer throws'() {
+        when:
+        scanner.scan(SUBSPACE.range()) { partition, chunk -> throw new IllegalStateException('boom') }
+                .completion.get(10, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(Exception)
+        e.cause instanceof IllegalStateException
+    }
+}
@@ -0,0 +1,95 @@
+package io.micronaut.foundationdb.range
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.EventKeeper
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+
+import java.time.Duration
+
+@MicronautTest
+class FoundationDbRangeStreamerSpec extends AbstractFoundationDbSpec {
+
+    static final Subspace SUBSPACE = new Subspace(Tuple.from('range-stream'))
+    static final int SIZE = 2500
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbRangeStreamer streamer
+
+    @Inject
+    private EventKeeper eventKeeper
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.range-stream.chunk-size'         : '100',
+                'foundationdb.range-stream.max-transaction-age': '200ms'
+        ]
+    }
+
+    def setup() {
+        if (db.run { it.get(SUBSPACE.pack(Tuple.from(SIZE - 1))) }.join() == null) {
+            (0..<SIZE).collate(500).each { batch ->
+                db.run { tr -> batch.each { tr.set(SUBSPACE.pack(Tuple.from(it)), Tuple.from(it).pack()) } }
+            }
+        }
+    }
+
+    def 'streams the whole subspace in order'() {
+        when:
+        def values = Flux.from(streamer.stream(SUBSPACE))
+                .map { SUBSPACE.unpack(it.key).getLong(0) }
+                .collectList()
+                .block()
+
+        then:
+        values == (0L..<SIZE).toList()
+    }
+
+    def 'streams in reverse order'() {
+        when:
+        def values = Flux.from(streamer.stream(SUBSPACE.range(), true))
+                .map { SUBSPACE.unpack(it.key).getLong(0) }
+                .take(3)
+                .collectList()
+                .block()
+
+        then:
+        values == [SIZE - 1L, SIZE - 2L, SIZE - 3L]
+    }
+
+    def 'respects demand of the subscriber'() {
+        when:
+        def values = Flux.from(streamer.stream(SUBSPACE))
+                .limitRate(7)
+                .take(20)
+                .collectList()
+                .block()
+
+        then:
+        values.size() == 20
+    }
+
+    def 'continues in a fresh transaction when the transaction gets old'() {
+        given:
+        def resumes = eventKeeper.getCount(RangeStreamEvents.RANGE_STREAM_RESUMES)
+
+        when:
+        def count = Flux.from(streamer.stream(SUBSPACE))
+                .limitRate(100)
+                .delayElements(Duration.ofMillis(1))
+                .count()
+                .block()
+
+        then:
+        count == SIZE
+        eventKeeper.getCount(RangeStreamEvents.RANGE_STREAM_RESUMES) > resumes
+    }
+}
@@ -0,0 +1,181 @@
+package io.micronaut.foundationdb.repository
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.directory.DirectoryLayer
+import com.apple.foundationdb.subspace.Subspace
+import com.apple.foundationdb.tuple.Tuple
+import groovy.transform.EqualsAndHashCode
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.foundationdb.transaction.FdbTransactional
+import io.micronaut.serde.annotation.Serdeable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+
+@MicronautTest
+class FdbRepositorySpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    private OrderRepository orders
+
+    @Inject
+    private CustomerRepository customers
+
+    @Inject
+    private OrderService service
+
+    def setup() {
+        orders.deleteAll()
+        customers.deleteAll().join()
+    }
+
+    def 'entities are saved and found by id'() {
+        given:
+        def order = new Order(key: new OrderKey('acme', 1), description: 'Books', amount: 42)
+
+        when:
+        orders.save(order)
+
+        then:
+        orders.findById(new OrderKey('acme', 1)).get() == order
+        orders.existsById(new OrderKey('acme', 1))
+        !orders.existsById(new OrderKey('acme', 2))
+        !orders.findById(new OrderKey('acme', 2)).present
+    }
+
+    def 'entities are stored under tuple keys in the subspace of the repository'() {
+        when:
+        orders.save(new Order(key: new OrderKey('acme', 7), description: 'Pens', amount: 3))
+
+        then:
+        db.read { it.get(new Subspace(Tuple.from('spec-orders')).pack(Tuple.from('acme', 7L))) }.join() != null
+    }
+
+    def 'batch operations run in one transaction'() {
+        given:
+        def saved = (1..5).collect { new Order(key: new OrderKey('acme', it), description: "Order $it", amount: it) }
+
+        when:
+        orders.saveAll(saved)
+
+        then:
+        orders.findAllById([new OrderKey('acme', 2), new OrderKey('acme', 9), new OrderKey('acme', 4)]) == [saved[1], saved[3]]
+        orders.findAll() == saved
+
+        when:
+        orders.deleteAllById([new OrderKey('acme', 1), new OrderKey('acme', 2)])
+
+        then:
+        orders.findAll() == saved[2..4]
+    }
+
+    def 'prefix finders read the range of the leading key components'() {
+        given:
+        orders.saveAll([
+                new Order(key: new OrderKey('acme', 1), description: 'A', amount: 1),
+                new Order(key: new OrderKey('globex', 1), description: 'B', amount: 2),
+                new Order(key: new OrderKey('acme', 2), description: 'C', amount: 3)
+        ])
+
+        expect:
+        orders.findByTenant('acme')*.description == ['A', 'C']
+        orders.findByTenant('globex')*.description == ['B']
+        orders.findByTenant('initech').empty
+    }
+
+    def 'entities are deleted'() {
+        given:
+        def order = new Order(key: new OrderKey('acme', 1), description: 'Books', amount: 42)
+        orders.save(order)
+
+        when:
+        orders.delete(order)
+
+        then:
+        !orders.existsById(order.key)
+    }
+
+    def 'async repositories store entities in a directory'() {
+        given:
+        def customer = new Customer(id: 'c-1', name: 'Alice')
+
+        when:
+        customers.save(customer).join()
+
+        then:
+        customers.findById('c-1').join().get() == customer
+        customers.findAll().join() == [customer]
+        DirectoryLayer.getDefault().exists(db, ['spec', 'customers']).join()
+    }
+
+    def 'repositories join the bound transaction'() {
+        when:
+        service.saveAndFail(new Order(key: new OrderKey('acme', 1), description: 'Books', amount: 42))
+
+        then:
+        thrown(IllegalStateException)
+        !orders.existsById(new OrderKey('acme', 1))
+    }
+}
+
+@Serdeable
+@EqualsAndHashCode
+class OrderKey {
+
+    final String tenant
+    final long orderId
+
+    OrderKey(String tenant, long orderId) {
+        this.tenant = tenant
+        this.orderId = orderId
+    }
+}
+
+@Serdeable
+@EqualsAndHashCode
+class Order {
+
+    @FdbId
+    OrderKey key
+    String description
+    long amount
+}
+
+@Serdeable
+@EqualsAndHashCode
+class Customer {
+
+    @FdbId
+    String id
+    String name
+}
+
+@FdbRepository('spec-orders')
+interface OrderRepository extends FdbCrudRepository<Order, OrderKey> {
+
+    List<Order> findByTenant(String tenant)
+}
+
+@FdbRepository(directory = ['spec', 'customers'])
+interface CustomerRepository extends FdbAsyncCrudRepository<Customer, String> {
+}
+
+@Singleton
+class OrderService {
+
+    private final OrderRepository orders
+
+    OrderService(OrderRepository orders) {
+        this.orders = orders
+    }
+
+    @FdbTransactional
+    void saveAndFail(Order order) {
+        orders.save(order)
+        assert orders.existsById(order.key)
+        throw new IllegalStateException('rolled back')
+    }
+}
@@ -0,0 +1,224 @@
+package io.micronaut.foundationdb.transaction
+
+import com.apple.foundationdb.Database
+import com.apple.foundationdb.FDBException
+import com.apple.foundationdb.Transaction
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+class FdbTransactionalSpec extends AbstractFoundationDbSpec {
+
+    @Inject
+    private Database db
+
+    @Inject
+    private CounterService service
+
+    @Inject
+    private OuterService outer
+
+    @Inject
+    private MeterRegistry registry
+
+    def setup() {
+        db.run { it.clear(CounterService.KEY) }
+        service.attempts.set(0)
+        service.transactions.clear()
+    }
+
+    def 'blocking method is committed'() {
+        when:
+        service.increment(null)
+
+        then:
+        db.run { it.get(CounterService.KEY) }.join() == [1] as byte[]
+    }
+
+    def 'async method is committed'() {
+        when:
+        service.incrementAsync(null).join()
+
+        then:
+        db.run { it.get(CounterService.KEY) }.join() == [1] as byte[]
+    }
+
+    def 'transaction is bound to the current thread'() {
+        expect:
+        service.isBound()
+    }
+
+    def 'conflicting transaction is retried'() {
+        when:
+        service.incrementWithConflict(null)
+
+        then:
+        service.attempts.get() == 2
+        db.run { it.get(CounterService.KEY) }.join() == [2] as byte[]
+        registry.find('foundationdb.transaction.conflicts').tag('operation', 'CounterService.incrementWithConflict').counter().count() >= 1
+    }
+
+    def 'retried attempt is passed a new transaction'() {
+        when:
+        service.incrementWithConflict(null)
+
+        then:
+        service.transactions.size() == 2
+        !service.transactions[0].is(service.transactions[1])
+        db.run { it.get(CounterService.KEY) }.join() == [2] as byte[]
+    }
+
+    def 'retried async attempt is passed a new transaction'() {
+        when:
+        service.incrementAsyncWithConflict(null).join()
+
+        then:
+        service.transactions.size() == 2
+        !service.transactions[0].is(service.transactions[1])
+        db.run { it.get(CounterService.KEY) }.join() == [2] as byte[]
+    }
+
+    def 'retry limit is respected'() {
+        when:
+        service.alwaysConflicting(null)
+
+        then:
+        def e = thrown(FDBException)
+        e.code == 1020
+        service.attempts.get() == 2
+    }
+
+    def 'retry limit falls back to the transaction options'() {
+        given:
+        def context = ApplicationContext.run(getProperties() + ['foundationdb.transaction-options.retry-limit': '0'])
+        def counter = context.getBean(CounterService)
+
+        when:
+        counter.incrementWithConflict(null)
+
+        then:
+        def e = thrown(FDBException)
+        e.code == 1020
+        counter.attempts.get() == 1
+
+        cleanup:
+        context?.close()
+    }
+
+    def 'nested method joins the bound transaction'() {
+        expect:
+        outer.joinsTransaction()
+    }
+
+    def 'nested writes are committed with the outer method'() {
+        when:
+        outer.incrementTwice()
+
+        then:
+        db.run { it.get(CounterService.KEY) }.join() == [2] as byte[]
+    }
+
+    def 'nested writes roll back with the outer method'() {
+        when:
+        outer.incrementAndFail()
+
+        then:
+        thrown(IllegalStateException)
+        db.run { it.get(CounterService.KEY) }.join() == null
+    }
+
+    @Singleton
+    static class OuterService {
+
+        @Inject
+        CounterService counter
+
+        @FdbTransactional
+        boolean joinsTransaction() {
+            counter.current(null).is(CurrentTransaction.get())
+        }
+
+        @FdbTransactional
+        void incrementTwice() {
+            counter.increment(null)
+            counter.incrementAsync(null).join()
+        }
+
+        @FdbTransactional
+        void incrementAndFail() {
+            counter.increment(null)
+            throw new IllegalStateException('rollback')
+        }
+    }
+
+    @Singleton
+    static class CounterService {
+
+        static final byte[] KEY = 'TX_COUNTER'.bytes
+
+        final AtomicInteger attempts = new AtomicInteger()
+
+        final List<Transaction> transactions = new CopyOnWriteArrayList<>()
+
+        @Inject
+        Database db
+
+        @FdbTransactional
+        void increment(Transaction tr) {
+            def value = tr.get(KEY).join()
+            tr.set(KEY, [(value == null ? 0 : value[0]) + 1] as byte[])
+        }
+
+        @FdbTransactional
+        CompletableFuture<Void> incrementAsync(Transaction tr) {
+            tr.get(KEY).thenAccept { value -> tr.set(KEY, [(value == null ? 0 : value[0]) + 1] as byte[]) }
+        }
+
+        @FdbTransactional
+        Transaction current(Transaction tr) {
+            tr
+        }
+
+        @FdbTransactional
+        boolean isBound() {
+            CurrentTransaction.find().isPresent()
+        }
+
+        @FdbTransactional
+        void incrementWithConflict(Transaction tr) {
+            transactions << tr
+            def value = tr.get(KEY).join()
+            if (attempts.incrementAndGet() == 1) {
+                db.run { it.set(KEY, [1] as byte[]) }
+            }
+            tr.set(KEY, [(value == null ? 0 : value[0]) + 1] as byte[])
+        }
+
+        @FdbTransactional
+        CompletableFuture<Void> incrementAsyncWithConflict(Transaction tr) {
+            transactions << tr
+            tr.get(KEY).thenAccept { value ->
+                if (attempts.incrementAndGet() == 1) {
+                    db.run { it.set(KEY, [1] as byte[]) }
+                }
+                tr.set(KEY, [(value == null ? 0 : value[0]) + 1] as byte[])
+            }
+        }
+
+        @FdbTransactional(retryLimit = 1)
+        void alwaysConflicting(Transaction tr) {
+            tr.get(KEY).join()
+            attempts.incrementAndGet()
+            db.run { it.set(KEY, [attempts.get()] as byte[]) }
+            tr.set(KEY, [0] as byte[])
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.micronaut.foundationdb.transaction
+
+import com.apple.foundationdb.Database
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.foundationdb.AbstractFoundationDbSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+@MicronautTest
+class FoundationDbReadVersionCacheSpec extends AbstractFoundationDbSpec {
+
+    static final byte[] KEY = 'READ_VERSION_KEY'.bytes
+
+    @Inject
+    private Database db
+
+    @Inject
+    private FoundationDbReadVersionCache cache
+
+    @Inject
+    private MeterRegistry registry
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'foundationdb.read-version-cache.max-staleness': '20s',
+                'foundationdb.read-version-cache.refresh-after': '20s'
+        ]
+    }
+
+    def cleanup() {
+        db.run { it.clear(KEY) }
+    }
+
+    def 'shares the read version between transactions'() {
+        given:
+        def reused = registry.find('foundationdb.read.version.reused').counter().count()
+
+        when:
+        def first = cache.readAsync { it.getReadVersion() }.join()
+        def second = cache.readAsync { it.getReadVersion() }.join()
+
+        then:
+        first == second
+        registry.find('foundationdb.read.version.reused').counter().count() - reused >= 1
+        registry.find('foundationdb.read.version.age').timer().count() >= 2
+    }
+
+    def 'reads at the shared version until it is invalidated'() {
+        given:
+        long version = cache.readVersion.join()
+
+        when:
+        db.run { it.set(KEY, 'VALUE'.bytes) }
+
+        then:
+        cache.read { it.get(KEY).join() } == null
+
+        when:
+        cache.invalidate(version)
+
+        then:
+        cache.read { it.get(KEY).join() } == 'VALUE'.bytes
+    }
+
+    def 'falls back to a new read version when the shared one is too old'() {
+        given:
+        long version = cache.readVersion.join()
+        db.run { it.set(KEY, 'VALUE'.bytes) }
+        def tooOld = registry.find('foundationdb.read.version.too.old').counter()?.count() ?: 0
+
+        when:
+        sleep(6000)
+        def value = cache.read { it.get(KEY).join() }
+
+        then:
+        value == 'VALUE'.bytes
+        registry.find('foundationdb.read.version.too.old').counter().count() - tooOld == 1
+        cache.readVersion.join() > version
+    }
+}